@@ -0,0 +1,164 @@
+package client;
+
+import client.json.CallJson;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public final class CallUploader implements AutoCloseable {
+    public static final int DEFAULT_MAXIMUM_BATCH_SIZE = 1000;
+    public static final Duration DEFAULT_MAXIMUM_BATCH_DELAY = Duration.ofMillis(100);
+    public static final int DEFAULT_MAXIMUM_NUMBER_OF_BATCHES_IN_FLIGHT = 4;
+    public static final int DEFAULT_MAXIMUM_NUMBER_OF_PENDING_CALLS = 10000;
+
+    private static final long IDLE_POLL_MILLISECONDS = 100;
+
+    private final ReactiveClient reactiveClient;
+    private final int maximumBatchSize;
+    private final long maximumBatchDelayNanoseconds;
+    private final int maximumNumberOfBatchesInFlight;
+    private final Consumer<CallsBatchReport> callsBatchReportConsumer;
+    private final BlockingQueue<CallJson> pendingCalls;
+    private final Semaphore batchesInFlight;
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final Thread dispatcher;
+
+    private volatile boolean closed;
+
+    public CallUploader(ReactiveClient reactiveClient, Consumer<CallsBatchReport> callsBatchReportConsumer) {
+        this(reactiveClient, DEFAULT_MAXIMUM_BATCH_SIZE, DEFAULT_MAXIMUM_BATCH_DELAY,
+             DEFAULT_MAXIMUM_NUMBER_OF_BATCHES_IN_FLIGHT, DEFAULT_MAXIMUM_NUMBER_OF_PENDING_CALLS,
+             callsBatchReportConsumer);
+    }
+
+    public CallUploader(ReactiveClient reactiveClient, int maximumBatchSize, Duration maximumBatchDelay,
+                        int maximumNumberOfBatchesInFlight, int maximumNumberOfPendingCalls,
+                        Consumer<CallsBatchReport> callsBatchReportConsumer) {
+        this.reactiveClient = reactiveClient;
+        this.maximumBatchSize = maximumBatchSize;
+        this.maximumBatchDelayNanoseconds = maximumBatchDelay.toNanos();
+        this.maximumNumberOfBatchesInFlight = maximumNumberOfBatchesInFlight;
+        this.callsBatchReportConsumer = callsBatchReportConsumer;
+        this.pendingCalls = new ArrayBlockingQueue<>(maximumNumberOfPendingCalls);
+        this.batchesInFlight = new Semaphore(maximumNumberOfBatchesInFlight);
+        this.dispatcher = new Thread(this::dispatchBatches, "call-uploader");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    public void upload(CallJson callJson) throws InterruptedException {
+        closeLock.readLock().lock();
+
+        try {
+            if (closed) {
+                throw new IllegalStateException("Call uploader is closed!");
+            }
+
+            pendingCalls.put(callJson);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    // Waits for the pending calls to be sent even when interrupted, and then restores the interrupt.
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        boolean interrupted = false;
+
+        while (dispatcher.isAlive()) {
+            try {
+                dispatcher.join();
+            } catch (InterruptedException interruptedException) {
+                interrupted = true;
+            }
+        }
+
+        batchesInFlight.acquireUninterruptibly(maximumNumberOfBatchesInFlight);
+        batchesInFlight.release(maximumNumberOfBatchesInFlight);
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatchBatches() {
+        try {
+            while (!closed || !pendingCalls.isEmpty()) {
+                CallJson firstCallJson = pendingCalls.poll(IDLE_POLL_MILLISECONDS, TimeUnit.MILLISECONDS);
+
+                if (firstCallJson != null) {
+                    sendBatch(nextBatch(firstCallJson));
+                }
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<CallJson> nextBatch(CallJson firstCallJson) throws InterruptedException {
+        List<CallJson> callJsonBatch = new ArrayList<>(maximumBatchSize);
+        long batchDeadline = System.nanoTime() + maximumBatchDelayNanoseconds;
+
+        callJsonBatch.add(firstCallJson);
+
+        while (callJsonBatch.size() < maximumBatchSize) {
+            pendingCalls.drainTo(callJsonBatch, maximumBatchSize - callJsonBatch.size());
+
+            long remainingNanoseconds = batchDeadline - System.nanoTime();
+
+            if (callJsonBatch.size() == maximumBatchSize || remainingNanoseconds <= 0) {
+                break;
+            }
+
+            CallJson callJson = pendingCalls.poll(remainingNanoseconds, TimeUnit.NANOSECONDS);
+
+            if (callJson == null) {
+                break;
+            }
+
+            callJsonBatch.add(callJson);
+        }
+
+        return callJsonBatch;
+    }
+
+    private void sendBatch(List<CallJson> callJsonBatch) throws InterruptedException {
+        batchesInFlight.acquire();
+
+        long batchStartTime = System.nanoTime();
+
+        reactiveClient.createValidCalls(callJsonBatch)
+                      .map(callsCreationReportJson -> callsCreationReportJson.getRejectedCalls().intValue())
+                      .defaultIfEmpty(0)
+                      .subscribe(numberOfRejectedCalls -> completeBatch(callJsonBatch, numberOfRejectedCalls,
+                                                                        batchStartTime, null),
+                                 failure -> completeBatch(callJsonBatch, 0, batchStartTime, failure));
+    }
+
+    private void completeBatch(List<CallJson> callJsonBatch, int numberOfRejectedCalls, long batchStartTime,
+                               Throwable failure) {
+        try {
+            callsBatchReportConsumer.accept(new CallsBatchReport(callJsonBatch.size(), numberOfRejectedCalls,
+                                                                 Duration.ofNanos(System.nanoTime() - batchStartTime),
+                                                                 failure));
+        } finally {
+            batchesInFlight.release();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package client;
+
+import java.time.Duration;
+
+public final class CallsBatchReport {
+    private final int numberOfCalls;
+    private final int numberOfRejectedCalls;
+    private final Duration latency;
+    private final Throwable failure;
+
+    public CallsBatchReport(int numberOfCalls, int numberOfRejectedCalls, Duration latency, Throwable failure) {
+        this.numberOfCalls = numberOfCalls;
+        this.numberOfRejectedCalls = numberOfRejectedCalls;
+        this.latency = latency;
+        this.failure = failure;
+    }
+
+    public int getNumberOfCalls() {
+        return numberOfCalls;
+    }
+
+    public int getNumberOfRejectedCalls() {
+        return numberOfRejectedCalls;
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,31 @@
+package client;
+
+import client.json.CallsStatisticsJson;
+
+import java.util.List;
+
+// A statistics response together with its ETag. When the statistics did not change since the ETag sent in
+// If-None-Match, it is not modified and has no statistics.
+public final class CallsStatisticsResponse {
+    private final List<CallsStatisticsJson> callsStatisticsJsonList;
+    private final String eTag;
+    private final boolean modified;
+
+    public CallsStatisticsResponse(List<CallsStatisticsJson> callsStatisticsJsonList, String eTag, boolean modified) {
+        this.callsStatisticsJsonList = callsStatisticsJsonList;
+        this.eTag = eTag;
+        this.modified = modified;
+    }
+
+    public List<CallsStatisticsJson> getCallsStatisticsJsonList() {
+        return callsStatisticsJsonList;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public boolean isModified() {
+        return modified;
+    }
+}
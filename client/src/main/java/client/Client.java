@@ -1,52 +1,83 @@
 package client;
 
 import client.json.CallJson;
-import org.springframework.http.ResponseEntity;
+import client.json.CallsCreationReportJson;
+import client.json.CallsStatisticsJson;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 
 import static client.utils.Urls.*;
 
 public final class Client {
-    public String createCalls(List<CallJson> callJsonList) {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> result = restTemplate.postForEntity(CREATE_CALLS_URI, callJsonList, String.class);
+    private final RestTemplate restTemplate = new RestTemplate();
 
-        return result.getBody();
+    public List<CallJson> createCalls(List<CallJson> callJsonList) {
+        CallJson[] result = restTemplate.postForObject(CREATE_CALLS_URI, callJsonList, CallJson[].class);
+
+        return result == null ? List.of() : Arrays.asList(result);
+    }
+
+    public CallsCreationReportJson createValidCalls(List<CallJson> callJsonList) {
+        return restTemplate.postForObject(CREATE_VALID_CALLS_URI, callJsonList, CallsCreationReportJson.class);
     }
 
-    public String getAllCalls(int page) throws URISyntaxException {
+    public List<CallJson> getAllCalls(int page) throws URISyntaxException {
         URI uriGetAllCallsWithoutCallType = new URI(GET_ALL_CALLS + "page=" + page);
 
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> result = restTemplate.getForEntity(uriGetAllCallsWithoutCallType, String.class);
+        CallJson[] result = restTemplate.getForObject(uriGetAllCallsWithoutCallType, CallJson[].class);
 
-        return result.getBody();
+        return result == null ? List.of() : Arrays.asList(result);
     }
 
-    public String getAllCalls(int page, String callType) throws URISyntaxException {
+    public List<CallJson> getAllCalls(int page, String callType) throws URISyntaxException {
         URI uriGetAllCallsWithCallType = new URI(GET_ALL_CALLS + "page=" + page + "&type=" + callType);
 
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> result = restTemplate.getForEntity(uriGetAllCallsWithCallType, String.class);
+        CallJson[] result = restTemplate.getForObject(uriGetAllCallsWithCallType, CallJson[].class);
 
-        return result.getBody();
+        return result == null ? List.of() : Arrays.asList(result);
     }
 
     public void deleteCallById(Long id) throws URISyntaxException {
         URI uriGetAllCallsWithCallType = new URI(DELETE_CALL_BY_ID + id);
 
-        RestTemplate restTemplate = new RestTemplate();
         restTemplate.delete(uriGetAllCallsWithCallType);
     }
 
-    public String getCallsStatistics() {
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> result = restTemplate.getForEntity(GET_CALLS_STATISTICS, String.class);
+    public List<CallsStatisticsJson> getCallsStatistics() {
+        return getCallsStatistics(null, null, null, null, false);
+    }
+
+    // Every parameter but approximate is optional and left out of the query when null.
+    public List<CallsStatisticsJson> getCallsStatistics(LocalDate from, LocalDate to, String callType, Integer topN,
+                                                        boolean approximate) {
+        UriComponentsBuilder uriComponentsBuilder = UriComponentsBuilder.fromHttpUrl(GET_CALLS_STATISTICS)
+                                                                        .queryParam("approximate", approximate);
+
+        if (from != null) {
+            uriComponentsBuilder.queryParam("from", from);
+        }
+
+        if (to != null) {
+            uriComponentsBuilder.queryParam("to", to);
+        }
+
+        if (callType != null) {
+            uriComponentsBuilder.queryParam("type", callType);
+        }
+
+        if (topN != null) {
+            uriComponentsBuilder.queryParam("topN", topN);
+        }
+
+        CallsStatisticsJson[] result = restTemplate.getForObject(uriComponentsBuilder.build().encode().toUri(),
+                                                                 CallsStatisticsJson[].class);
 
-        return result.getBody();
+        return result == null ? List.of() : Arrays.asList(result);
     }
 }
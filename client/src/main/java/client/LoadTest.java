@@ -0,0 +1,71 @@
+package client;
+
+import client.json.CallJson;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static client.utils.Urls.BASE_URI;
+
+public final class LoadTest {
+    private static final int NUMBER_OF_CALLS_TO_CREATE = 1000;
+
+    public static void main(String[] args) {
+        String baseUri = args.length > 0 ? args[0] : BASE_URI;
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 30);
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+
+        try (ReactiveClient reactiveClient = new ReactiveClient(baseUri, ReactiveClient.DEFAULT_CONNECT_TIMEOUT,
+                                                                ReactiveClient.DEFAULT_RESPONSE_TIMEOUT,
+                                                                concurrency)) {
+            reactiveClient.createCalls(callJsonList()).then().block();
+
+            AtomicLong numberOfFailedRequests = new AtomicLong();
+            long startTime = System.nanoTime();
+
+            Long numberOfRequests = Flux.range(0, Integer.MAX_VALUE)
+                                        .take(duration)
+                                        .flatMap(request -> request(reactiveClient, request)
+                                                .doOnError(throwable -> numberOfFailedRequests.incrementAndGet())
+                                                .onErrorResume(throwable -> Mono.empty())
+                                                .thenReturn(request), concurrency)
+                                        .count()
+                                        .block();
+
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+
+            System.out.printf("%d requests (%d failed) in %.1f s with %d concurrent requests: %.0f requests/s%n",
+                              numberOfRequests, numberOfFailedRequests.get(), elapsedSeconds, concurrency,
+                              numberOfRequests / elapsedSeconds);
+        }
+    }
+
+    private static Mono<Void> request(ReactiveClient reactiveClient, int request) {
+        if (request % 2 == 0) {
+            return reactiveClient.getCallsStatistics().then();
+        }
+
+        return reactiveClient.getAllCalls(1 + request % 100).then();
+    }
+
+    private static List<CallJson> callJsonList() {
+        List<CallJson> callJsonList = new ArrayList<>(NUMBER_OF_CALLS_TO_CREATE);
+        long callStartTimestamp = 1599909010L;
+
+        for (int i = 0; i < NUMBER_OF_CALLS_TO_CREATE; i++) {
+            callJsonList.add(CallJson.Builder.callModelWith()
+                                             .withCallerNumber(100000000L + i % 50)
+                                             .withCalleeNumber(900000000L + i % 70)
+                                             .withStartTimestamp(callStartTimestamp + i * 3600L)
+                                             .withEndTimestamp(callStartTimestamp + i * 3600L + 60 + i % 600)
+                                             .withCallType(i % 3 == 0 ? "Inbound" : "Outbound")
+                                             .build());
+        }
+
+        return callJsonList;
+    }
+}
@@ -0,0 +1,220 @@
+package client;
+
+import client.json.CallJson;
+import client.json.CallsCreationReportJson;
+import client.json.CallsStatisticsJson;
+import io.netty.channel.ChannelOption;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static client.utils.Urls.*;
+
+public final class ReactiveClient implements AutoCloseable {
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    public static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+    public static final int DEFAULT_MAXIMUM_NUMBER_OF_CONNECTIONS = 64;
+
+    private static final String GZIP_CONTENT_ENCODING = "gzip";
+    private static final MediaType NDJSON_MEDIA_TYPE = new MediaType("application", "x-ndjson");
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final WireFormat wireFormat;
+    private final boolean compression;
+
+    public ReactiveClient() {
+        this(BASE_URI, DEFAULT_CONNECT_TIMEOUT, DEFAULT_RESPONSE_TIMEOUT, DEFAULT_MAXIMUM_NUMBER_OF_CONNECTIONS);
+    }
+
+    public ReactiveClient(String baseUri, Duration connectTimeout, Duration responseTimeout,
+                          int maximumNumberOfConnections) {
+        this(baseUri, connectTimeout, responseTimeout, maximumNumberOfConnections, WireFormat.JSON, false);
+    }
+
+    public ReactiveClient(String baseUri, Duration connectTimeout, Duration responseTimeout,
+                          int maximumNumberOfConnections, WireFormat wireFormat, boolean compression) {
+        this.wireFormat = wireFormat;
+        this.compression = compression;
+        this.connectionProvider = ConnectionProvider.builder("calls")
+                                                    .maxConnections(maximumNumberOfConnections)
+                                                    .pendingAcquireTimeout(responseTimeout)
+                                                    .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                                          .tcpConfiguration(tcpClient -> tcpClient.option(
+                                                  ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                                                  (int) connectTimeout.toMillis()))
+                                          .responseTimeout(responseTimeout)
+                                          .compress(compression);
+
+        this.webClient = WebClient.builder()
+                                  .baseUrl(baseUri)
+                                  .clientConnector(new ReactorClientHttpConnector(httpClient))
+                                  .defaultHeader(HttpHeaders.ACCEPT, wireFormat.getMediaType().toString())
+                                  .build();
+    }
+
+    public Flux<CallJson> createCalls(List<CallJson> callJsonList) {
+        return postCalls(CREATE_CALLS_PATH, callJsonList).retrieve()
+                                                         .bodyToFlux(CallJson.class);
+    }
+
+    // Creates the valid calls of the list and returns only a report of the ids and rejections, instead of every
+    // created call.
+    public Mono<CallsCreationReportJson> createValidCalls(List<CallJson> callJsonList) {
+        return postCalls(CREATE_VALID_CALLS_PATH, callJsonList).retrieve()
+                                                               .bodyToMono(CallsCreationReportJson.class);
+    }
+
+    public Flux<CallJson> getAllCalls(int page) {
+        return webClient.get()
+                        .uri(uriBuilder -> uriBuilder.path(GET_ALL_CALLS_PATH)
+                                                     .queryParam("page", page)
+                                                     .build())
+                        .retrieve()
+                        .bodyToFlux(CallJson.class);
+    }
+
+    public Flux<CallJson> getAllCalls(int page, String callType) {
+        return webClient.get()
+                        .uri(uriBuilder -> uriBuilder.path(GET_ALL_CALLS_PATH)
+                                                     .queryParam("page", page)
+                                                     .queryParam("type", callType)
+                                                     .build())
+                        .retrieve()
+                        .bodyToFlux(CallJson.class);
+    }
+
+    public Mono<Void> deleteCallById(Long id) {
+        return webClient.delete()
+                        .uri(DELETE_CALL_BY_ID_PATH, id)
+                        .retrieve()
+                        .bodyToMono(Void.class);
+    }
+
+    public Flux<CallsStatisticsJson> getCallsStatistics() {
+        return getCallsStatistics(null, null, null, null, false);
+    }
+
+    // Every parameter but approximate is optional and left out of the query when null.
+    public Flux<CallsStatisticsJson> getCallsStatistics(LocalDate from, LocalDate to, String callType, Integer topN,
+                                                        boolean approximate) {
+        return webClient.get()
+                        .uri(uriBuilder -> callsStatisticsUri(uriBuilder, from, to, callType, topN, approximate))
+                        .retrieve()
+                        .bodyToFlux(CallsStatisticsJson.class);
+    }
+
+    // Sends the ETag of earlier statistics in If-None-Match, so statistics that did not change are answered with
+    // 304 Not Modified and no body.
+    public Mono<CallsStatisticsResponse> getCallsStatistics(LocalDate from, LocalDate to, String callType,
+                                                            Integer topN, boolean approximate, String eTag) {
+        return webClient.get()
+                        .uri(uriBuilder -> callsStatisticsUri(uriBuilder, from, to, callType, topN, approximate))
+                        .headers(httpHeaders -> {
+                            if (eTag != null) {
+                                httpHeaders.setIfNoneMatch(eTag);
+                            }
+                        })
+                        .retrieve()
+                        .toEntityList(CallsStatisticsJson.class)
+                        .map(responseEntity -> responseEntity.getStatusCode() == HttpStatus.NOT_MODIFIED ?
+                                               new CallsStatisticsResponse(null, eTag, false) :
+                                               new CallsStatisticsResponse(responseEntity.getBody(),
+                                                                           responseEntity.getHeaders().getETag(),
+                                                                           true));
+    }
+
+    // Streams the calls as JSON lines to the bulk endpoint, which only reads NDJSON, so they are sent as JSON and
+    // uncompressed whatever the wire format. Invalid calls are rejected by line index in the report.
+    public Mono<CallsCreationReportJson> createCallsInBulk(Flux<CallJson> callJsonFlux) {
+        return webClient.post()
+                        .uri(CREATE_CALLS_BULK_PATH)
+                        .contentType(NDJSON_MEDIA_TYPE)
+                        .body(callJsonFlux.map(this::toNdjsonLine), byte[].class)
+                        .retrieve()
+                        .bodyToMono(CallsCreationReportJson.class);
+    }
+
+    private URI callsStatisticsUri(UriBuilder uriBuilder, LocalDate from, LocalDate to, String callType,
+                                   Integer topN, boolean approximate) {
+        uriBuilder.path(GET_CALLS_STATISTICS_PATH)
+                  .queryParam("approximate", approximate);
+
+        if (from != null) {
+            uriBuilder.queryParam("from", from);
+        }
+
+        if (to != null) {
+            uriBuilder.queryParam("to", to);
+        }
+
+        if (callType != null) {
+            uriBuilder.queryParam("type", callType);
+        }
+
+        if (topN != null) {
+            uriBuilder.queryParam("topN", topN);
+        }
+
+        return uriBuilder.build();
+    }
+
+    private byte[] toNdjsonLine(CallJson callJson) {
+        try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+            WireFormat.JSON.getObjectMapper().writeValue(byteArrayOutputStream, callJson);
+            byteArrayOutputStream.write('\n');
+
+            return byteArrayOutputStream.toByteArray();
+        } catch (IOException ioException) {
+            throw Exceptions.propagate(ioException);
+        }
+    }
+
+    private WebClient.RequestHeadersSpec<?> postCalls(String path, List<CallJson> callJsonList) {
+        WebClient.RequestBodySpec requestBodySpec = webClient.post()
+                                                             .uri(path)
+                                                             .contentType(wireFormat.getMediaType());
+
+        if (compression) {
+            return requestBodySpec.header(HttpHeaders.CONTENT_ENCODING, GZIP_CONTENT_ENCODING)
+                                  .body(Mono.fromCallable(() -> compress(callJsonList)), byte[].class);
+        }
+
+        return requestBodySpec.bodyValue(callJsonList);
+    }
+
+    private byte[] compress(List<CallJson> callJsonList) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            wireFormat.getObjectMapper().writeValue(gzipOutputStream, callJsonList);
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,26 @@
+package client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON, new ObjectMapper()),
+    SMILE(new MediaType("application", "x-jackson-smile"), new ObjectMapper(new SmileFactory()));
+
+    private final MediaType mediaType;
+    private final ObjectMapper objectMapper;
+
+    WireFormat(MediaType mediaType, ObjectMapper objectMapper) {
+        this.mediaType = mediaType;
+        this.objectMapper = objectMapper;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+}
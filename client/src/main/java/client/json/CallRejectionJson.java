@@ -0,0 +1,19 @@
+package client.json;
+
+public class CallRejectionJson {
+    private Long index;
+    private String messageKey;
+    private String[] arguments;
+
+    public Long getIndex() {
+        return index;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public String[] getArguments() {
+        return arguments;
+    }
+}
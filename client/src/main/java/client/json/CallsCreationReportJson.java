@@ -0,0 +1,31 @@
+package client.json;
+
+import java.util.List;
+
+public class CallsCreationReportJson {
+    private Long acceptedCalls;
+    private Long rejectedCalls;
+    private Long firstCallId;
+    private Long lastCallId;
+    private List<CallRejectionJson> rejections;
+
+    public Long getAcceptedCalls() {
+        return acceptedCalls;
+    }
+
+    public Long getRejectedCalls() {
+        return rejectedCalls;
+    }
+
+    public Long getFirstCallId() {
+        return firstCallId;
+    }
+
+    public Long getLastCallId() {
+        return lastCallId;
+    }
+
+    public List<CallRejectionJson> getRejections() {
+        return rejections;
+    }
+}
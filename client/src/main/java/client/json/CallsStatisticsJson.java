@@ -0,0 +1,82 @@
+package client.json;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class CallsStatisticsJson {
+    private LocalDate day;
+    private Long totalCallsDurationInbound;
+    private Long totalCallsDurationOutbound;
+    private Long totalNumberOfCalls;
+    private List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumber;
+    private List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumber;
+    private Long totalNumberOfCallsByOtherCallerNumbers;
+    private Long totalNumberOfCallsByOtherCalleeNumbers;
+    private Long approximateNumberOfCallerNumbers;
+    private Long approximateNumberOfCalleeNumbers;
+    private List<TotalNumberOfCallsByCallerNumber> approximateTopCallerNumbers;
+    private List<TotalNumberOfCallsByCalleeNumber> approximateTopCalleeNumbers;
+    private Long approximateTopCallerNumbersMaximumError;
+    private Long approximateTopCalleeNumbersMaximumError;
+    private Double totalCallsCost;
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public Long getTotalCallsDurationInbound() {
+        return totalCallsDurationInbound;
+    }
+
+    public Long getTotalCallsDurationOutbound() {
+        return totalCallsDurationOutbound;
+    }
+
+    public Long getTotalNumberOfCalls() {
+        return totalNumberOfCalls;
+    }
+
+    public List<TotalNumberOfCallsByCallerNumber> getTotalNumberOfCallsByCallerNumber() {
+        return totalNumberOfCallsByCallerNumber;
+    }
+
+    public List<TotalNumberOfCallsByCalleeNumber> getTotalNumberOfCallsByCalleeNumber() {
+        return totalNumberOfCallsByCalleeNumber;
+    }
+
+    public Long getTotalNumberOfCallsByOtherCallerNumbers() {
+        return totalNumberOfCallsByOtherCallerNumbers;
+    }
+
+    public Long getTotalNumberOfCallsByOtherCalleeNumbers() {
+        return totalNumberOfCallsByOtherCalleeNumbers;
+    }
+
+    public Long getApproximateNumberOfCallerNumbers() {
+        return approximateNumberOfCallerNumbers;
+    }
+
+    public Long getApproximateNumberOfCalleeNumbers() {
+        return approximateNumberOfCalleeNumbers;
+    }
+
+    public List<TotalNumberOfCallsByCallerNumber> getApproximateTopCallerNumbers() {
+        return approximateTopCallerNumbers;
+    }
+
+    public List<TotalNumberOfCallsByCalleeNumber> getApproximateTopCalleeNumbers() {
+        return approximateTopCalleeNumbers;
+    }
+
+    public Long getApproximateTopCallerNumbersMaximumError() {
+        return approximateTopCallerNumbersMaximumError;
+    }
+
+    public Long getApproximateTopCalleeNumbersMaximumError() {
+        return approximateTopCalleeNumbersMaximumError;
+    }
+
+    public Double getTotalCallsCost() {
+        return totalCallsCost;
+    }
+}
@@ -0,0 +1,14 @@
+package client.json;
+
+public class TotalNumberOfCallsByCalleeNumber {
+    private Long calleeNumber;
+    private Long totalNumberOfCalls;
+
+    public Long getCalleeNumber() {
+        return calleeNumber;
+    }
+
+    public Long getTotalNumberOfCalls() {
+        return totalNumberOfCalls;
+    }
+}
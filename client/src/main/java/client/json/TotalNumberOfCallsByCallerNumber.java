@@ -0,0 +1,14 @@
+package client.json;
+
+public class TotalNumberOfCallsByCallerNumber {
+    private Long callerNumber;
+    private Long totalNumberOfCalls;
+
+    public Long getCallerNumber() {
+        return callerNumber;
+    }
+
+    public Long getTotalNumberOfCalls() {
+        return totalNumberOfCalls;
+    }
+}
@@ -0,0 +1,78 @@
+package client.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public final class EndpointLoad {
+    private final String name;
+    private final double rate;
+    private final Supplier<Mono<Void>> request;
+    private final Histogram latencyHistogram = new ConcurrentHistogram(3);
+    private final AtomicLong numberOfRequests = new AtomicLong();
+    private final AtomicLong numberOfFailedRequests = new AtomicLong();
+    private final AtomicLong numberOfDroppedRequests = new AtomicLong();
+
+    public EndpointLoad(String name, double rate, Supplier<Mono<Void>> request) {
+        this.name = name;
+        this.rate = rate;
+        this.request = request;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    // Latencies are measured from the time the request was scheduled to start rather than the time it was sent, so
+    // a slow server is not hidden by the requests that could not be sent while waiting for it.
+    public Mono<Void> request(long scheduledStartNanoseconds, boolean measured) {
+        return Mono.defer(request)
+                   .doOnSuccess(ignored -> record(scheduledStartNanoseconds, measured, false))
+                   .doOnError(throwable -> record(scheduledStartNanoseconds, measured, true))
+                   .onErrorResume(throwable -> Mono.empty());
+    }
+
+    public void drop(boolean measured) {
+        if (measured) {
+            numberOfDroppedRequests.incrementAndGet();
+        }
+    }
+
+    public Histogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    public long getNumberOfRequests() {
+        return numberOfRequests.get();
+    }
+
+    public long getNumberOfFailedRequests() {
+        return numberOfFailedRequests.get();
+    }
+
+    public long getNumberOfDroppedRequests() {
+        return numberOfDroppedRequests.get();
+    }
+
+    private void record(long scheduledStartNanoseconds, boolean measured, boolean failed) {
+        if (!measured) {
+            return;
+        }
+
+        numberOfRequests.incrementAndGet();
+
+        if (failed) {
+            numberOfFailedRequests.incrementAndGet();
+        }
+
+        latencyHistogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledStartNanoseconds));
+    }
+}
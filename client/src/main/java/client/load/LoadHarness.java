@@ -0,0 +1,163 @@
+package client.load;
+
+import client.ReactiveClient;
+import client.json.CallJson;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Starts the Web Service, unless the scenario points at a running one, and sends each endpoint its own rate of
+// requests from a shared number of virtual users. Requests that come due while every virtual user is busy are
+// dropped and counted, instead of being queued.
+public final class LoadHarness {
+    private static final long FIRST_CALL_START_TIMESTAMP = 1577836800L;
+    private static final int NUMBER_OF_DAYS = 365;
+    private static final int NUMBER_OF_SEED_CALLS_BY_REQUEST = 1000;
+
+    private final LoadScenario loadScenario;
+    private final Queue<Long> createdCallIds = new ConcurrentLinkedQueue<>();
+
+    private LoadHarness(LoadScenario loadScenario) {
+        this.loadScenario = loadScenario;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadScenario loadScenario = LoadScenario.load(args.length > 0 ? Path.of(args[0]) : null);
+
+        new LoadHarness(loadScenario).run();
+    }
+
+    private void run() throws Exception {
+        Path reportDirectory = loadScenario.getReportDirectory();
+
+        if (!loadScenario.getWebserviceBaseUri().isEmpty()) {
+            run(loadScenario.getWebserviceBaseUri(), reportDirectory);
+
+            return;
+        }
+
+        try (WebserviceProcess webserviceProcess = WebserviceProcess.start(
+                loadScenario.getWebserviceJar(), loadScenario.getWebservicePort(),
+                loadScenario.getWebserviceJvmOptions(), loadScenario.getWebserviceArguments(),
+                reportDirectory.resolve("webservice.log"))) {
+            run(webserviceProcess.getBaseUri(), reportDirectory);
+        }
+    }
+
+    private void run(String baseUri, Path reportDirectory) throws Exception {
+        int virtualUsers = loadScenario.getVirtualUsers();
+
+        try (ReactiveClient reactiveClient = new ReactiveClient(baseUri, ReactiveClient.DEFAULT_CONNECT_TIMEOUT,
+                                                                ReactiveClient.DEFAULT_RESPONSE_TIMEOUT,
+                                                                virtualUsers)) {
+            seed(reactiveClient);
+
+            List<EndpointLoad> endpointLoadList = endpointLoadList(reactiveClient);
+            Duration warmup = loadScenario.getWarmup();
+            Duration duration = loadScenario.getDuration();
+            long startNanoseconds = System.nanoTime();
+            long measuredFromNanoseconds = startNanoseconds + warmup.toNanos();
+            List<Flux<ScheduledRequest>> scheduledRequestFluxList = new ArrayList<>();
+
+            for (EndpointLoad endpointLoad : endpointLoadList) {
+                if (endpointLoad.getRate() > 0) {
+                    scheduledRequestFluxList.add(scheduledRequests(endpointLoad, startNanoseconds,
+                                                                   warmup.plus(duration)));
+                }
+            }
+
+            Flux.merge(scheduledRequestFluxList)
+                .onBackpressureDrop(scheduledRequest -> scheduledRequest.endpointLoad.drop(
+                        scheduledRequest.startNanoseconds >= measuredFromNanoseconds))
+                .flatMap(scheduledRequest -> scheduledRequest.endpointLoad.request(
+                        scheduledRequest.startNanoseconds,
+                        scheduledRequest.startNanoseconds >= measuredFromNanoseconds), virtualUsers)
+                .blockLast();
+
+            Duration measuredDuration = Duration.ofNanos(System.nanoTime() - measuredFromNanoseconds);
+
+            LoadReport.print(System.out, loadScenario, endpointLoadList, measuredDuration);
+
+            System.out.println("Report written to " + LoadReport.write(reportDirectory, loadScenario,
+                                                                       endpointLoadList, measuredDuration));
+        }
+    }
+
+    private Flux<ScheduledRequest> scheduledRequests(EndpointLoad endpointLoad, long startNanoseconds,
+                                                     Duration duration) {
+        long periodNanoseconds = (long) (1e9 / endpointLoad.getRate());
+
+        return Flux.interval(Duration.ofNanos(periodNanoseconds))
+                   .take(duration.toNanos() / periodNanoseconds)
+                   .map(tick -> new ScheduledRequest(endpointLoad, startNanoseconds + (tick + 1) * periodNanoseconds));
+    }
+
+    private void seed(ReactiveClient reactiveClient) {
+        for (int i = 0; i < loadScenario.getNumberOfSeedCalls(); i += NUMBER_OF_SEED_CALLS_BY_REQUEST) {
+            createCalls(reactiveClient, Math.min(NUMBER_OF_SEED_CALLS_BY_REQUEST,
+                                                 loadScenario.getNumberOfSeedCalls() - i)).block();
+        }
+    }
+
+    private List<EndpointLoad> endpointLoadList(ReactiveClient reactiveClient) {
+        List<Integer> batchSizes = loadScenario.getCreateCallsBatchSizes();
+        int maximumPage = loadScenario.getGetCallsMaximumPage();
+
+        return List.of(
+                new EndpointLoad("create-calls", loadScenario.getRate("create-calls"),
+                                 () -> createCalls(reactiveClient, batchSizes.get(
+                                         ThreadLocalRandom.current().nextInt(batchSizes.size())))),
+                new EndpointLoad("get-calls", loadScenario.getRate("get-calls"),
+                                 () -> reactiveClient.getAllCalls(1 + ThreadLocalRandom.current().nextInt(maximumPage))
+                                                     .then()),
+                new EndpointLoad("statistics-calls", loadScenario.getRate("statistics-calls"),
+                                 () -> reactiveClient.getCallsStatistics().then()),
+                new EndpointLoad("delete-call", loadScenario.getRate("delete-call"),
+                                 () -> deleteCall(reactiveClient)));
+    }
+
+    private Mono<Void> createCalls(ReactiveClient reactiveClient, int numberOfCalls) {
+        List<CallJson> callJsonList = new ArrayList<>(numberOfCalls);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        for (int i = 0; i < numberOfCalls; i++) {
+            long callStartTimestamp = FIRST_CALL_START_TIMESTAMP + random.nextLong(NUMBER_OF_DAYS * 86400L);
+
+            callJsonList.add(CallJson.Builder.callModelWith()
+                                             .withCallerNumber(910000000L + random.nextInt(100000))
+                                             .withCalleeNumber(960000000L + random.nextInt(100000))
+                                             .withStartTimestamp(callStartTimestamp)
+                                             .withEndTimestamp(callStartTimestamp + random.nextInt(3600))
+                                             .withCallType(random.nextBoolean() ? "Inbound" : "Outbound")
+                                             .build());
+        }
+
+        return reactiveClient.createCalls(callJsonList)
+                             .doOnNext(callJson -> createdCallIds.offer(callJson.getId()))
+                             .then();
+    }
+
+    // Deletes one of the calls created by the seed or by earlier requests, so every delete hits an existing call.
+    private Mono<Void> deleteCall(ReactiveClient reactiveClient) {
+        Long id = createdCallIds.poll();
+
+        return id == null ? Mono.empty() : reactiveClient.deleteCallById(id);
+    }
+
+    private static final class ScheduledRequest {
+        private final EndpointLoad endpointLoad;
+        private final long startNanoseconds;
+
+        private ScheduledRequest(EndpointLoad endpointLoad, long startNanoseconds) {
+            this.endpointLoad = endpointLoad;
+            this.startNanoseconds = startNanoseconds;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package client.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Writes the throughput and latency percentiles of each endpoint to report.txt, and its full latency distribution,
+// in milliseconds, to <endpoint>.hgrm, which the HdrHistogram plotter reads.
+public final class LoadReport {
+    private static final double MICROSECONDS_PER_MILLISECOND = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private LoadReport() {
+    }
+
+    public static Path write(Path reportDirectory, LoadScenario loadScenario, List<EndpointLoad> endpointLoadList,
+                             Duration measuredDuration) throws IOException {
+        Path runDirectory = reportDirectory.resolve(LocalDateTime.now().toString().replace(':', '-'));
+
+        Files.createDirectories(runDirectory);
+
+        try (PrintStream printStream = new PrintStream(Files.newOutputStream(runDirectory.resolve("report.txt")))) {
+            print(printStream, loadScenario, endpointLoadList, measuredDuration);
+        }
+
+        for (EndpointLoad endpointLoad : endpointLoadList) {
+            try (PrintStream printStream = new PrintStream(Files.newOutputStream(
+                    runDirectory.resolve(endpointLoad.getName() + ".hgrm")))) {
+                endpointLoad.getLatencyHistogram().outputPercentileDistribution(printStream,
+                                                                                MICROSECONDS_PER_MILLISECOND);
+            }
+        }
+
+        return runDirectory;
+    }
+
+    public static void print(PrintStream printStream, LoadScenario loadScenario, List<EndpointLoad> endpointLoadList,
+                             Duration measuredDuration) {
+        double measuredSeconds = measuredDuration.toMillis() / 1000.0;
+        long totalNumberOfRequests = 0;
+
+        printStream.println("Scenario:");
+
+        for (Map.Entry<Object, Object> entry : new TreeMap<>(loadScenario.getProperties()).entrySet()) {
+            printStream.printf("  %s=%s%n", entry.getKey(), entry.getValue());
+        }
+
+        printStream.println();
+        printStream.printf("%-18s %8s %8s %8s %8s %10s %10s %10s %10s %10s%n", "Endpoint", "Rate", "Requests",
+                           "Failed", "Dropped", "Req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms");
+
+        for (EndpointLoad endpointLoad : endpointLoadList) {
+            Histogram latencyHistogram = endpointLoad.getLatencyHistogram();
+
+            printStream.printf("%-18s %8.1f %8d %8d %8d %10.1f", endpointLoad.getName(), endpointLoad.getRate(),
+                               endpointLoad.getNumberOfRequests(), endpointLoad.getNumberOfFailedRequests(),
+                               endpointLoad.getNumberOfDroppedRequests(),
+                               endpointLoad.getNumberOfRequests() / measuredSeconds);
+
+            for (double percentile : PERCENTILES) {
+                printStream.printf(" %10.2f", latencyHistogram.getValueAtPercentile(percentile)
+                                              / MICROSECONDS_PER_MILLISECOND);
+            }
+
+            printStream.println();
+
+            totalNumberOfRequests += endpointLoad.getNumberOfRequests();
+        }
+
+        printStream.println();
+        printStream.printf("%d requests in %.1f s: %.1f requests/s%n", totalNumberOfRequests, measuredSeconds,
+                           totalNumberOfRequests / measuredSeconds);
+    }
+}
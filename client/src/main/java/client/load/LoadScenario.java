@@ -0,0 +1,101 @@
+package client.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+public final class LoadScenario {
+    private static final String DEFAULT_LOAD_SCENARIO = "load-scenario.properties";
+
+    private final Properties properties;
+
+    private LoadScenario(Properties properties) {
+        this.properties = properties;
+    }
+
+    // The defaults come from load-scenario.properties in the classpath, and the given file overrides any of them.
+    public static LoadScenario load(Path path) throws IOException {
+        Properties properties = new Properties();
+
+        try (InputStream inputStream = LoadScenario.class.getClassLoader()
+                                                         .getResourceAsStream(DEFAULT_LOAD_SCENARIO)) {
+            properties.load(inputStream);
+        }
+
+        if (path != null) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            }
+        }
+
+        return new LoadScenario(properties);
+    }
+
+    public String getWebserviceBaseUri() {
+        return properties.getProperty("webservice.base-uri", "");
+    }
+
+    public Path getWebserviceJar() {
+        return Path.of(properties.getProperty("webservice.jar"));
+    }
+
+    public int getWebservicePort() {
+        return Integer.parseInt(properties.getProperty("webservice.port"));
+    }
+
+    public List<String> getWebserviceJvmOptions() {
+        return words(properties.getProperty("webservice.jvm-options", ""));
+    }
+
+    public List<String> getWebserviceArguments() {
+        return words(properties.getProperty("webservice.arguments", ""));
+    }
+
+    public Duration getWarmup() {
+        return Duration.ofSeconds(Long.parseLong(properties.getProperty("warmup-seconds")));
+    }
+
+    public Duration getDuration() {
+        return Duration.ofSeconds(Long.parseLong(properties.getProperty("duration-seconds")));
+    }
+
+    public int getVirtualUsers() {
+        return Integer.parseInt(properties.getProperty("virtual-users"));
+    }
+
+    public int getNumberOfSeedCalls() {
+        return Integer.parseInt(properties.getProperty("seed-calls"));
+    }
+
+    public double getRate(String endpoint) {
+        return Double.parseDouble(properties.getProperty(endpoint + ".rate"));
+    }
+
+    public List<Integer> getCreateCallsBatchSizes() {
+        return words(properties.getProperty("create-calls.batch-sizes").replace(',', ' '))
+                .stream().map(Integer::parseInt).collect(Collectors.toList());
+    }
+
+    public int getGetCallsMaximumPage() {
+        return Integer.parseInt(properties.getProperty("get-calls.maximum-page"));
+    }
+
+    public Path getReportDirectory() {
+        return Path.of(properties.getProperty("report.directory"));
+    }
+
+    public Properties getProperties() {
+        return properties;
+    }
+
+    private static List<String> words(String value) {
+        return Arrays.stream(value.trim().split("\\s+")).filter(word -> !word.isEmpty()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,122 @@
+package client.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Runs the Web Service jar in its own JVM for the length of a load test.
+public final class WebserviceProcess implements AutoCloseable {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final long POLL_MILLISECONDS = 500;
+
+    private final Process process;
+    private final int port;
+
+    private WebserviceProcess(Process process, int port) {
+        this.process = process;
+        this.port = port;
+    }
+
+    public static WebserviceProcess start(Path jar, int port, List<String> jvmOptions, List<String> arguments,
+                                          Path logFile) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("Web Service jar " + jar + " does not exist, build it first!");
+        }
+
+        List<String> command = new ArrayList<>();
+
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(arguments);
+
+        Files.createDirectories(logFile.getParent());
+
+        WebserviceProcess webserviceProcess = new WebserviceProcess(new ProcessBuilder(command)
+                                                                            .redirectErrorStream(true)
+                                                                            .redirectOutput(logFile.toFile())
+                                                                            .start(), port);
+
+        try {
+            webserviceProcess.awaitHealthy(logFile);
+        } catch (InterruptedException | RuntimeException exception) {
+            webserviceProcess.close();
+
+            throw exception;
+        }
+
+        return webserviceProcess;
+    }
+
+    public String getBaseUri() {
+        return "http://localhost:" + port + "/talkdesk/api/call/";
+    }
+
+    private void awaitHealthy(Path logFile) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpRequest healthRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health"))
+                                               .timeout(Duration.ofSeconds(1))
+                                               .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Web Service exited with " + process.exitValue() + ", see "
+                                                + logFile);
+            }
+
+            try {
+                if (httpClient.send(healthRequest, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException exception) {
+                // Not listening yet.
+            }
+
+            Thread.sleep(POLL_MILLISECONDS);
+        }
+
+        throw new IllegalStateException("Web Service did not start within " + STARTUP_TIMEOUT + ", see " + logFile);
+    }
+
+    // Stops the Web Service even when interrupted, so it never outlives the load test, and then restores the
+    // interrupt.
+    @Override
+    public void close() {
+        boolean interrupted = Thread.interrupted();
+
+        process.destroy();
+
+        try {
+            if (!process.waitFor(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException interruptedException) {
+            interrupted = true;
+            process.destroyForcibly();
+        }
+
+        while (process.isAlive()) {
+            try {
+                process.waitFor();
+            } catch (InterruptedException interruptedException) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
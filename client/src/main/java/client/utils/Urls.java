@@ -3,11 +3,25 @@ package client.utils;
 public class Urls {
     public static final String BASE_URI = "http://localhost:8080/talkdesk/api/call/";
 
-    public static final String CREATE_CALLS_URI = BASE_URI + "create-calls";
+    public static final String CREATE_CALLS_PATH = "create-calls";
 
-    public static final String GET_ALL_CALLS = BASE_URI + "get-calls?";
+    public static final String CREATE_VALID_CALLS_PATH = "create-valid-calls";
+
+    public static final String CREATE_CALLS_BULK_PATH = "create-calls-bulk";
+
+    public static final String GET_ALL_CALLS_PATH = "get-calls";
+
+    public static final String DELETE_CALL_BY_ID_PATH = "delete-call/{id}";
+
+    public static final String GET_CALLS_STATISTICS_PATH = "statistics-calls";
+
+    public static final String CREATE_CALLS_URI = BASE_URI + CREATE_CALLS_PATH;
+
+    public static final String CREATE_VALID_CALLS_URI = BASE_URI + CREATE_VALID_CALLS_PATH;
+
+    public static final String GET_ALL_CALLS = BASE_URI + GET_ALL_CALLS_PATH + "?";
 
     public static final String DELETE_CALL_BY_ID = BASE_URI + "delete-call/";
 
-    public static final String GET_CALLS_STATISTICS = BASE_URI + "statistics-calls";
+    public static final String GET_CALLS_STATISTICS = BASE_URI + GET_CALLS_STATISTICS_PATH;
 }
@@ -0,0 +1,238 @@
+package client;
+
+import client.json.CallJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+// Uploads against a local server that stands in for the create-valid-calls endpoint, counts the calls of each
+// request and can hold the responses back.
+public class CallUploaderTests {
+    private static final String CREATE_VALID_CALLS_CONTEXT = "/talkdesk/api/call/create-valid-calls";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Integer> receivedBatchSizeList = new CopyOnWriteArrayList<>();
+    private final List<CallsBatchReport> callsBatchReportList = new CopyOnWriteArrayList<>();
+    private final AtomicInteger requestsInFlight = new AtomicInteger();
+    private final AtomicInteger maximumRequestsInFlight = new AtomicInteger();
+
+    private HttpServer httpServer;
+    private ReactiveClient reactiveClient;
+    private volatile CountDownLatch responseLatch = new CountDownLatch(0);
+    private volatile int responseStatus = 201;
+
+    @Before
+    public void setup() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext(CREATE_VALID_CALLS_CONTEXT, this::createValidCalls);
+        httpServer.setExecutor(Executors.newCachedThreadPool());
+        httpServer.start();
+
+        reactiveClient = new ReactiveClient("http://localhost:" + httpServer.getAddress().getPort()
+                                            + "/talkdesk/api/call/", Duration.ofSeconds(5), Duration.ofSeconds(30),
+                                            16);
+    }
+
+    @After
+    public void tearDown() {
+        responseLatch.countDown();
+        reactiveClient.close();
+        httpServer.stop(0);
+    }
+
+    private void createValidCalls(HttpExchange httpExchange) throws IOException {
+        int numberOfCalls = objectMapper.readTree(httpExchange.getRequestBody()).size();
+        int numberOfRequestsInFlight = requestsInFlight.incrementAndGet();
+
+        maximumRequestsInFlight.accumulateAndGet(numberOfRequestsInFlight, Math::max);
+        receivedBatchSizeList.add(numberOfCalls);
+
+        try {
+            responseLatch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = ("{\"acceptedCalls\":" + numberOfCalls + ",\"rejectedCalls\":0}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        requestsInFlight.decrementAndGet();
+        httpExchange.getResponseHeaders().add("Content-Type", "application/json");
+        httpExchange.sendResponseHeaders(responseStatus, body.length);
+
+        try (OutputStream outputStream = httpExchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private CallJson callJson(long callerNumber) {
+        return CallJson.Builder.callModelWith()
+                               .withCallerNumber(callerNumber)
+                               .withCalleeNumber(987654321L)
+                               .withStartTimestamp(1599912610L)
+                               .withEndTimestamp(1599946544L)
+                               .withCallType("Inbound")
+                               .build();
+    }
+
+    private int numberOfReportedCalls() {
+        return callsBatchReportList.stream().mapToInt(CallsBatchReport::getNumberOfCalls).sum();
+    }
+
+    @Test
+    public void uploadSendsCallsInBatchesOfMaximumSizeSuccessfully() throws InterruptedException {
+        // Arrange
+        CallUploader callUploader = new CallUploader(reactiveClient, 10, Duration.ofMillis(100), 4, 100,
+                                                     callsBatchReportList::add);
+
+        // Act
+        for (int i = 0; i < 95; i++) {
+            callUploader.upload(callJson(i));
+        }
+
+        callUploader.close();
+
+        // Assert
+        assertEquals(95, receivedBatchSizeList.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(receivedBatchSizeList.stream().allMatch(batchSize -> batchSize <= 10));
+        assertTrue(receivedBatchSizeList.size() >= 10);
+        assertEquals(95, numberOfReportedCalls());
+        assertTrue(callsBatchReportList.stream().allMatch(CallsBatchReport::isSuccessful));
+    }
+
+    @Test
+    public void uploadBlocksWhenBatchesInFlightAndPendingCallsAreFullSuccessfully() throws InterruptedException {
+        // Arrange
+        responseLatch = new CountDownLatch(1);
+
+        CallUploader callUploader = new CallUploader(reactiveClient, 1, Duration.ZERO, 2, 5,
+                                                     callsBatchReportList::add);
+        AtomicInteger numberOfUploadedCalls = new AtomicInteger();
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 20; i++) {
+                    callUploader.upload(callJson(i));
+                    numberOfUploadedCalls.incrementAndGet();
+                }
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // Act
+        producer.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (requestsInFlight.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Thread.sleep(500);
+
+        int numberOfCallsUploadedWhileBlocked = numberOfUploadedCalls.get();
+        boolean producerBlocked = producer.isAlive();
+
+        responseLatch.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(30));
+        callUploader.close();
+
+        // Assert
+        assertTrue(producerBlocked);
+        // Two batches in flight, one waiting for a permit in the dispatcher and five pending calls.
+        assertEquals(8, numberOfCallsUploadedWhileBlocked);
+        assertEquals(2, maximumRequestsInFlight.get());
+        assertEquals(20, numberOfUploadedCalls.get());
+        assertEquals(20, numberOfReportedCalls());
+    }
+
+    @Test
+    public void closeWaitsForPendingAndInFlightBatchesSuccessfully() throws InterruptedException {
+        // Arrange
+        responseLatch = new CountDownLatch(1);
+
+        CallUploader callUploader = new CallUploader(reactiveClient, 10, Duration.ofMillis(100), 4, 100,
+                                                     callsBatchReportList::add);
+
+        for (int i = 0; i < 30; i++) {
+            callUploader.upload(callJson(i));
+        }
+
+        Thread closer = new Thread(callUploader::close);
+
+        // Act
+        closer.start();
+        closer.join(1000);
+
+        boolean closedBeforeResponses = !closer.isAlive();
+
+        responseLatch.countDown();
+        closer.join(TimeUnit.SECONDS.toMillis(30));
+
+        // Assert
+        assertFalse(closedBeforeResponses);
+        assertFalse(closer.isAlive());
+        assertEquals(30, numberOfReportedCalls());
+    }
+
+    @Test
+    public void uploadReportsFailedBatchSuccessfully() throws InterruptedException {
+        // Arrange
+        responseStatus = 500;
+
+        CallUploader callUploader = new CallUploader(reactiveClient, 10, Duration.ofMillis(100), 4, 100,
+                                                     callsBatchReportList::add);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            callUploader.upload(callJson(i));
+        }
+
+        callUploader.close();
+
+        // Assert
+        assertEquals(5, numberOfReportedCalls());
+        assertTrue(callsBatchReportList.stream().noneMatch(CallsBatchReport::isSuccessful));
+        assertNotNull(callsBatchReportList.get(0).getFailure());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void uploadAfterCloseFails() throws InterruptedException {
+        // Arrange
+        CallUploader callUploader = new CallUploader(reactiveClient, callsBatchReportList::add);
+
+        callUploader.close();
+
+        // Act && Assert
+        try {
+            callUploader.upload(callJson(1));
+        } catch (IllegalStateException ise) {
+            String exceptionMessage = "Call uploader is closed!";
+            assertEquals(exceptionMessage, ise.getMessage());
+            throw ise;
+        }
+
+        fail("Illegal state exception of closed call uploader was not thrown!");
+    }
+}
@@ -0,0 +1,148 @@
+package client;
+
+import client.json.CallJson;
+import client.json.CallsCreationReportJson;
+import client.json.CallsStatisticsJson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+// Sends the requests to a local server that records them and answers like the Web Service would.
+public class ReactiveClientTests {
+    private static final String E_TAG = "W/\"1-1\"";
+
+    private HttpServer httpServer;
+    private ReactiveClient reactiveClient;
+    private volatile String requestQuery;
+    private volatile String requestIfNoneMatch;
+    private volatile String requestContentType;
+    private volatile String requestBody;
+
+    @Before
+    public void setup() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/talkdesk/api/call/statistics-calls", this::getCallsStatistics);
+        httpServer.createContext("/talkdesk/api/call/create-calls-bulk", this::createCallsInBulk);
+        httpServer.start();
+
+        reactiveClient = new ReactiveClient("http://localhost:" + httpServer.getAddress().getPort()
+                                            + "/talkdesk/api/call/", Duration.ofSeconds(5), Duration.ofSeconds(30),
+                                            4);
+    }
+
+    @After
+    public void tearDown() {
+        reactiveClient.close();
+        httpServer.stop(0);
+    }
+
+    private void getCallsStatistics(HttpExchange httpExchange) throws IOException {
+        requestQuery = httpExchange.getRequestURI().getQuery();
+        requestIfNoneMatch = httpExchange.getRequestHeaders().getFirst("If-None-Match");
+
+        httpExchange.getResponseHeaders().add("ETag", E_TAG);
+
+        if (E_TAG.equals(requestIfNoneMatch)) {
+            httpExchange.sendResponseHeaders(304, -1);
+            httpExchange.close();
+
+            return;
+        }
+
+        sendJson(httpExchange, 200, "[{\"day\":\"2020-09-12\",\"totalNumberOfCalls\":2}]");
+    }
+
+    private void createCallsInBulk(HttpExchange httpExchange) throws IOException {
+        requestContentType = httpExchange.getRequestHeaders().getFirst("Content-Type");
+        requestBody = new String(httpExchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        sendJson(httpExchange, 201, "{\"acceptedCalls\":2,\"rejectedCalls\":0,\"firstCallId\":1,\"lastCallId\":2}");
+    }
+
+    private void sendJson(HttpExchange httpExchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+
+        httpExchange.getResponseHeaders().add("Content-Type", "application/json");
+        httpExchange.sendResponseHeaders(status, body.length);
+
+        try (OutputStream outputStream = httpExchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    @Test
+    public void getCallsStatisticsSendsQueryParametersSuccessfully() {
+        // Act
+        List<CallsStatisticsJson> callsStatisticsJsonList = reactiveClient
+                .getCallsStatistics(LocalDate.of(2020, Month.SEPTEMBER, 12), LocalDate.of(2020, Month.SEPTEMBER, 13),
+                                    "Inbound", 10, false)
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals("approximate=false&from=2020-09-12&to=2020-09-13&type=Inbound&topN=10", requestQuery);
+        assertEquals(1, callsStatisticsJsonList.size());
+        assertEquals(LocalDate.of(2020, Month.SEPTEMBER, 12), callsStatisticsJsonList.get(0).getDay());
+        assertEquals(Long.valueOf(2), callsStatisticsJsonList.get(0).getTotalNumberOfCalls());
+    }
+
+    @Test
+    public void getCallsStatisticsWithETagSuccessfully() {
+        // Act
+        CallsStatisticsResponse callsStatisticsResponse = reactiveClient
+                .getCallsStatistics(null, null, null, null, true, null)
+                .block();
+        String firstRequestQuery = requestQuery;
+        String firstRequestIfNoneMatch = requestIfNoneMatch;
+        CallsStatisticsResponse notModifiedCallsStatisticsResponse = reactiveClient
+                .getCallsStatistics(null, null, null, null, true, callsStatisticsResponse.getETag())
+                .block();
+
+        // Assert
+        assertEquals("approximate=true", firstRequestQuery);
+        assertNull(firstRequestIfNoneMatch);
+        assertTrue(callsStatisticsResponse.isModified());
+        assertEquals(E_TAG, callsStatisticsResponse.getETag());
+        assertEquals(1, callsStatisticsResponse.getCallsStatisticsJsonList().size());
+
+        assertEquals(E_TAG, requestIfNoneMatch);
+        assertFalse(notModifiedCallsStatisticsResponse.isModified());
+        assertEquals(E_TAG, notModifiedCallsStatisticsResponse.getETag());
+        assertNull(notModifiedCallsStatisticsResponse.getCallsStatisticsJsonList());
+    }
+
+    @Test
+    public void createCallsInBulkSendsOneCallPerLineSuccessfully() {
+        // Arrange
+        Flux<CallJson> callJsonFlux = Flux.just(CallJson.Builder.callModelWith().withCallerNumber(1L).build(),
+                                                CallJson.Builder.callModelWith().withCallerNumber(2L).build());
+
+        // Act
+        CallsCreationReportJson callsCreationReportJson = reactiveClient.createCallsInBulk(callJsonFlux).block();
+
+        // Assert
+        assertEquals("application/x-ndjson", requestContentType);
+        assertEquals(2, requestBody.split("\n").length);
+        assertTrue(requestBody.startsWith("{\"id\":null,\"callerNumber\":1,"));
+        assertTrue(requestBody.endsWith("}\n"));
+        assertEquals(Long.valueOf(2), callsCreationReportJson.getAcceptedCalls());
+        assertEquals(Long.valueOf(2), callsCreationReportJson.getLastCallId());
+    }
+}
@@ -0,0 +1,41 @@
+package webservice.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import webservice.model.calldto.CallDto;
+import webservice.repository.CallColumnRepository;
+import webservice.repository.CallColumnRepositoryImpl;
+import webservice.repository.CallRepository;
+
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "webservice.statistics.engine", havingValue = "columnar")
+public class CallColumnConfiguration {
+    private static final int NUMBER_OF_CALLS_BY_LOAD_PAGE = 10000;
+
+    // The columns are loaded before the web server starts, so statistics are never computed from a partial store.
+    @Bean
+    public CallColumnRepository callColumnRepository(CallRepository callRepository) {
+        CallColumnRepository callColumnRepository = new CallColumnRepositoryImpl();
+        PageRequest pageRequest = PageRequest.of(0, NUMBER_OF_CALLS_BY_LOAD_PAGE);
+        Slice<CallDto> callDtoSlice;
+        long afterId = 0L;
+
+        do {
+            callDtoSlice = callRepository.findByIdGreaterThanOrderByIdAsc(afterId, pageRequest);
+
+            List<CallDto> callDtoList = callDtoSlice.getContent();
+
+            if (!callDtoList.isEmpty()) {
+                callColumnRepository.saveAll(callDtoList);
+                afterId = callDtoList.get(callDtoList.size() - 1).getId();
+            }
+        } while (callDtoSlice.hasNext());
+
+        return callColumnRepository;
+    }
+}
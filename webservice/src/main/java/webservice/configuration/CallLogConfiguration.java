@@ -0,0 +1,68 @@
+package webservice.configuration;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import webservice.model.calldto.CallDto;
+import webservice.repository.CallLog;
+import webservice.repository.CallLogImpl;
+import webservice.repository.CallRepository;
+import webservice.service.call.CallService;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "webservice.calls.log.enabled", havingValue = "true")
+public class CallLogConfiguration {
+    @Bean(destroyMethod = "close")
+    public CallLogImpl callLog(@Value("${webservice.calls.log.directory:calls-log}") String directory,
+                               @Value("${webservice.calls.log.segment-size:67108864}") long segmentSize,
+                               @Value("${webservice.calls.log.sync-interval-millis:10}") long syncIntervalMillis)
+            throws IOException {
+        return new CallLogImpl(Paths.get(directory), segmentSize, syncIntervalMillis);
+    }
+
+    @Bean
+    public MeterBinder callLogMetrics(CallLogImpl callLog) {
+        return meterRegistry -> Gauge.builder("calls.log.size", callLog, CallLogImpl::getSize)
+                                     .baseUnit("bytes")
+                                     .register(meterRegistry);
+    }
+
+    // A failed call log rejects every call written, so the web service stays down until it is restarted.
+    @Bean
+    public HealthIndicator callLogHealthIndicator(CallLogImpl callLog) {
+        return () -> callLog.getFailure() == null ? Health.up().build() :
+                     Health.down().withDetail("error", callLog.getFailure().toString()).build();
+    }
+
+    // The calls are restored once every bean is created, before the web server starts, and only into an empty
+    // database, as a database that kept its calls is already ahead of the log.
+    @Bean
+    public SmartInitializingSingleton callLogRecoverer(CallLog callLog, CallService callService,
+                                                       CallRepository callRepository,
+                                                       @Value("${webservice.calls.bulk-chunk-size:1000}")
+                                                               int chunkSize) {
+        return () -> {
+            List<CallDto> callDtoList = callLog.recoverCalls();
+
+            if (callDtoList.isEmpty() || callRepository.count() > 0) {
+                return;
+            }
+
+            for (int i = 0; i < callDtoList.size(); i += chunkSize) {
+                callService.restoreCalls(callDtoList.subList(i, Math.min(i + chunkSize, callDtoList.size())));
+            }
+
+            callRepository.restartIdSequenceAfter(callDtoList.get(callDtoList.size() - 1).getId());
+        };
+    }
+}
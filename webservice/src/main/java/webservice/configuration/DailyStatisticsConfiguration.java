@@ -0,0 +1,16 @@
+package webservice.configuration;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import webservice.service.statistics.DailyStatisticsService;
+
+@Configuration
+@ConditionalOnProperty(name = "webservice.statistics.rebuild-on-startup", havingValue = "true")
+public class DailyStatisticsConfiguration {
+    @Bean
+    public ApplicationRunner dailyStatisticsRebuilder(DailyStatisticsService dailyStatisticsService) {
+        return args -> dailyStatisticsService.rebuildDailyStatistics();
+    }
+}
@@ -0,0 +1,18 @@
+package webservice.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+@ConditionalOnProperty(name = "webservice.statistics.parallel", havingValue = "true")
+public class StatisticsForkJoinPoolConfiguration {
+    // A pool of its own keeps the statistics scans from competing with parallel streams for the common pool.
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool statisticsForkJoinPool(@Value("${webservice.statistics.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
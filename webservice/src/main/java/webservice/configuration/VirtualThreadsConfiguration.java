@@ -0,0 +1,56 @@
+package webservice.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import webservice.repository.ConnectionLimitingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "webservice.threads.virtual", havingValue = "true")
+public class VirtualThreadsConfiguration {
+    // Tomcat runs every request, and so every repository call it makes, on a virtual thread of its own. The executor
+    // is looked up at runtime so the Web Service still builds for, and runs in its default mode on, Java 11.
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        ExecutorService executorService = newVirtualThreadPerTaskExecutor();
+
+        return protocolHandler -> protocolHandler.setExecutor(executorService);
+    }
+
+    // Without a bounded thread pool in front of it, the connection pool would be the only thing keeping thousands of
+    // requests from the database, so they queue on a fair semaphore no larger than the pool instead.
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${webservice.threads.jdbc-permits:10}") int jdbcPermits,
+            @Value("${webservice.threads.jdbc-wait-millis:30000}") long jdbcWaitMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource((DataSource) bean, jdbcPermits, jdbcWaitMillis);
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException noSuchMethodException) {
+            throw new IllegalStateException("Virtual threads need Java 21 or later, this is Java "
+                                            + Runtime.version().feature() + "!", noSuchMethodException);
+        } catch (IllegalAccessException | InvocationTargetException exception) {
+            throw new IllegalStateException("Could not create the virtual thread executor!", exception);
+        }
+    }
+}
@@ -1,19 +1,40 @@
 package webservice.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.data.domain.Slice;
+import webservice.controller.utils.CallCursor;
+import webservice.controller.utils.CallJsonStreamIterator;
+import webservice.controller.utils.LiveStatisticsBroadcaster;
 import webservice.model.calldto.CallDto;
 import webservice.model.calljson.CallJson;
+import webservice.model.callsbulksummaryjson.CallsBulkSummaryJson;
+import webservice.model.callscreationreportjson.CallsCreationReportJson;
+import webservice.model.callspagejson.CallsPageJson;
 import webservice.model.callstatisticsjson.CallsStatisticsJson;
 import webservice.model.mapper.CallMapper;
+import webservice.model.statisticscachejson.StatisticsCacheJson;
+import webservice.service.call.CallBulkService;
 import webservice.service.call.CallService;
-import webservice.service.statistics.StatisticsService;
+import webservice.service.statistics.CachedCallsStatistics;
+import webservice.service.statistics.StatisticsCacheService;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
+
+import static webservice.service.ServiceParameters.NUMBER_OF_ELEMENTS_IN_PAGE;
 
 @RestController
 @RequestMapping("talkdesk/api/call")
@@ -21,31 +42,61 @@ public class CallController {
     @Autowired
     private CallService callService;
     @Autowired
-    private StatisticsService statisticsService;
+    private StatisticsCacheService statisticsCacheService;
+    @Autowired
+    private CallBulkService callBulkService;
     @Autowired
     private CallMapper callMapper;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private LiveStatisticsBroadcaster liveStatisticsBroadcaster;
+    @Value("${webservice.calls.bulk-max-line-length:4096}")
+    private int bulkMaxLineLength;
 
     @PostMapping("/create-calls")
     @ResponseStatus(HttpStatus.CREATED)
     public List<CallJson> createCalls(@Valid @RequestBody List<CallJson> callJsonList) {
-        List<CallDto> callDtoList = new ArrayList<>();
+        List<CallDto> callDtoList = callMapper.convertCallJsonListToCallDtoList(callJsonList);
 
-        for (CallJson callJson : callJsonList) {
-            CallDto callDto = callMapper.convertCallJsonToCallDto(callJson);
+        return callMapper.convertCallDtoListToCallJsonList(callService.createCalls(callDtoList));
+    }
 
-            callDtoList.add(callDto);
-        }
+    @PostMapping("/create-valid-calls")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CallsCreationReportJson createValidCalls(@RequestBody List<CallJson> callJsonList) {
+        return callBulkService.createValidCalls(callMapper.convertCallJsonListToCallDtoList(callJsonList));
+    }
 
-        return callService.createCalls(callDtoList).stream().map(callMapper::convertCallDtoToCallJson).collect(
-                Collectors.toList());
+    @PostMapping(value = "/create-calls-bulk", consumes = "application/x-ndjson")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CallsBulkSummaryJson createCallsInBulk(HttpServletRequest request) throws IOException {
+        return callBulkService.createCalls(new CallJsonStreamIterator(request.getInputStream(), objectMapper,
+                                                                      callMapper, bulkMaxLineLength));
     }
 
     @GetMapping("/get-calls")
     @ResponseStatus(HttpStatus.OK)
     public List<CallJson> getAllCalls(@RequestParam int page,
                                       @RequestParam(required = false, value = "type") String callType) {
-        return callService.getAllCalls(page, callType).stream().map(callMapper::convertCallDtoToCallJson).collect(
-                Collectors.toList());
+        return callMapper.convertCallDtoListToCallJsonList(callService.getAllCalls(page, callType));
+    }
+
+    @GetMapping("/get-calls-by-cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CallsPageJson getCallsByCursor(@RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false, value = "type") String callType,
+                                          @RequestParam(required = false) Integer size) {
+        Slice<CallDto> callDtoSlice = callService.getCallsAfter(CallCursor.decode(cursor), callType,
+                                                                size == null ? NUMBER_OF_ELEMENTS_IN_PAGE : size);
+        List<CallDto> callDtoList = callDtoSlice.getContent();
+
+        return CallsPageJson.Builder.callsPageJsonWith()
+                                    .withCalls(callMapper.convertCallDtoListToCallJsonList(callDtoList))
+                                    .withNextCursor(callDtoSlice.hasNext() ?
+                                                    CallCursor.encode(callDtoList.get(callDtoList.size() - 1)
+                                                                                 .getId()) : null)
+                                    .build();
     }
 
     @DeleteMapping("/delete-call/{id}")
@@ -55,8 +106,33 @@ public class CallController {
     }
 
     @GetMapping("/statistics-calls")
+    public ResponseEntity<List<CallsStatisticsJson>> getCallsStatistics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false, value = "type") String callType,
+            @RequestParam(required = false) Integer topN,
+            @RequestParam(defaultValue = "false") boolean approximate,
+            WebRequest webRequest) {
+        CachedCallsStatistics cachedCallsStatistics = statisticsCacheService.getCallsStatistics(from, to, callType,
+                                                                                                topN, approximate);
+
+        if (webRequest.checkNotModified(cachedCallsStatistics.getETag())) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(cachedCallsStatistics.getETag())
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .body(cachedCallsStatistics.getCallsStatisticsJsonList());
+    }
+
+    @GetMapping(value = "/statistics-calls-live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getLiveCallsStatistics() throws IOException {
+        return liveStatisticsBroadcaster.subscribe();
+    }
+
+    @GetMapping("/statistics-calls-cache")
     @ResponseStatus(HttpStatus.OK)
-    public List<CallsStatisticsJson> getCallsStatistics() {
-        return statisticsService.getCallsStatistics();
+    public StatisticsCacheJson getStatisticsCache() {
+        return statisticsCacheService.getStatisticsCache();
     }
 }
@@ -0,0 +1,35 @@
+package webservice.controller.utils;
+
+import webservice.exception.BusinessException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+public final class CallCursor {
+    private CallCursor() {
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(ByteBuffer.allocate(Long.BYTES)
+                                                                                .putLong(id)
+                                                                                .array());
+    }
+
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+
+        try {
+            byte[] decodedCursor = Base64.getUrlDecoder().decode(cursor);
+
+            if (decodedCursor.length != Long.BYTES) {
+                throw new IllegalArgumentException();
+            }
+
+            return ByteBuffer.wrap(decodedCursor).getLong();
+        } catch (IllegalArgumentException illegalArgumentException) {
+            throw new BusinessException("Cursor is not valid!", cursor);
+        }
+    }
+}
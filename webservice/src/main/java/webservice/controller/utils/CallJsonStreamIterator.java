@@ -0,0 +1,124 @@
+package webservice.controller.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import webservice.exception.BusinessException;
+import webservice.model.calldto.CallDto;
+import webservice.model.calljson.CallJson;
+import webservice.model.mapper.CallMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Reads the stream one line at a time into a buffer of the maximum line length, and parses each line on its own with
+// the streaming parser, so memory does not grow with the stream or with a line. A line that is too long or is not
+// one JSON object fails with a business exception, and the next call starts on the next line. A stream that can not
+// be read fails with an unchecked IO exception.
+public class CallJsonStreamIterator implements Iterator<CallDto> {
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final InputStream inputStream;
+    private final JsonFactory jsonFactory;
+    private final ObjectReader callJsonReader;
+    private final CallMapper callMapper;
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private final byte[] line;
+    private int readBufferPosition;
+    private int readBufferLimit;
+    private int lineLength;
+    private boolean lineTooLong;
+    private boolean lineRead;
+    private boolean endOfStream;
+
+    public CallJsonStreamIterator(InputStream inputStream, ObjectMapper objectMapper, CallMapper callMapper,
+                                  int maximumLineLength) {
+        this.inputStream = inputStream;
+        this.jsonFactory = objectMapper.getFactory();
+        this.callJsonReader = objectMapper.readerFor(CallJson.class);
+        this.callMapper = callMapper;
+        this.line = new byte[maximumLineLength];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!lineRead && !endOfStream) {
+            readNextLine();
+        }
+
+        return lineRead;
+    }
+
+    @Override
+    public CallDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        lineRead = false;
+
+        if (lineTooLong) {
+            throw new BusinessException("Call must not be longer than the maximum line length!",
+                                        String.valueOf(line.length));
+        }
+
+        try (JsonParser jsonParser = jsonFactory.createParser(line, 0, lineLength)) {
+            CallJson callJson = callJsonReader.readValue(jsonParser);
+
+            if (callJson != null && jsonParser.nextToken() == null) {
+                return callMapper.convertCallJsonToCallDto(callJson);
+            }
+        } catch (IOException ioException) {
+            // The line is parsed from memory, so it can only fail by not being a call.
+        }
+
+        throw new BusinessException("Call must be one JSON object on its own line!");
+    }
+
+    private void readNextLine() {
+        do {
+            lineLength = 0;
+            lineTooLong = false;
+
+            boolean blankLine = true;
+            int value;
+
+            while ((value = read()) != -1 && value != '\n') {
+                blankLine &= Character.isWhitespace(value);
+
+                if (lineLength < line.length) {
+                    line[lineLength++] = (byte) value;
+                } else {
+                    lineTooLong = true;
+                }
+            }
+
+            endOfStream = value == -1;
+            lineRead = !blankLine;
+        } while (!lineRead && !endOfStream);
+    }
+
+    private int read() {
+        if (readBufferPosition == readBufferLimit) {
+            try {
+                readBufferLimit = inputStream.read(readBuffer);
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+
+            readBufferPosition = 0;
+
+            if (readBufferLimit <= 0) {
+                readBufferLimit = 0;
+
+                return -1;
+            }
+        }
+
+        return readBuffer[readBufferPosition++] & 0xFF;
+    }
+}
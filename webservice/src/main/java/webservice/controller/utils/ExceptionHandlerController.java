@@ -4,12 +4,14 @@ import webservice.error.BusinessError;
 import webservice.error.RestError;
 import webservice.error.TechnicalError;
 import webservice.exception.BusinessException;
+import webservice.exception.RequestBodyTooLargeException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.zip.ZipException;
 
 @ControllerAdvice
 public class ExceptionHandlerController {
@@ -18,7 +20,7 @@ public class ExceptionHandlerController {
     public RestError handleBusinessRuleValidationError(
             HttpServletRequest request, HttpServletResponse response, Exception exception) {
 
-        response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        response.setStatus(getStatus(exception));
 
         if (exception instanceof BusinessException) {
             BusinessException businessException = (BusinessException) exception;
@@ -27,4 +29,20 @@ public class ExceptionHandlerController {
             return new TechnicalError(exception);
         }
     }
+
+    // A request body that is too large or is not valid gzip is the client's error, wherever it was read and however
+    // the reader wrapped the exception.
+    private int getStatus(Exception exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RequestBodyTooLargeException) {
+                return HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE;
+            }
+
+            if (cause instanceof ZipException) {
+                return HttpServletResponse.SC_BAD_REQUEST;
+            }
+        }
+
+        return HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    }
 }
@@ -0,0 +1,152 @@
+package webservice.controller.utils;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import webservice.exception.RequestBodyTooLargeException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+@Component
+public class GzipRequestFilter extends OncePerRequestFilter {
+    private static final String GZIP_CONTENT_ENCODING = "gzip";
+
+    private final long maximumInflatedSize;
+
+    @Autowired
+    public GzipRequestFilter(@Value("${webservice.calls.gzip-max-inflated-size:268435456}") long maximumInflatedSize) {
+        this.maximumInflatedSize = maximumInflatedSize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (GZIP_CONTENT_ENCODING.equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            filterChain.doFilter(new GzipHttpServletRequest(request, maximumInflatedSize), response);
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static class GzipHttpServletRequest extends HttpServletRequestWrapper {
+        private final long maximumInflatedSize;
+        private ServletInputStream servletInputStream;
+
+        private GzipHttpServletRequest(HttpServletRequest request, long maximumInflatedSize) {
+            super(request);
+            this.maximumInflatedSize = maximumInflatedSize;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (servletInputStream == null) {
+                servletInputStream = new GzipServletInputStream(new GZIPInputStream(super.getInputStream()),
+                                                                maximumInflatedSize);
+            }
+
+            return servletInputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            Charset charset = getCharacterEncoding() == null ? StandardCharsets.UTF_8 :
+                              Charset.forName(getCharacterEncoding());
+
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1L;
+        }
+    }
+
+    // Counts the inflated bytes, so a small body can not inflate without bound, and reports a body that ends before
+    // its gzip trailer as a zip exception, like the other malformed bodies.
+    private static class GzipServletInputStream extends ServletInputStream {
+        private final GZIPInputStream gzipInputStream;
+        private final long maximumInflatedSize;
+        private final byte[] singleByte = new byte[1];
+        private long inflatedSize;
+        private boolean finished;
+
+        private GzipServletInputStream(GZIPInputStream gzipInputStream, long maximumInflatedSize) {
+            this.gzipInputStream = gzipInputStream;
+            this.maximumInflatedSize = maximumInflatedSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int numberOfBytesRead;
+
+            try {
+                numberOfBytesRead = gzipInputStream.read(bytes, offset, length);
+            } catch (EOFException eofException) {
+                ZipException zipException = new ZipException("Gzip request body ended before its trailer!");
+
+                zipException.initCause(eofException);
+
+                throw zipException;
+            }
+
+            finished = numberOfBytesRead == -1;
+
+            if (!finished) {
+                inflatedSize += numberOfBytesRead;
+
+                if (inflatedSize > maximumInflatedSize) {
+                    throw new RequestBodyTooLargeException("Gzip request body inflates to more than "
+                                                           + maximumInflatedSize + " bytes!");
+                }
+            }
+
+            return numberOfBytesRead;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() throws IOException {
+            gzipInputStream.close();
+        }
+    }
+}
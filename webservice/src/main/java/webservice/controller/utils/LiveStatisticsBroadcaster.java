@@ -0,0 +1,112 @@
+package webservice.controller.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.service.statistics.LiveStatisticsService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Sends each subscriber the statistics of the current day, and then, at most once per interval, the totals of the
+// day with the numbers that changed, serialized once for every subscriber. Subscribers are sent events in the order
+// they were polled, as subscribing and broadcasting share a lock.
+@Component
+public class LiveStatisticsBroadcaster implements DisposableBean {
+    private static final String STATISTICS_EVENT_NAME = "statistics";
+
+    private final LiveStatisticsService liveStatisticsService;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final List<SseEmitter> sseEmitters = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    public LiveStatisticsBroadcaster(LiveStatisticsService liveStatisticsService, ObjectMapper objectMapper,
+                                     @Value("${webservice.statistics.live.interval-millis:1000}") long intervalMillis,
+                                     @Value("${webservice.statistics.live.timeout-millis:300000}")
+                                             long timeoutMillis,
+                                     MeterRegistry meterRegistry) {
+        this.liveStatisticsService = liveStatisticsService;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        meterRegistry.gaugeCollectionSize("statistics.live.subscribers", List.of(), sseEmitters);
+        this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-statistics-broadcaster");
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+        this.scheduledExecutorService.scheduleWithFixedDelay(this::broadcastChanges, intervalMillis, intervalMillis,
+                                                             TimeUnit.MILLISECONDS);
+    }
+
+    // Subscribers that time out reconnect, as EventSource does, and start again from the whole day.
+    public synchronized SseEmitter subscribe() throws IOException {
+        SseEmitter sseEmitter = new SseEmitter(timeoutMillis);
+
+        sseEmitter.onCompletion(() -> sseEmitters.remove(sseEmitter));
+        sseEmitter.onTimeout(() -> sseEmitters.remove(sseEmitter));
+        sseEmitter.onError(throwable -> sseEmitters.remove(sseEmitter));
+        sseEmitter.send(statisticsEvent(objectMapper.writeValueAsString(
+                liveStatisticsService.getCurrentDayStatistics())));
+
+        sseEmitters.add(sseEmitter);
+
+        return sseEmitter;
+    }
+
+    @Override
+    public void destroy() {
+        scheduledExecutorService.shutdownNow();
+
+        for (SseEmitter sseEmitter : sseEmitters) {
+            sseEmitter.complete();
+        }
+    }
+
+    private synchronized void broadcastChanges() {
+        if (sseEmitters.isEmpty()) {
+            return;
+        }
+
+        String callsStatisticsJsonString;
+
+        try {
+            CallsStatisticsJson callsStatisticsJson = liveStatisticsService.pollCurrentDayStatisticsChanges();
+
+            if (callsStatisticsJson == null) {
+                return;
+            }
+
+            callsStatisticsJsonString = objectMapper.writeValueAsString(callsStatisticsJson);
+        } catch (JsonProcessingException | RuntimeException exception) {
+            // The next interval polls again, and the scheduler would stop for good on an exception.
+            return;
+        }
+
+        for (SseEmitter sseEmitter : sseEmitters) {
+            try {
+                sseEmitter.send(statisticsEvent(callsStatisticsJsonString));
+            } catch (IOException | IllegalStateException exception) {
+                sseEmitters.remove(sseEmitter);
+                sseEmitter.completeWithError(exception);
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder statisticsEvent(String callsStatisticsJsonString) {
+        return SseEmitter.event().name(STATISTICS_EVENT_NAME).data(callsStatisticsJsonString,
+                                                                   MediaType.APPLICATION_JSON);
+    }
+}
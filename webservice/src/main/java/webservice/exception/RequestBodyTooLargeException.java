@@ -0,0 +1,11 @@
+package webservice.exception;
+
+import java.io.IOException;
+
+// Thrown while a request body is read, so it is an IO exception and reaches the handler as the cause of whatever
+// the reader wraps it in.
+public class RequestBodyTooLargeException extends IOException {
+    public RequestBodyTooLargeException(String message) {
+        super(message);
+    }
+}
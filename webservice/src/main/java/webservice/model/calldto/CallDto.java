@@ -8,10 +8,13 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "calls")
+@Table(name = "calls", indexes = {
+        @Index(name = "idx_calls_call_type_id", columnList = "callType, id"),
+        @Index(name = "idx_calls_call_start_day_call_type", columnList = "callStartDay, callType")})
 public class CallDto {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calls_sequence")
+    @SequenceGenerator(name = "calls_sequence", sequenceName = "calls_sequence", allocationSize = 50)
     private Long id;
     @NotNull
     private Long callerNumber;
@@ -40,6 +43,7 @@ public class CallDto {
     }
 
     private CallDto(Builder builder) {
+        this.id = builder.id;
         this.callerNumber = builder.callerNumber;
         this.calleeNumber = builder.calleeNumber;
         this.callStartTimestamp = builder.callStartTimestamp;
@@ -57,6 +61,10 @@ public class CallDto {
         return id;
     }
 
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     public Long getCallerNumber() {
         return callerNumber;
     }
@@ -126,6 +134,7 @@ public class CallDto {
     }
 
     public static class Builder {
+        private Long id;
         private Long callerNumber;
         private Long calleeNumber;
         private Long callStartTimestamp;
@@ -142,6 +151,12 @@ public class CallDto {
             return new Builder();
         }
 
+        public Builder withId(Long id) {
+            this.id = id;
+
+            return this;
+        }
+
         public Builder withCallerNumber(Long callerNumber) {
             this.callerNumber = callerNumber;
 
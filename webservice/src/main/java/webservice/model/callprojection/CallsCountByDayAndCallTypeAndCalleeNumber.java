@@ -0,0 +1,13 @@
+package webservice.model.callprojection;
+
+import java.time.LocalDate;
+
+public interface CallsCountByDayAndCallTypeAndCalleeNumber {
+    LocalDate getDay();
+
+    String getCallType();
+
+    Long getCalleeNumber();
+
+    Long getTotalNumberOfCalls();
+}
@@ -0,0 +1,13 @@
+package webservice.model.callprojection;
+
+import java.time.LocalDate;
+
+public interface CallsCountByDayAndCallTypeAndCallerNumber {
+    LocalDate getDay();
+
+    String getCallType();
+
+    Long getCallerNumber();
+
+    Long getTotalNumberOfCalls();
+}
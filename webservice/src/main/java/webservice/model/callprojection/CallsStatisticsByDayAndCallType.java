@@ -0,0 +1,15 @@
+package webservice.model.callprojection;
+
+import java.time.LocalDate;
+
+public interface CallsStatisticsByDayAndCallType {
+    LocalDate getDay();
+
+    String getCallType();
+
+    Long getTotalCallsDuration();
+
+    Long getTotalNumberOfCalls();
+
+    Double getTotalCallsCost();
+}
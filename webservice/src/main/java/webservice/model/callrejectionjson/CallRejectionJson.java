@@ -0,0 +1,57 @@
+package webservice.model.callrejectionjson;
+
+public class CallRejectionJson {
+    private final Long index;
+    private final String messageKey;
+    private final String[] arguments;
+
+    public CallRejectionJson(Builder builder) {
+        this.index = builder.index;
+        this.messageKey = builder.messageKey;
+        this.arguments = builder.arguments;
+    }
+
+    public Long getIndex() {
+        return index;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public String[] getArguments() {
+        return arguments;
+    }
+
+    public static class Builder {
+        private Long index;
+        private String messageKey;
+        private String[] arguments;
+
+        public static Builder callRejectionJsonWith() {
+            return new Builder();
+        }
+
+        public Builder withIndex(Long index) {
+            this.index = index;
+
+            return this;
+        }
+
+        public Builder withMessageKey(String messageKey) {
+            this.messageKey = messageKey;
+
+            return this;
+        }
+
+        public Builder withArguments(String[] arguments) {
+            this.arguments = arguments;
+
+            return this;
+        }
+
+        public CallRejectionJson build() {
+            return new CallRejectionJson(this);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package webservice.model.callscreationreportjson;
+
+import webservice.model.callrejectionjson.CallRejectionJson;
+
+import java.util.List;
+
+public class CallsCreationReportJson {
+    private final Long acceptedCalls;
+    private final Long rejectedCalls;
+    private final Long firstCallId;
+    private final Long lastCallId;
+    private final List<CallRejectionJson> rejections;
+
+    public CallsCreationReportJson(Builder builder) {
+        this.acceptedCalls = builder.acceptedCalls;
+        this.rejectedCalls = builder.rejectedCalls;
+        this.firstCallId = builder.firstCallId;
+        this.lastCallId = builder.lastCallId;
+        this.rejections = builder.rejections;
+    }
+
+    public Long getAcceptedCalls() {
+        return acceptedCalls;
+    }
+
+    public Long getRejectedCalls() {
+        return rejectedCalls;
+    }
+
+    public Long getFirstCallId() {
+        return firstCallId;
+    }
+
+    public Long getLastCallId() {
+        return lastCallId;
+    }
+
+    public List<CallRejectionJson> getRejections() {
+        return rejections;
+    }
+
+    public static class Builder {
+        private Long acceptedCalls;
+        private Long rejectedCalls;
+        private Long firstCallId;
+        private Long lastCallId;
+        private List<CallRejectionJson> rejections;
+
+        public static Builder callsCreationReportJsonWith() {
+            return new Builder();
+        }
+
+        public Builder withAcceptedCalls(Long acceptedCalls) {
+            this.acceptedCalls = acceptedCalls;
+
+            return this;
+        }
+
+        public Builder withRejectedCalls(Long rejectedCalls) {
+            this.rejectedCalls = rejectedCalls;
+
+            return this;
+        }
+
+        public Builder withFirstCallId(Long firstCallId) {
+            this.firstCallId = firstCallId;
+
+            return this;
+        }
+
+        public Builder withLastCallId(Long lastCallId) {
+            this.lastCallId = lastCallId;
+
+            return this;
+        }
+
+        public Builder withRejections(List<CallRejectionJson> rejections) {
+            this.rejections = rejections;
+
+            return this;
+        }
+
+        public CallsCreationReportJson build() {
+            return new CallsCreationReportJson(this);
+        }
+    }
+}
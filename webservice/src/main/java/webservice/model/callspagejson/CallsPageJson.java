@@ -0,0 +1,48 @@
+package webservice.model.callspagejson;
+
+import webservice.model.calljson.CallJson;
+
+import java.util.List;
+
+public class CallsPageJson {
+    private final List<CallJson> calls;
+    private final String nextCursor;
+
+    public CallsPageJson(Builder builder) {
+        this.calls = builder.calls;
+        this.nextCursor = builder.nextCursor;
+    }
+
+    public List<CallJson> getCalls() {
+        return calls;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public static class Builder {
+        private List<CallJson> calls;
+        private String nextCursor;
+
+        public static Builder callsPageJsonWith() {
+            return new Builder();
+        }
+
+        public Builder withCalls(List<CallJson> calls) {
+            this.calls = calls;
+
+            return this;
+        }
+
+        public Builder withNextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+
+            return this;
+        }
+
+        public CallsPageJson build() {
+            return new CallsPageJson(this);
+        }
+    }
+}
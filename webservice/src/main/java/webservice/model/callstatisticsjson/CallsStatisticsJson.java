@@ -1,5 +1,7 @@
 package webservice.model.callstatisticsjson;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.time.LocalDate;
 import java.util.List;
 
@@ -10,6 +12,14 @@ public class CallsStatisticsJson {
     private final Long totalNumberOfCalls;
     private final List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList;
     private final List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList;
+    private final Long totalNumberOfCallsByOtherCallerNumbers;
+    private final Long totalNumberOfCallsByOtherCalleeNumbers;
+    private final Long approximateNumberOfCallerNumbers;
+    private final Long approximateNumberOfCalleeNumbers;
+    private final List<TotalNumberOfCallsByCallerNumber> approximateTopCallerNumbers;
+    private final List<TotalNumberOfCallsByCalleeNumber> approximateTopCalleeNumbers;
+    private final Long approximateTopCallerNumbersMaximumError;
+    private final Long approximateTopCalleeNumbersMaximumError;
     private final Double totalCallsCost;
 
     public CallsStatisticsJson(Builder builder) {
@@ -19,6 +29,14 @@ public class CallsStatisticsJson {
         this.totalNumberOfCalls = builder.totalNumberOfCalls;
         this.totalNumberOfCallsByCallerNumberList = builder.totalNumberOfCallsByCallerNumberList;
         this.totalNumberOfCallsByCalleeNumberList = builder.totalNumberOfCallsByCalleeNumberList;
+        this.totalNumberOfCallsByOtherCallerNumbers = builder.totalNumberOfCallsByOtherCallerNumbers;
+        this.totalNumberOfCallsByOtherCalleeNumbers = builder.totalNumberOfCallsByOtherCalleeNumbers;
+        this.approximateNumberOfCallerNumbers = builder.approximateNumberOfCallerNumbers;
+        this.approximateNumberOfCalleeNumbers = builder.approximateNumberOfCalleeNumbers;
+        this.approximateTopCallerNumbers = builder.approximateTopCallerNumbers;
+        this.approximateTopCalleeNumbers = builder.approximateTopCalleeNumbers;
+        this.approximateTopCallerNumbersMaximumError = builder.approximateTopCallerNumbersMaximumError;
+        this.approximateTopCalleeNumbersMaximumError = builder.approximateTopCalleeNumbersMaximumError;
         this.totalCallsCost = builder.totalCallsCost;
     }
 
@@ -38,14 +56,56 @@ public class CallsStatisticsJson {
         return totalNumberOfCalls;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public List<TotalNumberOfCallsByCallerNumber> getTotalNumberOfCallsByCallerNumber() {
         return totalNumberOfCallsByCallerNumberList;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public List<TotalNumberOfCallsByCalleeNumber> getTotalNumberOfCallsByCalleeNumber() {
         return totalNumberOfCallsByCalleeNumberList;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getTotalNumberOfCallsByOtherCallerNumbers() {
+        return totalNumberOfCallsByOtherCallerNumbers;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getTotalNumberOfCallsByOtherCalleeNumbers() {
+        return totalNumberOfCallsByOtherCalleeNumbers;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getApproximateNumberOfCallerNumbers() {
+        return approximateNumberOfCallerNumbers;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getApproximateNumberOfCalleeNumbers() {
+        return approximateNumberOfCalleeNumbers;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<TotalNumberOfCallsByCallerNumber> getApproximateTopCallerNumbers() {
+        return approximateTopCallerNumbers;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<TotalNumberOfCallsByCalleeNumber> getApproximateTopCalleeNumbers() {
+        return approximateTopCalleeNumbers;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getApproximateTopCallerNumbersMaximumError() {
+        return approximateTopCallerNumbersMaximumError;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getApproximateTopCalleeNumbersMaximumError() {
+        return approximateTopCalleeNumbersMaximumError;
+    }
+
     public Double getTotalCallsCost() {
         return totalCallsCost;
     }
@@ -57,6 +117,14 @@ public class CallsStatisticsJson {
         private Long totalNumberOfCalls;
         private List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList;
         private List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList;
+        private Long totalNumberOfCallsByOtherCallerNumbers;
+        private Long totalNumberOfCallsByOtherCalleeNumbers;
+        private Long approximateNumberOfCallerNumbers;
+        private Long approximateNumberOfCalleeNumbers;
+        private List<TotalNumberOfCallsByCallerNumber> approximateTopCallerNumbers;
+        private List<TotalNumberOfCallsByCalleeNumber> approximateTopCalleeNumbers;
+        private Long approximateTopCallerNumbersMaximumError;
+        private Long approximateTopCalleeNumbersMaximumError;
         private Double totalCallsCost;
 
         public static Builder callStatisticsJsonWith() {
@@ -101,6 +169,56 @@ public class CallsStatisticsJson {
             return this;
         }
 
+        public Builder withTotalNumberOfCallsByOtherCallerNumbers(Long totalNumberOfCallsByOtherCallerNumbers) {
+            this.totalNumberOfCallsByOtherCallerNumbers = totalNumberOfCallsByOtherCallerNumbers;
+
+            return this;
+        }
+
+        public Builder withTotalNumberOfCallsByOtherCalleeNumbers(Long totalNumberOfCallsByOtherCalleeNumbers) {
+            this.totalNumberOfCallsByOtherCalleeNumbers = totalNumberOfCallsByOtherCalleeNumbers;
+
+            return this;
+        }
+
+        public Builder withApproximateNumberOfCallerNumbers(Long approximateNumberOfCallerNumbers) {
+            this.approximateNumberOfCallerNumbers = approximateNumberOfCallerNumbers;
+
+            return this;
+        }
+
+        public Builder withApproximateNumberOfCalleeNumbers(Long approximateNumberOfCalleeNumbers) {
+            this.approximateNumberOfCalleeNumbers = approximateNumberOfCalleeNumbers;
+
+            return this;
+        }
+
+        public Builder withApproximateTopCallerNumbers(
+                List<TotalNumberOfCallsByCallerNumber> approximateTopCallerNumbers) {
+            this.approximateTopCallerNumbers = approximateTopCallerNumbers;
+
+            return this;
+        }
+
+        public Builder withApproximateTopCalleeNumbers(
+                List<TotalNumberOfCallsByCalleeNumber> approximateTopCalleeNumbers) {
+            this.approximateTopCalleeNumbers = approximateTopCalleeNumbers;
+
+            return this;
+        }
+
+        public Builder withApproximateTopCallerNumbersMaximumError(Long approximateTopCallerNumbersMaximumError) {
+            this.approximateTopCallerNumbersMaximumError = approximateTopCallerNumbersMaximumError;
+
+            return this;
+        }
+
+        public Builder withApproximateTopCalleeNumbersMaximumError(Long approximateTopCalleeNumbersMaximumError) {
+            this.approximateTopCalleeNumbersMaximumError = approximateTopCalleeNumbersMaximumError;
+
+            return this;
+        }
+
         public Builder withTotalCallsCost(Double totalCallCost) {
             this.totalCallsCost = totalCallCost;
 
@@ -0,0 +1,98 @@
+package webservice.model.dailystatisticsdto;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_callee_statistics",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"day", "callType", "calleeNumber"}))
+public class DailyCalleeStatisticsDto {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_callee_statistics_sequence")
+    @SequenceGenerator(name = "daily_callee_statistics_sequence", sequenceName = "daily_callee_statistics_sequence",
+                       allocationSize = 50)
+    private Long id;
+    @NotNull
+    private LocalDate day;
+    @NotBlank
+    private String callType;
+    @NotNull
+    private Long calleeNumber;
+    @NotNull
+    private Long totalNumberOfCalls;
+
+    public DailyCalleeStatisticsDto() {
+    }
+
+    private DailyCalleeStatisticsDto(Builder builder) {
+        this.day = builder.day;
+        this.callType = builder.callType;
+        this.calleeNumber = builder.calleeNumber;
+        this.totalNumberOfCalls = builder.totalNumberOfCalls;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public String getCallType() {
+        return callType;
+    }
+
+    public Long getCalleeNumber() {
+        return calleeNumber;
+    }
+
+    public Long getTotalNumberOfCalls() {
+        return totalNumberOfCalls;
+    }
+
+    public void setTotalNumberOfCalls(Long totalNumberOfCalls) {
+        this.totalNumberOfCalls = totalNumberOfCalls;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private String callType;
+        private Long calleeNumber;
+        private Long totalNumberOfCalls;
+
+        public static Builder dailyCalleeStatisticsWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withCallType(String callType) {
+            this.callType = callType;
+
+            return this;
+        }
+
+        public Builder withCalleeNumber(Long calleeNumber) {
+            this.calleeNumber = calleeNumber;
+
+            return this;
+        }
+
+        public Builder withTotalNumberOfCalls(Long totalNumberOfCalls) {
+            this.totalNumberOfCalls = totalNumberOfCalls;
+
+            return this;
+        }
+
+        public DailyCalleeStatisticsDto build() {
+            return new DailyCalleeStatisticsDto(this);
+        }
+    }
+}
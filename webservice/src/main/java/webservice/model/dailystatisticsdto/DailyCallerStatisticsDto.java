@@ -0,0 +1,98 @@
+package webservice.model.dailystatisticsdto;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_caller_statistics",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"day", "callType", "callerNumber"}))
+public class DailyCallerStatisticsDto {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_caller_statistics_sequence")
+    @SequenceGenerator(name = "daily_caller_statistics_sequence", sequenceName = "daily_caller_statistics_sequence",
+                       allocationSize = 50)
+    private Long id;
+    @NotNull
+    private LocalDate day;
+    @NotBlank
+    private String callType;
+    @NotNull
+    private Long callerNumber;
+    @NotNull
+    private Long totalNumberOfCalls;
+
+    public DailyCallerStatisticsDto() {
+    }
+
+    private DailyCallerStatisticsDto(Builder builder) {
+        this.day = builder.day;
+        this.callType = builder.callType;
+        this.callerNumber = builder.callerNumber;
+        this.totalNumberOfCalls = builder.totalNumberOfCalls;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public String getCallType() {
+        return callType;
+    }
+
+    public Long getCallerNumber() {
+        return callerNumber;
+    }
+
+    public Long getTotalNumberOfCalls() {
+        return totalNumberOfCalls;
+    }
+
+    public void setTotalNumberOfCalls(Long totalNumberOfCalls) {
+        this.totalNumberOfCalls = totalNumberOfCalls;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private String callType;
+        private Long callerNumber;
+        private Long totalNumberOfCalls;
+
+        public static Builder dailyCallerStatisticsWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withCallType(String callType) {
+            this.callType = callType;
+
+            return this;
+        }
+
+        public Builder withCallerNumber(Long callerNumber) {
+            this.callerNumber = callerNumber;
+
+            return this;
+        }
+
+        public Builder withTotalNumberOfCalls(Long totalNumberOfCalls) {
+            this.totalNumberOfCalls = totalNumberOfCalls;
+
+            return this;
+        }
+
+        public DailyCallerStatisticsDto build() {
+            return new DailyCallerStatisticsDto(this);
+        }
+    }
+}
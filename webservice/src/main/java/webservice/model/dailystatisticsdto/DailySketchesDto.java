@@ -0,0 +1,105 @@
+package webservice.model.dailystatisticsdto;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_sketches", uniqueConstraints = @UniqueConstraint(columnNames = {"day", "callType"}))
+public class DailySketchesDto {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_sketches_sequence")
+    @SequenceGenerator(name = "daily_sketches_sequence", sequenceName = "daily_sketches_sequence",
+                       allocationSize = 50)
+    private Long id;
+    @NotNull
+    private LocalDate day;
+    @NotBlank
+    private String callType;
+    @Lob
+    private byte[] callerNumbersSketch;
+    @Lob
+    private byte[] calleeNumbersSketch;
+    @Lob
+    private byte[] topCallerNumbersSketch;
+    @Lob
+    private byte[] topCalleeNumbersSketch;
+
+    public DailySketchesDto() {
+    }
+
+    private DailySketchesDto(Builder builder) {
+        this.day = builder.day;
+        this.callType = builder.callType;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public String getCallType() {
+        return callType;
+    }
+
+    public byte[] getCallerNumbersSketch() {
+        return callerNumbersSketch;
+    }
+
+    public void setCallerNumbersSketch(byte[] callerNumbersSketch) {
+        this.callerNumbersSketch = callerNumbersSketch;
+    }
+
+    public byte[] getCalleeNumbersSketch() {
+        return calleeNumbersSketch;
+    }
+
+    public void setCalleeNumbersSketch(byte[] calleeNumbersSketch) {
+        this.calleeNumbersSketch = calleeNumbersSketch;
+    }
+
+    public byte[] getTopCallerNumbersSketch() {
+        return topCallerNumbersSketch;
+    }
+
+    public void setTopCallerNumbersSketch(byte[] topCallerNumbersSketch) {
+        this.topCallerNumbersSketch = topCallerNumbersSketch;
+    }
+
+    public byte[] getTopCalleeNumbersSketch() {
+        return topCalleeNumbersSketch;
+    }
+
+    public void setTopCalleeNumbersSketch(byte[] topCalleeNumbersSketch) {
+        this.topCalleeNumbersSketch = topCalleeNumbersSketch;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private String callType;
+
+        public static Builder dailySketchesWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withCallType(String callType) {
+            this.callType = callType;
+
+            return this;
+        }
+
+        public DailySketchesDto build() {
+            return new DailySketchesDto(this);
+        }
+    }
+}
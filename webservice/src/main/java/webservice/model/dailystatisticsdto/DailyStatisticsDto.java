@@ -0,0 +1,119 @@
+package webservice.model.dailystatisticsdto;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "daily_statistics", uniqueConstraints = @UniqueConstraint(columnNames = {"day", "callType"}))
+public class DailyStatisticsDto {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "daily_statistics_sequence")
+    @SequenceGenerator(name = "daily_statistics_sequence", sequenceName = "daily_statistics_sequence",
+                       allocationSize = 50)
+    private Long id;
+    @NotNull
+    private LocalDate day;
+    @NotBlank
+    private String callType;
+    @NotNull
+    private Long totalCallsDuration;
+    @NotNull
+    private Long totalNumberOfCalls;
+    @NotNull
+    private Double totalCallsCost;
+
+    public DailyStatisticsDto() {
+    }
+
+    private DailyStatisticsDto(Builder builder) {
+        this.day = builder.day;
+        this.callType = builder.callType;
+        this.totalCallsDuration = builder.totalCallsDuration;
+        this.totalNumberOfCalls = builder.totalNumberOfCalls;
+        this.totalCallsCost = builder.totalCallsCost;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public String getCallType() {
+        return callType;
+    }
+
+    public Long getTotalCallsDuration() {
+        return totalCallsDuration;
+    }
+
+    public void setTotalCallsDuration(Long totalCallsDuration) {
+        this.totalCallsDuration = totalCallsDuration;
+    }
+
+    public Long getTotalNumberOfCalls() {
+        return totalNumberOfCalls;
+    }
+
+    public void setTotalNumberOfCalls(Long totalNumberOfCalls) {
+        this.totalNumberOfCalls = totalNumberOfCalls;
+    }
+
+    public Double getTotalCallsCost() {
+        return totalCallsCost;
+    }
+
+    public void setTotalCallsCost(Double totalCallsCost) {
+        this.totalCallsCost = totalCallsCost;
+    }
+
+    public static class Builder {
+        private LocalDate day;
+        private String callType;
+        private Long totalCallsDuration;
+        private Long totalNumberOfCalls;
+        private Double totalCallsCost;
+
+        public static Builder dailyStatisticsWith() {
+            return new Builder();
+        }
+
+        public Builder withDay(LocalDate day) {
+            this.day = day;
+
+            return this;
+        }
+
+        public Builder withCallType(String callType) {
+            this.callType = callType;
+
+            return this;
+        }
+
+        public Builder withTotalCallsDuration(Long totalCallsDuration) {
+            this.totalCallsDuration = totalCallsDuration;
+
+            return this;
+        }
+
+        public Builder withTotalNumberOfCalls(Long totalNumberOfCalls) {
+            this.totalNumberOfCalls = totalNumberOfCalls;
+
+            return this;
+        }
+
+        public Builder withTotalCallsCost(Double totalCallsCost) {
+            this.totalCallsCost = totalCallsCost;
+
+            return this;
+        }
+
+        public DailyStatisticsDto build() {
+            return new DailyStatisticsDto(this);
+        }
+    }
+}
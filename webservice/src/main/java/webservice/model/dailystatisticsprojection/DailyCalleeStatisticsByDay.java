@@ -0,0 +1,11 @@
+package webservice.model.dailystatisticsprojection;
+
+import java.time.LocalDate;
+
+public interface DailyCalleeStatisticsByDay {
+    LocalDate getDay();
+
+    Long getCalleeNumber();
+
+    Long getTotalNumberOfCalls();
+}
@@ -0,0 +1,11 @@
+package webservice.model.dailystatisticsprojection;
+
+import java.time.LocalDate;
+
+public interface DailyCallerStatisticsByDay {
+    LocalDate getDay();
+
+    Long getCallerNumber();
+
+    Long getTotalNumberOfCalls();
+}
@@ -0,0 +1,15 @@
+package webservice.model.dailystatisticsprojection;
+
+import java.time.LocalDate;
+
+public interface DailyStatisticsByDay {
+    LocalDate getDay();
+
+    Long getTotalCallsDurationInbound();
+
+    Long getTotalCallsDurationOutbound();
+
+    Long getTotalNumberOfCalls();
+
+    Double getTotalCallsCost();
+}
@@ -1,13 +1,52 @@
 package webservice.model.mapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import webservice.model.calldto.CallDto;
 import webservice.model.calljson.CallJson;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 @Component
 public class CallMapper {
+    private final Timer callDtoToCallJsonMappingTimer;
+    private final Timer callJsonToCallDtoMappingTimer;
+
+    @Autowired
+    public CallMapper(MeterRegistry meterRegistry) {
+        this.callDtoToCallJsonMappingTimer = meterRegistry.timer("calls.mapping", "to", "json");
+        this.callJsonToCallDtoMappingTimer = meterRegistry.timer("calls.mapping", "to", "dto");
+    }
+
+    // Lists are timed as a whole, since timing every call would cost about as much as mapping it.
+    public List<CallJson> convertCallDtoListToCallJsonList(List<CallDto> callDtoList) {
+        return callDtoToCallJsonMappingTimer.record(() -> {
+            List<CallJson> callJsonList = new ArrayList<>(callDtoList.size());
+
+            for (CallDto callDto : callDtoList) {
+                callJsonList.add(convertCallDtoToCallJson(callDto));
+            }
+
+            return callJsonList;
+        });
+    }
+
+    public List<CallDto> convertCallJsonListToCallDtoList(List<CallJson> callJsonList) {
+        return callJsonToCallDtoMappingTimer.record(() -> {
+            List<CallDto> callDtoList = new ArrayList<>(callJsonList.size());
+
+            for (CallJson callJson : callJsonList) {
+                callDtoList.add(convertCallJsonToCallDto(callJson));
+            }
+
+            return callDtoList;
+        });
+    }
+
     public CallJson convertCallDtoToCallJson(CallDto callDto) {
         if (Objects.isNull(callDto)) {
             return null;
@@ -0,0 +1,70 @@
+package webservice.model.statisticscachejson;
+
+public class StatisticsCacheJson {
+    private final Long numberOfCachedStatistics;
+    private final Long numberOfHits;
+    private final Long numberOfMisses;
+    private final Long numberOfEvictions;
+
+    public StatisticsCacheJson(Builder builder) {
+        this.numberOfCachedStatistics = builder.numberOfCachedStatistics;
+        this.numberOfHits = builder.numberOfHits;
+        this.numberOfMisses = builder.numberOfMisses;
+        this.numberOfEvictions = builder.numberOfEvictions;
+    }
+
+    public Long getNumberOfCachedStatistics() {
+        return numberOfCachedStatistics;
+    }
+
+    public Long getNumberOfHits() {
+        return numberOfHits;
+    }
+
+    public Long getNumberOfMisses() {
+        return numberOfMisses;
+    }
+
+    public Long getNumberOfEvictions() {
+        return numberOfEvictions;
+    }
+
+    public static class Builder {
+        private Long numberOfCachedStatistics;
+        private Long numberOfHits;
+        private Long numberOfMisses;
+        private Long numberOfEvictions;
+
+        public static Builder statisticsCacheJsonWith() {
+            return new Builder();
+        }
+
+        public Builder withNumberOfCachedStatistics(Long numberOfCachedStatistics) {
+            this.numberOfCachedStatistics = numberOfCachedStatistics;
+
+            return this;
+        }
+
+        public Builder withNumberOfHits(Long numberOfHits) {
+            this.numberOfHits = numberOfHits;
+
+            return this;
+        }
+
+        public Builder withNumberOfMisses(Long numberOfMisses) {
+            this.numberOfMisses = numberOfMisses;
+
+            return this;
+        }
+
+        public Builder withNumberOfEvictions(Long numberOfEvictions) {
+            this.numberOfEvictions = numberOfEvictions;
+
+            return this;
+        }
+
+        public StatisticsCacheJson build() {
+            return new StatisticsCacheJson(this);
+        }
+    }
+}
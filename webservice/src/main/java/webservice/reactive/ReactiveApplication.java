@@ -0,0 +1,39 @@
+package webservice.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import webservice.model.mapper.CallMapper;
+import webservice.service.call.CallTimestampDecomposer;
+import webservice.service.call.CallValidator;
+
+// Serves create-calls, get-calls, delete-call and statistics-calls with WebFlux on Netty and reads and writes the
+// calls table with R2DBC. Flyway still migrates the schema through a JDBC connection of its own (there is no
+// DataSource once there is a ConnectionFactory), but JPA is left out, and so are the statistics tables, as the
+// statistics are grouped from the calls.
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+@ComponentScan
+@Import({CallMapper.class, CallTimestampDecomposer.class, CallValidator.class})
+public class ReactiveApplication {
+    public static void main(String[] args) {
+        SpringApplication springApplication = new SpringApplication(ReactiveApplication.class);
+
+        springApplication.setWebApplicationType(WebApplicationType.REACTIVE);
+        springApplication.setAdditionalProfiles("reactive");
+        springApplication.run(args);
+    }
+
+    // Tomcat is also in the classpath, for the blocking deployment, and would otherwise be picked before Netty.
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
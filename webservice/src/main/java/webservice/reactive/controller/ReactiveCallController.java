@@ -0,0 +1,62 @@
+package webservice.reactive.controller;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import webservice.model.calljson.CallJson;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.mapper.CallMapper;
+import webservice.reactive.service.ReactiveCallService;
+import webservice.reactive.service.ReactiveStatisticsService;
+
+import javax.validation.Valid;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("talkdesk/api/call")
+public class ReactiveCallController {
+    private final ReactiveCallService reactiveCallService;
+    private final ReactiveStatisticsService reactiveStatisticsService;
+    private final CallMapper callMapper;
+
+    public ReactiveCallController(ReactiveCallService reactiveCallService,
+                                  ReactiveStatisticsService reactiveStatisticsService, CallMapper callMapper) {
+        this.reactiveCallService = reactiveCallService;
+        this.reactiveStatisticsService = reactiveStatisticsService;
+        this.callMapper = callMapper;
+    }
+
+    @PostMapping("/create-calls")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Flux<CallJson> createCalls(@Valid @RequestBody Flux<CallJson> callJsonFlux) {
+        return callJsonFlux.map(callMapper::convertCallJsonToCallDto)
+                           .collectList()
+                           .flatMapMany(reactiveCallService::createCalls)
+                           .map(callMapper::convertCallDtoToCallJson);
+    }
+
+    @GetMapping("/get-calls")
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<CallJson> getAllCalls(@RequestParam int page,
+                                      @RequestParam(required = false, value = "type") String callType) {
+        return reactiveCallService.getAllCalls(page, callType).map(callMapper::convertCallDtoToCallJson);
+    }
+
+    @DeleteMapping("/delete-call/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteCallById(@PathVariable(name = "id") Long id) {
+        return reactiveCallService.deleteCallById(id);
+    }
+
+    @GetMapping("/statistics-calls")
+    @ResponseStatus(HttpStatus.OK)
+    public Flux<CallsStatisticsJson> getCallsStatistics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false, value = "type") String callType,
+            @RequestParam(required = false) Integer topN) {
+        return reactiveStatisticsService.getCallsStatistics(from, to, callType, topN);
+    }
+}
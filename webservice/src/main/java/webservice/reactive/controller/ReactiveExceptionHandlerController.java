@@ -0,0 +1,26 @@
+package webservice.reactive.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import webservice.error.BusinessError;
+import webservice.error.RestError;
+import webservice.error.TechnicalError;
+import webservice.exception.BusinessException;
+
+@ControllerAdvice
+public class ReactiveExceptionHandlerController {
+    @ExceptionHandler(Exception.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    @ResponseBody
+    public RestError handleBusinessRuleValidationError(Exception exception) {
+        if (exception instanceof BusinessException) {
+            BusinessException businessException = (BusinessException) exception;
+            return new BusinessError(businessException.getMessageKey(), businessException.getArguments());
+        } else {
+            return new TechnicalError(exception);
+        }
+    }
+}
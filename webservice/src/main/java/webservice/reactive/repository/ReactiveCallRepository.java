@@ -0,0 +1,29 @@
+package webservice.reactive.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import webservice.model.calldto.CallDto;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCalleeNumber;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCallerNumber;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReactiveCallRepository {
+    Flux<CallDto> insertAll(List<CallDto> callDtoList);
+
+    Flux<CallDto> findAll(long offset, int limit, String callType);
+
+    Mono<CallDto> findById(Long id);
+
+    Mono<Integer> deleteById(Long id);
+
+    Flux<DailyStatisticsByDay> findDailyStatisticsByDay(LocalDate from, LocalDate to, String callType);
+
+    Flux<TotalNumberOfCallsByCallerNumber> findTotalNumberOfCallsByCallerNumber(LocalDate day, String callType,
+                                                                                 Integer topN);
+
+    Flux<TotalNumberOfCallsByCalleeNumber> findTotalNumberOfCallsByCalleeNumber(LocalDate day, String callType,
+                                                                                 Integer topN);
+}
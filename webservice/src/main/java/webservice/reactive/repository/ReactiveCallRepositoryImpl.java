@@ -0,0 +1,263 @@
+package webservice.reactive.repository;
+
+import io.r2dbc.spi.Row;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import webservice.model.calldto.CallDto;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCalleeNumber;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCallerNumber;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+
+@Repository
+public class ReactiveCallRepositoryImpl implements ReactiveCallRepository {
+    // Each value of calls_sequence reserves as many ids, starting from it, as the calls inserted by one statement.
+    private static final int CALLS_SEQUENCE_ALLOCATION_SIZE = 50;
+    private static final long NANOSECONDS_PER_SECOND = 1_000_000_000L;
+
+    private static final String CALL_COLUMNS =
+            "id, caller_number, callee_number, call_start_timestamp, call_end_timestamp, call_type, call_start_day, "
+            + "call_end_day, call_start_time, call_end_time, call_duration, call_cost";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveCallRepositoryImpl(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // The calls are inserted with one multi row statement by allocation, and the call duration is stored in
+    // nanoseconds, as Hibernate maps Duration in the blocking deployment.
+    @Override
+    public Flux<CallDto> insertAll(List<CallDto> callDtoList) {
+        List<List<CallDto>> callDtoChunkList = new ArrayList<>();
+
+        for (int i = 0; i < callDtoList.size(); i += CALLS_SEQUENCE_ALLOCATION_SIZE) {
+            callDtoChunkList.add(callDtoList.subList(i, Math.min(i + CALLS_SEQUENCE_ALLOCATION_SIZE,
+                                                                 callDtoList.size())));
+        }
+
+        return Flux.fromIterable(callDtoChunkList)
+                   .concatMap(callDtoChunk -> nextCallId().flatMapMany(firstId -> insertChunk(callDtoChunk,
+                                                                                              firstId)));
+    }
+
+    @Override
+    public Flux<CallDto> findAll(long offset, int limit, String callType) {
+        String sql = "select " + CALL_COLUMNS + " from calls"
+                     + (callType == null ? "" : " where call_type = :callType")
+                     + " order by id limit :limit offset :offset";
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.execute(sql)
+                                                                      .bind("limit", limit)
+                                                                      .bind("offset", offset);
+
+        if (callType != null) {
+            executeSpec = executeSpec.bind("callType", callType);
+        }
+
+        return executeSpec.map((row, rowMetadata) -> callDto(row)).all();
+    }
+
+    @Override
+    public Mono<CallDto> findById(Long id) {
+        return databaseClient.execute("select " + CALL_COLUMNS + " from calls where id = :id")
+                             .bind("id", id)
+                             .map((row, rowMetadata) -> callDto(row))
+                             .one();
+    }
+
+    @Override
+    public Mono<Integer> deleteById(Long id) {
+        return databaseClient.execute("delete from calls where id = :id")
+                             .bind("id", id)
+                             .fetch()
+                             .rowsUpdated();
+    }
+
+    @Override
+    public Flux<DailyStatisticsByDay> findDailyStatisticsByDay(LocalDate from, LocalDate to, String callType) {
+        String sql = "select call_start_day, "
+                     + "cast(sum(case when call_type = :inbound then call_duration else 0 end) / "
+                     + NANOSECONDS_PER_SECOND + " as bigint) as total_calls_duration_inbound, "
+                     + "cast(sum(case when call_type = :outbound then call_duration else 0 end) / "
+                     + NANOSECONDS_PER_SECOND + " as bigint) as total_calls_duration_outbound, "
+                     + "count(*) as total_number_of_calls, sum(call_cost) as total_calls_cost "
+                     + "from calls where call_start_day between :from and :to"
+                     + (callType == null ? "" : " and call_type = :callType")
+                     + " group by call_start_day order by call_start_day";
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.execute(sql)
+                                                                      .bind("inbound", CALL_TYPE_INBOUND)
+                                                                      .bind("outbound", CALL_TYPE_OUTBOUND)
+                                                                      .bind("from", from)
+                                                                      .bind("to", to);
+
+        if (callType != null) {
+            executeSpec = executeSpec.bind("callType", callType);
+        }
+
+        return executeSpec.map((row, rowMetadata) -> (DailyStatisticsByDay) new DailyStatisticsRow(
+                row.get("call_start_day", LocalDate.class),
+                row.get("total_calls_duration_inbound", Long.class),
+                row.get("total_calls_duration_outbound", Long.class),
+                row.get("total_number_of_calls", Long.class),
+                row.get("total_calls_cost", Double.class))).all();
+    }
+
+    @Override
+    public Flux<TotalNumberOfCallsByCallerNumber> findTotalNumberOfCallsByCallerNumber(LocalDate day,
+                                                                                        String callType,
+                                                                                        Integer topN) {
+        return findTotalNumberOfCallsByNumber("caller_number", day, callType, topN)
+                .map((row, rowMetadata) -> TotalNumberOfCallsByCallerNumber.Builder
+                        .totalNumberOfCallsByCallerNumberWith()
+                        .withCallerNumber(row.get("caller_number", Long.class))
+                        .withTotalNumberOfCalls(row.get("total_number_of_calls", Long.class))
+                        .build())
+                .all();
+    }
+
+    @Override
+    public Flux<TotalNumberOfCallsByCalleeNumber> findTotalNumberOfCallsByCalleeNumber(LocalDate day,
+                                                                                        String callType,
+                                                                                        Integer topN) {
+        return findTotalNumberOfCallsByNumber("callee_number", day, callType, topN)
+                .map((row, rowMetadata) -> TotalNumberOfCallsByCalleeNumber.Builder
+                        .totalNumberOfCallsByCalleeNumberWith()
+                        .withCalleeNumber(row.get("callee_number", Long.class))
+                        .withTotalNumberOfCalls(row.get("total_number_of_calls", Long.class))
+                        .build())
+                .all();
+    }
+
+    // Without a top N every number is listed in order, and with one the numbers with the most calls come first,
+    // ties broken by the lower number, as in the blocking deployment.
+    private DatabaseClient.GenericExecuteSpec findTotalNumberOfCallsByNumber(String numberColumn, LocalDate day,
+                                                                             String callType, Integer topN) {
+        String sql = "select " + numberColumn + ", count(*) as total_number_of_calls from calls "
+                     + "where call_start_day = :day" + (callType == null ? "" : " and call_type = :callType")
+                     + " group by " + numberColumn
+                     + (topN == null ? " order by " + numberColumn
+                                     : " order by total_number_of_calls desc, " + numberColumn + " limit :topN");
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.execute(sql).bind("day", day);
+
+        if (callType != null) {
+            executeSpec = executeSpec.bind("callType", callType);
+        }
+
+        if (topN != null) {
+            executeSpec = executeSpec.bind("topN", topN);
+        }
+
+        return executeSpec;
+    }
+
+    private Mono<Long> nextCallId() {
+        return databaseClient.execute("select next value for calls_sequence")
+                             .map((row, rowMetadata) -> row.get(0, Long.class))
+                             .one();
+    }
+
+    private Flux<CallDto> insertChunk(List<CallDto> callDtoChunk, long firstId) {
+        StringBuilder sql = new StringBuilder("insert into calls (" + CALL_COLUMNS + ") values ");
+
+        for (int i = 0; i < callDtoChunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ")
+               .append("(:id").append(i).append(", :callerNumber").append(i).append(", :calleeNumber").append(i)
+               .append(", :callStartTimestamp").append(i).append(", :callEndTimestamp").append(i)
+               .append(", :callType").append(i).append(", :callStartDay").append(i).append(", :callEndDay").append(i)
+               .append(", :callStartTime").append(i).append(", :callEndTime").append(i)
+               .append(", :callDuration").append(i).append(", :callCost").append(i).append(")");
+        }
+
+        DatabaseClient.GenericExecuteSpec executeSpec = databaseClient.execute(sql.toString());
+
+        for (int i = 0; i < callDtoChunk.size(); i++) {
+            CallDto callDto = callDtoChunk.get(i);
+
+            callDto.setId(firstId + i);
+
+            executeSpec = executeSpec.bind("id" + i, callDto.getId())
+                                     .bind("callerNumber" + i, callDto.getCallerNumber())
+                                     .bind("calleeNumber" + i, callDto.getCalleeNumber())
+                                     .bind("callStartTimestamp" + i, callDto.getCallStartTimestamp())
+                                     .bind("callEndTimestamp" + i, callDto.getCallEndTimestamp())
+                                     .bind("callType" + i, callDto.getCallType())
+                                     .bind("callStartDay" + i, callDto.getCallStartDay())
+                                     .bind("callEndDay" + i, callDto.getCallEndDay())
+                                     .bind("callStartTime" + i, callDto.getCallStartTime())
+                                     .bind("callEndTime" + i, callDto.getCallEndTime())
+                                     .bind("callDuration" + i, callDto.getCallDuration().toNanos())
+                                     .bind("callCost" + i, callDto.getCallCost());
+        }
+
+        return executeSpec.fetch().rowsUpdated().thenMany(Flux.fromIterable(callDtoChunk));
+    }
+
+    private static CallDto callDto(Row row) {
+        return CallDto.Builder.callModelWith()
+                              .withId(row.get("id", Long.class))
+                              .withCallerNumber(row.get("caller_number", Long.class))
+                              .withCalleeNumber(row.get("callee_number", Long.class))
+                              .withStartTimestamp(row.get("call_start_timestamp", Long.class))
+                              .withEndTimestamp(row.get("call_end_timestamp", Long.class))
+                              .withCallType(row.get("call_type", String.class))
+                              .withCallStartDay(row.get("call_start_day", LocalDate.class))
+                              .withCallEndDay(row.get("call_end_day", LocalDate.class))
+                              .withCallStartTime(row.get("call_start_time", LocalTime.class))
+                              .withCallEndTime(row.get("call_end_time", LocalTime.class))
+                              .withCallDuration(Duration.ofNanos(row.get("call_duration", Long.class)))
+                              .withCallCost(row.get("call_cost", Double.class))
+                              .build();
+    }
+
+    private static final class DailyStatisticsRow implements DailyStatisticsByDay {
+        private final LocalDate day;
+        private final Long totalCallsDurationInbound;
+        private final Long totalCallsDurationOutbound;
+        private final Long totalNumberOfCalls;
+        private final Double totalCallsCost;
+
+        private DailyStatisticsRow(LocalDate day, Long totalCallsDurationInbound, Long totalCallsDurationOutbound,
+                                   Long totalNumberOfCalls, Double totalCallsCost) {
+            this.day = day;
+            this.totalCallsDurationInbound = totalCallsDurationInbound;
+            this.totalCallsDurationOutbound = totalCallsDurationOutbound;
+            this.totalNumberOfCalls = totalNumberOfCalls;
+            this.totalCallsCost = totalCallsCost;
+        }
+
+        @Override
+        public LocalDate getDay() {
+            return day;
+        }
+
+        @Override
+        public Long getTotalCallsDurationInbound() {
+            return totalCallsDurationInbound;
+        }
+
+        @Override
+        public Long getTotalCallsDurationOutbound() {
+            return totalCallsDurationOutbound;
+        }
+
+        @Override
+        public Long getTotalNumberOfCalls() {
+            return totalNumberOfCalls;
+        }
+
+        @Override
+        public Double getTotalCallsCost() {
+            return totalCallsCost;
+        }
+    }
+}
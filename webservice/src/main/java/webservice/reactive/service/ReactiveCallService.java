@@ -0,0 +1,15 @@
+package webservice.reactive.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import webservice.model.calldto.CallDto;
+
+import java.util.List;
+
+public interface ReactiveCallService {
+    Flux<CallDto> createCalls(List<CallDto> callDtoList);
+
+    Flux<CallDto> getAllCalls(int page, String callType);
+
+    Mono<Void> deleteCallById(Long id);
+}
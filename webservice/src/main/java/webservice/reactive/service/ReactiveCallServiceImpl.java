@@ -0,0 +1,66 @@
+package webservice.reactive.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import webservice.model.calldto.CallDto;
+import webservice.reactive.repository.ReactiveCallRepository;
+import webservice.service.call.CallCostCalculator;
+import webservice.service.call.CallTimestampDecomposer;
+import webservice.service.call.CallValidator;
+
+import java.util.List;
+
+import static webservice.service.ServiceParameters.NUMBER_OF_ELEMENTS_IN_PAGE;
+
+@Service
+public class ReactiveCallServiceImpl implements ReactiveCallService {
+    private final ReactiveCallRepository reactiveCallRepository;
+    private final CallTimestampDecomposer callTimestampDecomposer;
+    private final CallValidator callValidator;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveCallServiceImpl(ReactiveCallRepository reactiveCallRepository,
+                                   CallTimestampDecomposer callTimestampDecomposer, CallValidator callValidator,
+                                   TransactionalOperator transactionalOperator) {
+        this.reactiveCallRepository = reactiveCallRepository;
+        this.callTimestampDecomposer = callTimestampDecomposer;
+        this.callValidator = callValidator;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    // As in the blocking deployment, the calls are all created or, when any of them is not valid, none is.
+    @Override
+    public Flux<CallDto> createCalls(List<CallDto> callDtoList) {
+        return Flux.defer(() -> {
+            for (CallDto callDto : callDtoList) {
+                callValidator.verifyValidityOfCall(callDto);
+            }
+
+            for (CallDto callDto : callDtoList) {
+                callTimestampDecomposer.decompose(callDto);
+                callDto.setCallCost(CallCostCalculator.calculateCallCost(callDto.getCallDuration(),
+                                                                         callDto.getCallType()));
+            }
+
+            return transactionalOperator.transactional(reactiveCallRepository.insertAll(callDtoList));
+        });
+    }
+
+    @Override
+    public Flux<CallDto> getAllCalls(int page, String callType) {
+        return Flux.defer(() -> {
+            PageRequest pageRequest = PageRequest.of(page - 1, NUMBER_OF_ELEMENTS_IN_PAGE);
+
+            return reactiveCallRepository.findAll(pageRequest.getOffset(), pageRequest.getPageSize(),
+                                                  callType == null || callType.isEmpty() ? null : callType);
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteCallById(Long id) {
+        return reactiveCallRepository.deleteById(id).then();
+    }
+}
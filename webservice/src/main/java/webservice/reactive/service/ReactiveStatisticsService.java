@@ -0,0 +1,10 @@
+package webservice.reactive.service;
+
+import reactor.core.publisher.Flux;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+
+import java.time.LocalDate;
+
+public interface ReactiveStatisticsService {
+    Flux<CallsStatisticsJson> getCallsStatistics(LocalDate from, LocalDate to, String callType, Integer topN);
+}
@@ -0,0 +1,104 @@
+package webservice.reactive.service;
+
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import webservice.exception.BusinessException;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCalleeNumber;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCallerNumber;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+import webservice.reactive.repository.ReactiveCallRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+import static webservice.service.ServiceParameters.FIRST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.LAST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.MAXIMUM_NUMBER_OF_TOP_NUMBERS;
+
+@Service
+public class ReactiveStatisticsServiceImpl implements ReactiveStatisticsService {
+    private final ReactiveCallRepository reactiveCallRepository;
+
+    public ReactiveStatisticsServiceImpl(ReactiveCallRepository reactiveCallRepository) {
+        this.reactiveCallRepository = reactiveCallRepository;
+    }
+
+    // The statistics are grouped from the calls themselves, one day at a time, so each day is sent as soon as its
+    // numbers are counted instead of once every day is.
+    @Override
+    public Flux<CallsStatisticsJson> getCallsStatistics(LocalDate from, LocalDate to, String callType,
+                                                        Integer topN) {
+        LocalDate fromOrFirst = from == null ? FIRST_DAY_OF_STATISTICS : from;
+        LocalDate toOrLast = to == null ? LAST_DAY_OF_STATISTICS : to;
+        String callTypeOrAll = callType == null || callType.isEmpty() ? null : callType;
+
+        if (fromOrFirst.isAfter(toOrLast)) {
+            return Flux.error(new BusinessException("Statistics day range is not valid!", fromOrFirst.toString(),
+                                                    toOrLast.toString()));
+        }
+
+        if (topN != null && (topN < 1 || topN > MAXIMUM_NUMBER_OF_TOP_NUMBERS)) {
+            return Flux.error(new BusinessException("Top N must be between 1 and " + MAXIMUM_NUMBER_OF_TOP_NUMBERS
+                                                    + "!", String.valueOf(topN)));
+        }
+
+        return reactiveCallRepository.findDailyStatisticsByDay(fromOrFirst, toOrLast, callTypeOrAll)
+                                     .concatMap(dailyStatisticsByDay -> callsStatisticsJson(dailyStatisticsByDay,
+                                                                                            callTypeOrAll, topN));
+    }
+
+    private Mono<CallsStatisticsJson> callsStatisticsJson(DailyStatisticsByDay dailyStatisticsByDay, String callType,
+                                                          Integer topN) {
+        LocalDate day = dailyStatisticsByDay.getDay();
+
+        return Mono.zip(reactiveCallRepository.findTotalNumberOfCallsByCallerNumber(day, callType, topN)
+                                              .collectList(),
+                        reactiveCallRepository.findTotalNumberOfCallsByCalleeNumber(day, callType, topN)
+                                              .collectList())
+                   .map(numbers -> callsStatisticsJson(dailyStatisticsByDay, numbers.getT1(), numbers.getT2(),
+                                                       topN));
+    }
+
+    private CallsStatisticsJson callsStatisticsJson(
+            DailyStatisticsByDay dailyStatisticsByDay,
+            List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList,
+            List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList,
+            Integer topN) {
+        Long totalNumberOfCallsByOtherCallerNumbers = null;
+        Long totalNumberOfCallsByOtherCalleeNumbers = null;
+
+        if (topN != null) {
+            totalNumberOfCallsByOtherCallerNumbers = dailyStatisticsByDay.getTotalNumberOfCalls();
+            totalNumberOfCallsByOtherCalleeNumbers = dailyStatisticsByDay.getTotalNumberOfCalls();
+
+            for (TotalNumberOfCallsByCallerNumber totalNumberOfCallsByCallerNumber :
+                    totalNumberOfCallsByCallerNumberList) {
+                totalNumberOfCallsByOtherCallerNumbers -= totalNumberOfCallsByCallerNumber.getTotalNumberOfCalls();
+            }
+
+            for (TotalNumberOfCallsByCalleeNumber totalNumberOfCallsByCalleeNumber :
+                    totalNumberOfCallsByCalleeNumberList) {
+                totalNumberOfCallsByOtherCalleeNumbers -= totalNumberOfCallsByCalleeNumber.getTotalNumberOfCalls();
+            }
+        }
+
+        return CallsStatisticsJson.Builder
+                .callStatisticsJsonWith()
+                .withDay(dailyStatisticsByDay.getDay())
+                .withTotalCallsDurationInbound(dailyStatisticsByDay.getTotalCallsDurationInbound())
+                .withTotalCallsDurationOutbound(dailyStatisticsByDay.getTotalCallsDurationOutbound())
+                .withTotalNumberOfCalls(dailyStatisticsByDay.getTotalNumberOfCalls())
+                .withTotalCallsCost(BigDecimal.valueOf(dailyStatisticsByDay.getTotalCallsCost())
+                                              .setScale(2, RoundingMode.HALF_UP)
+                                              .doubleValue())
+                .withTotalNumberOfCallsByCallerNumber(totalNumberOfCallsByCallerNumberList)
+                .withTotalNumberOfCallsByCalleeNumber(totalNumberOfCallsByCalleeNumberList)
+                .withTotalNumberOfCallsByOtherCallerNumbers(totalNumberOfCallsByOtherCallerNumbers)
+                .withTotalNumberOfCallsByOtherCalleeNumbers(totalNumberOfCallsByOtherCalleeNumbers)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package webservice.repository;
+
+import webservice.model.calldto.CallDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.function.Function;
+
+public interface CallColumnRepository {
+    void saveAll(List<CallDto> callDtoList);
+
+    void delete(CallDto callDto);
+
+    long count();
+
+    <T> T readSegments(LocalDate from, LocalDate to,
+                       Function<SortedMap<LocalDate, CallColumnSegment>, T> callColumnSegmentByDayReader);
+}
@@ -0,0 +1,81 @@
+package webservice.repository;
+
+import webservice.model.calldto.CallDto;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+public class CallColumnRepositoryImpl implements CallColumnRepository {
+    private final TreeMap<LocalDate, CallColumnSegment> callColumnSegmentByDayMap = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void saveAll(List<CallDto> callDtoList) {
+        lock.writeLock().lock();
+
+        try {
+            for (CallDto callDto : callDtoList) {
+                callColumnSegmentByDayMap.computeIfAbsent(callDto.getCallStartDay(), day -> new CallColumnSegment())
+                                         .add(callDto.getId(), callDto.getCallerNumber(), callDto.getCalleeNumber(),
+                                              callDto.getCallStartTimestamp(), callDto.getCallEndTimestamp(),
+                                              Math.round(callDto.getCallCost() * 100),
+                                              CallColumnSegment.callTypeCode(callDto.getCallType()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(CallDto callDto) {
+        lock.writeLock().lock();
+
+        try {
+            CallColumnSegment callColumnSegment = callColumnSegmentByDayMap.get(callDto.getCallStartDay());
+
+            if (callColumnSegment != null && callColumnSegment.remove(callDto.getId())
+                && callColumnSegment.size() == 0) {
+                callColumnSegmentByDayMap.remove(callDto.getCallStartDay());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        lock.readLock().lock();
+
+        try {
+            long numberOfCalls = 0;
+
+            for (CallColumnSegment callColumnSegment : callColumnSegmentByDayMap.values()) {
+                numberOfCalls += callColumnSegment.size();
+            }
+
+            return numberOfCalls;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The segments are only read while the read lock is held, which can be from other threads the reader waits for.
+    @Override
+    public <T> T readSegments(LocalDate from, LocalDate to,
+                              Function<SortedMap<LocalDate, CallColumnSegment>, T> callColumnSegmentByDayReader) {
+        lock.readLock().lock();
+
+        try {
+            return callColumnSegmentByDayReader.apply(Collections.unmodifiableSortedMap(
+                    callColumnSegmentByDayMap.subMap(from, true, to, true)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
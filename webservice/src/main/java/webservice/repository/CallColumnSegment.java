@@ -0,0 +1,162 @@
+package webservice.repository;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+
+// One day of calls stored column by column in direct buffers, so a call takes BYTES_PER_CALL bytes outside the heap
+// instead of a CallDto with its boxed numbers, dates, times and duration. Only the index from call ids to slots is
+// kept on the heap.
+public class CallColumnSegment {
+    public static final int BYTES_PER_CALL = 6 * Long.BYTES + Byte.BYTES;
+    public static final byte CALL_TYPE_INBOUND_CODE = 0;
+    public static final byte CALL_TYPE_OUTBOUND_CODE = 1;
+    public static final byte CALL_TYPE_UNKNOWN_CODE = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final CallSlotIndex callSlotIndex = new CallSlotIndex();
+
+    private LongBuffer callIds;
+    private LongBuffer callerNumbers;
+    private LongBuffer calleeNumbers;
+    private LongBuffer callStartTimestamps;
+    private LongBuffer callEndTimestamps;
+    private LongBuffer callCostsInCents;
+    private ByteBuffer callTypes;
+    private int size;
+
+    public CallColumnSegment() {
+        this.callIds = longColumn(INITIAL_CAPACITY);
+        this.callerNumbers = longColumn(INITIAL_CAPACITY);
+        this.calleeNumbers = longColumn(INITIAL_CAPACITY);
+        this.callStartTimestamps = longColumn(INITIAL_CAPACITY);
+        this.callEndTimestamps = longColumn(INITIAL_CAPACITY);
+        this.callCostsInCents = longColumn(INITIAL_CAPACITY);
+        this.callTypes = byteColumn(INITIAL_CAPACITY);
+    }
+
+    public static byte callTypeCode(String callType) {
+        if (CALL_TYPE_INBOUND.equals(callType)) {
+            return CALL_TYPE_INBOUND_CODE;
+        }
+
+        if (CALL_TYPE_OUTBOUND.equals(callType)) {
+            return CALL_TYPE_OUTBOUND_CODE;
+        }
+
+        return CALL_TYPE_UNKNOWN_CODE;
+    }
+
+    public void add(long callId, long callerNumber, long calleeNumber, long callStartTimestamp, long callEndTimestamp,
+                    long callCostInCents, byte callType) {
+        if (size == callTypes.capacity()) {
+            grow(size * 2);
+        }
+
+        callSlotIndex.put(callId, size);
+        callIds.put(size, callId);
+        callerNumbers.put(size, callerNumber);
+        calleeNumbers.put(size, calleeNumber);
+        callStartTimestamps.put(size, callStartTimestamp);
+        callEndTimestamps.put(size, callEndTimestamp);
+        callCostsInCents.put(size, callCostInCents);
+        callTypes.put(size, callType);
+
+        size++;
+    }
+
+    // The slot of the call is found in the index, and the last call takes its place.
+    public boolean remove(long callId) {
+        int slot = callSlotIndex.get(callId);
+
+        if (slot < 0) {
+            return false;
+        }
+
+        callSlotIndex.remove(callId);
+        size--;
+
+        if (slot < size) {
+            callSlotIndex.put(callIds.get(size), slot);
+            callIds.put(slot, callIds.get(size));
+            callerNumbers.put(slot, callerNumbers.get(size));
+            calleeNumbers.put(slot, calleeNumbers.get(size));
+            callStartTimestamps.put(slot, callStartTimestamps.get(size));
+            callEndTimestamps.put(slot, callEndTimestamps.get(size));
+            callCostsInCents.put(slot, callCostsInCents.get(size));
+            callTypes.put(slot, callTypes.get(size));
+        }
+
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getCallId(int index) {
+        return callIds.get(index);
+    }
+
+    public long getCallerNumber(int index) {
+        return callerNumbers.get(index);
+    }
+
+    public long getCalleeNumber(int index) {
+        return calleeNumbers.get(index);
+    }
+
+    public long getCallStartTimestamp(int index) {
+        return callStartTimestamps.get(index);
+    }
+
+    public long getCallEndTimestamp(int index) {
+        return callEndTimestamps.get(index);
+    }
+
+    public long getCallCostInCents(int index) {
+        return callCostsInCents.get(index);
+    }
+
+    public byte getCallType(int index) {
+        return callTypes.get(index);
+    }
+
+    private void grow(int capacity) {
+        LongBuffer grownCallIds = longColumn(capacity);
+        LongBuffer grownCallerNumbers = longColumn(capacity);
+        LongBuffer grownCalleeNumbers = longColumn(capacity);
+        LongBuffer grownCallStartTimestamps = longColumn(capacity);
+        LongBuffer grownCallEndTimestamps = longColumn(capacity);
+        LongBuffer grownCallCostsInCents = longColumn(capacity);
+        ByteBuffer grownCallTypes = byteColumn(capacity);
+
+        grownCallIds.put(callIds.position(0).limit(size)).clear();
+        grownCallerNumbers.put(callerNumbers.position(0).limit(size)).clear();
+        grownCalleeNumbers.put(calleeNumbers.position(0).limit(size)).clear();
+        grownCallStartTimestamps.put(callStartTimestamps.position(0).limit(size)).clear();
+        grownCallEndTimestamps.put(callEndTimestamps.position(0).limit(size)).clear();
+        grownCallCostsInCents.put(callCostsInCents.position(0).limit(size)).clear();
+        grownCallTypes.put(callTypes.position(0).limit(size)).clear();
+
+        callIds = grownCallIds;
+        callerNumbers = grownCallerNumbers;
+        calleeNumbers = grownCalleeNumbers;
+        callStartTimestamps = grownCallStartTimestamps;
+        callEndTimestamps = grownCallEndTimestamps;
+        callCostsInCents = grownCallCostsInCents;
+        callTypes = grownCallTypes;
+    }
+
+    private static LongBuffer longColumn(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+    }
+
+    private static ByteBuffer byteColumn(int capacity) {
+        return ByteBuffer.allocateDirect(capacity);
+    }
+}
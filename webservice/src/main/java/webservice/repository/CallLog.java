@@ -0,0 +1,13 @@
+package webservice.repository;
+
+import webservice.model.calldto.CallDto;
+
+import java.util.List;
+
+public interface CallLog {
+    void appendCalls(List<CallDto> callDtoList);
+
+    void appendCallDeletion(CallDto callDto);
+
+    List<CallDto> recoverCalls();
+}
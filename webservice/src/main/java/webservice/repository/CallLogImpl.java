@@ -0,0 +1,520 @@
+package webservice.repository;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import webservice.model.calldto.CallDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+
+// Calls and call deletions are appended as fixed size records to memory mapped segment files, which are forced to
+// disk by a single thread every sync interval, so concurrent requests share one fsync. A record is only valid with a
+// matching checksum, so the log ends at the first empty or torn record when it is opened again. The records of a
+// transaction are synced before it commits, and once a record can not be written or synced the log fails and
+// rejects every later write, so a committed call is never missing from the log. Deleted calls are only dropped from
+// the log when it is compacted while opened, so it grows with every deletion until the next restart.
+public class CallLogImpl implements CallLog, AutoCloseable {
+    public static final int RECORD_SIZE = 48;
+
+    private static final int CALLER_NUMBER_OFFSET = 8;
+    private static final int CALLEE_NUMBER_OFFSET = 16;
+    private static final int CALL_START_TIMESTAMP_OFFSET = 24;
+    private static final int CALL_END_TIMESTAMP_OFFSET = 32;
+    private static final int CALL_TYPE_OFFSET = 40;
+    private static final int RECORD_TYPE_OFFSET = 41;
+    private static final int CHECKSUM_OFFSET = 44;
+    private static final byte CALL_RECORD = 1;
+    private static final byte CALL_DELETION_RECORD = 2;
+    private static final byte SEGMENT_END_RECORD = 3;
+    private static final byte INVALID_RECORD = 0;
+    private static final byte CALL_TYPE_INBOUND_CODE = 0;
+    private static final byte CALL_TYPE_OUTBOUND_CODE = 1;
+    private static final String SEGMENT_FILE_PREFIX = "calls-";
+    private static final String SEGMENT_FILE_SUFFIX = ".log";
+    private static final String FIRST_SEGMENT_FILE_NAME = "first-segment";
+
+    private final Path directory;
+    private final int numberOfRecordsBySegment;
+    private final ScheduledExecutorService syncExecutor;
+
+    private List<CallDto> recoveredCallDtoList;
+    private long segmentIndex;
+    private MappedByteBuffer segment;
+    private int segmentCapacity;
+    private int segmentPosition;
+    private long numberOfAppendedRecords;
+    private long numberOfSyncedRecords;
+    private boolean closed;
+    private volatile Throwable failure;
+
+    public CallLogImpl(Path directory, long segmentSize, long syncIntervalMilliseconds) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.numberOfRecordsBySegment = Math.toIntExact(Math.max(1, segmentSize / RECORD_SIZE));
+
+        recover();
+
+        if (syncIntervalMilliseconds > 0) {
+            this.syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "call-log-sync");
+                thread.setDaemon(true);
+
+                return thread;
+            });
+            this.syncExecutor.scheduleWithFixedDelay(this::sync, syncIntervalMilliseconds, syncIntervalMilliseconds,
+                                                     TimeUnit.MILLISECONDS);
+        } else {
+            this.syncExecutor = null;
+        }
+    }
+
+    @Override
+    public void appendCalls(List<CallDto> callDtoList) {
+        appendBeforeCommit(() -> appendRecords(CALL_RECORD, callDtoList),
+                           () -> appendRecords(CALL_DELETION_RECORD, callDtoList));
+    }
+
+    @Override
+    public void appendCallDeletion(CallDto callDto) {
+        appendBeforeCommit(() -> appendRecords(CALL_DELETION_RECORD, List.of(callDto)),
+                           () -> appendRecords(CALL_RECORD, List.of(callDto)));
+    }
+
+    @Override
+    public synchronized List<CallDto> recoverCalls() {
+        List<CallDto> callDtoList = recoveredCallDtoList;
+
+        recoveredCallDtoList = Collections.emptyList();
+
+        return callDtoList;
+    }
+
+    public synchronized long getSize() {
+        return numberOfAppendedRecords * RECORD_SIZE;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void close() {
+        if (syncExecutor != null) {
+            syncExecutor.shutdown();
+        }
+
+        synchronized (this) {
+            if (failure == null) {
+                segment.force();
+                numberOfSyncedRecords = numberOfAppendedRecords;
+            }
+
+            closed = true;
+
+            notifyAll();
+        }
+    }
+
+    private void recover() throws IOException {
+        TreeMap<Long, CallDto> callDtoByIdMap = new TreeMap<>();
+        long firstSegmentIndex = readFirstSegmentIndex();
+        List<Path> segmentPaths;
+        boolean endOfLog = false;
+
+        try (Stream<Path> paths = Files.list(directory)) {
+            segmentPaths = paths.filter(path -> path.getFileName().toString().startsWith(SEGMENT_FILE_PREFIX)
+                                                && path.getFileName().toString().endsWith(SEGMENT_FILE_SUFFIX))
+                                .sorted()
+                                .collect(Collectors.toList());
+        }
+
+        for (Path segmentPath : segmentPaths) {
+            // Segments before the first one were compacted into it, and segments are only rolled when full or
+            // sealed, so the segments after the end of the log were never completed.
+            if (endOfLog || segmentIndex(segmentPath) < firstSegmentIndex) {
+                Files.delete(segmentPath);
+
+                continue;
+            }
+
+            segmentIndex = segmentIndex(segmentPath);
+            segment = mapSegment(segmentPath, numberOfRecordsBySegment);
+            segmentCapacity = segment.capacity() / RECORD_SIZE;
+            segmentPosition = 0;
+
+            while (segmentPosition < segmentCapacity) {
+                byte recordType = readRecord(segmentPosition, callDtoByIdMap);
+
+                if (recordType == SEGMENT_END_RECORD) {
+                    segmentPosition = segmentCapacity;
+                } else if (recordType == INVALID_RECORD) {
+                    break;
+                } else {
+                    segmentPosition++;
+                }
+            }
+
+            if (segmentPosition < segmentCapacity) {
+                endOfLog = true;
+
+                clearRecords(segmentPosition, segmentCapacity);
+            }
+        }
+
+        if (segment == null) {
+            openSegment(firstSegmentIndex, numberOfRecordsBySegment);
+        }
+
+        // Compacting rewrites every call, so it only pays off once at least half of the records are dropped.
+        if (numberOfAppendedRecords > 0 && numberOfAppendedRecords >= 2L * callDtoByIdMap.size()) {
+            compact(callDtoByIdMap.values());
+        }
+
+        numberOfSyncedRecords = numberOfAppendedRecords;
+        recoveredCallDtoList = new ArrayList<>(callDtoByIdMap.values());
+    }
+
+    // The calls are written to a new segment, which only replaces the older segments once it is on disk, so the log
+    // opened after a crash while compacting still has every call.
+    private void compact(Collection<CallDto> callDtoList) throws IOException {
+        long compactedSegmentIndex = segmentIndex + 1;
+
+        openSegment(compactedSegmentIndex, callDtoList.size());
+
+        for (CallDto callDto : callDtoList) {
+            writeRecord(segmentPosition++, CALL_RECORD, callDto);
+        }
+
+        segment.force();
+        numberOfAppendedRecords = callDtoList.size();
+
+        writeFirstSegmentIndex(compactedSegmentIndex);
+
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path segmentPath : paths.filter(path -> path.getFileName().toString().startsWith(SEGMENT_FILE_PREFIX)
+                                                         && path.getFileName().toString()
+                                                                .endsWith(SEGMENT_FILE_SUFFIX)
+                                                         && segmentIndex(path) < compactedSegmentIndex)
+                                         .collect(Collectors.toList())) {
+                Files.delete(segmentPath);
+            }
+        }
+    }
+
+    private long readFirstSegmentIndex() throws IOException {
+        Path firstSegmentPath = directory.resolve(FIRST_SEGMENT_FILE_NAME);
+
+        return Files.exists(firstSegmentPath) ? Long.parseLong(Files.readString(firstSegmentPath).trim()) : 0L;
+    }
+
+    private void writeFirstSegmentIndex(long index) throws IOException {
+        Path temporaryPath = directory.resolve(FIRST_SEGMENT_FILE_NAME + ".tmp");
+
+        try (FileChannel fileChannel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                                                        StandardOpenOption.WRITE,
+                                                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            fileChannel.write(ByteBuffer.wrap(Long.toString(index).getBytes(StandardCharsets.US_ASCII)));
+            fileChannel.force(true);
+        }
+
+        Files.move(temporaryPath, directory.resolve(FIRST_SEGMENT_FILE_NAME), StandardCopyOption.ATOMIC_MOVE,
+                   StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private byte readRecord(int position, TreeMap<Long, CallDto> callDtoByIdMap) {
+        int offset = position * RECORD_SIZE;
+        byte recordType = segment.get(offset + RECORD_TYPE_OFFSET);
+
+        if ((recordType != CALL_RECORD && recordType != CALL_DELETION_RECORD && recordType != SEGMENT_END_RECORD)
+            || segment.getInt(offset + CHECKSUM_OFFSET) != checksum(offset)) {
+            return INVALID_RECORD;
+        }
+
+        if (recordType == SEGMENT_END_RECORD) {
+            return recordType;
+        }
+
+        long id = segment.getLong(offset);
+
+        if (recordType == CALL_DELETION_RECORD) {
+            callDtoByIdMap.remove(id);
+        } else {
+            callDtoByIdMap.put(id, CallDto.Builder.callModelWith()
+                                                  .withId(id)
+                                                  .withCallerNumber(segment.getLong(offset + CALLER_NUMBER_OFFSET))
+                                                  .withCalleeNumber(segment.getLong(offset + CALLEE_NUMBER_OFFSET))
+                                                  .withStartTimestamp(segment.getLong(
+                                                          offset + CALL_START_TIMESTAMP_OFFSET))
+                                                  .withEndTimestamp(segment.getLong(
+                                                          offset + CALL_END_TIMESTAMP_OFFSET))
+                                                  .withCallType(segment.get(offset + CALL_TYPE_OFFSET)
+                                                                == CALL_TYPE_INBOUND_CODE ? CALL_TYPE_INBOUND :
+                                                                CALL_TYPE_OUTBOUND)
+                                                  .build());
+        }
+
+        numberOfAppendedRecords++;
+
+        return recordType;
+    }
+
+    // A torn record can be followed by records that reached the disk before it, which must not come back to life
+    // once new records are appended over the torn one.
+    private void clearRecords(int fromPosition, int toPosition) {
+        ByteBuffer clearedRecords = segment.duplicate()
+                                           .position(fromPosition * RECORD_SIZE)
+                                           .limit(toPosition * RECORD_SIZE);
+        byte[] zeros = new byte[RECORD_SIZE * 1024];
+
+        while (clearedRecords.hasRemaining()) {
+            clearedRecords.put(zeros, 0, Math.min(zeros.length, clearedRecords.remaining()));
+        }
+
+        segment.force();
+    }
+
+    // The records of a batch always share one segment, so the records of a batch that failed halfway can be cleared
+    // before the transaction is rolled back.
+    private void appendRecords(byte recordType, List<CallDto> callDtoList) {
+        long numberOfRecords;
+
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Call log is closed!");
+            }
+
+            if (failure != null) {
+                throw new IllegalStateException("Call log failed, no call can be written!", failure);
+            }
+
+            int batchPosition = segmentPosition;
+
+            try {
+                if (segmentCapacity - segmentPosition < callDtoList.size()) {
+                    rollSegment(callDtoList.size());
+
+                    batchPosition = 0;
+                }
+
+                for (CallDto callDto : callDtoList) {
+                    writeRecord(segmentPosition++, recordType, callDto);
+                }
+
+                numberOfAppendedRecords += callDtoList.size();
+
+                if (syncExecutor == null) {
+                    segment.force();
+                    numberOfSyncedRecords = numberOfAppendedRecords;
+                }
+            } catch (RuntimeException | InternalError exception) {
+                fail(exception);
+
+                try {
+                    clearRecords(batchPosition, segmentPosition);
+                    segmentPosition = batchPosition;
+                } catch (RuntimeException | InternalError clearException) {
+                    exception.addSuppressed(clearException);
+                }
+
+                throw new IllegalStateException("Call log failed, calls could not be written!", exception);
+            }
+
+            numberOfRecords = numberOfAppendedRecords;
+        }
+
+        awaitSync(numberOfRecords);
+    }
+
+    private void writeRecord(int position, byte recordType, CallDto callDto) {
+        int offset = position * RECORD_SIZE;
+
+        segment.putLong(offset, callDto == null ? 0L : callDto.getId());
+
+        if (recordType == CALL_RECORD) {
+            segment.putLong(offset + CALLER_NUMBER_OFFSET, callDto.getCallerNumber());
+            segment.putLong(offset + CALLEE_NUMBER_OFFSET, callDto.getCalleeNumber());
+            segment.putLong(offset + CALL_START_TIMESTAMP_OFFSET, callDto.getCallStartTimestamp());
+            segment.putLong(offset + CALL_END_TIMESTAMP_OFFSET, callDto.getCallEndTimestamp());
+            segment.put(offset + CALL_TYPE_OFFSET, CALL_TYPE_INBOUND.equals(callDto.getCallType()) ?
+                                                   CALL_TYPE_INBOUND_CODE : CALL_TYPE_OUTBOUND_CODE);
+        } else {
+            segment.putLong(offset + CALLER_NUMBER_OFFSET, 0L);
+            segment.putLong(offset + CALLEE_NUMBER_OFFSET, 0L);
+            segment.putLong(offset + CALL_START_TIMESTAMP_OFFSET, 0L);
+            segment.putLong(offset + CALL_END_TIMESTAMP_OFFSET, 0L);
+            segment.put(offset + CALL_TYPE_OFFSET, (byte) 0);
+        }
+
+        segment.put(offset + RECORD_TYPE_OFFSET, recordType);
+        segment.putInt(offset + CHECKSUM_OFFSET, checksum(offset));
+    }
+
+    private int checksum(int offset) {
+        CRC32 crc32 = new CRC32();
+
+        crc32.update(segment.duplicate().position(offset).limit(offset + CHECKSUM_OFFSET));
+
+        return (int) crc32.getValue();
+    }
+
+    // A segment rolled before it is full is sealed, so the log does not end at its first empty record.
+    private void rollSegment(int numberOfRecords) {
+        if (segmentPosition < segmentCapacity) {
+            writeRecord(segmentPosition, SEGMENT_END_RECORD, null);
+        }
+
+        segment.force();
+        numberOfSyncedRecords = numberOfAppendedRecords;
+
+        notifyAll();
+
+        try {
+            openSegment(segmentIndex + 1, numberOfRecords);
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    private void openSegment(long index, int numberOfRecords) throws IOException {
+        MappedByteBuffer openedSegment = mapSegment(directory.resolve(String.format("%s%020d%s", SEGMENT_FILE_PREFIX,
+                                                                                    index, SEGMENT_FILE_SUFFIX)),
+                                                    Math.max(numberOfRecords, numberOfRecordsBySegment));
+
+        segmentIndex = index;
+        segment = openedSegment;
+        segmentCapacity = segment.capacity() / RECORD_SIZE;
+        segmentPosition = 0;
+    }
+
+    private MappedByteBuffer mapSegment(Path segmentPath, int numberOfRecords) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(segmentPath, StandardOpenOption.CREATE,
+                                                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long segmentSize = Math.max(fileChannel.size() / RECORD_SIZE, numberOfRecords) * RECORD_SIZE;
+
+            return fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private void sync() {
+        MappedByteBuffer syncedSegment;
+        long numberOfRecords;
+
+        synchronized (this) {
+            if (failure != null || numberOfSyncedRecords == numberOfAppendedRecords) {
+                return;
+            }
+
+            syncedSegment = segment;
+            numberOfRecords = numberOfAppendedRecords;
+        }
+
+        // Records appended to an earlier segment were forced when it was rolled.
+        try {
+            syncedSegment.force();
+        } catch (RuntimeException | InternalError exception) {
+            fail(exception);
+
+            return;
+        }
+
+        synchronized (this) {
+            numberOfSyncedRecords = Math.max(numberOfSyncedRecords, numberOfRecords);
+
+            notifyAll();
+        }
+    }
+
+    private synchronized void fail(Throwable exception) {
+        if (failure == null) {
+            failure = exception;
+        }
+
+        notifyAll();
+    }
+
+    private synchronized void awaitSync(long numberOfRecords) {
+        while (numberOfSyncedRecords < numberOfRecords) {
+            if (failure != null) {
+                throw new IllegalStateException("Call log failed, calls could not be synced!", failure);
+            }
+
+            try {
+                wait();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+
+                throw new IllegalStateException("Interrupted while waiting for the call log to be synced!");
+            }
+        }
+    }
+
+    // The records are synced before the transaction commits, so a failed write rolls it back, and records undoing
+    // them are appended when the commit itself fails. An outcome that is unknown can not be undone, so it fails the
+    // log.
+    private void appendBeforeCommit(Runnable append, Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append.run();
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            private boolean appended;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                append.run();
+
+                appended = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!appended || status == TransactionSynchronization.STATUS_COMMITTED) {
+                    return;
+                }
+
+                if (status == TransactionSynchronization.STATUS_UNKNOWN) {
+                    fail(new IllegalStateException("Transaction outcome of appended calls is unknown!"));
+
+                    return;
+                }
+
+                try {
+                    undo.run();
+                } catch (RuntimeException exception) {
+                    fail(exception);
+                }
+            }
+        });
+    }
+
+    private static long segmentIndex(Path segmentPath) {
+        String fileName = segmentPath.getFileName().toString();
+
+        return Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                                                 fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+    }
+}
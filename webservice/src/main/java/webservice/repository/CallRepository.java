@@ -1,12 +1,40 @@
 package webservice.repository;
 
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import webservice.model.calldto.CallDto;
+import webservice.model.callprojection.CallsCountByDayAndCallTypeAndCalleeNumber;
+import webservice.model.callprojection.CallsCountByDayAndCallTypeAndCallerNumber;
+import webservice.model.callprojection.CallsStatisticsByDayAndCallType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 @Repository
-public interface CallRepository extends JpaRepository<CallDto, Long> {
+public interface CallRepository extends JpaRepository<CallDto, Long>, CallRepositoryCustom {
     Page<CallDto> findByCallType(Pageable var1, String callType);
+
+    Slice<CallDto> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    Slice<CallDto> findByCallTypeAndIdGreaterThanOrderByCallTypeAscIdAsc(String callType, Long id,
+                                                                         Pageable pageable);
+
+    @Query("select c.callStartDay as day, c.callType as callType, "
+           + "sum(c.callEndTimestamp - c.callStartTimestamp) as totalCallsDuration, count(c) as totalNumberOfCalls, "
+           + "sum(c.callCost) as totalCallsCost from CallDto c group by c.callStartDay, c.callType "
+           + "order by c.callStartDay, c.callType")
+    List<CallsStatisticsByDayAndCallType> findCallsStatisticsByDayAndCallType();
+
+    @Query("select c.callStartDay as day, c.callType as callType, c.callerNumber as callerNumber, "
+           + "count(c) as totalNumberOfCalls from CallDto c group by c.callStartDay, c.callType, c.callerNumber "
+           + "order by c.callStartDay, c.callType, c.callerNumber")
+    List<CallsCountByDayAndCallTypeAndCallerNumber> findCallsCountByDayAndCallTypeAndCallerNumber();
+
+    @Query("select c.callStartDay as day, c.callType as callType, c.calleeNumber as calleeNumber, "
+           + "count(c) as totalNumberOfCalls from CallDto c group by c.callStartDay, c.callType, c.calleeNumber "
+           + "order by c.callStartDay, c.callType, c.calleeNumber")
+    List<CallsCountByDayAndCallTypeAndCalleeNumber> findCallsCountByDayAndCallTypeAndCalleeNumber();
 }
@@ -0,0 +1,13 @@
+package webservice.repository;
+
+import webservice.model.calldto.CallDto;
+
+import java.util.List;
+
+public interface CallRepositoryCustom {
+    List<CallDto> saveAllInBatches(List<CallDto> callDtoList);
+
+    void insertAllWithIds(List<CallDto> callDtoList);
+
+    void restartIdSequenceAfter(Long id);
+}
@@ -0,0 +1,89 @@
+package webservice.repository;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+import webservice.model.calldto.CallDto;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+public class CallRepositoryCustomImpl implements CallRepositoryCustom {
+    private static final String INSERT_CALL_WITH_ID_SQL =
+            "insert into calls (id, caller_number, callee_number, call_start_timestamp, call_end_timestamp, call_type, "
+            + "call_start_day, call_end_day, call_start_time, call_end_time, call_duration, call_cost) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // The pooled sequence optimizer hands out the allocation size of ids below each sequence value.
+    private static final int CALLS_SEQUENCE_ALLOCATION_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    // Flushing and clearing every batch keeps the persistence context small, but it also detaches every entity
+    // loaded before in the same transaction.
+    @Override
+    @Transactional
+    public List<CallDto> saveAllInBatches(List<CallDto> callDtoList) {
+        for (int i = 0; i < callDtoList.size(); i++) {
+            entityManager.persist(callDtoList.get(i));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        return callDtoList;
+    }
+
+    // Persisting an entity with an id set fails with a generated id, so calls that keep their ids are inserted with
+    // plain JDBC batches. The call duration is stored in nanoseconds, as Hibernate maps Duration.
+    @Override
+    @Transactional
+    public void insertAllWithIds(List<CallDto> callDtoList) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(INSERT_CALL_WITH_ID_SQL)) {
+                for (int i = 0; i < callDtoList.size(); i++) {
+                    CallDto callDto = callDtoList.get(i);
+
+                    preparedStatement.setLong(1, callDto.getId());
+                    preparedStatement.setLong(2, callDto.getCallerNumber());
+                    preparedStatement.setLong(3, callDto.getCalleeNumber());
+                    preparedStatement.setLong(4, callDto.getCallStartTimestamp());
+                    preparedStatement.setLong(5, callDto.getCallEndTimestamp());
+                    preparedStatement.setString(6, callDto.getCallType());
+                    preparedStatement.setObject(7, callDto.getCallStartDay());
+                    preparedStatement.setObject(8, callDto.getCallEndDay());
+                    preparedStatement.setObject(9, callDto.getCallStartTime());
+                    preparedStatement.setObject(10, callDto.getCallEndTime());
+                    preparedStatement.setLong(11, callDto.getCallDuration().toNanos());
+                    preparedStatement.setDouble(12, callDto.getCallCost());
+                    preparedStatement.addBatch();
+
+                    if ((i + 1) % batchSize == 0) {
+                        preparedStatement.executeBatch();
+                    }
+                }
+
+                preparedStatement.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    @Transactional
+    public void restartIdSequenceAfter(Long id) {
+        entityManager.createNativeQuery("alter sequence calls_sequence restart with "
+                                        + (id + CALLS_SEQUENCE_ALLOCATION_SIZE + 1))
+                     .executeUpdate();
+    }
+}
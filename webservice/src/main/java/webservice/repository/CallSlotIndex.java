@@ -0,0 +1,125 @@
+package webservice.repository;
+
+// Maps the id of each call in a segment to its slot in the columns, with open addressing over primitive arrays, so a
+// deleted call is found without scanning the columns.
+public class CallSlotIndex {
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] callIds;
+    // The slot plus one, so 0 marks an empty entry.
+    private int[] slots;
+    private int size;
+
+    public CallSlotIndex() {
+        this.callIds = new long[MINIMUM_CAPACITY];
+        this.slots = new int[MINIMUM_CAPACITY];
+    }
+
+    public void put(long callId, int slot) {
+        int mask = callIds.length - 1;
+        int index = index(callId, mask);
+
+        while (slots[index] != 0) {
+            if (callIds[index] == callId) {
+                slots[index] = slot + 1;
+
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        callIds[index] = callId;
+        slots[index] = slot + 1;
+
+        if (++size * 2 > callIds.length) {
+            resize();
+        }
+    }
+
+    public int get(long callId) {
+        int mask = callIds.length - 1;
+        int index = index(callId, mask);
+
+        while (slots[index] != 0) {
+            if (callIds[index] == callId) {
+                return slots[index] - 1;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    // Entries after the removed one are shifted back into the gap, so lookups never stop early at a removed entry.
+    public void remove(long callId) {
+        int mask = callIds.length - 1;
+        int index = index(callId, mask);
+
+        while (slots[index] != 0 && callIds[index] != callId) {
+            index = (index + 1) & mask;
+        }
+
+        if (slots[index] == 0) {
+            return;
+        }
+
+        int gap = index;
+
+        while (true) {
+            index = (index + 1) & mask;
+
+            if (slots[index] == 0) {
+                break;
+            }
+
+            int home = index(callIds[index], mask);
+
+            if (gap <= index ? gap < home && home <= index : gap < home || home <= index) {
+                continue;
+            }
+
+            callIds[gap] = callIds[index];
+            slots[gap] = slots[index];
+            gap = index;
+        }
+
+        slots[gap] = 0;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] oldCallIds = callIds;
+        int[] oldSlots = slots;
+
+        callIds = new long[oldCallIds.length * 2];
+        slots = new int[oldSlots.length * 2];
+
+        int mask = callIds.length - 1;
+
+        for (int i = 0; i < oldCallIds.length; i++) {
+            if (oldSlots[i] != 0) {
+                int index = index(oldCallIds[i], mask);
+
+                while (slots[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+
+                callIds[index] = oldCallIds[i];
+                slots[index] = oldSlots[i];
+            }
+        }
+    }
+
+    private static int index(long callId, int mask) {
+        long hash = callId * HASH_MULTIPLIER;
+
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,100 @@
+package webservice.repository;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Lets at most a fixed number of connections be open at once, and makes everyone else wait in order on a fair
+// semaphore. With a virtual thread per request there is no thread pool left to bound the number of requests waiting
+// for the connection pool.
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+    private final Semaphore connectionPermits;
+    private final long connectionWaitMillis;
+
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maximumNumberOfConnections,
+                                        long connectionWaitMillis) {
+        super(targetDataSource);
+        this.connectionPermits = new Semaphore(maximumNumberOfConnections, true);
+        this.connectionWaitMillis = connectionWaitMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquireConnectionPermit();
+
+        try {
+            return releasingConnectionPermitOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException exception) {
+            connectionPermits.release();
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquireConnectionPermit();
+
+        try {
+            return releasingConnectionPermitOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException exception) {
+            connectionPermits.release();
+
+            throw exception;
+        }
+    }
+
+    public int getNumberOfAvailableConnections() {
+        return connectionPermits.availablePermits();
+    }
+
+    private void acquireConnectionPermit() throws SQLException {
+        try {
+            if (!connectionPermits.tryAcquire(connectionWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("No connection was available within " + connectionWaitMillis + " ms!");
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+
+            throw new SQLException("Interrupted while waiting for a connection!", interruptedException);
+        }
+    }
+
+    private Connection releasingConnectionPermitOnClose(Connection connection) {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                                                   (proxy, method, args) -> {
+            if (method.getName().equals("close")) {
+                if (!closed.compareAndSet(false, true)) {
+                    return null;
+                }
+
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException invocationTargetException) {
+                    throw invocationTargetException.getCause();
+                } finally {
+                    connectionPermits.release();
+                }
+            }
+
+            if (method.getName().equals("isClosed") && closed.get()) {
+                return true;
+            }
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException invocationTargetException) {
+                throw invocationTargetException.getCause();
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package webservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import webservice.model.dailystatisticsdto.DailyCalleeStatisticsDto;
+import webservice.model.dailystatisticsprojection.DailyCalleeStatisticsByDay;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailyCalleeStatisticsRepository extends JpaRepository<DailyCalleeStatisticsDto, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<DailyCalleeStatisticsDto> findByDayAndCallTypeAndCalleeNumberIn(LocalDate day, String callType,
+                                                                          Collection<Long> calleeNumbers);
+
+    @Query("select d.day as day, d.calleeNumber as calleeNumber, sum(d.totalNumberOfCalls) as totalNumberOfCalls "
+           + "from DailyCalleeStatisticsDto d where d.day between :from and :to "
+           + "and (:callType is null or d.callType = :callType) "
+           + "group by d.day, d.calleeNumber order by d.day, d.calleeNumber")
+    List<DailyCalleeStatisticsByDay> findDailyCalleeStatisticsByDay(@Param("from") LocalDate from,
+                                                                    @Param("to") LocalDate to,
+                                                                    @Param("callType") String callType);
+}
@@ -0,0 +1,29 @@
+package webservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import webservice.model.dailystatisticsdto.DailyCallerStatisticsDto;
+import webservice.model.dailystatisticsprojection.DailyCallerStatisticsByDay;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DailyCallerStatisticsRepository extends JpaRepository<DailyCallerStatisticsDto, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<DailyCallerStatisticsDto> findByDayAndCallTypeAndCallerNumberIn(LocalDate day, String callType,
+                                                                          Collection<Long> callerNumbers);
+
+    @Query("select d.day as day, d.callerNumber as callerNumber, sum(d.totalNumberOfCalls) as totalNumberOfCalls "
+           + "from DailyCallerStatisticsDto d where d.day between :from and :to "
+           + "and (:callType is null or d.callType = :callType) "
+           + "group by d.day, d.callerNumber order by d.day, d.callerNumber")
+    List<DailyCallerStatisticsByDay> findDailyCallerStatisticsByDay(@Param("from") LocalDate from,
+                                                                    @Param("to") LocalDate to,
+                                                                    @Param("callType") String callType);
+}
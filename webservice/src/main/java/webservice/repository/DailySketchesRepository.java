@@ -0,0 +1,24 @@
+package webservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import webservice.model.dailystatisticsdto.DailySketchesDto;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailySketchesRepository extends JpaRepository<DailySketchesDto, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<DailySketchesDto> findByDayAndCallType(LocalDate day, String callType);
+
+    @Query("select d from DailySketchesDto d where d.day between :from and :to "
+           + "and (:callType is null or d.callType = :callType) order by d.day")
+    List<DailySketchesDto> findDailySketches(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                             @Param("callType") String callType);
+}
@@ -0,0 +1,32 @@
+package webservice.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import webservice.model.dailystatisticsdto.DailyStatisticsDto;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyStatisticsRepository extends JpaRepository<DailyStatisticsDto, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<DailyStatisticsDto> findByDayAndCallType(LocalDate day, String callType);
+
+    @Query("select d.day as day, "
+           + "sum(case when d.callType = :inbound then d.totalCallsDuration else 0 end) as totalCallsDurationInbound, "
+           + "sum(case when d.callType = :outbound then d.totalCallsDuration else 0 end) "
+           + "as totalCallsDurationOutbound, "
+           + "sum(d.totalNumberOfCalls) as totalNumberOfCalls, sum(d.totalCallsCost) as totalCallsCost "
+           + "from DailyStatisticsDto d where d.day between :from and :to "
+           + "and (:callType is null or d.callType = :callType) group by d.day order by d.day")
+    List<DailyStatisticsByDay> findDailyStatisticsByDay(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                                        @Param("callType") String callType,
+                                                        @Param("inbound") String inbound,
+                                                        @Param("outbound") String outbound);
+}
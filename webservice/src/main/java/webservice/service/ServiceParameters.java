@@ -1,8 +1,20 @@
 package webservice.service;
 
+import java.time.LocalDate;
+
 public class ServiceParameters {
     public static final int NUMBER_OF_ELEMENTS_IN_PAGE = 10;
 
+    public static final int MAXIMUM_NUMBER_OF_ELEMENTS_IN_PAGE = 1000;
+
+    public static final int MAXIMUM_NUMBER_OF_TOP_NUMBERS = 1000;
+
+    public static final int MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS = 256;
+
+    public static final int NUMBER_OF_CALLS_BY_STATISTICS_CHUNK = 65536;
+
+    public static final int MAXIMUM_NUMBER_OF_REPORTED_REJECTIONS = 1000;
+
     public static final int NUMBER_OF_MINUTES_BEFORE_PRICE_REDUCTION = 5;
 
     public static final float COST_OF_CALL_BEFORE_PRICE_REDUCTION = 0.10f;
@@ -12,4 +24,8 @@ public class ServiceParameters {
     public static final String CALL_TYPE_OUTBOUND = "Outbound";
 
     public static final String CALL_TYPE_INBOUND = "Inbound";
+
+    public static final LocalDate FIRST_DAY_OF_STATISTICS = LocalDate.of(1, 1, 1);
+
+    public static final LocalDate LAST_DAY_OF_STATISTICS = LocalDate.of(9999, 12, 31);
 }
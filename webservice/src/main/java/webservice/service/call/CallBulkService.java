@@ -0,0 +1,14 @@
+package webservice.service.call;
+
+import webservice.model.calldto.CallDto;
+import webservice.model.callsbulksummaryjson.CallsBulkSummaryJson;
+import webservice.model.callscreationreportjson.CallsCreationReportJson;
+
+import java.util.Iterator;
+import java.util.List;
+
+public interface CallBulkService {
+    CallsBulkSummaryJson createCalls(Iterator<CallDto> callDtoIterator);
+
+    CallsCreationReportJson createValidCalls(List<CallDto> callDtoList);
+}
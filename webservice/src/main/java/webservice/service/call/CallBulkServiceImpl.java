@@ -0,0 +1,158 @@
+package webservice.service.call;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import webservice.exception.BusinessException;
+import webservice.model.calldto.CallDto;
+import webservice.model.callrejectionjson.CallRejectionJson;
+import webservice.model.callsbulksummaryjson.CallsBulkSummaryJson;
+import webservice.model.callscreationreportjson.CallsCreationReportJson;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static webservice.service.ServiceParameters.MAXIMUM_NUMBER_OF_REPORTED_REJECTIONS;
+
+@Service
+public class CallBulkServiceImpl implements CallBulkService {
+    private final CallService callService;
+    private final CallValidator callValidator;
+    private final int chunkSize;
+    private final Counter callsRejectedCounter;
+
+    @Autowired
+    public CallBulkServiceImpl(CallService callService, CallValidator callValidator,
+                               @Value("${webservice.calls.bulk-chunk-size:1000}") int chunkSize,
+                               MeterRegistry meterRegistry) {
+        this.callService = callService;
+        this.callValidator = callValidator;
+        this.chunkSize = chunkSize;
+        this.callsRejectedCounter = meterRegistry.counter("calls.rejected");
+    }
+
+    // Only the first rejections are listed, so the summary stays small for any stream, and a call that can not be
+    // read is rejected like an invalid one. A stream that breaks off fails the upload, reporting the calls already
+    // created, as every chunk before it was committed.
+    @Override
+    public CallsBulkSummaryJson createCalls(Iterator<CallDto> callDtoIterator) {
+        List<CallDto> callDtoChunk = new ArrayList<>(chunkSize);
+        List<CallRejectionJson> callRejectionJsonList = new ArrayList<>();
+
+        long index = 0;
+        long acceptedCalls = 0;
+        long rejectedCalls = 0;
+        Long firstCallId = null;
+        Long lastCallId = null;
+
+        try {
+            while (callDtoIterator.hasNext()) {
+                CallViolation callViolation;
+                CallDto callDto = null;
+
+                try {
+                    callDto = callDtoIterator.next();
+                    callViolation = callValidator.findViolationOfCall(callDto);
+                } catch (BusinessException businessException) {
+                    callViolation = new CallViolation(businessException.getMessageKey(),
+                                                      businessException.getArguments());
+                }
+
+                if (callViolation == null) {
+                    callDtoChunk.add(callDto);
+                } else {
+                    rejectedCalls++;
+                    callsRejectedCounter.increment();
+
+                    if (callRejectionJsonList.size() < MAXIMUM_NUMBER_OF_REPORTED_REJECTIONS) {
+                        callRejectionJsonList.add(CallRejectionJson.Builder.callRejectionJsonWith()
+                                                                           .withIndex(index)
+                                                                           .withMessageKey(
+                                                                                   callViolation.getMessageKey())
+                                                                           .withArguments(
+                                                                                   callViolation.getArguments())
+                                                                           .build());
+                    }
+                }
+
+                index++;
+
+                if (callDtoChunk.size() == chunkSize || (!callDtoIterator.hasNext() && !callDtoChunk.isEmpty())) {
+                    for (CallDto callDtoCreated : callService.createCalls(callDtoChunk)) {
+                        firstCallId = firstCallId == null ? callDtoCreated.getId() :
+                                      Math.min(firstCallId, callDtoCreated.getId());
+                        lastCallId = lastCallId == null ? callDtoCreated.getId() :
+                                     Math.max(lastCallId, callDtoCreated.getId());
+                    }
+
+                    acceptedCalls += callDtoChunk.size();
+                    callDtoChunk.clear();
+                }
+            }
+        } catch (UncheckedIOException uncheckedIOException) {
+            BusinessException businessException = new BusinessException(
+                    "Calls stream could not be read after creating calls!", String.valueOf(acceptedCalls),
+                    String.valueOf(firstCallId), String.valueOf(lastCallId));
+
+            businessException.initCause(uncheckedIOException.getCause());
+
+            throw businessException;
+        }
+
+        return CallsBulkSummaryJson.Builder.callsBulkSummaryJsonWith()
+                                           .withAcceptedCalls(acceptedCalls)
+                                           .withRejectedCalls(rejectedCalls)
+                                           .withFirstCallId(firstCallId)
+                                           .withLastCallId(lastCallId)
+                                           .withRejections(callRejectionJsonList)
+                                           .build();
+    }
+
+    // The whole list is checked before anything is persisted, so the valid calls are created in one transaction
+    // and each invalid call is reported by its position in the request instead of failing the whole batch.
+    @Override
+    public CallsCreationReportJson createValidCalls(List<CallDto> callDtoList) {
+        List<CallDto> validCallDtoList = new ArrayList<>(callDtoList.size());
+        List<CallRejectionJson> callRejectionJsonList = new ArrayList<>();
+
+        for (int i = 0; i < callDtoList.size(); i++) {
+            CallViolation callViolation = callValidator.findViolationOfCall(callDtoList.get(i));
+
+            if (callViolation == null) {
+                validCallDtoList.add(callDtoList.get(i));
+            } else {
+                callRejectionJsonList.add(CallRejectionJson.Builder.callRejectionJsonWith()
+                                                                   .withIndex((long) i)
+                                                                   .withMessageKey(callViolation.getMessageKey())
+                                                                   .withArguments(callViolation.getArguments())
+                                                                   .build());
+            }
+        }
+
+        Long firstCallId = null;
+        Long lastCallId = null;
+
+        callsRejectedCounter.increment(callRejectionJsonList.size());
+
+        if (!validCallDtoList.isEmpty()) {
+            for (CallDto callDtoCreated : callService.createCalls(validCallDtoList)) {
+                firstCallId = firstCallId == null ? callDtoCreated.getId() :
+                              Math.min(firstCallId, callDtoCreated.getId());
+                lastCallId = lastCallId == null ? callDtoCreated.getId() :
+                             Math.max(lastCallId, callDtoCreated.getId());
+            }
+        }
+
+        return CallsCreationReportJson.Builder.callsCreationReportJsonWith()
+                                              .withAcceptedCalls((long) validCallDtoList.size())
+                                              .withRejectedCalls((long) callRejectionJsonList.size())
+                                              .withFirstCallId(firstCallId)
+                                              .withLastCallId(lastCallId)
+                                              .withRejections(callRejectionJsonList)
+                                              .build();
+    }
+}
@@ -0,0 +1,38 @@
+package webservice.service.call;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+
+import static webservice.service.ServiceParameters.*;
+
+// Shared by the blocking and the reactive call services, so both price a call the same way.
+public final class CallCostCalculator {
+    private CallCostCalculator() {
+    }
+
+    public static double calculateCallCost(Duration callDuration, String callType) {
+        long callDurationMinutes = callDuration.toMinutes();
+        long callDurationSeconds = callDuration.toSecondsPart();
+
+        double totalCallCost = 0;
+
+        if (callDurationSeconds > 0) {
+            callDurationMinutes++;
+        }
+
+        if (callType.equals(CALL_TYPE_OUTBOUND)) {
+            if (callDurationMinutes > NUMBER_OF_MINUTES_BEFORE_PRICE_REDUCTION) {
+                totalCallCost = NUMBER_OF_MINUTES_BEFORE_PRICE_REDUCTION * COST_OF_CALL_BEFORE_PRICE_REDUCTION
+                                + (callDurationMinutes - NUMBER_OF_MINUTES_BEFORE_PRICE_REDUCTION)
+                                  * COST_OF_CALL_AFTER_PRICE_REDUCTION;
+            } else {
+                totalCallCost = callDurationMinutes * COST_OF_CALL_BEFORE_PRICE_REDUCTION;
+            }
+
+            totalCallCost = new BigDecimal(totalCallCost).setScale(2, RoundingMode.HALF_UP).doubleValue();
+        }
+
+        return totalCallCost;
+    }
+}
@@ -1,5 +1,6 @@
 package webservice.service.call;
 
+import org.springframework.data.domain.Slice;
 import webservice.model.calldto.CallDto;
 
 import java.util.List;
@@ -9,5 +10,9 @@ public interface CallService {
 
     List<CallDto> getAllCalls(int page, String callType);
 
+    Slice<CallDto> getCallsAfter(Long afterId, String callType, int size);
+
     void deleteCallById(Long id);
+
+    void restoreCalls(List<CallDto> callDtoList);
 }
@@ -2,21 +2,27 @@ package webservice.service.call;
 
 import webservice.exception.BusinessException;
 import webservice.model.calldto.CallDto;
+import webservice.repository.CallLog;
 import webservice.repository.CallRepository;
+import webservice.service.statistics.DailyStatisticsService;
+import webservice.service.statistics.LiveStatisticsService;
+import webservice.service.statistics.StatisticsCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.text.SimpleDateFormat;
-import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static webservice.service.ServiceParameters.*;
 
@@ -24,195 +30,157 @@ import static webservice.service.ServiceParameters.*;
 @Service
 public class CallServiceImpl implements CallService {
     private final CallRepository callRepository;
+    private final DailyStatisticsService dailyStatisticsService;
+    private final StatisticsCacheService statisticsCacheService;
+    private final LiveStatisticsService liveStatisticsService;
+    private final CallTimestampDecomposer callTimestampDecomposer;
+    private final CallValidator callValidator;
+    private final CallLog callLog;
+    private final Timer callsValidationTimer;
+    private final Timer callsEnrichmentTimer;
+    private final Timer callsPersistenceTimer;
+    private final Timer callsPageQueryTimer;
+    private final Timer callsCursorQueryTimer;
+    private final DistributionSummary callsBatchSizeSummary;
+    private final Counter callsCreatedCounter;
+    private final Counter callsDeletedCounter;
 
     @Autowired
-    public CallServiceImpl(CallRepository callRepository) {
+    public CallServiceImpl(CallRepository callRepository, DailyStatisticsService dailyStatisticsService,
+                           StatisticsCacheService statisticsCacheService,
+                           LiveStatisticsService liveStatisticsService,
+                           CallTimestampDecomposer callTimestampDecomposer, CallValidator callValidator,
+                           Optional<CallLog> callLog, MeterRegistry meterRegistry) {
         this.callRepository = callRepository;
+        this.dailyStatisticsService = dailyStatisticsService;
+        this.statisticsCacheService = statisticsCacheService;
+        this.liveStatisticsService = liveStatisticsService;
+        this.callTimestampDecomposer = callTimestampDecomposer;
+        this.callValidator = callValidator;
+        this.callLog = callLog.orElse(null);
+        this.callsValidationTimer = meterRegistry.timer("calls.validation");
+        this.callsEnrichmentTimer = meterRegistry.timer("calls.enrichment");
+        this.callsPersistenceTimer = meterRegistry.timer("calls.persistence");
+        this.callsPageQueryTimer = meterRegistry.timer("calls.query", "pagination", "page");
+        this.callsCursorQueryTimer = meterRegistry.timer("calls.query", "pagination", "cursor");
+        this.callsBatchSizeSummary = DistributionSummary.builder("calls.batch.size")
+                                                        .baseUnit("calls")
+                                                        .register(meterRegistry);
+        this.callsCreatedCounter = meterRegistry.counter("calls.created");
+        this.callsDeletedCounter = meterRegistry.counter("calls.deleted");
     }
 
     @Override
+    @Transactional
     public List<CallDto> createCalls(List<CallDto> callDtoList) {
-        for (CallDto callDto : callDtoList) {
-            verifyValidityOfCall(callDto);
-        }
-
-        for (CallDto callDto : callDtoList) {
-            setCallParameters(callDto);
-        }
-
-        return callRepository.saveAll(callDtoList);
-    }
+        callsBatchSizeSummary.record(callDtoList.size());
 
-    @Override
-    public List<CallDto> getAllCalls(int page, String callType) {
-        PageRequest pageRequest = PageRequest.of(page - 1, NUMBER_OF_ELEMENTS_IN_PAGE);
-        Page<CallDto> callDtoPage;
-
-        if (callType == null || callType.isEmpty()) {
-            callDtoPage = callRepository.findAll(pageRequest);
-        } else {
-            callDtoPage = callRepository.findByCallType(pageRequest, callType);
-        }
-
-        return callDtoPage.getContent();
-    }
+        callsValidationTimer.record(() -> {
+            for (CallDto callDto : callDtoList) {
+                callValidator.verifyValidityOfCall(callDto);
+            }
+        });
 
-    @Override
-    public void deleteCallById(Long id) {
-        callRepository.deleteById(id);
-    }
+        callsEnrichmentTimer.record(() -> {
+            for (CallDto callDto : callDtoList) {
+                setCallParameters(callDto);
+            }
+        });
 
-    private void verifyValidityOfCall(CallDto callDto) {
-        validateCallerNumber(callDto);
-        validateCalleeNumber(callDto);
-        validateStartTimestamp(callDto);
-        validateEndTimestamp(callDto);
-        validateStartTimestampBeforeEndTimestamp(callDto);
-        validateCallType(callDto);
-    }
+        List<CallDto> callDtoCreatedList = callsPersistenceTimer.record(
+                () -> callRepository.saveAllInBatches(callDtoList));
 
-    private void validateCallerNumber(CallDto callDto) {
-        if (callDto.getCallerNumber() == null || callDto.getCallerNumber() < 1) {
-            throw new BusinessException("Caller number must not be empty and must be a positive number!",
-                                        callDto.getCallerNumber() != null ? callDto.getCallerNumber().toString() :
-                                        null);
-        }
-    }
+        callsCreatedCounter.increment(callDtoCreatedList.size());
 
-    private void validateCalleeNumber(CallDto callDto) {
-        if (callDto.getCalleeNumber() == null || callDto.getCalleeNumber() < 1) {
-            throw new BusinessException("Callee number must not be empty and must be a positive number!",
-                                        callDto.getCalleeNumber() != null ? callDto.getCalleeNumber().toString() :
-                                        null);
-        }
-    }
+        dailyStatisticsService.addCalls(callDtoCreatedList);
 
-    private void validateStartTimestamp(CallDto callDto) {
-        if (callDto.getCallStartTimestamp() == null || callDto.getCallStartTimestamp() < 1) {
-            throw new BusinessException("Start timestamp must not be empty and must be bigger than 0!",
-                                        callDto.getCallStartTimestamp() != null ?
-                                        callDto.getCallStartTimestamp().toString() : null);
-        }
-    }
+        Set<LocalDate> callDays = new HashSet<>();
 
-    private void validateEndTimestamp(CallDto callDto) {
-        if (callDto.getCallEndTimestamp() == null || callDto.getCallEndTimestamp() < 1) {
-            throw new BusinessException("End timestamp must not be empty and must be bigger than 0!",
-                                        callDto.getCallEndTimestamp() != null ?
-                                        callDto.getCallEndTimestamp().toString() : null);
+        for (CallDto callDto : callDtoCreatedList) {
+            callDays.add(callDto.getCallStartDay());
         }
-    }
 
-    private void validateStartTimestampBeforeEndTimestamp(CallDto callDto) {
-        if (callDto.getCallStartTimestamp() > callDto.getCallEndTimestamp()) {
-            throw new BusinessException("Start timestamp must be before than end timestamp!",
-                                        callDto.getCallStartTimestamp().toString(),
-                                        callDto.getCallEndTimestamp().toString());
-        }
-    }
+        statisticsCacheService.invalidateDays(callDays);
+        liveStatisticsService.addCalls(callDtoCreatedList);
 
-    private void validateCallType(CallDto callDto) {
-        if (!callDto.getCallType().equals("Inbound") && !callDto.getCallType().equals("Outbound")) {
-            throw new BusinessException("Call type must be Inbound or Outbound!", callDto.getCallType());
+        if (callLog != null) {
+            callLog.appendCalls(callDtoCreatedList);
         }
-    }
 
-
-    private void setCallParameters(CallDto callDto) {
-        convertCallStartTimestampToStartDay(callDto);
-        convertCallEndTimestampToEndDay(callDto);
-        convertCallStartTimeStampToStartTime(callDto);
-        convertCallEndTimeStampToEndTime(callDto);
-        calculateCallDurationInSeconds(callDto);
-        calculateCallCost(callDto);
+        return callDtoCreatedList;
     }
 
-    private void convertCallStartTimestampToStartDay(CallDto callDto) {
-        long callStartTimestamp = callDto.getCallStartTimestamp() * 1000L;
-
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd-MM-yyyy");
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-
-        LocalDate startDate = LocalDate.parse(simpleDateFormat.format(callStartTimestamp), dateTimeFormatter);
+    @Override
+    public List<CallDto> getAllCalls(int page, String callType) {
+        PageRequest pageRequest = PageRequest.of(page - 1, NUMBER_OF_ELEMENTS_IN_PAGE);
+        Page<CallDto> callDtoPage = callsPageQueryTimer.record(() -> {
+            if (callType == null || callType.isEmpty()) {
+                return callRepository.findAll(pageRequest);
+            } else {
+                return callRepository.findByCallType(pageRequest, callType);
+            }
+        });
 
-        callDto.setCallStartDay(startDate);
+        return callDtoPage.getContent();
     }
 
-    private void convertCallEndTimestampToEndDay(CallDto callDto) {
-        long callEndTimestamp = callDto.getCallEndTimestamp() * 1000L;
-
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd-MM-yyyy");
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    @Override
+    public Slice<CallDto> getCallsAfter(Long afterId, String callType, int size) {
+        if (size < 1 || size > MAXIMUM_NUMBER_OF_ELEMENTS_IN_PAGE) {
+            throw new BusinessException("Page size must be between 1 and " + MAXIMUM_NUMBER_OF_ELEMENTS_IN_PAGE + "!",
+                                        String.valueOf(size));
+        }
 
-        LocalDate endDate = LocalDate.parse(simpleDateFormat.format(callEndTimestamp), dateTimeFormatter);
+        PageRequest pageRequest = PageRequest.of(0, size);
+        long afterIdOrFirst = afterId == null ? 0L : afterId;
 
-        callDto.setCallEndDay(endDate);
+        return callsCursorQueryTimer.record(() -> {
+            if (callType == null || callType.isEmpty()) {
+                return callRepository.findByIdGreaterThanOrderByIdAsc(afterIdOrFirst, pageRequest);
+            } else {
+                return callRepository.findByCallTypeAndIdGreaterThanOrderByCallTypeAscIdAsc(callType,
+                                                                                            afterIdOrFirst,
+                                                                                            pageRequest);
+            }
+        });
     }
 
-    private void convertCallStartTimeStampToStartTime(CallDto callDto) {
-        long callStartTimestamp = callDto.getCallStartTimestamp() * 1000L;
-
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("HH:mm:ss");
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss");
-
-        LocalTime startTime = LocalTime.parse(simpleDateFormat.format(callStartTimestamp), dateTimeFormatter);
+    @Override
+    @Transactional
+    public void deleteCallById(Long id) {
+        callRepository.findById(id).ifPresent(callDto -> {
+            dailyStatisticsService.removeCall(callDto);
+            statisticsCacheService.invalidateDays(Set.of(callDto.getCallStartDay()));
+            liveStatisticsService.removeCall(callDto);
+            callsDeletedCounter.increment();
+
+            if (callLog != null) {
+                callLog.appendCallDeletion(callDto);
+            }
+        });
 
-        callDto.setCallStartTime(startTime);
+        callRepository.deleteById(id);
     }
 
-    private void convertCallEndTimeStampToEndTime(CallDto callDto) {
-        long callEndTimestamp = callDto.getCallEndTimestamp() * 1000L;
-
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("HH:mm:ss");
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss");
+    // Restored calls keep the ids they were given when created, and are not appended to the call log again.
+    @Override
+    @Transactional
+    public void restoreCalls(List<CallDto> callDtoList) {
+        for (CallDto callDto : callDtoList) {
+            setCallParameters(callDto);
+        }
 
-        LocalTime endTime = LocalTime.parse(simpleDateFormat.format(callEndTimestamp), dateTimeFormatter);
+        callRepository.insertAllWithIds(callDtoList);
 
-        callDto.setCallEndTime(endTime);
+        dailyStatisticsService.addCalls(callDtoList);
     }
 
-    private void calculateCallDurationInSeconds(CallDto callDto) {
-        LocalDateTime localDateTimeStart = LocalDateTime.of(callDto.getCallStartDay().getYear(),
-                                                            callDto.getCallStartDay().getMonth(),
-                                                            callDto.getCallStartDay().getDayOfMonth(),
-                                                            callDto.getCallStartTime().getHour(),
-                                                            callDto.getCallStartTime().getMinute(),
-                                                            callDto.getCallStartTime().getSecond());
-
-        LocalDateTime localDateTimeEnd = LocalDateTime.of(callDto.getCallEndDay().getYear(),
-                                                          callDto.getCallEndDay().getMonth(),
-                                                          callDto.getCallEndDay().getDayOfMonth(),
-                                                          callDto.getCallEndTime().getHour(),
-                                                          callDto.getCallEndTime().getMinute(),
-                                                          callDto.getCallEndTime().getSecond());
-
-        Duration callDuration = Duration.between(localDateTimeStart, localDateTimeEnd);
-
-        callDto.setCallDuration(callDuration);
+    private void setCallParameters(CallDto callDto) {
+        callTimestampDecomposer.decompose(callDto);
+        calculateCallCost(callDto);
     }
 
     private void calculateCallCost(CallDto callDto) {
-        long callDurationMinutes = callDto.getCallDuration().toMinutes();
-        long callDurationSeconds = callDto.getCallDuration().toSecondsPart();
-
-        double totalCallCost = 0;
-
-        if (callDurationSeconds > 0) {
-            callDurationMinutes++;
-        }
-
-        if (callDto.getCallType().equals(CALL_TYPE_OUTBOUND)) {
-            if (callDurationMinutes > NUMBER_OF_MINUTES_BEFORE_PRICE_REDUCTION) {
-                totalCallCost = NUMBER_OF_MINUTES_BEFORE_PRICE_REDUCTION * COST_OF_CALL_BEFORE_PRICE_REDUCTION
-                                + (callDurationMinutes - NUMBER_OF_MINUTES_BEFORE_PRICE_REDUCTION)
-                                  * COST_OF_CALL_AFTER_PRICE_REDUCTION;
-            } else {
-                totalCallCost = callDurationMinutes * COST_OF_CALL_BEFORE_PRICE_REDUCTION;
-            }
-
-            totalCallCost = new BigDecimal(totalCallCost).setScale(2, RoundingMode.HALF_UP).doubleValue();
-        }
-
-        callDto.setCallCost(totalCallCost);
+        callDto.setCallCost(CallCostCalculator.calculateCallCost(callDto.getCallDuration(), callDto.getCallType()));
     }
 }
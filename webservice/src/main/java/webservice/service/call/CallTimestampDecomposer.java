@@ -0,0 +1,99 @@
+package webservice.service.call;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import webservice.model.calldto.CallDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+@Component
+public class CallTimestampDecomposer {
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    private final ZoneId zoneId;
+    private final ZoneRules zoneRules;
+    private volatile OffsetWindow offsetWindow;
+
+    @Autowired
+    public CallTimestampDecomposer(@Value("${webservice.calls.zone-id:}") String zoneId) {
+        this(zoneId == null || zoneId.isEmpty() ? ZoneId.systemDefault() : ZoneId.of(zoneId));
+    }
+
+    public CallTimestampDecomposer(ZoneId zoneId) {
+        this.zoneId = zoneId;
+        this.zoneRules = zoneId.getRules();
+        this.offsetWindow = offsetWindowOf(0L);
+    }
+
+    public ZoneId getZoneId() {
+        return zoneId;
+    }
+
+    public void decompose(CallDto callDto) {
+        long callStartLocalEpochSecond = toLocalEpochSecond(callDto.getCallStartTimestamp());
+        long callEndLocalEpochSecond = toLocalEpochSecond(callDto.getCallEndTimestamp());
+
+        callDto.setCallStartDay(LocalDate.ofEpochDay(Math.floorDiv(callStartLocalEpochSecond, SECONDS_PER_DAY)));
+        callDto.setCallEndDay(LocalDate.ofEpochDay(Math.floorDiv(callEndLocalEpochSecond, SECONDS_PER_DAY)));
+        callDto.setCallStartTime(LocalTime.ofSecondOfDay(Math.floorMod(callStartLocalEpochSecond, SECONDS_PER_DAY)));
+        callDto.setCallEndTime(LocalTime.ofSecondOfDay(Math.floorMod(callEndLocalEpochSecond, SECONDS_PER_DAY)));
+        callDto.setCallDuration(Duration.ofSeconds(callDto.getCallEndTimestamp() - callDto.getCallStartTimestamp()));
+    }
+
+    public LocalDate toDay(long epochSecond) {
+        return LocalDate.ofEpochDay(Math.floorDiv(toLocalEpochSecond(epochSecond), SECONDS_PER_DAY));
+    }
+
+    public LocalTime toTime(long epochSecond) {
+        return LocalTime.ofSecondOfDay(Math.floorMod(toLocalEpochSecond(epochSecond), SECONDS_PER_DAY));
+    }
+
+    private long toLocalEpochSecond(long epochSecond) {
+        OffsetWindow currentOffsetWindow = offsetWindow;
+
+        if (!currentOffsetWindow.contains(epochSecond)) {
+            currentOffsetWindow = offsetWindowOf(epochSecond);
+            offsetWindow = currentOffsetWindow;
+        }
+
+        return epochSecond + currentOffsetWindow.offsetSeconds;
+    }
+
+    private OffsetWindow offsetWindowOf(long epochSecond) {
+        Instant instant = Instant.ofEpochSecond(epochSecond);
+
+        if (zoneRules.isFixedOffset()) {
+            return new OffsetWindow(Long.MIN_VALUE, Long.MAX_VALUE, zoneRules.getOffset(instant).getTotalSeconds());
+        }
+
+        ZoneOffsetTransition previousTransition = zoneRules.previousTransition(instant.plusSeconds(1));
+        ZoneOffsetTransition nextTransition = zoneRules.nextTransition(instant);
+
+        return new OffsetWindow(previousTransition == null ? Long.MIN_VALUE : previousTransition.toEpochSecond(),
+                                nextTransition == null ? Long.MAX_VALUE : nextTransition.toEpochSecond(),
+                                zoneRules.getOffset(instant).getTotalSeconds());
+    }
+
+    private static final class OffsetWindow {
+        private final long validFromEpochSecond;
+        private final long validUntilEpochSecond;
+        private final int offsetSeconds;
+
+        private OffsetWindow(long validFromEpochSecond, long validUntilEpochSecond, int offsetSeconds) {
+            this.validFromEpochSecond = validFromEpochSecond;
+            this.validUntilEpochSecond = validUntilEpochSecond;
+            this.offsetSeconds = offsetSeconds;
+        }
+
+        private boolean contains(long epochSecond) {
+            return epochSecond >= validFromEpochSecond && epochSecond < validUntilEpochSecond;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package webservice.service.call;
+
+import org.springframework.stereotype.Component;
+import webservice.exception.BusinessException;
+import webservice.model.calldto.CallDto;
+
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+
+@Component
+public class CallValidator {
+    public void verifyValidityOfCall(CallDto callDto) {
+        CallViolation callViolation = findViolationOfCall(callDto);
+
+        if (callViolation != null) {
+            throw new BusinessException(callViolation.getMessageKey(), callViolation.getArguments());
+        }
+    }
+
+    // Returns the first rule the call breaks, or null when it is valid, so a batch can be checked call by call
+    // without creating an exception (and filling its stack trace) for every invalid one.
+    public CallViolation findViolationOfCall(CallDto callDto) {
+        if (callDto == null) {
+            return new CallViolation("Call must not be empty!");
+        }
+
+        CallViolation callViolation = validateCallerNumber(callDto);
+
+        if (callViolation == null) {
+            callViolation = validateCalleeNumber(callDto);
+        }
+
+        if (callViolation == null) {
+            callViolation = validateStartTimestamp(callDto);
+        }
+
+        if (callViolation == null) {
+            callViolation = validateEndTimestamp(callDto);
+        }
+
+        if (callViolation == null) {
+            callViolation = validateStartTimestampBeforeEndTimestamp(callDto);
+        }
+
+        if (callViolation == null) {
+            callViolation = validateCallType(callDto);
+        }
+
+        return callViolation;
+    }
+
+    private CallViolation validateCallerNumber(CallDto callDto) {
+        if (callDto.getCallerNumber() == null || callDto.getCallerNumber() < 1) {
+            return new CallViolation("Caller number must not be empty and must be a positive number!",
+                                     callDto.getCallerNumber() != null ? callDto.getCallerNumber().toString() :
+                                     null);
+        }
+
+        return null;
+    }
+
+    private CallViolation validateCalleeNumber(CallDto callDto) {
+        if (callDto.getCalleeNumber() == null || callDto.getCalleeNumber() < 1) {
+            return new CallViolation("Callee number must not be empty and must be a positive number!",
+                                     callDto.getCalleeNumber() != null ? callDto.getCalleeNumber().toString() :
+                                     null);
+        }
+
+        return null;
+    }
+
+    private CallViolation validateStartTimestamp(CallDto callDto) {
+        if (callDto.getCallStartTimestamp() == null || callDto.getCallStartTimestamp() < 1) {
+            return new CallViolation("Start timestamp must not be empty and must be bigger than 0!",
+                                     callDto.getCallStartTimestamp() != null ?
+                                     callDto.getCallStartTimestamp().toString() : null);
+        }
+
+        return null;
+    }
+
+    private CallViolation validateEndTimestamp(CallDto callDto) {
+        if (callDto.getCallEndTimestamp() == null || callDto.getCallEndTimestamp() < 1) {
+            return new CallViolation("End timestamp must not be empty and must be bigger than 0!",
+                                     callDto.getCallEndTimestamp() != null ?
+                                     callDto.getCallEndTimestamp().toString() : null);
+        }
+
+        return null;
+    }
+
+    private CallViolation validateStartTimestampBeforeEndTimestamp(CallDto callDto) {
+        if (callDto.getCallStartTimestamp() > callDto.getCallEndTimestamp()) {
+            return new CallViolation("Start timestamp must be before than end timestamp!",
+                                     callDto.getCallStartTimestamp().toString(),
+                                     callDto.getCallEndTimestamp().toString());
+        }
+
+        return null;
+    }
+
+    private CallViolation validateCallType(CallDto callDto) {
+        if (!CALL_TYPE_INBOUND.equals(callDto.getCallType()) && !CALL_TYPE_OUTBOUND.equals(callDto.getCallType())) {
+            return new CallViolation("Call type must be Inbound or Outbound!", callDto.getCallType());
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package webservice.service.call;
+
+public class CallViolation {
+    private final String messageKey;
+    private final String[] arguments;
+
+    public CallViolation(String messageKey, String... arguments) {
+        this.messageKey = messageKey;
+        this.arguments = arguments;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public String[] getArguments() {
+        return arguments;
+    }
+}
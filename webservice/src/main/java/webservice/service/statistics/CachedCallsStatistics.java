@@ -0,0 +1,23 @@
+package webservice.service.statistics;
+
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+
+import java.util.List;
+
+public class CachedCallsStatistics {
+    private final List<CallsStatisticsJson> callsStatisticsJsonList;
+    private final String eTag;
+
+    public CachedCallsStatistics(List<CallsStatisticsJson> callsStatisticsJsonList, String eTag) {
+        this.callsStatisticsJsonList = callsStatisticsJsonList;
+        this.eTag = eTag;
+    }
+
+    public List<CallsStatisticsJson> getCallsStatisticsJsonList() {
+        return callsStatisticsJsonList;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+}
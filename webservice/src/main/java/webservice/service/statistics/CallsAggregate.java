@@ -0,0 +1,47 @@
+package webservice.service.statistics;
+
+import webservice.model.calldto.CallDto;
+
+public class CallsAggregate {
+    private long totalCallsDuration;
+    private long totalNumberOfCalls;
+    private long totalCallsCostInCents;
+    private final LongLongCounterMap totalNumberOfCallsByCallerNumber = new LongLongCounterMap();
+    private final LongLongCounterMap totalNumberOfCallsByCalleeNumber = new LongLongCounterMap();
+
+    public void add(CallDto callDto) {
+        totalCallsDuration += callDto.getCallDuration().toSeconds();
+        totalNumberOfCalls++;
+        totalCallsCostInCents += Math.round(callDto.getCallCost() * 100);
+        totalNumberOfCallsByCallerNumber.add(callDto.getCallerNumber(), 1L);
+        totalNumberOfCallsByCalleeNumber.add(callDto.getCalleeNumber(), 1L);
+    }
+
+    public void merge(CallsAggregate callsAggregate) {
+        totalCallsDuration += callsAggregate.totalCallsDuration;
+        totalNumberOfCalls += callsAggregate.totalNumberOfCalls;
+        totalCallsCostInCents += callsAggregate.totalCallsCostInCents;
+        totalNumberOfCallsByCallerNumber.merge(callsAggregate.totalNumberOfCallsByCallerNumber);
+        totalNumberOfCallsByCalleeNumber.merge(callsAggregate.totalNumberOfCallsByCalleeNumber);
+    }
+
+    public long getTotalCallsDuration() {
+        return totalCallsDuration;
+    }
+
+    public long getTotalNumberOfCalls() {
+        return totalNumberOfCalls;
+    }
+
+    public long getTotalCallsCostInCents() {
+        return totalCallsCostInCents;
+    }
+
+    public LongLongCounterMap getTotalNumberOfCallsByCallerNumber() {
+        return totalNumberOfCallsByCallerNumber;
+    }
+
+    public LongLongCounterMap getTotalNumberOfCallsByCalleeNumber() {
+        return totalNumberOfCallsByCalleeNumber;
+    }
+}
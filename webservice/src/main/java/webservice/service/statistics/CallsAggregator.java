@@ -0,0 +1,56 @@
+package webservice.service.statistics;
+
+import webservice.model.calldto.CallDto;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class CallsAggregator {
+    private final Map<LocalDate, Map<String, CallsAggregate>> callsAggregateByDayAndCallTypeMap = new TreeMap<>();
+
+    private LocalDate lastDay;
+    private String lastCallType;
+    private CallsAggregate lastCallsAggregate;
+
+    public static CallsAggregator aggregate(Iterable<CallDto> callDtos) {
+        CallsAggregator callsAggregator = new CallsAggregator();
+
+        for (CallDto callDto : callDtos) {
+            callsAggregator.add(callDto);
+        }
+
+        return callsAggregator;
+    }
+
+    public void add(CallDto callDto) {
+        callsAggregate(callDto.getCallStartDay(), callDto.getCallType()).add(callDto);
+    }
+
+    public void merge(CallsAggregator callsAggregator) {
+        for (Map.Entry<LocalDate, Map<String, CallsAggregate>> callsAggregateByDayEntry :
+                callsAggregator.callsAggregateByDayAndCallTypeMap.entrySet()) {
+            for (Map.Entry<String, CallsAggregate> callsAggregateByCallTypeEntry :
+                    callsAggregateByDayEntry.getValue().entrySet()) {
+                callsAggregate(callsAggregateByDayEntry.getKey(), callsAggregateByCallTypeEntry.getKey())
+                        .merge(callsAggregateByCallTypeEntry.getValue());
+            }
+        }
+    }
+
+    public Map<LocalDate, Map<String, CallsAggregate>> getCallsAggregateByDayAndCallTypeMap() {
+        return callsAggregateByDayAndCallTypeMap;
+    }
+
+    private CallsAggregate callsAggregate(LocalDate day, String callType) {
+        if (!day.equals(lastDay) || !callType.equals(lastCallType)) {
+            lastCallsAggregate = callsAggregateByDayAndCallTypeMap.computeIfAbsent(day, key -> new TreeMap<>())
+                                                                  .computeIfAbsent(callType,
+                                                                                   key -> new CallsAggregate());
+            lastDay = day;
+            lastCallType = callType;
+        }
+
+        return lastCallsAggregate;
+    }
+}
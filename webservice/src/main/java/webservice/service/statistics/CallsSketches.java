@@ -0,0 +1,80 @@
+package webservice.service.statistics;
+
+import webservice.model.dailystatisticsdto.DailySketchesDto;
+
+import static webservice.service.ServiceParameters.MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS;
+
+public class CallsSketches {
+    private final HyperLogLog callerNumbers;
+    private final HyperLogLog calleeNumbers;
+    private final SpaceSaving topCallerNumbers;
+    private final SpaceSaving topCalleeNumbers;
+
+    public CallsSketches() {
+        this.callerNumbers = new HyperLogLog();
+        this.calleeNumbers = new HyperLogLog();
+        this.topCallerNumbers = new SpaceSaving(MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS);
+        this.topCalleeNumbers = new SpaceSaving(MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS);
+    }
+
+    public CallsSketches(DailySketchesDto dailySketchesDto) {
+        this.callerNumbers = HyperLogLog.fromByteArray(dailySketchesDto.getCallerNumbersSketch());
+        this.calleeNumbers = HyperLogLog.fromByteArray(dailySketchesDto.getCalleeNumbersSketch());
+        this.topCallerNumbers = SpaceSaving.fromByteArray(dailySketchesDto.getTopCallerNumbersSketch(),
+                                                          MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS);
+        this.topCalleeNumbers = SpaceSaving.fromByteArray(dailySketchesDto.getTopCalleeNumbersSketch(),
+                                                          MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS);
+    }
+
+    public void addCallerNumber(long callerNumber, long numberOfCalls) {
+        callerNumbers.add(callerNumber);
+        topCallerNumbers.add(callerNumber, numberOfCalls);
+    }
+
+    public void addCalleeNumber(long calleeNumber, long numberOfCalls) {
+        calleeNumbers.add(calleeNumber);
+        topCalleeNumbers.add(calleeNumber, numberOfCalls);
+    }
+
+    // A HyperLogLog sketch can not remove a number, so removed calls are only subtracted from the top numbers, and the
+    // distinct numbers are over-counted until the sketches are built again.
+    public void add(CallsAggregate callsAggregate, long sign) {
+        if (sign > 0) {
+            callsAggregate.getTotalNumberOfCallsByCallerNumber().forEach(this::addCallerNumber);
+            callsAggregate.getTotalNumberOfCallsByCalleeNumber().forEach(this::addCalleeNumber);
+        } else {
+            callsAggregate.getTotalNumberOfCallsByCallerNumber().forEach(topCallerNumbers::remove);
+            callsAggregate.getTotalNumberOfCallsByCalleeNumber().forEach(topCalleeNumbers::remove);
+        }
+    }
+
+    public void merge(CallsSketches callsSketches) {
+        callerNumbers.merge(callsSketches.callerNumbers);
+        calleeNumbers.merge(callsSketches.calleeNumbers);
+        topCallerNumbers.merge(callsSketches.topCallerNumbers);
+        topCalleeNumbers.merge(callsSketches.topCalleeNumbers);
+    }
+
+    public void copyTo(DailySketchesDto dailySketchesDto) {
+        dailySketchesDto.setCallerNumbersSketch(callerNumbers.toByteArray());
+        dailySketchesDto.setCalleeNumbersSketch(calleeNumbers.toByteArray());
+        dailySketchesDto.setTopCallerNumbersSketch(topCallerNumbers.toByteArray());
+        dailySketchesDto.setTopCalleeNumbersSketch(topCalleeNumbers.toByteArray());
+    }
+
+    public HyperLogLog getCallerNumbers() {
+        return callerNumbers;
+    }
+
+    public HyperLogLog getCalleeNumbers() {
+        return calleeNumbers;
+    }
+
+    public SpaceSaving getTopCallerNumbers() {
+        return topCallerNumbers;
+    }
+
+    public SpaceSaving getTopCalleeNumbers() {
+        return topCalleeNumbers;
+    }
+}
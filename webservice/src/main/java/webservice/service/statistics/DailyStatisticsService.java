@@ -0,0 +1,13 @@
+package webservice.service.statistics;
+
+import webservice.model.calldto.CallDto;
+
+import java.util.List;
+
+public interface DailyStatisticsService {
+    void addCalls(List<CallDto> callDtoList);
+
+    void removeCall(CallDto callDto);
+
+    void rebuildDailyStatistics();
+}
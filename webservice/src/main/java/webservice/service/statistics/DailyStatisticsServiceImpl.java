@@ -0,0 +1,414 @@
+package webservice.service.statistics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import webservice.model.calldto.CallDto;
+import webservice.model.callprojection.CallsCountByDayAndCallTypeAndCalleeNumber;
+import webservice.model.callprojection.CallsCountByDayAndCallTypeAndCallerNumber;
+import webservice.model.callprojection.CallsStatisticsByDayAndCallType;
+import webservice.model.dailystatisticsdto.DailyCalleeStatisticsDto;
+import webservice.model.dailystatisticsdto.DailyCallerStatisticsDto;
+import webservice.model.dailystatisticsdto.DailySketchesDto;
+import webservice.model.dailystatisticsdto.DailyStatisticsDto;
+import webservice.repository.CallColumnRepository;
+import webservice.repository.CallRepository;
+import webservice.repository.DailyCalleeStatisticsRepository;
+import webservice.repository.DailyCallerStatisticsRepository;
+import webservice.repository.DailySketchesRepository;
+import webservice.repository.DailyStatisticsRepository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class DailyStatisticsServiceImpl implements DailyStatisticsService {
+    private static final int MAXIMUM_NUMBER_OF_NUMBERS_BY_QUERY = 1000;
+    private static final int NUMBER_OF_DAY_AND_CALL_TYPE_LOCKS = 256;
+
+    private final CallRepository callRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final DailyCallerStatisticsRepository dailyCallerStatisticsRepository;
+    private final DailyCalleeStatisticsRepository dailyCalleeStatisticsRepository;
+    private final DailySketchesRepository dailySketchesRepository;
+    private final CallColumnRepository callColumnRepository;
+    private final boolean approximateStatisticsEnabled;
+    private final ReentrantLock[] dayAndCallTypeLocks = new ReentrantLock[NUMBER_OF_DAY_AND_CALL_TYPE_LOCKS];
+
+    @Autowired
+    public DailyStatisticsServiceImpl(CallRepository callRepository,
+                                      DailyStatisticsRepository dailyStatisticsRepository,
+                                      DailyCallerStatisticsRepository dailyCallerStatisticsRepository,
+                                      DailyCalleeStatisticsRepository dailyCalleeStatisticsRepository,
+                                      DailySketchesRepository dailySketchesRepository,
+                                      Optional<CallColumnRepository> callColumnRepository,
+                                      @Value("${webservice.statistics.approximate.enabled:false}")
+                                              boolean approximateStatisticsEnabled) {
+        this.callRepository = callRepository;
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.dailyCallerStatisticsRepository = dailyCallerStatisticsRepository;
+        this.dailyCalleeStatisticsRepository = dailyCalleeStatisticsRepository;
+        this.dailySketchesRepository = dailySketchesRepository;
+        this.callColumnRepository = callColumnRepository.orElse(null);
+        this.approximateStatisticsEnabled = approximateStatisticsEnabled;
+
+        for (int i = 0; i < NUMBER_OF_DAY_AND_CALL_TYPE_LOCKS; i++) {
+            dayAndCallTypeLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void addCalls(List<CallDto> callDtoList) {
+        updateDailyStatistics(callDtoList, 1L);
+
+        if (callColumnRepository != null) {
+            runAfterCommit(() -> callColumnRepository.saveAll(callDtoList));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void removeCall(CallDto callDto) {
+        updateDailyStatistics(Collections.singletonList(callDto), -1L);
+
+        if (callColumnRepository != null) {
+            runAfterCommit(() -> callColumnRepository.delete(callDto));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void rebuildDailyStatistics() {
+        dailyStatisticsRepository.deleteAllInBatch();
+        dailyCallerStatisticsRepository.deleteAllInBatch();
+        dailyCalleeStatisticsRepository.deleteAllInBatch();
+        dailySketchesRepository.deleteAllInBatch();
+
+        Map<LocalDate, Map<String, CallsSketches>> callsSketchesByDayAndCallTypeMap = new TreeMap<>();
+        List<DailyStatisticsDto> dailyStatisticsDtoList = new ArrayList<>();
+
+        for (CallsStatisticsByDayAndCallType callsStatisticsByDayAndCallType :
+                callRepository.findCallsStatisticsByDayAndCallType()) {
+            dailyStatisticsDtoList.add(DailyStatisticsDto.Builder
+                                               .dailyStatisticsWith()
+                                               .withDay(callsStatisticsByDayAndCallType.getDay())
+                                               .withCallType(callsStatisticsByDayAndCallType.getCallType())
+                                               .withTotalCallsDuration(callsStatisticsByDayAndCallType
+                                                                               .getTotalCallsDuration())
+                                               .withTotalNumberOfCalls(callsStatisticsByDayAndCallType
+                                                                               .getTotalNumberOfCalls())
+                                               .withTotalCallsCost(BigDecimal.valueOf(callsStatisticsByDayAndCallType
+                                                                                              .getTotalCallsCost())
+                                                                             .setScale(2, RoundingMode.HALF_UP)
+                                                                             .doubleValue())
+                                               .build());
+        }
+
+        List<DailyCallerStatisticsDto> dailyCallerStatisticsDtoList = new ArrayList<>();
+
+        for (CallsCountByDayAndCallTypeAndCallerNumber callsCountByDayAndCallTypeAndCallerNumber :
+                callRepository.findCallsCountByDayAndCallTypeAndCallerNumber()) {
+            if (approximateStatisticsEnabled) {
+                callsSketchesByDayAndCallTypeMap
+                        .computeIfAbsent(callsCountByDayAndCallTypeAndCallerNumber.getDay(), day -> new TreeMap<>())
+                        .computeIfAbsent(callsCountByDayAndCallTypeAndCallerNumber.getCallType(),
+                                         callType -> new CallsSketches())
+                        .addCallerNumber(callsCountByDayAndCallTypeAndCallerNumber.getCallerNumber(),
+                                         callsCountByDayAndCallTypeAndCallerNumber.getTotalNumberOfCalls());
+            }
+
+            dailyCallerStatisticsDtoList.add(DailyCallerStatisticsDto.Builder
+                                                     .dailyCallerStatisticsWith()
+                                                     .withDay(callsCountByDayAndCallTypeAndCallerNumber.getDay())
+                                                     .withCallType(callsCountByDayAndCallTypeAndCallerNumber
+                                                                           .getCallType())
+                                                     .withCallerNumber(callsCountByDayAndCallTypeAndCallerNumber
+                                                                               .getCallerNumber())
+                                                     .withTotalNumberOfCalls(callsCountByDayAndCallTypeAndCallerNumber
+                                                                                     .getTotalNumberOfCalls())
+                                                     .build());
+        }
+
+        List<DailyCalleeStatisticsDto> dailyCalleeStatisticsDtoList = new ArrayList<>();
+
+        for (CallsCountByDayAndCallTypeAndCalleeNumber callsCountByDayAndCallTypeAndCalleeNumber :
+                callRepository.findCallsCountByDayAndCallTypeAndCalleeNumber()) {
+            if (approximateStatisticsEnabled) {
+                callsSketchesByDayAndCallTypeMap
+                        .computeIfAbsent(callsCountByDayAndCallTypeAndCalleeNumber.getDay(), day -> new TreeMap<>())
+                        .computeIfAbsent(callsCountByDayAndCallTypeAndCalleeNumber.getCallType(),
+                                         callType -> new CallsSketches())
+                        .addCalleeNumber(callsCountByDayAndCallTypeAndCalleeNumber.getCalleeNumber(),
+                                         callsCountByDayAndCallTypeAndCalleeNumber.getTotalNumberOfCalls());
+            }
+
+            dailyCalleeStatisticsDtoList.add(DailyCalleeStatisticsDto.Builder
+                                                     .dailyCalleeStatisticsWith()
+                                                     .withDay(callsCountByDayAndCallTypeAndCalleeNumber.getDay())
+                                                     .withCallType(callsCountByDayAndCallTypeAndCalleeNumber
+                                                                           .getCallType())
+                                                     .withCalleeNumber(callsCountByDayAndCallTypeAndCalleeNumber
+                                                                               .getCalleeNumber())
+                                                     .withTotalNumberOfCalls(callsCountByDayAndCallTypeAndCalleeNumber
+                                                                                     .getTotalNumberOfCalls())
+                                                     .build());
+        }
+
+        dailyStatisticsRepository.saveAll(dailyStatisticsDtoList);
+        dailyCallerStatisticsRepository.saveAll(dailyCallerStatisticsDtoList);
+        dailyCalleeStatisticsRepository.saveAll(dailyCalleeStatisticsDtoList);
+
+        if (!approximateStatisticsEnabled) {
+            return;
+        }
+
+        List<DailySketchesDto> dailySketchesDtoList = new ArrayList<>();
+
+        for (Map.Entry<LocalDate, Map<String, CallsSketches>> callsSketchesByDayEntry :
+                callsSketchesByDayAndCallTypeMap.entrySet()) {
+            for (Map.Entry<String, CallsSketches> callsSketchesByCallTypeEntry :
+                    callsSketchesByDayEntry.getValue().entrySet()) {
+                DailySketchesDto dailySketchesDto = DailySketchesDto.Builder
+                        .dailySketchesWith()
+                        .withDay(callsSketchesByDayEntry.getKey())
+                        .withCallType(callsSketchesByCallTypeEntry.getKey())
+                        .build();
+
+                callsSketchesByCallTypeEntry.getValue().copyTo(dailySketchesDto);
+                dailySketchesDtoList.add(dailySketchesDto);
+            }
+        }
+
+        dailySketchesRepository.saveAll(dailySketchesDtoList);
+    }
+
+    private void updateDailyStatistics(List<CallDto> callDtoList, long sign) {
+        CallsAggregator callsAggregator = CallsAggregator.aggregate(callDtoList);
+
+        lockDaysAndCallTypesUntilTransactionCompletion(callsAggregator.getCallsAggregateByDayAndCallTypeMap());
+
+        for (Map.Entry<LocalDate, Map<String, CallsAggregate>> callsAggregateByDayEntry :
+                callsAggregator.getCallsAggregateByDayAndCallTypeMap().entrySet()) {
+            LocalDate day = callsAggregateByDayEntry.getKey();
+
+            for (Map.Entry<String, CallsAggregate> callsAggregateByCallTypeEntry :
+                    callsAggregateByDayEntry.getValue().entrySet()) {
+                String callType = callsAggregateByCallTypeEntry.getKey();
+                CallsAggregate callsAggregate = callsAggregateByCallTypeEntry.getValue();
+
+                long totalNumberOfCalls = updateDailyTotals(day, callType, callsAggregate, sign);
+
+                if (approximateStatisticsEnabled) {
+                    updateDailySketches(day, callType, callsAggregate, sign, totalNumberOfCalls);
+                }
+
+                updateDailyCallerNumbers(day, callType, callsAggregate.getTotalNumberOfCallsByCallerNumber(), sign);
+                updateDailyCalleeNumbers(day, callType, callsAggregate.getTotalNumberOfCallsByCalleeNumber(), sign);
+            }
+        }
+    }
+
+    private void lockDaysAndCallTypesUntilTransactionCompletion(
+            Map<LocalDate, Map<String, CallsAggregate>> callsAggregateByDayAndCallTypeMap) {
+        BitSet lockIndexes = new BitSet(NUMBER_OF_DAY_AND_CALL_TYPE_LOCKS);
+
+        for (Map.Entry<LocalDate, Map<String, CallsAggregate>> callsAggregateByDayEntry :
+                callsAggregateByDayAndCallTypeMap.entrySet()) {
+            for (String callType : callsAggregateByDayEntry.getValue().keySet()) {
+                int hash = 31 * callsAggregateByDayEntry.getKey().hashCode() + callType.hashCode();
+
+                lockIndexes.set(Math.floorMod(hash, NUMBER_OF_DAY_AND_CALL_TYPE_LOCKS));
+            }
+        }
+
+        for (int i = lockIndexes.nextSetBit(0); i >= 0; i = lockIndexes.nextSetBit(i + 1)) {
+            dayAndCallTypeLocks[i].lock();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                for (int i = lockIndexes.nextSetBit(0); i >= 0; i = lockIndexes.nextSetBit(i + 1)) {
+                    dayAndCallTypeLocks[i].unlock();
+                }
+            }
+        });
+    }
+
+    private void runAfterCommit(Runnable runnable) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private long updateDailyTotals(LocalDate day, String callType, CallsAggregate callsAggregate, long sign) {
+        DailyStatisticsDto dailyStatisticsDto = dailyStatisticsRepository
+                .findByDayAndCallType(day, callType)
+                .orElseGet(() -> DailyStatisticsDto.Builder.dailyStatisticsWith()
+                                                           .withDay(day)
+                                                           .withCallType(callType)
+                                                           .withTotalCallsDuration(0L)
+                                                           .withTotalNumberOfCalls(0L)
+                                                           .withTotalCallsCost(0.0)
+                                                           .build());
+
+        long totalNumberOfCalls = dailyStatisticsDto.getTotalNumberOfCalls()
+                                  + sign * callsAggregate.getTotalNumberOfCalls();
+
+        if (totalNumberOfCalls <= 0) {
+            if (dailyStatisticsDto.getId() != null) {
+                dailyStatisticsRepository.delete(dailyStatisticsDto);
+            }
+
+            return 0L;
+        }
+
+        dailyStatisticsDto.setTotalNumberOfCalls(totalNumberOfCalls);
+        dailyStatisticsDto.setTotalCallsDuration(dailyStatisticsDto.getTotalCallsDuration()
+                                                 + sign * callsAggregate.getTotalCallsDuration());
+        dailyStatisticsDto.setTotalCallsCost(BigDecimal.valueOf(dailyStatisticsDto.getTotalCallsCost())
+                                                       .add(BigDecimal.valueOf(
+                                                               sign * callsAggregate.getTotalCallsCostInCents(), 2))
+                                                       .setScale(2, RoundingMode.HALF_UP)
+                                                       .doubleValue());
+
+        dailyStatisticsRepository.save(dailyStatisticsDto);
+
+        return totalNumberOfCalls;
+    }
+
+    // Every write reads and rewrites the sketches of its days, so they are only kept when approximate statistics are
+    // enabled. The HyperLogLog sketches can not forget a number, so a deleted call keeps its numbers counted until
+    // its day has no calls left or the daily statistics are rebuilt.
+    private void updateDailySketches(LocalDate day, String callType, CallsAggregate callsAggregate, long sign,
+                                     long totalNumberOfCalls) {
+        Optional<DailySketchesDto> dailySketchesDtoOptional = dailySketchesRepository.findByDayAndCallType(day,
+                                                                                                          callType);
+
+        if (totalNumberOfCalls <= 0) {
+            dailySketchesDtoOptional.ifPresent(dailySketchesRepository::delete);
+
+            return;
+        }
+
+        DailySketchesDto dailySketchesDto = dailySketchesDtoOptional.orElseGet(
+                () -> DailySketchesDto.Builder.dailySketchesWith().withDay(day).withCallType(callType).build());
+        CallsSketches callsSketches = new CallsSketches(dailySketchesDto);
+
+        callsSketches.add(callsAggregate, sign);
+        callsSketches.copyTo(dailySketchesDto);
+
+        dailySketchesRepository.save(dailySketchesDto);
+    }
+
+    private void updateDailyCallerNumbers(LocalDate day, String callType,
+                                          LongLongCounterMap totalNumberOfCallsByCallerNumber, long sign) {
+        for (List<Long> callerNumbers : partition(totalNumberOfCallsByCallerNumber.keys())) {
+            Map<Long, DailyCallerStatisticsDto> dailyCallerStatisticsDtoByCallerNumberMap =
+                    dailyCallerStatisticsRepository.findByDayAndCallTypeAndCallerNumberIn(day, callType, callerNumbers)
+                                                   .stream()
+                                                   .collect(Collectors.toMap(
+                                                           DailyCallerStatisticsDto::getCallerNumber,
+                                                           Function.identity()));
+
+            List<DailyCallerStatisticsDto> dailyCallerStatisticsDtoToBeSavedList = new ArrayList<>();
+            List<DailyCallerStatisticsDto> dailyCallerStatisticsDtoToBeDeletedList = new ArrayList<>();
+
+            for (Long callerNumber : callerNumbers) {
+                DailyCallerStatisticsDto dailyCallerStatisticsDto = dailyCallerStatisticsDtoByCallerNumberMap
+                        .getOrDefault(callerNumber, DailyCallerStatisticsDto.Builder.dailyCallerStatisticsWith()
+                                                                                    .withDay(day)
+                                                                                    .withCallType(callType)
+                                                                                    .withCallerNumber(callerNumber)
+                                                                                    .withTotalNumberOfCalls(0L)
+                                                                                    .build());
+
+                long totalNumberOfCalls = dailyCallerStatisticsDto.getTotalNumberOfCalls()
+                                          + sign * totalNumberOfCallsByCallerNumber.get(callerNumber);
+
+                if (totalNumberOfCalls > 0) {
+                    dailyCallerStatisticsDto.setTotalNumberOfCalls(totalNumberOfCalls);
+                    dailyCallerStatisticsDtoToBeSavedList.add(dailyCallerStatisticsDto);
+                } else if (dailyCallerStatisticsDto.getId() != null) {
+                    dailyCallerStatisticsDtoToBeDeletedList.add(dailyCallerStatisticsDto);
+                }
+            }
+
+            dailyCallerStatisticsRepository.saveAll(dailyCallerStatisticsDtoToBeSavedList);
+            dailyCallerStatisticsRepository.deleteAll(dailyCallerStatisticsDtoToBeDeletedList);
+        }
+    }
+
+    private void updateDailyCalleeNumbers(LocalDate day, String callType,
+                                          LongLongCounterMap totalNumberOfCallsByCalleeNumber, long sign) {
+        for (List<Long> calleeNumbers : partition(totalNumberOfCallsByCalleeNumber.keys())) {
+            Map<Long, DailyCalleeStatisticsDto> dailyCalleeStatisticsDtoByCalleeNumberMap =
+                    dailyCalleeStatisticsRepository.findByDayAndCallTypeAndCalleeNumberIn(day, callType, calleeNumbers)
+                                                   .stream()
+                                                   .collect(Collectors.toMap(
+                                                           DailyCalleeStatisticsDto::getCalleeNumber,
+                                                           Function.identity()));
+
+            List<DailyCalleeStatisticsDto> dailyCalleeStatisticsDtoToBeSavedList = new ArrayList<>();
+            List<DailyCalleeStatisticsDto> dailyCalleeStatisticsDtoToBeDeletedList = new ArrayList<>();
+
+            for (Long calleeNumber : calleeNumbers) {
+                DailyCalleeStatisticsDto dailyCalleeStatisticsDto = dailyCalleeStatisticsDtoByCalleeNumberMap
+                        .getOrDefault(calleeNumber, DailyCalleeStatisticsDto.Builder.dailyCalleeStatisticsWith()
+                                                                                    .withDay(day)
+                                                                                    .withCallType(callType)
+                                                                                    .withCalleeNumber(calleeNumber)
+                                                                                    .withTotalNumberOfCalls(0L)
+                                                                                    .build());
+
+                long totalNumberOfCalls = dailyCalleeStatisticsDto.getTotalNumberOfCalls()
+                                          + sign * totalNumberOfCallsByCalleeNumber.get(calleeNumber);
+
+                if (totalNumberOfCalls > 0) {
+                    dailyCalleeStatisticsDto.setTotalNumberOfCalls(totalNumberOfCalls);
+                    dailyCalleeStatisticsDtoToBeSavedList.add(dailyCalleeStatisticsDto);
+                } else if (dailyCalleeStatisticsDto.getId() != null) {
+                    dailyCalleeStatisticsDtoToBeDeletedList.add(dailyCalleeStatisticsDto);
+                }
+            }
+
+            dailyCalleeStatisticsRepository.saveAll(dailyCalleeStatisticsDtoToBeSavedList);
+            dailyCalleeStatisticsRepository.deleteAll(dailyCalleeStatisticsDtoToBeDeletedList);
+        }
+    }
+
+    private List<List<Long>> partition(long[] numbers) {
+        List<List<Long>> partitionedNumbers = new ArrayList<>();
+
+        for (int i = 0; i < numbers.length; i += MAXIMUM_NUMBER_OF_NUMBERS_BY_QUERY) {
+            List<Long> numbersPartition = new ArrayList<>(Math.min(MAXIMUM_NUMBER_OF_NUMBERS_BY_QUERY,
+                                                                   numbers.length - i));
+
+            for (int j = i; j < Math.min(i + MAXIMUM_NUMBER_OF_NUMBERS_BY_QUERY, numbers.length); j++) {
+                numbersPartition.add(numbers[j]);
+            }
+
+            partitionedNumbers.add(numbersPartition);
+        }
+
+        return partitionedNumbers;
+    }
+}
@@ -0,0 +1,78 @@
+package webservice.service.statistics;
+
+public class HyperLogLog {
+    private static final int PRECISION = 14;
+    private static final int NUMBER_OF_REGISTERS = 1 << PRECISION;
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[NUMBER_OF_REGISTERS];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromByteArray(byte[] bytes) {
+        if (bytes == null || bytes.length != NUMBER_OF_REGISTERS) {
+            return new HyperLogLog();
+        }
+
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public void add(long value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public void merge(HyperLogLog hyperLogLog) {
+        for (int i = 0; i < NUMBER_OF_REGISTERS; i++) {
+            if (hyperLogLog.registers[i] > registers[i]) {
+                registers[i] = hyperLogLog.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int numberOfEmptyRegisters = 0;
+
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+
+            if (register == 0) {
+                numberOfEmptyRegisters++;
+            }
+        }
+
+        double alpha = 0.7213 / (1 + 1.079 / NUMBER_OF_REGISTERS);
+        double estimate = alpha * NUMBER_OF_REGISTERS * NUMBER_OF_REGISTERS / sum;
+
+        if (estimate <= 2.5 * NUMBER_OF_REGISTERS && numberOfEmptyRegisters > 0) {
+            estimate = NUMBER_OF_REGISTERS * Math.log((double) NUMBER_OF_REGISTERS / numberOfEmptyRegisters);
+        }
+
+        return Math.round(estimate);
+    }
+
+    public byte[] toByteArray() {
+        return registers.clone();
+    }
+
+    private static long hash(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+
+        return value;
+    }
+}
@@ -0,0 +1,16 @@
+package webservice.service.statistics;
+
+import webservice.model.calldto.CallDto;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+
+import java.util.List;
+
+public interface LiveStatisticsService {
+    void addCalls(List<CallDto> callDtoList);
+
+    void removeCall(CallDto callDto);
+
+    CallsStatisticsJson getCurrentDayStatistics();
+
+    CallsStatisticsJson pollCurrentDayStatisticsChanges();
+}
@@ -0,0 +1,275 @@
+package webservice.service.statistics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import webservice.model.calldto.CallDto;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCalleeNumber;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCallerNumber;
+import webservice.service.call.CallTimestampDecomposer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+
+// Keeps the statistics of the current day up to date with the calls created and deleted since it was read from the
+// database, and the caller and callee numbers whose number of calls changed since the last poll, so following the
+// day costs no query after its first one. A transaction holds the commit lock from before it commits until its calls
+// are applied, and the day is only read from the database with the commit lock held exclusively, so every call is
+// either in the day read or applied after it, never both.
+@Service
+public class LiveStatisticsServiceImpl implements LiveStatisticsService {
+    private final StatisticsService statisticsService;
+    private final Clock clock;
+    private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    private LocalDate day;
+    private long totalCallsDurationInbound;
+    private long totalCallsDurationOutbound;
+    private long totalNumberOfCalls;
+    private long totalCallsCostInCents;
+    private LongLongCounterMap totalNumberOfCallsByCallerNumber = new LongLongCounterMap();
+    private LongLongCounterMap totalNumberOfCallsByCalleeNumber = new LongLongCounterMap();
+    private LongLongCounterMap changedCallerNumbers = new LongLongCounterMap();
+    private LongLongCounterMap changedCalleeNumbers = new LongLongCounterMap();
+    private boolean changed;
+
+    @Autowired
+    public LiveStatisticsServiceImpl(StatisticsService statisticsService,
+                                     CallTimestampDecomposer callTimestampDecomposer) {
+        this(statisticsService, Clock.system(callTimestampDecomposer.getZoneId()));
+    }
+
+    public LiveStatisticsServiceImpl(StatisticsService statisticsService, Clock clock) {
+        this.statisticsService = statisticsService;
+        this.clock = clock;
+    }
+
+    @Override
+    public void addCalls(List<CallDto> callDtoList) {
+        afterCommit(() -> applyCalls(callDtoList, 1L));
+    }
+
+    @Override
+    public void removeCall(CallDto callDto) {
+        afterCommit(() -> applyCalls(List.of(callDto), -1L));
+    }
+
+    @Override
+    public CallsStatisticsJson getCurrentDayStatistics() {
+        followCurrentDay();
+
+        synchronized (this) {
+            return callsStatisticsJson(totalNumberOfCallsByCallerNumber.keys(),
+                                       totalNumberOfCallsByCalleeNumber.keys(), false);
+        }
+    }
+
+    // Returns the totals of the day with the numbers that changed since the last poll, the whole day when a new one
+    // has started, or null when nothing changed.
+    @Override
+    public CallsStatisticsJson pollCurrentDayStatisticsChanges() {
+        boolean followedCurrentDay = followCurrentDay();
+
+        synchronized (this) {
+            if (followedCurrentDay) {
+                return callsStatisticsJson(totalNumberOfCallsByCallerNumber.keys(),
+                                           totalNumberOfCallsByCalleeNumber.keys(), false);
+            }
+
+            if (!changed) {
+                return null;
+            }
+
+            CallsStatisticsJson callsStatisticsJson = callsStatisticsJson(changedCallerNumbers.keys(),
+                                                                          changedCalleeNumbers.keys(), true);
+
+            changedCallerNumbers = new LongLongCounterMap();
+            changedCalleeNumbers = new LongLongCounterMap();
+            changed = false;
+
+            return callsStatisticsJson;
+        }
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                private Lock commitReadLock;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    commitReadLock = commitLock.readLock();
+                    commitReadLock.lock();
+                }
+
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (commitReadLock != null) {
+                        commitReadLock.unlock();
+                    }
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+
+    // Calls of other days, and every call before the day is first read, are left to the database.
+    private synchronized void applyCalls(List<CallDto> callDtoList, long sign) {
+        if (day == null) {
+            return;
+        }
+
+        for (CallDto callDto : callDtoList) {
+            if (!day.equals(callDto.getCallStartDay())) {
+                continue;
+            }
+
+            if (callDto.getCallType().equals(CALL_TYPE_INBOUND)) {
+                totalCallsDurationInbound += sign * callDto.getCallDuration().toSeconds();
+            } else {
+                totalCallsDurationOutbound += sign * callDto.getCallDuration().toSeconds();
+            }
+
+            totalNumberOfCalls += sign;
+            totalCallsCostInCents += sign * Math.round(callDto.getCallCost() * 100);
+            totalNumberOfCallsByCallerNumber.add(callDto.getCallerNumber(), sign);
+            totalNumberOfCallsByCalleeNumber.add(callDto.getCalleeNumber(), sign);
+            changedCallerNumbers.add(callDto.getCallerNumber(), 1L);
+            changedCalleeNumbers.add(callDto.getCalleeNumber(), 1L);
+            changed = true;
+        }
+    }
+
+    // The commit lock is always taken before the monitor, as the transactions holding it wait for the monitor to
+    // apply their calls.
+    private boolean followCurrentDay() {
+        LocalDate currentDay = LocalDate.now(clock);
+
+        synchronized (this) {
+            if (currentDay.equals(day)) {
+                return false;
+            }
+        }
+
+        commitLock.writeLock().lock();
+
+        try {
+            synchronized (this) {
+                return readDay(currentDay);
+            }
+        } finally {
+            commitLock.writeLock().unlock();
+        }
+    }
+
+    private boolean readDay(LocalDate currentDay) {
+        if (currentDay.equals(day)) {
+            return false;
+        }
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsService.getCallsStatistics(currentDay,
+                                                                                                 currentDay, null,
+                                                                                                 null, false);
+
+        day = currentDay;
+        totalCallsDurationInbound = 0L;
+        totalCallsDurationOutbound = 0L;
+        totalNumberOfCalls = 0L;
+        totalCallsCostInCents = 0L;
+        totalNumberOfCallsByCallerNumber = new LongLongCounterMap();
+        totalNumberOfCallsByCalleeNumber = new LongLongCounterMap();
+        changedCallerNumbers = new LongLongCounterMap();
+        changedCalleeNumbers = new LongLongCounterMap();
+        changed = false;
+
+        for (CallsStatisticsJson callsStatisticsJson : callsStatisticsJsonList) {
+            totalCallsDurationInbound += callsStatisticsJson.getTotalCallsDurationInbound();
+            totalCallsDurationOutbound += callsStatisticsJson.getTotalCallsDurationOutbound();
+            totalNumberOfCalls += callsStatisticsJson.getTotalNumberOfCalls();
+            totalCallsCostInCents += Math.round(callsStatisticsJson.getTotalCallsCost() * 100);
+
+            for (TotalNumberOfCallsByCallerNumber totalNumberOfCallsByCallerNumberJson :
+                    callsStatisticsJson.getTotalNumberOfCallsByCallerNumber()) {
+                totalNumberOfCallsByCallerNumber.add(totalNumberOfCallsByCallerNumberJson.getCallerNumber(),
+                                                     totalNumberOfCallsByCallerNumberJson.getTotalNumberOfCalls());
+            }
+
+            for (TotalNumberOfCallsByCalleeNumber totalNumberOfCallsByCalleeNumberJson :
+                    callsStatisticsJson.getTotalNumberOfCallsByCalleeNumber()) {
+                totalNumberOfCallsByCalleeNumber.add(totalNumberOfCallsByCalleeNumberJson.getCalleeNumber(),
+                                                     totalNumberOfCallsByCalleeNumberJson.getTotalNumberOfCalls());
+            }
+        }
+
+        return true;
+    }
+
+    // Changes keep the numbers whose calls were all deleted, with no calls, so they can be removed from the day.
+    private CallsStatisticsJson callsStatisticsJson(long[] callerNumbers, long[] calleeNumbers,
+                                                    boolean withNumbersWithoutCalls) {
+        List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList =
+                new ArrayList<>(callerNumbers.length);
+        List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList =
+                new ArrayList<>(calleeNumbers.length);
+
+        Arrays.sort(callerNumbers);
+        Arrays.sort(calleeNumbers);
+
+        for (long callerNumber : callerNumbers) {
+            if (!withNumbersWithoutCalls && totalNumberOfCallsByCallerNumber.get(callerNumber) == 0L) {
+                continue;
+            }
+
+            totalNumberOfCallsByCallerNumberList.add(TotalNumberOfCallsByCallerNumber.Builder
+                                                             .totalNumberOfCallsByCallerNumberWith()
+                                                             .withCallerNumber(callerNumber)
+                                                             .withTotalNumberOfCalls(totalNumberOfCallsByCallerNumber
+                                                                                             .get(callerNumber))
+                                                             .build());
+        }
+
+        for (long calleeNumber : calleeNumbers) {
+            if (!withNumbersWithoutCalls && totalNumberOfCallsByCalleeNumber.get(calleeNumber) == 0L) {
+                continue;
+            }
+
+            totalNumberOfCallsByCalleeNumberList.add(TotalNumberOfCallsByCalleeNumber.Builder
+                                                             .totalNumberOfCallsByCalleeNumberWith()
+                                                             .withCalleeNumber(calleeNumber)
+                                                             .withTotalNumberOfCalls(totalNumberOfCallsByCalleeNumber
+                                                                                             .get(calleeNumber))
+                                                             .build());
+        }
+
+        return CallsStatisticsJson.Builder
+                .callStatisticsJsonWith()
+                .withDay(day)
+                .withTotalCallsDurationInbound(totalCallsDurationInbound)
+                .withTotalCallsDurationOutbound(totalCallsDurationOutbound)
+                .withTotalNumberOfCalls(totalNumberOfCalls)
+                .withTotalCallsCost(BigDecimal.valueOf(totalCallsCostInCents, 2)
+                                              .setScale(2, RoundingMode.HALF_UP)
+                                              .doubleValue())
+                .withTotalNumberOfCallsByCallerNumber(totalNumberOfCallsByCallerNumberList)
+                .withTotalNumberOfCallsByCalleeNumber(totalNumberOfCallsByCalleeNumberList)
+                .build();
+    }
+}
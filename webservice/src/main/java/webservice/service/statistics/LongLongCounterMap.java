@@ -0,0 +1,127 @@
+package webservice.service.statistics;
+
+public class LongLongCounterMap {
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int size;
+
+    public LongLongCounterMap() {
+        this(MINIMUM_CAPACITY / 2);
+    }
+
+    public LongLongCounterMap(int expectedSize) {
+        int capacity = Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1);
+
+        keys = new long[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+    }
+
+    public void add(long key, long delta) {
+        int mask = keys.length - 1;
+        int index = index(key, mask);
+
+        while (used[index]) {
+            if (keys[index] == key) {
+                values[index] += delta;
+
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        used[index] = true;
+        keys[index] = key;
+        values[index] = delta;
+
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    public long get(long key) {
+        int mask = keys.length - 1;
+        int index = index(key, mask);
+
+        while (used[index]) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return 0L;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long[] keys() {
+        long[] usedKeys = new long[size];
+        int position = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                usedKeys[position++] = keys[i];
+            }
+        }
+
+        return usedKeys;
+    }
+
+    public void forEach(LongLongConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public void merge(LongLongCounterMap longLongCounterMap) {
+        longLongCounterMap.forEach(this::add);
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldValues.length * 2];
+        used = new boolean[oldUsed.length * 2];
+
+        int mask = keys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int index = index(oldKeys[i], mask);
+
+                while (used[index]) {
+                    index = (index + 1) & mask;
+                }
+
+                used[index] = true;
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private static int index(long key, int mask) {
+        long hash = key * HASH_MULTIPLIER;
+
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @FunctionalInterface
+    public interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+}
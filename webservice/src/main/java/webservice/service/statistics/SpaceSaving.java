@@ -0,0 +1,194 @@
+package webservice.service.statistics;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+public class SpaceSaving {
+    private final long[] numbers;
+    private final long[] totalNumberOfCalls;
+    private final long[] errors;
+    private int size;
+    private long totalNumberOfCallsCounted;
+
+    public SpaceSaving(int capacity) {
+        this.numbers = new long[capacity];
+        this.totalNumberOfCalls = new long[capacity];
+        this.errors = new long[capacity];
+    }
+
+    public static SpaceSaving fromByteArray(byte[] bytes, int capacity) {
+        SpaceSaving spaceSaving = new SpaceSaving(capacity);
+
+        if (bytes == null) {
+            return spaceSaving;
+        }
+
+        ByteBuffer byteBuffer = ByteBuffer.wrap(bytes);
+
+        spaceSaving.totalNumberOfCallsCounted = byteBuffer.getLong();
+
+        int size = byteBuffer.getInt();
+
+        for (int i = 0; i < size; i++) {
+            spaceSaving.put(byteBuffer.getLong(), byteBuffer.getLong(), byteBuffer.getLong());
+        }
+
+        return spaceSaving;
+    }
+
+    public void add(long number, long numberOfCalls) {
+        totalNumberOfCallsCounted += numberOfCalls;
+
+        int index = indexOf(number);
+
+        if (index >= 0) {
+            totalNumberOfCalls[index] += numberOfCalls;
+        } else if (size < numbers.length) {
+            numbers[size] = number;
+            totalNumberOfCalls[size] = numberOfCalls;
+            errors[size++] = 0;
+        } else {
+            int minimumIndex = indexOfMinimum();
+
+            numbers[minimumIndex] = number;
+            errors[minimumIndex] = totalNumberOfCalls[minimumIndex];
+            totalNumberOfCalls[minimumIndex] += numberOfCalls;
+        }
+    }
+
+    public void remove(long number, long numberOfCalls) {
+        totalNumberOfCallsCounted = Math.max(0, totalNumberOfCallsCounted - numberOfCalls);
+
+        int index = indexOf(number);
+
+        if (index >= 0) {
+            totalNumberOfCalls[index] = Math.max(0, totalNumberOfCalls[index] - numberOfCalls);
+            errors[index] = Math.min(errors[index], totalNumberOfCalls[index]);
+        }
+    }
+
+    public void merge(SpaceSaving spaceSaving) {
+        long minimum = minimumTotalNumberOfCalls();
+        long otherMinimum = spaceSaving.minimumTotalNumberOfCalls();
+        int capacity = numbers.length;
+        SpaceSaving merged = new SpaceSaving(size + spaceSaving.size);
+
+        for (int i = 0; i < size; i++) {
+            int otherIndex = spaceSaving.indexOf(numbers[i]);
+
+            if (otherIndex >= 0) {
+                merged.put(numbers[i], totalNumberOfCalls[i] + spaceSaving.totalNumberOfCalls[otherIndex],
+                           errors[i] + spaceSaving.errors[otherIndex]);
+            } else {
+                merged.put(numbers[i], totalNumberOfCalls[i] + otherMinimum, errors[i] + otherMinimum);
+            }
+        }
+
+        for (int i = 0; i < spaceSaving.size; i++) {
+            if (indexOf(spaceSaving.numbers[i]) < 0) {
+                merged.put(spaceSaving.numbers[i], spaceSaving.totalNumberOfCalls[i] + minimum,
+                           spaceSaving.errors[i] + minimum);
+            }
+        }
+
+        int[] sortedIndexes = merged.sortedIndexes();
+
+        size = 0;
+
+        for (int i = 0; i < Math.min(capacity, sortedIndexes.length); i++) {
+            put(merged.numbers[sortedIndexes[i]], merged.totalNumberOfCalls[sortedIndexes[i]],
+                merged.errors[sortedIndexes[i]]);
+        }
+
+        totalNumberOfCallsCounted += spaceSaving.totalNumberOfCallsCounted;
+    }
+
+    // Numbers whose calls were all removed keep their slot, as the first to be replaced, but are not listed.
+    public void forEach(int limit, SpaceSavingConsumer consumer) {
+        int[] sortedIndexes = sortedIndexes();
+
+        for (int i = 0; i < Math.min(limit, sortedIndexes.length); i++) {
+            if (totalNumberOfCalls[sortedIndexes[i]] <= 0) {
+                break;
+            }
+
+            consumer.accept(numbers[sortedIndexes[i]], totalNumberOfCalls[sortedIndexes[i]], errors[sortedIndexes[i]]);
+        }
+    }
+
+    public long getMaximumError() {
+        long maximumError = minimumTotalNumberOfCalls();
+
+        for (int i = 0; i < size; i++) {
+            maximumError = Math.max(maximumError, errors[i]);
+        }
+
+        return maximumError;
+    }
+
+    public long getTotalNumberOfCallsCounted() {
+        return totalNumberOfCallsCounted;
+    }
+
+    public byte[] toByteArray() {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + size * 3 * Long.BYTES);
+
+        byteBuffer.putLong(totalNumberOfCallsCounted);
+        byteBuffer.putInt(size);
+
+        for (int i = 0; i < size; i++) {
+            byteBuffer.putLong(numbers[i]).putLong(totalNumberOfCalls[i]).putLong(errors[i]);
+        }
+
+        return byteBuffer.array();
+    }
+
+    private void put(long number, long numberOfCalls, long error) {
+        if (size < numbers.length) {
+            numbers[size] = number;
+            totalNumberOfCalls[size] = numberOfCalls;
+            errors[size++] = error;
+        }
+    }
+
+    private long minimumTotalNumberOfCalls() {
+        return size < numbers.length ? 0L : totalNumberOfCalls[indexOfMinimum()];
+    }
+
+    private int indexOf(long number) {
+        for (int i = 0; i < size; i++) {
+            if (numbers[i] == number) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int indexOfMinimum() {
+        int minimumIndex = 0;
+
+        for (int i = 1; i < size; i++) {
+            if (totalNumberOfCalls[i] < totalNumberOfCalls[minimumIndex]) {
+                minimumIndex = i;
+            }
+        }
+
+        return minimumIndex;
+    }
+
+    private int[] sortedIndexes() {
+        return IntStream.range(0, size)
+                        .boxed()
+                        .sorted(Comparator.<Integer>comparingLong(index -> -totalNumberOfCalls[index])
+                                          .thenComparingLong(index -> numbers[index]))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+    }
+
+    @FunctionalInterface
+    public interface SpaceSavingConsumer {
+        void accept(long number, long totalNumberOfCalls, long error);
+    }
+}
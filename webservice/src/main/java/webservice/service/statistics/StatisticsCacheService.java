@@ -0,0 +1,15 @@
+package webservice.service.statistics;
+
+import webservice.model.statisticscachejson.StatisticsCacheJson;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+public interface StatisticsCacheService {
+    CachedCallsStatistics getCallsStatistics(LocalDate from, LocalDate to, String callType, Integer topN,
+                                             boolean approximate);
+
+    void invalidateDays(Set<LocalDate> days);
+
+    StatisticsCacheJson getStatisticsCache();
+}
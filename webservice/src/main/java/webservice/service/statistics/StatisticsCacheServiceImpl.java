@@ -0,0 +1,278 @@
+package webservice.service.statistics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.statisticscachejson.StatisticsCacheJson;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static webservice.service.ServiceParameters.FIRST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.LAST_DAY_OF_STATISTICS;
+
+@Service
+public class StatisticsCacheServiceImpl implements StatisticsCacheService {
+    private final StatisticsService statisticsService;
+    private final Map<StatisticsQuery, StatisticsCacheEntry> statisticsCacheEntryByQueryMap;
+    private final Map<StatisticsQuery, CompletableFuture<CachedCallsStatistics>> inFlightLoadByQueryMap =
+            new HashMap<>();
+    private final String eTagPrefix;
+
+    private long eTagGeneration;
+    private long numberOfInvalidations;
+    // Only changed while holding the lock, and volatile so the meters can read them without it.
+    private volatile long numberOfHits;
+    private volatile long numberOfMisses;
+    private volatile long numberOfEvictions;
+
+    @Autowired
+    public StatisticsCacheServiceImpl(StatisticsService statisticsService,
+                                      @Value("${webservice.statistics.cache-size:256}") int cacheSize,
+                                      MeterRegistry meterRegistry) {
+        this.statisticsService = statisticsService;
+        this.statisticsCacheEntryByQueryMap = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatisticsQuery, StatisticsCacheEntry> eldest) {
+                if (size() > cacheSize) {
+                    numberOfEvictions++;
+
+                    return true;
+                }
+
+                return false;
+            }
+        };
+        this.eTagPrefix = Long.toHexString(System.currentTimeMillis());
+
+        meterRegistry.more().counter("statistics.cache.hits", List.of(), this,
+                                     statisticsCacheService -> statisticsCacheService.numberOfHits);
+        meterRegistry.more().counter("statistics.cache.misses", List.of(), this,
+                                     statisticsCacheService -> statisticsCacheService.numberOfMisses);
+        meterRegistry.more().counter("statistics.cache.evictions", List.of(), this,
+                                     statisticsCacheService -> statisticsCacheService.numberOfEvictions);
+        meterRegistry.gauge("statistics.cache.size", List.of(), this,
+                            StatisticsCacheServiceImpl::getNumberOfCachedStatistics);
+    }
+
+    @Override
+    public CachedCallsStatistics getCallsStatistics(LocalDate from, LocalDate to, String callType, Integer topN,
+                                                    boolean approximate) {
+        StatisticsQuery statisticsQuery = new StatisticsQuery(from == null ? FIRST_DAY_OF_STATISTICS : from,
+                                                              to == null ? LAST_DAY_OF_STATISTICS : to,
+                                                              callType == null || callType.isEmpty() ? null : callType,
+                                                              topN, approximate);
+        StatisticsCacheEntry statisticsCacheEntry;
+        CompletableFuture<CachedCallsStatistics> inFlightLoad;
+        LocalDate staleFrom = statisticsQuery.from;
+        LocalDate staleTo = statisticsQuery.to;
+        long numberOfInvalidationsBeforeComputation = 0;
+        boolean computedByOtherRequest;
+
+        // A query that is already being computed waits for that computation and counts as a hit, so concurrent
+        // misses of the same query compute it only once. Invalidating days drops the computations in flight, so
+        // a request after the invalidation does not wait for a result that misses it.
+        synchronized (this) {
+            statisticsCacheEntry = statisticsCacheEntryByQueryMap.get(statisticsQuery);
+
+            if (statisticsCacheEntry != null && statisticsCacheEntry.staleDays.isEmpty()) {
+                numberOfHits++;
+
+                return statisticsCacheEntry.cachedCallsStatistics;
+            }
+
+            inFlightLoad = inFlightLoadByQueryMap.get(statisticsQuery);
+            computedByOtherRequest = inFlightLoad != null;
+
+            if (computedByOtherRequest) {
+                numberOfHits++;
+            } else {
+                numberOfMisses++;
+                numberOfInvalidationsBeforeComputation = numberOfInvalidations;
+
+                if (statisticsCacheEntry != null) {
+                    staleFrom = statisticsCacheEntry.staleDays.first();
+                    staleTo = statisticsCacheEntry.staleDays.last();
+                }
+
+                inFlightLoad = new CompletableFuture<>();
+                inFlightLoadByQueryMap.put(statisticsQuery, inFlightLoad);
+            }
+        }
+
+        if (computedByOtherRequest) {
+            return awaitInFlightLoad(inFlightLoad);
+        }
+
+        try {
+            CachedCallsStatistics cachedCallsStatistics = computeCallsStatistics(
+                    statisticsQuery, statisticsCacheEntry, staleFrom, staleTo, numberOfInvalidationsBeforeComputation);
+
+            inFlightLoad.complete(cachedCallsStatistics);
+
+            return cachedCallsStatistics;
+        } catch (RuntimeException | Error failure) {
+            inFlightLoad.completeExceptionally(failure);
+
+            throw failure;
+        } finally {
+            synchronized (this) {
+                inFlightLoadByQueryMap.remove(statisticsQuery, inFlightLoad);
+            }
+        }
+    }
+
+    private CachedCallsStatistics computeCallsStatistics(StatisticsQuery statisticsQuery,
+                                                         StatisticsCacheEntry statisticsCacheEntry, LocalDate staleFrom,
+                                                         LocalDate staleTo,
+                                                         long numberOfInvalidationsBeforeComputation) {
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsService.getCallsStatistics(
+                staleFrom, staleTo, statisticsQuery.callType, statisticsQuery.topN, statisticsQuery.approximate);
+
+        TreeMap<LocalDate, CallsStatisticsJson> callsStatisticsJsonByDayMap = new TreeMap<>();
+
+        if (statisticsCacheEntry != null) {
+            callsStatisticsJsonByDayMap.putAll(statisticsCacheEntry.callsStatisticsJsonByDayMap);
+            callsStatisticsJsonByDayMap.subMap(staleFrom, true, staleTo, true).clear();
+        }
+
+        for (CallsStatisticsJson callsStatisticsJson : callsStatisticsJsonList) {
+            callsStatisticsJsonByDayMap.put(callsStatisticsJson.getDay(), callsStatisticsJson);
+        }
+
+        synchronized (this) {
+            StatisticsCacheEntry computedStatisticsCacheEntry = new StatisticsCacheEntry(
+                    callsStatisticsJsonByDayMap, eTagPrefix + "-" + Long.toHexString(++eTagGeneration));
+
+            if (numberOfInvalidations == numberOfInvalidationsBeforeComputation) {
+                statisticsCacheEntryByQueryMap.put(statisticsQuery, computedStatisticsCacheEntry);
+            }
+
+            return computedStatisticsCacheEntry.cachedCallsStatistics;
+        }
+    }
+
+    private CachedCallsStatistics awaitInFlightLoad(CompletableFuture<CachedCallsStatistics> inFlightLoad) {
+        try {
+            return inFlightLoad.join();
+        } catch (CompletionException completionException) {
+            if (completionException.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) completionException.getCause();
+            }
+
+            if (completionException.getCause() instanceof Error) {
+                throw (Error) completionException.getCause();
+            }
+
+            throw completionException;
+        }
+    }
+
+    @Override
+    public void invalidateDays(Set<LocalDate> days) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    markDaysAsStale(days);
+                }
+            });
+        } else {
+            markDaysAsStale(days);
+        }
+    }
+
+    @Override
+    public synchronized StatisticsCacheJson getStatisticsCache() {
+        return StatisticsCacheJson.Builder.statisticsCacheJsonWith()
+                                          .withNumberOfCachedStatistics((long) statisticsCacheEntryByQueryMap.size())
+                                          .withNumberOfHits(numberOfHits)
+                                          .withNumberOfMisses(numberOfMisses)
+                                          .withNumberOfEvictions(numberOfEvictions)
+                                          .build();
+    }
+
+    private synchronized double getNumberOfCachedStatistics() {
+        return statisticsCacheEntryByQueryMap.size();
+    }
+
+    private synchronized void markDaysAsStale(Set<LocalDate> days) {
+        numberOfInvalidations++;
+        inFlightLoadByQueryMap.clear();
+
+        for (Map.Entry<StatisticsQuery, StatisticsCacheEntry> entry : statisticsCacheEntryByQueryMap.entrySet()) {
+            for (LocalDate day : days) {
+                if (!day.isBefore(entry.getKey().from) && !day.isAfter(entry.getKey().to)) {
+                    entry.getValue().staleDays.add(day);
+                }
+            }
+        }
+    }
+
+    private static class StatisticsCacheEntry {
+        private final TreeMap<LocalDate, CallsStatisticsJson> callsStatisticsJsonByDayMap;
+        private final CachedCallsStatistics cachedCallsStatistics;
+        private final TreeSet<LocalDate> staleDays = new TreeSet<>();
+
+        private StatisticsCacheEntry(TreeMap<LocalDate, CallsStatisticsJson> callsStatisticsJsonByDayMap,
+                                     String eTag) {
+            this.callsStatisticsJsonByDayMap = callsStatisticsJsonByDayMap;
+            this.cachedCallsStatistics = new CachedCallsStatistics(
+                    Collections.unmodifiableList(new ArrayList<>(callsStatisticsJsonByDayMap.values())),
+                    "W/\"" + eTag + "\"");
+        }
+    }
+
+    private static class StatisticsQuery {
+        private final LocalDate from;
+        private final LocalDate to;
+        private final String callType;
+        private final Integer topN;
+        private final boolean approximate;
+
+        private StatisticsQuery(LocalDate from, LocalDate to, String callType, Integer topN, boolean approximate) {
+            this.from = from;
+            this.to = to;
+            this.callType = callType;
+            this.topN = topN;
+            this.approximate = approximate;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof StatisticsQuery)) {
+                return false;
+            }
+
+            StatisticsQuery statisticsQuery = (StatisticsQuery) object;
+
+            return approximate == statisticsQuery.approximate && from.equals(statisticsQuery.from)
+                   && to.equals(statisticsQuery.to) && Objects.equals(callType, statisticsQuery.callType)
+                   && Objects.equals(topN, statisticsQuery.topN);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to, callType, topN, approximate);
+        }
+    }
+}
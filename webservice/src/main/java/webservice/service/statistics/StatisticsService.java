@@ -2,8 +2,10 @@ package webservice.service.statistics;
 
 import webservice.model.callstatisticsjson.CallsStatisticsJson;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface StatisticsService {
-    List<CallsStatisticsJson> getCallsStatistics();
+    List<CallsStatisticsJson> getCallsStatistics(LocalDate from, LocalDate to, String callType, Integer topN,
+                                                 boolean approximate);
 }
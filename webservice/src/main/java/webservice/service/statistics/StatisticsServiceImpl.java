@@ -1,136 +1,615 @@
 package webservice.service.statistics;
 
-import webservice.model.calldto.CallDto;
+import webservice.exception.BusinessException;
 import webservice.model.callstatisticsjson.CallsStatisticsJson;
 import webservice.model.callstatisticsjson.TotalNumberOfCallsByCalleeNumber;
 import webservice.model.callstatisticsjson.TotalNumberOfCallsByCallerNumber;
-import webservice.repository.CallRepository;
+import webservice.model.dailystatisticsdto.DailySketchesDto;
+import webservice.model.dailystatisticsprojection.DailyCalleeStatisticsByDay;
+import webservice.model.dailystatisticsprojection.DailyCallerStatisticsByDay;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+import webservice.repository.CallColumnRepository;
+import webservice.repository.CallColumnSegment;
+import webservice.repository.DailyCalleeStatisticsRepository;
+import webservice.repository.DailyCallerStatisticsRepository;
+import webservice.repository.DailySketchesRepository;
+import webservice.repository.DailyStatisticsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
 import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+import static webservice.service.ServiceParameters.FIRST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.LAST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS;
+import static webservice.service.ServiceParameters.MAXIMUM_NUMBER_OF_TOP_NUMBERS;
+import static webservice.service.ServiceParameters.NUMBER_OF_CALLS_BY_STATISTICS_CHUNK;
 
 @Service
 public class StatisticsServiceImpl implements StatisticsService {
-    private final CallRepository callRepository;
+    private final DailyStatisticsRepository dailyStatisticsRepository;
+    private final DailyCallerStatisticsRepository dailyCallerStatisticsRepository;
+    private final DailyCalleeStatisticsRepository dailyCalleeStatisticsRepository;
+    private final DailySketchesRepository dailySketchesRepository;
+    private final CallColumnRepository callColumnRepository;
+    private final ForkJoinPool statisticsForkJoinPool;
+    private final boolean approximateStatisticsEnabled;
+    private final Timer statisticsQueryTimer;
+    private final Timer statisticsGroupingTimer;
+    private final Timer columnarStatisticsGroupingTimer;
 
-    public StatisticsServiceImpl(CallRepository callRepository) {
-        this.callRepository = callRepository;
+    public StatisticsServiceImpl(DailyStatisticsRepository dailyStatisticsRepository,
+                                 DailyCallerStatisticsRepository dailyCallerStatisticsRepository,
+                                 DailyCalleeStatisticsRepository dailyCalleeStatisticsRepository,
+                                 DailySketchesRepository dailySketchesRepository,
+                                 Optional<CallColumnRepository> callColumnRepository,
+                                 Optional<ForkJoinPool> statisticsForkJoinPool,
+                                 @Value("${webservice.statistics.approximate.enabled:false}")
+                                         boolean approximateStatisticsEnabled,
+                                 MeterRegistry meterRegistry) {
+        this.dailyStatisticsRepository = dailyStatisticsRepository;
+        this.dailyCallerStatisticsRepository = dailyCallerStatisticsRepository;
+        this.dailyCalleeStatisticsRepository = dailyCalleeStatisticsRepository;
+        this.dailySketchesRepository = dailySketchesRepository;
+        this.callColumnRepository = callColumnRepository.orElse(null);
+        this.statisticsForkJoinPool = statisticsForkJoinPool.orElse(null);
+        this.approximateStatisticsEnabled = approximateStatisticsEnabled;
+        this.statisticsQueryTimer = meterRegistry.timer("statistics.query", "engine", "database");
+        this.statisticsGroupingTimer = meterRegistry.timer("statistics.grouping", "engine", "database");
+        this.columnarStatisticsGroupingTimer = meterRegistry.timer("statistics.grouping", "engine", "columnar");
     }
 
     @Override
-    public List<CallsStatisticsJson> getCallsStatistics() {
-        List<CallDto> callDtoList = callRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<CallsStatisticsJson> getCallsStatistics(LocalDate from, LocalDate to, String callType,
+                                                        Integer topN, boolean approximate) {
+        LocalDate fromOrFirst = from == null ? FIRST_DAY_OF_STATISTICS : from;
+        LocalDate toOrLast = to == null ? LAST_DAY_OF_STATISTICS : to;
+        String callTypeOrAll = callType == null || callType.isEmpty() ? null : callType;
 
-        List<CallsStatisticsJson> callsStatisticsJsonList = computeCallsStatisticsJsonList(callDtoList);
+        if (fromOrFirst.isAfter(toOrLast)) {
+            throw new BusinessException("Statistics day range is not valid!", fromOrFirst.toString(),
+                                        toOrLast.toString());
+        }
+
+        if (topN != null && (topN < 1 || topN > MAXIMUM_NUMBER_OF_TOP_NUMBERS)) {
+            throw new BusinessException("Top N must be between 1 and " + MAXIMUM_NUMBER_OF_TOP_NUMBERS + "!",
+                                        String.valueOf(topN));
+        }
+
+        if (callColumnRepository != null) {
+            return columnarStatisticsGroupingTimer.record(
+                    () -> computeColumnarCallsStatisticsJsonList(fromOrFirst, toOrLast, callTypeOrAll, topN,
+                                                                 approximate));
+        }
+
+        Timer.Sample statisticsQuerySample = Timer.start();
+        List<DailyStatisticsByDay> dailyStatisticsByDayList =
+                dailyStatisticsRepository.findDailyStatisticsByDay(fromOrFirst, toOrLast, callTypeOrAll,
+                                                                   CALL_TYPE_INBOUND, CALL_TYPE_OUTBOUND);
+
+        // The daily sketches are only kept when approximate statistics are enabled, while the call columns are
+        // sketched on every request.
+        if (approximate && !approximateStatisticsEnabled) {
+            throw new BusinessException("Approximate statistics are not enabled!");
+        }
+
+        if (approximate) {
+            List<DailySketchesDto> dailySketchesDtoList = dailySketchesRepository.findDailySketches(fromOrFirst,
+                                                                                                    toOrLast,
+                                                                                                    callTypeOrAll);
+
+            statisticsQuerySample.stop(statisticsQueryTimer);
+
+            return statisticsGroupingTimer.record(
+                    () -> computeApproximateCallsStatisticsJsonList(dailyStatisticsByDayList, dailySketchesDtoList,
+                                                                    topN));
+        }
+
+        List<DailyCallerStatisticsByDay> dailyCallerStatisticsByDayList =
+                dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(fromOrFirst, toOrLast, callTypeOrAll);
+        List<DailyCalleeStatisticsByDay> dailyCalleeStatisticsByDayList =
+                dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(fromOrFirst, toOrLast, callTypeOrAll);
+
+        statisticsQuerySample.stop(statisticsQueryTimer);
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsGroupingTimer.record(
+                () -> computeCallsStatisticsJsonList(dailyStatisticsByDayList, dailyCallerStatisticsByDayList,
+                                                     dailyCalleeStatisticsByDayList, topN));
 
         return callsStatisticsJsonList;
     }
 
-    private List<CallsStatisticsJson> computeCallsStatisticsJsonList(List<CallDto> callDtoList) {
-        Map<LocalDate, List<CallDto>> callDtoListAggregatedByDayMap = callDtoListAggregatedByDay(callDtoList);
+    private List<CallsStatisticsJson> computeCallsStatisticsJsonList(
+            List<DailyStatisticsByDay> dailyStatisticsByDayList,
+            List<DailyCallerStatisticsByDay> dailyCallerStatisticsByDayList,
+            List<DailyCalleeStatisticsByDay> dailyCalleeStatisticsByDayList,
+            Integer topN) {
+        Map<LocalDate, List<TotalNumberOfCallsByCallerNumber>> totalNumberOfCallsByCallerNumberListByDayMap;
+        Map<LocalDate, List<TotalNumberOfCallsByCalleeNumber>> totalNumberOfCallsByCalleeNumberListByDayMap;
+        Map<LocalDate, Long> totalNumberOfCallsByOtherCallerNumbersByDayMap = new HashMap<>();
+        Map<LocalDate, Long> totalNumberOfCallsByOtherCalleeNumbersByDayMap = new HashMap<>();
 
-        List<CallsStatisticsJson> callsStatisticsJsonList = new ArrayList<>();
+        if (topN == null) {
+            totalNumberOfCallsByCallerNumberListByDayMap =
+                    totalNumberOfCallsByCallerNumberListByDay(dailyCallerStatisticsByDayList);
+            totalNumberOfCallsByCalleeNumberListByDayMap =
+                    totalNumberOfCallsByCalleeNumberListByDay(dailyCalleeStatisticsByDayList);
+        } else {
+            totalNumberOfCallsByCallerNumberListByDayMap = new HashMap<>();
+            totalNumberOfCallsByCalleeNumberListByDayMap = new HashMap<>();
 
-        for (Map.Entry<LocalDate, List<CallDto>> callDtoListAggregatedByDayEntry : callDtoListAggregatedByDayMap
-                .entrySet()) {
-            List<CallDto> callDtoListEntryValues = callDtoListAggregatedByDayEntry.getValue();
+            for (Map.Entry<LocalDate, TopNumbersCounter> topCallerNumbersByDayEntry :
+                    topCallerNumbersByDay(dailyCallerStatisticsByDayList, topN).entrySet()) {
+                totalNumberOfCallsByOtherCallerNumbersByDayMap.put(topCallerNumbersByDayEntry.getKey(),
+                                                                   topCallerNumbersByDayEntry.getValue()
+                                                                           .getTotalNumberOfCallsByOtherNumbers());
+                totalNumberOfCallsByCallerNumberListByDayMap.put(topCallerNumbersByDayEntry.getKey(),
+                                                                 totalNumberOfCallsByCallerNumberList(
+                                                                         topCallerNumbersByDayEntry.getValue()));
+            }
 
-            Long totalCallsDurationInboundSum = totalCallsDurationInboundSum(callDtoListEntryValues);
-            Long totalCallsDurationOutboundSum = totalCallsDurationOutboundSum(callDtoListEntryValues);
+            for (Map.Entry<LocalDate, TopNumbersCounter> topCalleeNumbersByDayEntry :
+                    topCalleeNumbersByDay(dailyCalleeStatisticsByDayList, topN).entrySet()) {
+                totalNumberOfCallsByOtherCalleeNumbersByDayMap.put(topCalleeNumbersByDayEntry.getKey(),
+                                                                   topCalleeNumbersByDayEntry.getValue()
+                                                                           .getTotalNumberOfCallsByOtherNumbers());
+                totalNumberOfCallsByCalleeNumberListByDayMap.put(topCalleeNumbersByDayEntry.getKey(),
+                                                                 totalNumberOfCallsByCalleeNumberList(
+                                                                         topCalleeNumbersByDayEntry.getValue()));
+            }
+        }
 
-            List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList =
-                    callDtoListAggregatedByCallerNumber(callDtoListEntryValues);
-            List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList =
-                    callDtoListAggregatedByCalleeNumber(callDtoListEntryValues);
+        List<CallsStatisticsJson> callsStatisticsJsonList = new ArrayList<>(dailyStatisticsByDayList.size());
 
-            Double totalCallsCostSum = totalCallsCostSum(callDtoListEntryValues);
+        for (DailyStatisticsByDay dailyStatisticsByDay : dailyStatisticsByDayList) {
+            LocalDate day = dailyStatisticsByDay.getDay();
 
-            CallsStatisticsJson callsStatisticsJson = CallsStatisticsJson.Builder
-                    .callStatisticsJsonWith()
-                    .withDay(callDtoListAggregatedByDayEntry.getKey())
-                    .withTotalCallsDurationInbound(totalCallsDurationInboundSum)
-                    .withTotalCallsDurationOutbound(totalCallsDurationOutboundSum)
-                    .withTotalNumberOfCalls((long) callDtoListEntryValues.size())
-                    .withTotalNumberOfCallsByCallerNumber(totalNumberOfCallsByCallerNumberList)
-                    .withTotalNumberOfCallsByCalleeNumber(totalNumberOfCallsByCalleeNumberList)
-                    .withTotalCallsCost(totalCallsCostSum)
+            CallsStatisticsJson callsStatisticsJson = callsStatisticsJsonBuilder(dailyStatisticsByDay)
+                    .withTotalNumberOfCallsByCallerNumber(totalNumberOfCallsByCallerNumberListByDayMap
+                                                                  .getOrDefault(day, Collections.emptyList()))
+                    .withTotalNumberOfCallsByCalleeNumber(totalNumberOfCallsByCalleeNumberListByDayMap
+                                                                  .getOrDefault(day, Collections.emptyList()))
+                    .withTotalNumberOfCallsByOtherCallerNumbers(totalNumberOfCallsByOtherCallerNumbersByDayMap
+                                                                        .get(day))
+                    .withTotalNumberOfCallsByOtherCalleeNumbers(totalNumberOfCallsByOtherCalleeNumbersByDayMap
+                                                                        .get(day))
                     .build();
 
             callsStatisticsJsonList.add(callsStatisticsJson);
         }
 
-        return callsStatisticsJsonList.stream().sorted(Comparator.comparing(CallsStatisticsJson::getDay)).collect(
-                Collectors.toList());
+        return callsStatisticsJsonList;
+    }
+
+    private List<CallsStatisticsJson> computeApproximateCallsStatisticsJsonList(
+            List<DailyStatisticsByDay> dailyStatisticsByDayList,
+            List<DailySketchesDto> dailySketchesDtoList,
+            Integer topN) {
+        Map<LocalDate, CallsSketches> callsSketchesByDayMap = new HashMap<>();
+
+        for (DailySketchesDto dailySketchesDto : dailySketchesDtoList) {
+            callsSketchesByDayMap.merge(dailySketchesDto.getDay(), new CallsSketches(dailySketchesDto),
+                                        (callsSketches, otherCallsSketches) -> {
+                                            callsSketches.merge(otherCallsSketches);
+
+                                            return callsSketches;
+                                        });
+        }
+
+        int numberOfTopNumbers = topN == null ? MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS : topN;
+        List<CallsStatisticsJson> callsStatisticsJsonList = new ArrayList<>(dailyStatisticsByDayList.size());
+
+        for (DailyStatisticsByDay dailyStatisticsByDay : dailyStatisticsByDayList) {
+            CallsSketches callsSketches = callsSketchesByDayMap.getOrDefault(dailyStatisticsByDay.getDay(),
+                                                                             new CallsSketches());
+
+            callsStatisticsJsonList.add(approximateCallsStatisticsJson(callsStatisticsJsonBuilder(dailyStatisticsByDay),
+                                                                       callsSketches, numberOfTopNumbers));
+        }
+
+        return callsStatisticsJsonList;
+    }
+
+    // Every day is computed from the calls in its column segment, so neither the aggregate tables nor the sketches
+    // are read and the caller and callee numbers are always exact before they are fed to the approximate sketches.
+    private List<CallsStatisticsJson> computeColumnarCallsStatisticsJsonList(LocalDate from, LocalDate to,
+                                                                              String callType, Integer topN,
+                                                                              boolean approximate) {
+        byte callTypeCode = CallColumnSegment.callTypeCode(callType);
+        boolean allCallTypes = callType == null;
+
+        if (!allCallTypes && callTypeCode == CallColumnSegment.CALL_TYPE_UNKNOWN_CODE) {
+            return new ArrayList<>();
+        }
+
+        return callColumnRepository.readSegments(from, to, callColumnSegmentByDayMap -> {
+            List<CallsStatisticsJson> callsStatisticsJsonList = new ArrayList<>(callColumnSegmentByDayMap.size());
+
+            if (statisticsForkJoinPool == null) {
+                for (Map.Entry<LocalDate, CallColumnSegment> callColumnSegmentByDayEntry :
+                        callColumnSegmentByDayMap.entrySet()) {
+                    CallColumnSegment callColumnSegment = callColumnSegmentByDayEntry.getValue();
+
+                    addColumnarCallsStatisticsJson(callsStatisticsJsonList, callColumnSegmentByDayEntry.getKey(),
+                                                   scanCallColumnSegment(callColumnSegment, 0,
+                                                                         callColumnSegment.size(), allCallTypes,
+                                                                         callTypeCode),
+                                                   topN, approximate);
+                }
+
+                return callsStatisticsJsonList;
+            }
+
+            // Each day is a task, and each large day is split further into chunks of calls whose partial statistics
+            // are merged, so one busy day does not keep a single worker scanning while the others are idle.
+            statisticsForkJoinPool.invoke(ForkJoinTask.adapt(() -> {
+                List<ForkJoinTask<ColumnarDailyStatistics>> columnarDailyStatisticsTaskList =
+                        new ArrayList<>(callColumnSegmentByDayMap.size());
+
+                for (CallColumnSegment callColumnSegment : callColumnSegmentByDayMap.values()) {
+                    columnarDailyStatisticsTaskList.add(new ColumnarDailyStatisticsTask(
+                            callColumnSegment, 0, callColumnSegment.size(), allCallTypes, callTypeCode).fork());
+                }
+
+                int dayIndex = 0;
+
+                for (LocalDate day : callColumnSegmentByDayMap.keySet()) {
+                    addColumnarCallsStatisticsJson(callsStatisticsJsonList, day,
+                                                   columnarDailyStatisticsTaskList.get(dayIndex++).join(), topN,
+                                                   approximate);
+                }
+            }));
+
+            return callsStatisticsJsonList;
+        });
     }
 
-    private Map<LocalDate, List<CallDto>> callDtoListAggregatedByDay(List<CallDto> callDtoList) {
-        return callDtoList.stream().collect(Collectors.groupingBy(CallDto::getCallStartDay));
+    private void addColumnarCallsStatisticsJson(List<CallsStatisticsJson> callsStatisticsJsonList, LocalDate day,
+                                                ColumnarDailyStatistics columnarDailyStatistics, Integer topN,
+                                                boolean approximate) {
+        if (columnarDailyStatistics.totalNumberOfCalls == 0) {
+            return;
+        }
+
+        CallsStatisticsJson.Builder callsStatisticsJsonBuilder = callsStatisticsJsonBuilder(
+                day, columnarDailyStatistics.totalCallsDurationInbound,
+                columnarDailyStatistics.totalCallsDurationOutbound, columnarDailyStatistics.totalNumberOfCalls,
+                BigDecimal.valueOf(columnarDailyStatistics.totalCallsCostInCents, 2).doubleValue());
+
+        if (approximate) {
+            CallsSketches callsSketches = new CallsSketches();
+
+            columnarDailyStatistics.totalNumberOfCallsByCallerNumber.forEach(callsSketches::addCallerNumber);
+            columnarDailyStatistics.totalNumberOfCallsByCalleeNumber.forEach(callsSketches::addCalleeNumber);
+
+            callsStatisticsJsonList.add(approximateCallsStatisticsJson(
+                    callsStatisticsJsonBuilder, callsSketches,
+                    topN == null ? MAXIMUM_NUMBER_OF_APPROXIMATE_TOP_NUMBERS : topN));
+        } else if (topN == null) {
+            callsStatisticsJsonList.add(callsStatisticsJsonBuilder
+                    .withTotalNumberOfCallsByCallerNumber(totalNumberOfCallsByCallerNumberList(
+                            columnarDailyStatistics.totalNumberOfCallsByCallerNumber))
+                    .withTotalNumberOfCallsByCalleeNumber(totalNumberOfCallsByCalleeNumberList(
+                            columnarDailyStatistics.totalNumberOfCallsByCalleeNumber))
+                    .build());
+        } else {
+            TopNumbersCounter topCallerNumbers = new TopNumbersCounter(topN);
+            TopNumbersCounter topCalleeNumbers = new TopNumbersCounter(topN);
+
+            columnarDailyStatistics.totalNumberOfCallsByCallerNumber.forEach(topCallerNumbers::add);
+            columnarDailyStatistics.totalNumberOfCallsByCalleeNumber.forEach(topCalleeNumbers::add);
+
+            callsStatisticsJsonList.add(callsStatisticsJsonBuilder
+                    .withTotalNumberOfCallsByOtherCallerNumbers(topCallerNumbers
+                                                                        .getTotalNumberOfCallsByOtherNumbers())
+                    .withTotalNumberOfCallsByOtherCalleeNumbers(topCalleeNumbers
+                                                                        .getTotalNumberOfCallsByOtherNumbers())
+                    .withTotalNumberOfCallsByCallerNumber(totalNumberOfCallsByCallerNumberList(topCallerNumbers))
+                    .withTotalNumberOfCallsByCalleeNumber(totalNumberOfCallsByCalleeNumberList(topCalleeNumbers))
+                    .build());
+        }
     }
 
-    private Long totalCallsDurationInboundSum(List<CallDto> callDtoListEntryValues) {
-        return callDtoListEntryValues.stream().filter(callDto -> callDto.getCallType().equals(CALL_TYPE_INBOUND))
-                                     .mapToLong(callDto -> callDto.getCallDuration().toSeconds()).sum();
+    private static ColumnarDailyStatistics scanCallColumnSegment(CallColumnSegment callColumnSegment, int fromIndex,
+                                                                 int toIndex, boolean allCallTypes,
+                                                                 byte callTypeCode) {
+        ColumnarDailyStatistics columnarDailyStatistics = new ColumnarDailyStatistics();
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            byte rowCallTypeCode = callColumnSegment.getCallType(i);
+
+            if (!allCallTypes && rowCallTypeCode != callTypeCode) {
+                continue;
+            }
+
+            long callDuration = callColumnSegment.getCallEndTimestamp(i) - callColumnSegment.getCallStartTimestamp(i);
+
+            if (rowCallTypeCode == CallColumnSegment.CALL_TYPE_INBOUND_CODE) {
+                columnarDailyStatistics.totalCallsDurationInbound += callDuration;
+            } else if (rowCallTypeCode == CallColumnSegment.CALL_TYPE_OUTBOUND_CODE) {
+                columnarDailyStatistics.totalCallsDurationOutbound += callDuration;
+            }
+
+            columnarDailyStatistics.totalNumberOfCalls++;
+            columnarDailyStatistics.totalCallsCostInCents += callColumnSegment.getCallCostInCents(i);
+            columnarDailyStatistics.totalNumberOfCallsByCallerNumber.add(callColumnSegment.getCallerNumber(i), 1L);
+            columnarDailyStatistics.totalNumberOfCallsByCalleeNumber.add(callColumnSegment.getCalleeNumber(i), 1L);
+        }
+
+        return columnarDailyStatistics;
     }
 
-    private Long totalCallsDurationOutboundSum(List<CallDto> callDtoListEntryValues) {
-        return callDtoListEntryValues.stream().filter(callDto -> callDto.getCallType().equals(CALL_TYPE_OUTBOUND))
-                                     .mapToLong(callDto -> callDto.getCallDuration().toSeconds()).sum();
+    private CallsStatisticsJson approximateCallsStatisticsJson(CallsStatisticsJson.Builder callsStatisticsJsonBuilder,
+                                                               CallsSketches callsSketches, int numberOfTopNumbers) {
+        return callsStatisticsJsonBuilder
+                .withApproximateNumberOfCallerNumbers(callsSketches.getCallerNumbers().estimate())
+                .withApproximateNumberOfCalleeNumbers(callsSketches.getCalleeNumbers().estimate())
+                .withApproximateTopCallerNumbers(approximateTopCallerNumbers(callsSketches.getTopCallerNumbers(),
+                                                                             numberOfTopNumbers))
+                .withApproximateTopCalleeNumbers(approximateTopCalleeNumbers(callsSketches.getTopCalleeNumbers(),
+                                                                             numberOfTopNumbers))
+                .withApproximateTopCallerNumbersMaximumError(callsSketches.getTopCallerNumbers().getMaximumError())
+                .withApproximateTopCalleeNumbersMaximumError(callsSketches.getTopCalleeNumbers().getMaximumError())
+                .build();
     }
 
-    private List<TotalNumberOfCallsByCallerNumber> callDtoListAggregatedByCallerNumber(
-            List<CallDto> callDtoListEntryValues) {
-        Map<Long, List<CallDto>> callDtoListAggregatedByCallerNumberMap = callDtoListEntryValues.stream().collect(
-                Collectors.groupingBy(CallDto::getCallerNumber));
+    private CallsStatisticsJson.Builder callsStatisticsJsonBuilder(DailyStatisticsByDay dailyStatisticsByDay) {
+        return callsStatisticsJsonBuilder(dailyStatisticsByDay.getDay(),
+                                          dailyStatisticsByDay.getTotalCallsDurationInbound(),
+                                          dailyStatisticsByDay.getTotalCallsDurationOutbound(),
+                                          dailyStatisticsByDay.getTotalNumberOfCalls(),
+                                          dailyStatisticsByDay.getTotalCallsCost());
+    }
 
-        List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList = new ArrayList<>();
+    private CallsStatisticsJson.Builder callsStatisticsJsonBuilder(LocalDate day, Long totalCallsDurationInbound,
+                                                                   Long totalCallsDurationOutbound,
+                                                                   Long totalNumberOfCalls, Double totalCallsCost) {
+        return CallsStatisticsJson.Builder
+                .callStatisticsJsonWith()
+                .withDay(day)
+                .withTotalCallsDurationInbound(totalCallsDurationInbound)
+                .withTotalCallsDurationOutbound(totalCallsDurationOutbound)
+                .withTotalNumberOfCalls(totalNumberOfCalls)
+                .withTotalCallsCost(BigDecimal.valueOf(totalCallsCost)
+                                              .setScale(2, RoundingMode.HALF_UP)
+                                              .doubleValue());
+    }
 
-        for (Map.Entry<Long, List<CallDto>> callDtoListAggregatedByCallerNumberEntry :
-                callDtoListAggregatedByCallerNumberMap.entrySet()) {
+    private Map<LocalDate, List<TotalNumberOfCallsByCallerNumber>> totalNumberOfCallsByCallerNumberListByDay(
+            List<DailyCallerStatisticsByDay> dailyCallerStatisticsByDayList) {
+        Map<LocalDate, List<TotalNumberOfCallsByCallerNumber>> totalNumberOfCallsByCallerNumberListByDayMap =
+                new HashMap<>();
+
+        for (DailyCallerStatisticsByDay dailyCallerStatisticsByDay : dailyCallerStatisticsByDayList) {
             TotalNumberOfCallsByCallerNumber totalNumberOfCallsByCallerNumber =
                     TotalNumberOfCallsByCallerNumber.Builder
                             .totalNumberOfCallsByCallerNumberWith()
-                            .withCallerNumber(callDtoListAggregatedByCallerNumberEntry.getKey())
-                            .withTotalNumberOfCalls((long) callDtoListAggregatedByCallerNumberEntry.getValue().size())
+                            .withCallerNumber(dailyCallerStatisticsByDay.getCallerNumber())
+                            .withTotalNumberOfCalls(dailyCallerStatisticsByDay.getTotalNumberOfCalls())
                             .build();
 
-            totalNumberOfCallsByCallerNumberList.add(totalNumberOfCallsByCallerNumber);
+            totalNumberOfCallsByCallerNumberListByDayMap.computeIfAbsent(dailyCallerStatisticsByDay.getDay(),
+                                                                         day -> new ArrayList<>())
+                                                        .add(totalNumberOfCallsByCallerNumber);
         }
 
-        return totalNumberOfCallsByCallerNumberList;
+        return totalNumberOfCallsByCallerNumberListByDayMap;
     }
 
-    private List<TotalNumberOfCallsByCalleeNumber> callDtoListAggregatedByCalleeNumber(
-            List<CallDto> callDtoListEntryValues) {
-        Map<Long, List<CallDto>> callDtoListAggregatedByCalleeNumberMap = callDtoListEntryValues.stream().collect(
-                Collectors.groupingBy(CallDto::getCalleeNumber));
-
-        List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList = new ArrayList<>();
+    private Map<LocalDate, List<TotalNumberOfCallsByCalleeNumber>> totalNumberOfCallsByCalleeNumberListByDay(
+            List<DailyCalleeStatisticsByDay> dailyCalleeStatisticsByDayList) {
+        Map<LocalDate, List<TotalNumberOfCallsByCalleeNumber>> totalNumberOfCallsByCalleeNumberListByDayMap =
+                new HashMap<>();
 
-        for (Map.Entry<Long, List<CallDto>> callDtoListAggregatedByCalleeNumberEntry :
-                callDtoListAggregatedByCalleeNumberMap
-                        .entrySet()) {
+        for (DailyCalleeStatisticsByDay dailyCalleeStatisticsByDay : dailyCalleeStatisticsByDayList) {
             TotalNumberOfCallsByCalleeNumber totalNumberOfCallsByCalleeNumber =
                     TotalNumberOfCallsByCalleeNumber.Builder
                             .totalNumberOfCallsByCalleeNumberWith()
-                            .withCalleeNumber(callDtoListAggregatedByCalleeNumberEntry.getKey())
-                            .withTotalNumberOfCalls((long) callDtoListAggregatedByCalleeNumberEntry.getValue().size())
+                            .withCalleeNumber(dailyCalleeStatisticsByDay.getCalleeNumber())
+                            .withTotalNumberOfCalls(dailyCalleeStatisticsByDay.getTotalNumberOfCalls())
                             .build();
 
-            totalNumberOfCallsByCalleeNumberList.add(totalNumberOfCallsByCalleeNumber);
+            totalNumberOfCallsByCalleeNumberListByDayMap.computeIfAbsent(dailyCalleeStatisticsByDay.getDay(),
+                                                                         day -> new ArrayList<>())
+                                                        .add(totalNumberOfCallsByCalleeNumber);
+        }
+
+        return totalNumberOfCallsByCalleeNumberListByDayMap;
+    }
+
+    private Map<LocalDate, TopNumbersCounter> topCallerNumbersByDay(
+            List<DailyCallerStatisticsByDay> dailyCallerStatisticsByDayList, int topN) {
+        Map<LocalDate, TopNumbersCounter> topCallerNumbersByDayMap = new HashMap<>();
+
+        for (DailyCallerStatisticsByDay dailyCallerStatisticsByDay : dailyCallerStatisticsByDayList) {
+            topCallerNumbersByDayMap.computeIfAbsent(dailyCallerStatisticsByDay.getDay(),
+                                                     day -> new TopNumbersCounter(topN))
+                                    .add(dailyCallerStatisticsByDay.getCallerNumber(),
+                                         dailyCallerStatisticsByDay.getTotalNumberOfCalls());
+        }
+
+        return topCallerNumbersByDayMap;
+    }
+
+    private Map<LocalDate, TopNumbersCounter> topCalleeNumbersByDay(
+            List<DailyCalleeStatisticsByDay> dailyCalleeStatisticsByDayList, int topN) {
+        Map<LocalDate, TopNumbersCounter> topCalleeNumbersByDayMap = new HashMap<>();
+
+        for (DailyCalleeStatisticsByDay dailyCalleeStatisticsByDay : dailyCalleeStatisticsByDayList) {
+            topCalleeNumbersByDayMap.computeIfAbsent(dailyCalleeStatisticsByDay.getDay(),
+                                                     day -> new TopNumbersCounter(topN))
+                                    .add(dailyCalleeStatisticsByDay.getCalleeNumber(),
+                                         dailyCalleeStatisticsByDay.getTotalNumberOfCalls());
+        }
+
+        return topCalleeNumbersByDayMap;
+    }
+
+    private List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList(
+            TopNumbersCounter topCallerNumbers) {
+        List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList = new ArrayList<>();
+
+        topCallerNumbers.drainTopNumbers((callerNumber, totalNumberOfCalls) -> totalNumberOfCallsByCallerNumberList
+                .add(TotalNumberOfCallsByCallerNumber.Builder.totalNumberOfCallsByCallerNumberWith()
+                                                             .withCallerNumber(callerNumber)
+                                                             .withTotalNumberOfCalls(totalNumberOfCalls)
+                                                             .build()));
+
+        return totalNumberOfCallsByCallerNumberList;
+    }
+
+    private List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList(
+            TopNumbersCounter topCalleeNumbers) {
+        List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList = new ArrayList<>();
+
+        topCalleeNumbers.drainTopNumbers((calleeNumber, totalNumberOfCalls) -> totalNumberOfCallsByCalleeNumberList
+                .add(TotalNumberOfCallsByCalleeNumber.Builder.totalNumberOfCallsByCalleeNumberWith()
+                                                             .withCalleeNumber(calleeNumber)
+                                                             .withTotalNumberOfCalls(totalNumberOfCalls)
+                                                             .build()));
+
+        return totalNumberOfCallsByCalleeNumberList;
+    }
+
+    private List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList(
+            LongLongCounterMap totalNumberOfCallsByCallerNumber) {
+        long[] callerNumbers = totalNumberOfCallsByCallerNumber.keys();
+        List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList =
+                new ArrayList<>(callerNumbers.length);
+
+        Arrays.sort(callerNumbers);
+
+        for (long callerNumber : callerNumbers) {
+            totalNumberOfCallsByCallerNumberList.add(TotalNumberOfCallsByCallerNumber.Builder
+                                                             .totalNumberOfCallsByCallerNumberWith()
+                                                             .withCallerNumber(callerNumber)
+                                                             .withTotalNumberOfCalls(totalNumberOfCallsByCallerNumber
+                                                                                             .get(callerNumber))
+                                                             .build());
+        }
+
+        return totalNumberOfCallsByCallerNumberList;
+    }
+
+    private List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList(
+            LongLongCounterMap totalNumberOfCallsByCalleeNumber) {
+        long[] calleeNumbers = totalNumberOfCallsByCalleeNumber.keys();
+        List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList =
+                new ArrayList<>(calleeNumbers.length);
+
+        Arrays.sort(calleeNumbers);
+
+        for (long calleeNumber : calleeNumbers) {
+            totalNumberOfCallsByCalleeNumberList.add(TotalNumberOfCallsByCalleeNumber.Builder
+                                                             .totalNumberOfCallsByCalleeNumberWith()
+                                                             .withCalleeNumber(calleeNumber)
+                                                             .withTotalNumberOfCalls(totalNumberOfCallsByCalleeNumber
+                                                                                             .get(calleeNumber))
+                                                             .build());
         }
 
         return totalNumberOfCallsByCalleeNumberList;
     }
 
-    private Double totalCallsCostSum(List<CallDto> callDtoListEntryValue) {
-        return callDtoListEntryValue.stream().mapToDouble(CallDto::getCallCost).sum();
+    private List<TotalNumberOfCallsByCallerNumber> approximateTopCallerNumbers(SpaceSaving topCallerNumbers,
+                                                                               int numberOfTopNumbers) {
+        List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList = new ArrayList<>();
+
+        topCallerNumbers.forEach(numberOfTopNumbers, (callerNumber, totalNumberOfCalls, error) ->
+                totalNumberOfCallsByCallerNumberList.add(TotalNumberOfCallsByCallerNumber.Builder
+                                                                 .totalNumberOfCallsByCallerNumberWith()
+                                                                 .withCallerNumber(callerNumber)
+                                                                 .withTotalNumberOfCalls(totalNumberOfCalls)
+                                                                 .build()));
+
+        return totalNumberOfCallsByCallerNumberList;
+    }
+
+    private List<TotalNumberOfCallsByCalleeNumber> approximateTopCalleeNumbers(SpaceSaving topCalleeNumbers,
+                                                                               int numberOfTopNumbers) {
+        List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList = new ArrayList<>();
+
+        topCalleeNumbers.forEach(numberOfTopNumbers, (calleeNumber, totalNumberOfCalls, error) ->
+                totalNumberOfCallsByCalleeNumberList.add(TotalNumberOfCallsByCalleeNumber.Builder
+                                                                 .totalNumberOfCallsByCalleeNumberWith()
+                                                                 .withCalleeNumber(calleeNumber)
+                                                                 .withTotalNumberOfCalls(totalNumberOfCalls)
+                                                                 .build()));
+
+        return totalNumberOfCallsByCalleeNumberList;
+    }
+
+    private static class ColumnarDailyStatistics {
+        private final LongLongCounterMap totalNumberOfCallsByCallerNumber = new LongLongCounterMap();
+        private final LongLongCounterMap totalNumberOfCallsByCalleeNumber = new LongLongCounterMap();
+
+        private long totalCallsDurationInbound;
+        private long totalCallsDurationOutbound;
+        private long totalNumberOfCalls;
+        private long totalCallsCostInCents;
+
+        private ColumnarDailyStatistics merge(ColumnarDailyStatistics columnarDailyStatistics) {
+            totalNumberOfCallsByCallerNumber.merge(columnarDailyStatistics.totalNumberOfCallsByCallerNumber);
+            totalNumberOfCallsByCalleeNumber.merge(columnarDailyStatistics.totalNumberOfCallsByCalleeNumber);
+            totalCallsDurationInbound += columnarDailyStatistics.totalCallsDurationInbound;
+            totalCallsDurationOutbound += columnarDailyStatistics.totalCallsDurationOutbound;
+            totalNumberOfCalls += columnarDailyStatistics.totalNumberOfCalls;
+            totalCallsCostInCents += columnarDailyStatistics.totalCallsCostInCents;
+
+            return this;
+        }
+    }
+
+    private static class ColumnarDailyStatisticsTask extends RecursiveTask<ColumnarDailyStatistics> {
+        private final CallColumnSegment callColumnSegment;
+        private final int fromIndex;
+        private final int toIndex;
+        private final boolean allCallTypes;
+        private final byte callTypeCode;
+
+        private ColumnarDailyStatisticsTask(CallColumnSegment callColumnSegment, int fromIndex, int toIndex,
+                                            boolean allCallTypes, byte callTypeCode) {
+            this.callColumnSegment = callColumnSegment;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.allCallTypes = allCallTypes;
+            this.callTypeCode = callTypeCode;
+        }
+
+        @Override
+        protected ColumnarDailyStatistics compute() {
+            if (toIndex - fromIndex <= NUMBER_OF_CALLS_BY_STATISTICS_CHUNK) {
+                return scanCallColumnSegment(callColumnSegment, fromIndex, toIndex, allCallTypes, callTypeCode);
+            }
+
+            int middleIndex = (fromIndex + toIndex) >>> 1;
+            ColumnarDailyStatisticsTask firstHalfTask = new ColumnarDailyStatisticsTask(
+                    callColumnSegment, fromIndex, middleIndex, allCallTypes, callTypeCode);
+
+            firstHalfTask.fork();
+
+            ColumnarDailyStatistics secondHalfColumnarDailyStatistics = new ColumnarDailyStatisticsTask(
+                    callColumnSegment, middleIndex, toIndex, allCallTypes, callTypeCode).compute();
+
+            return firstHalfTask.join().merge(secondHalfColumnarDailyStatistics);
+        }
     }
 }
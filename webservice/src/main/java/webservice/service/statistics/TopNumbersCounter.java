@@ -0,0 +1,100 @@
+package webservice.service.statistics;
+
+public class TopNumbersCounter {
+    private final long[] numbers;
+    private final long[] totalNumberOfCalls;
+    private int size;
+    private long totalNumberOfCallsByOtherNumbers;
+
+    public TopNumbersCounter(int topN) {
+        this.numbers = new long[topN];
+        this.totalNumberOfCalls = new long[topN];
+    }
+
+    public void add(long number, long numberOfCalls) {
+        if (size < numbers.length) {
+            numbers[size] = number;
+            totalNumberOfCalls[size] = numberOfCalls;
+            siftUp(size++);
+        } else if (size > 0 && isBefore(number, numberOfCalls, numbers[0], totalNumberOfCalls[0])) {
+            totalNumberOfCallsByOtherNumbers += totalNumberOfCalls[0];
+            numbers[0] = number;
+            totalNumberOfCalls[0] = numberOfCalls;
+            siftDown(0);
+        } else {
+            totalNumberOfCallsByOtherNumbers += numberOfCalls;
+        }
+    }
+
+    public void drainTopNumbers(LongLongCounterMap.LongLongConsumer consumer) {
+        long[] sortedNumbers = new long[size];
+        long[] sortedTotalNumberOfCalls = new long[size];
+
+        for (int i = size - 1; i >= 0; i--) {
+            sortedNumbers[i] = numbers[0];
+            sortedTotalNumberOfCalls[i] = totalNumberOfCalls[0];
+            swap(0, --size);
+            siftDown(0);
+        }
+
+        for (int i = 0; i < sortedNumbers.length; i++) {
+            consumer.accept(sortedNumbers[i], sortedTotalNumberOfCalls[i]);
+        }
+    }
+
+    public long getTotalNumberOfCallsByOtherNumbers() {
+        return totalNumberOfCallsByOtherNumbers;
+    }
+
+    private static boolean isBefore(long number, long numberOfCalls, long otherNumber, long otherNumberOfCalls) {
+        return numberOfCalls > otherNumberOfCalls || (numberOfCalls == otherNumberOfCalls && number < otherNumber);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+
+            if (!isBefore(numbers[parent], totalNumberOfCalls[parent], numbers[index], totalNumberOfCalls[index])) {
+                return;
+            }
+
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int last = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+
+            if (left < size && isBefore(numbers[last], totalNumberOfCalls[last], numbers[left],
+                                        totalNumberOfCalls[left])) {
+                last = left;
+            }
+
+            if (right < size && isBefore(numbers[last], totalNumberOfCalls[last], numbers[right],
+                                         totalNumberOfCalls[right])) {
+                last = right;
+            }
+
+            if (last == index) {
+                return;
+            }
+
+            swap(index, last);
+            index = last;
+        }
+    }
+
+    private void swap(int first, int second) {
+        long number = numbers[first];
+        long numberOfCalls = totalNumberOfCalls[first];
+
+        numbers[first] = numbers[second];
+        totalNumberOfCalls[first] = totalNumberOfCalls[second];
+        numbers[second] = number;
+        totalNumberOfCalls[second] = numberOfCalls;
+    }
+}
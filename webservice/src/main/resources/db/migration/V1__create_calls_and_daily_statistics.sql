@@ -0,0 +1,54 @@
+create sequence calls_sequence start with 1 increment by 50;
+
+create table calls (
+    id bigint not null,
+    caller_number bigint not null,
+    callee_number bigint not null,
+    call_start_timestamp bigint not null,
+    call_end_timestamp bigint not null,
+    call_type varchar(255) not null,
+    call_start_day date not null,
+    call_end_day date not null,
+    call_start_time time not null,
+    call_end_time time not null,
+    call_duration bigint not null,
+    call_cost double not null,
+    primary key (id)
+);
+
+create sequence daily_statistics_sequence start with 1 increment by 50;
+
+create table daily_statistics (
+    id bigint not null,
+    day date not null,
+    call_type varchar(255) not null,
+    total_calls_duration bigint not null,
+    total_number_of_calls bigint not null,
+    total_calls_cost double not null,
+    primary key (id),
+    constraint uk_daily_statistics unique (day, call_type)
+);
+
+create sequence daily_caller_statistics_sequence start with 1 increment by 50;
+
+create table daily_caller_statistics (
+    id bigint not null,
+    day date not null,
+    call_type varchar(255) not null,
+    caller_number bigint not null,
+    total_number_of_calls bigint not null,
+    primary key (id),
+    constraint uk_daily_caller_statistics unique (day, call_type, caller_number)
+);
+
+create sequence daily_callee_statistics_sequence start with 1 increment by 50;
+
+create table daily_callee_statistics (
+    id bigint not null,
+    day date not null,
+    call_type varchar(255) not null,
+    callee_number bigint not null,
+    total_number_of_calls bigint not null,
+    primary key (id),
+    constraint uk_daily_callee_statistics unique (day, call_type, callee_number)
+);
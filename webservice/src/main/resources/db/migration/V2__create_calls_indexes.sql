@@ -0,0 +1,3 @@
+create index idx_calls_call_type_id on calls (call_type, id);
+
+create index idx_calls_call_start_day_call_type on calls (call_start_day, call_type);
@@ -0,0 +1,13 @@
+create sequence daily_sketches_sequence start with 1 increment by 50;
+
+create table daily_sketches (
+    id bigint not null,
+    day date not null,
+    call_type varchar(255) not null,
+    caller_numbers_sketch blob,
+    callee_numbers_sketch blob,
+    top_caller_numbers_sketch blob,
+    top_callee_numbers_sketch blob,
+    primary key (id),
+    constraint uk_daily_sketches unique (day, call_type)
+);
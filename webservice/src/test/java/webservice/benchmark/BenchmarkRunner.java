@@ -0,0 +1,39 @@
+package webservice.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Runs the given benchmarks (the ingestion and statistics ones by default) with the GC profiler, and writes the
+// results as JSON to target/jmh, one file per run, so runs can be compared over time.
+public class BenchmarkRunner {
+    private static final String RESULTS_DIRECTORY = "target/jmh";
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder chainedOptionsBuilder = new OptionsBuilder();
+
+        if (args.length == 0) {
+            chainedOptionsBuilder.include(CallIngestionBenchmark.class.getSimpleName())
+                                 .include(StatisticsServiceBenchmark.class.getSimpleName());
+        } else {
+            for (String benchmark : args) {
+                chainedOptionsBuilder.include(benchmark);
+            }
+        }
+
+        new File(RESULTS_DIRECTORY).mkdirs();
+
+        new Runner(chainedOptionsBuilder.addProfiler(GCProfiler.class)
+                                        .resultFormat(ResultFormatType.JSON)
+                                        .result(RESULTS_DIRECTORY + "/" + LocalDateTime.now().format(
+                                                DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json")
+                                        .build()).run();
+    }
+}
@@ -0,0 +1,155 @@
+package webservice.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import webservice.model.calldto.CallDto;
+import webservice.repository.CallRepository;
+import webservice.service.call.CallServiceImpl;
+import webservice.service.call.CallTimestampDecomposer;
+import webservice.service.call.CallValidator;
+import webservice.service.statistics.DailyStatisticsService;
+import webservice.service.statistics.LiveStatisticsService;
+import webservice.service.statistics.StatisticsCacheService;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+
+// Generates the calls a client would send, spread uniformly over the days and the caller and callee numbers, with
+// exponentially distributed durations.
+public class CallGenerator {
+    private static final long FIRST_CALLER_NUMBER = 910000000L;
+    private static final long FIRST_CALLEE_NUMBER = 960000000L;
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    private final LocalDate firstDay;
+    private final int numberOfDays;
+    private final int numberOfCallerNumbers;
+    private final int numberOfCalleeNumbers;
+    private final double inboundRatio;
+    private final double meanCallDurationSeconds;
+    private final Random random;
+
+    public CallGenerator(Builder builder) {
+        this.firstDay = builder.firstDay;
+        this.numberOfDays = builder.numberOfDays;
+        this.numberOfCallerNumbers = builder.numberOfCallerNumbers;
+        this.numberOfCalleeNumbers = builder.numberOfCalleeNumbers;
+        this.inboundRatio = builder.inboundRatio;
+        this.meanCallDurationSeconds = builder.meanCallDurationSeconds;
+        this.random = new Random(builder.seed);
+    }
+
+    public List<CallDto> generateCallDtoList(int numberOfCalls) {
+        List<CallDto> callDtoList = new ArrayList<>(numberOfCalls);
+        long firstEpochSecond = firstDay.toEpochDay() * SECONDS_PER_DAY;
+
+        for (int i = 0; i < numberOfCalls; i++) {
+            long callStartTimestamp = firstEpochSecond + random.nextInt(numberOfDays) * SECONDS_PER_DAY
+                                      + random.nextInt((int) SECONDS_PER_DAY);
+            long callDurationSeconds = Math.round(-meanCallDurationSeconds * Math.log(1 - random.nextDouble()));
+
+            callDtoList.add(CallDto.Builder.callModelWith()
+                                           .withCallerNumber(FIRST_CALLER_NUMBER
+                                                             + random.nextInt(numberOfCallerNumbers))
+                                           .withCalleeNumber(FIRST_CALLEE_NUMBER
+                                                             + random.nextInt(numberOfCalleeNumbers))
+                                           .withStartTimestamp(callStartTimestamp)
+                                           .withEndTimestamp(callStartTimestamp + callDurationSeconds)
+                                           .withCallType(random.nextDouble() < inboundRatio ? CALL_TYPE_INBOUND :
+                                                         CALL_TYPE_OUTBOUND)
+                                           .build());
+        }
+
+        return callDtoList;
+    }
+
+    // Runs the generated calls through CallServiceImpl, with stubbed repositories, so they get the days, durations
+    // and costs the service would store.
+    public List<CallDto> generateCreatedCallDtoList(int numberOfCalls) {
+        return stubbedCallServiceImpl().createCalls(generateCallDtoList(numberOfCalls));
+    }
+
+    public static CallServiceImpl stubbedCallServiceImpl() {
+        CallRepository callRepository = mock(CallRepository.class, withSettings().stubOnly());
+
+        when(callRepository.saveAllInBatches(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        return new CallServiceImpl(callRepository, mock(DailyStatisticsService.class, withSettings().stubOnly()),
+                                   mock(StatisticsCacheService.class, withSettings().stubOnly()),
+                                   mock(LiveStatisticsService.class, withSettings().stubOnly()),
+                                   new CallTimestampDecomposer(ZoneOffset.UTC), new CallValidator(),
+                                   Optional.empty(),
+                                   new SimpleMeterRegistry());
+    }
+
+    public static class Builder {
+        private LocalDate firstDay = LocalDate.of(2020, Month.JANUARY, 1);
+        private int numberOfDays = 30;
+        private int numberOfCallerNumbers = 100000;
+        private int numberOfCalleeNumbers = 100000;
+        private double inboundRatio = 0.5;
+        private double meanCallDurationSeconds = 180;
+        private long seed = 42;
+
+        public static Builder callGeneratorWith() {
+            return new Builder();
+        }
+
+        public Builder withFirstDay(LocalDate firstDay) {
+            this.firstDay = firstDay;
+
+            return this;
+        }
+
+        public Builder withNumberOfDays(int numberOfDays) {
+            this.numberOfDays = numberOfDays;
+
+            return this;
+        }
+
+        public Builder withNumberOfCallerNumbers(int numberOfCallerNumbers) {
+            this.numberOfCallerNumbers = numberOfCallerNumbers;
+
+            return this;
+        }
+
+        public Builder withNumberOfCalleeNumbers(int numberOfCalleeNumbers) {
+            this.numberOfCalleeNumbers = numberOfCalleeNumbers;
+
+            return this;
+        }
+
+        public Builder withInboundRatio(double inboundRatio) {
+            this.inboundRatio = inboundRatio;
+
+            return this;
+        }
+
+        public Builder withMeanCallDurationSeconds(double meanCallDurationSeconds) {
+            this.meanCallDurationSeconds = meanCallDurationSeconds;
+
+            return this;
+        }
+
+        public Builder withSeed(long seed) {
+            this.seed = seed;
+
+            return this;
+        }
+
+        public CallGenerator build() {
+            return new CallGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package webservice.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import webservice.model.calldto.CallDto;
+import webservice.model.calljson.CallJson;
+import webservice.model.mapper.CallMapper;
+import webservice.service.call.CallServiceImpl;
+import webservice.service.call.CallValidator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallIngestionBenchmark {
+    @Param({"1000"})
+    private int numberOfCalls;
+
+    @Param({"0.5"})
+    private double inboundRatio;
+
+    private List<CallDto> callDtoList;
+    private List<CallJson> callJsonList;
+    private CallValidator callValidator;
+    private CallMapper callMapper;
+    private CallServiceImpl callServiceImpl;
+
+    @Setup
+    public void setup() {
+        callDtoList = CallGenerator.Builder.callGeneratorWith()
+                                           .withInboundRatio(inboundRatio)
+                                           .build()
+                                           .generateCallDtoList(numberOfCalls);
+        callValidator = new CallValidator();
+        callMapper = new CallMapper(new SimpleMeterRegistry());
+        callJsonList = callMapper.convertCallDtoListToCallJsonList(callDtoList);
+        callServiceImpl = CallGenerator.stubbedCallServiceImpl();
+    }
+
+    @Benchmark
+    public void verifyValidityOfCall(Blackhole blackhole) {
+        for (CallDto callDto : callDtoList) {
+            blackhole.consume(callValidator.findViolationOfCall(callDto));
+        }
+    }
+
+    // Validates the calls and sets their days, times, durations and costs, with the repositories stubbed out.
+    @Benchmark
+    public List<CallDto> createCalls() {
+        return callServiceImpl.createCalls(callDtoList);
+    }
+
+    @Benchmark
+    public List<CallJson> convertCallDtoListToCallJsonList() {
+        return callMapper.convertCallDtoListToCallJsonList(callDtoList);
+    }
+
+    @Benchmark
+    public List<CallDto> convertCallJsonListToCallDtoList() {
+        return callMapper.convertCallJsonListToCallDtoList(callJsonList);
+    }
+}
@@ -0,0 +1,90 @@
+package webservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import webservice.model.calljson.CallJson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CallJsonWireFormatBenchmark {
+    private static final TypeReference<List<CallJson>> CALL_JSON_LIST_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"1000"})
+    private int numberOfCalls;
+
+    @Param({"json", "smile"})
+    private String wireFormat;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ObjectMapper objectMapper;
+    private List<CallJson> callJsonList;
+    private byte[] callJsonListBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        Random random = new Random(42);
+
+        objectMapper = wireFormat.equals("smile") ? new ObjectMapper(new SmileFactory()) : new ObjectMapper();
+        callJsonList = new ArrayList<>(numberOfCalls);
+
+        for (int i = 0; i < numberOfCalls; i++) {
+            long callStartTimestamp = 1577836800L + random.nextInt(31536000);
+
+            callJsonList.add(CallJson.Builder.callModelWith()
+                                             .withId((long) i + 1)
+                                             .withCallerNumber(100000000L + random.nextInt(900000000))
+                                             .withCalleeNumber(100000000L + random.nextInt(900000000))
+                                             .withStartTimestamp(callStartTimestamp)
+                                             .withEndTimestamp(callStartTimestamp + random.nextInt(3600))
+                                             .withCallType(random.nextBoolean() ? "Inbound" : "Outbound")
+                                             .build());
+        }
+
+        callJsonListBytes = serialize();
+
+        System.out.println();
+        System.out.println("Bytes on the wire for " + numberOfCalls + " calls (" + wireFormat + ", gzip " + gzip
+                           + "): " + callJsonListBytes.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+
+        try (OutputStream outputStream = gzip ? new GZIPOutputStream(byteArrayOutputStream) :
+                                         byteArrayOutputStream) {
+            objectMapper.writeValue(outputStream, callJsonList);
+        }
+
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Benchmark
+    public List<CallJson> deserialize() throws IOException {
+        try (InputStream inputStream = gzip ? new GZIPInputStream(new ByteArrayInputStream(callJsonListBytes)) :
+                                       new ByteArrayInputStream(callJsonListBytes)) {
+            return objectMapper.readValue(inputStream, CALL_JSON_LIST_TYPE);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package webservice.benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import webservice.Application;
+import webservice.model.calldto.CallDto;
+import webservice.repository.CallRepository;
+import webservice.service.call.CallTimestampDecomposer;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class CallPersistenceBenchmark {
+    private static final CallTimestampDecomposer CALL_TIMESTAMP_DECOMPOSER =
+            new CallTimestampDecomposer(ZoneId.of("UTC"));
+    private static final int NUMBER_OF_WARM_UP_CALLS = 50000;
+
+    public static void main(String[] args) {
+        String[] numbersOfCalls = (args.length > 0 ? args[0] : "1000,100000,1000000").split(",");
+
+        // Warms up every mode, so the first sizes are not measured on interpreted code.
+        run(NUMBER_OF_WARM_UP_CALLS, 1, false, true);
+        run(NUMBER_OF_WARM_UP_CALLS, 1, false, false);
+        run(NUMBER_OF_WARM_UP_CALLS, 50, true, false);
+
+        System.out.printf("%-12s %-28s %15s%n", "calls", "mode", "rows/second");
+
+        for (String numberOfCalls : numbersOfCalls) {
+            int callsToBeCreated = Integer.parseInt(numberOfCalls.trim());
+
+            System.out.printf("%-12d %-28s %15.0f%n", callsToBeCreated, "saveAll with original ids",
+                              run(callsToBeCreated, 1, false, true));
+            System.out.printf("%-12d %-28s %15.0f%n", callsToBeCreated, "saveAll with pooled ids",
+                              run(callsToBeCreated, 1, false, false));
+            System.out.printf("%-12d %-28s %15.0f%n", callsToBeCreated, "saveAllInBatches",
+                              run(callsToBeCreated, 50, true, false));
+        }
+    }
+
+    // The original ids are mapped by an orm.xml over CallDto, taking one hibernate_sequence value per call from a
+    // sequence created by an extra migration, as the calls were persisted before the pooled calls_sequence.
+    private static double run(int numberOfCalls, int batchSize, boolean inBatches, boolean originalIds) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark" + System.nanoTime(),
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+
+        if (originalIds) {
+            arguments.add("--spring.jpa.mapping-resources=benchmark/original-call-ids-orm.xml");
+            arguments.add("--spring.flyway.locations=classpath:db/migration,classpath:benchmark/migration");
+        }
+
+        try (ConfigurableApplicationContext applicationContext = new SpringApplication(Application.class) {{
+            setWebApplicationType(WebApplicationType.NONE);
+        }}.run(arguments.toArray(new String[0]))) {
+            CallRepository callRepository = applicationContext.getBean(CallRepository.class);
+            TransactionTemplate transactionTemplate =
+                    new TransactionTemplate(applicationContext.getBean(PlatformTransactionManager.class));
+
+            List<CallDto> callDtoList = generateCalls(numberOfCalls);
+
+            long start = System.nanoTime();
+
+            transactionTemplate.executeWithoutResult(transactionStatus -> {
+                if (inBatches) {
+                    callRepository.saveAllInBatches(callDtoList);
+                } else {
+                    callRepository.saveAll(callDtoList);
+                }
+            });
+
+            long elapsed = System.nanoTime() - start;
+
+            return numberOfCalls / (elapsed / 1_000_000_000.0);
+        }
+    }
+
+    private static List<CallDto> generateCalls(int numberOfCalls) {
+        Random random = new Random(42);
+        List<CallDto> callDtoList = new ArrayList<>(numberOfCalls);
+
+        for (int i = 0; i < numberOfCalls; i++) {
+            long callStartTimestamp = 1577836800L + random.nextInt(31536000);
+
+            CallDto callDto = CallDto.Builder.callModelWith()
+                                             .withCallerNumber(1L + random.nextInt(100000))
+                                             .withCalleeNumber(1L + random.nextInt(100000))
+                                             .withStartTimestamp(callStartTimestamp)
+                                             .withEndTimestamp(callStartTimestamp + random.nextInt(3600))
+                                             .withCallType(random.nextBoolean() ? "Inbound" : "Outbound")
+                                             .withCallCost(0.0)
+                                             .build();
+
+            CALL_TIMESTAMP_DECOMPOSER.decompose(callDto);
+
+            callDtoList.add(callDto);
+        }
+
+        return callDtoList;
+    }
+}
@@ -0,0 +1,70 @@
+package webservice.benchmark;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import webservice.Application;
+import webservice.repository.CallRepository;
+
+import java.util.function.Supplier;
+
+public class CallRepositoryQueryBenchmark {
+    private static final int NUMBER_OF_REPETITIONS = 20;
+
+    public static void main(String[] args) {
+        long numberOfCalls = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000L;
+
+        try (ConfigurableApplicationContext applicationContext = new SpringApplication(Application.class) {{
+            setWebApplicationType(WebApplicationType.NONE);
+        }}.run("--spring.datasource.url=jdbc:h2:mem:benchmark;OPTIMIZE_REUSE_RESULTS=0", "--logging.level.root=WARN")) {
+            CallRepository callRepository = applicationContext.getBean(CallRepository.class);
+            JdbcTemplate jdbcTemplate = applicationContext.getBean(JdbcTemplate.class);
+
+            jdbcTemplate.update("insert into calls (id, caller_number, callee_number, call_start_timestamp, "
+                                + "call_end_timestamp, call_type, call_start_day, call_end_day, call_start_time, "
+                                + "call_end_time, call_duration, call_cost) "
+                                + "select x, mod(x, 100000) + 1, mod(x * 7, 100000) + 1, 1577880000, 1577880060, "
+                                + "casewhen(mod(x, 2) = 0, 'Inbound', 'Outbound'), "
+                                + "dateadd('DAY', mod(x, 365), date '2020-01-01'), "
+                                + "dateadd('DAY', mod(x, 365), date '2020-01-01'), "
+                                + "time '12:00:00', time '12:01:00', 60000000000, 0.1 "
+                                + "from system_range(1, ?)", numberOfCalls);
+            jdbcTemplate.execute("analyze");
+
+            System.out.printf("%d calls%n", numberOfCalls);
+
+            run("with indexes", callRepository, numberOfCalls);
+
+            jdbcTemplate.execute("drop index idx_calls_call_type_id");
+            jdbcTemplate.execute("drop index idx_calls_call_start_day_call_type");
+
+            run("without indexes", callRepository, numberOfCalls);
+        }
+    }
+
+    private static void run(String mode, CallRepository callRepository, long numberOfCalls) {
+        System.out.printf("%-16s %-40s %10.2f ms%n", mode, "page of Inbound calls after middle id",
+                          averageMilliseconds(
+                                  () -> callRepository.findByCallTypeAndIdGreaterThanOrderByCallTypeAscIdAsc(
+                                          "Inbound", numberOfCalls / 2, PageRequest.of(0, 10))));
+        System.out.printf("%-16s %-40s %10.2f ms%n", mode, "first page of Inbound calls with count",
+                          averageMilliseconds(() -> callRepository.findByCallType(PageRequest.of(0, 10),
+                                                                                  "Inbound")));
+    }
+
+    private static double averageMilliseconds(Supplier<?> query) {
+        for (int i = 0; i < NUMBER_OF_REPETITIONS; i++) {
+            query.get();
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < NUMBER_OF_REPETITIONS; i++) {
+            query.get();
+        }
+
+        return (System.nanoTime() - start) / 1_000_000.0 / NUMBER_OF_REPETITIONS;
+    }
+}
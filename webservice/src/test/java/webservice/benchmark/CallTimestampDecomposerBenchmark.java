@@ -0,0 +1,89 @@
+package webservice.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import webservice.model.calldto.CallDto;
+import webservice.service.call.CallTimestampDecomposer;
+
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Duser.timezone=Europe/Lisbon")
+public class CallTimestampDecomposerBenchmark {
+    private static final int NUMBER_OF_CALLS = 1024;
+
+    private CallDto[] callDtoArray;
+    private CallTimestampDecomposer callTimestampDecomposer;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        callDtoArray = new CallDto[NUMBER_OF_CALLS];
+
+        for (int i = 0; i < NUMBER_OF_CALLS; i++) {
+            long callStartTimestamp = 1577836800L + random.nextInt(31536000);
+
+            callDtoArray[i] = CallDto.Builder.callModelWith()
+                                             .withStartTimestamp(callStartTimestamp)
+                                             .withEndTimestamp(callStartTimestamp + random.nextInt(3600))
+                                             .build();
+        }
+
+        callTimestampDecomposer = new CallTimestampDecomposer(ZoneId.of(TimeZone.getDefault().getID()));
+    }
+
+    private CallDto nextCallDto() {
+        CallDto callDto = callDtoArray[index];
+
+        index = (index + 1) & (NUMBER_OF_CALLS - 1);
+
+        return callDto;
+    }
+
+    @Benchmark
+    public void decomposer(Blackhole blackhole) {
+        CallDto callDto = nextCallDto();
+
+        callTimestampDecomposer.decompose(callDto);
+
+        blackhole.consume(callDto);
+    }
+
+    @Benchmark
+    public void formatAndParse(Blackhole blackhole) {
+        CallDto callDto = nextCallDto();
+
+        long callStartTimestamp = callDto.getCallStartTimestamp() * 1000L;
+        long callEndTimestamp = callDto.getCallEndTimestamp() * 1000L;
+
+        callDto.setCallStartDay(LocalDate.parse(new SimpleDateFormat("dd-MM-yyyy").format(callStartTimestamp),
+                                                DateTimeFormatter.ofPattern("dd-MM-yyyy")));
+        callDto.setCallEndDay(LocalDate.parse(new SimpleDateFormat("dd-MM-yyyy").format(callEndTimestamp),
+                                              DateTimeFormatter.ofPattern("dd-MM-yyyy")));
+        callDto.setCallStartTime(LocalTime.parse(new SimpleDateFormat("HH:mm:ss").format(callStartTimestamp),
+                                                 DateTimeFormatter.ofPattern("HH:mm:ss")));
+        callDto.setCallEndTime(LocalTime.parse(new SimpleDateFormat("HH:mm:ss").format(callEndTimestamp),
+                                               DateTimeFormatter.ofPattern("HH:mm:ss")));
+        callDto.setCallDuration(Duration.between(LocalDateTime.of(callDto.getCallStartDay(),
+                                                                  callDto.getCallStartTime()),
+                                                 LocalDateTime.of(callDto.getCallEndDay(),
+                                                                  callDto.getCallEndTime())));
+
+        blackhole.consume(callDto);
+    }
+}
@@ -0,0 +1,78 @@
+package webservice.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import webservice.model.calldto.CallDto;
+import webservice.service.statistics.CallsAggregator;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CallsAggregatorBenchmark {
+    @Param({"1000000"})
+    private int numberOfCalls;
+
+    private List<CallDto> callDtoList;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        LocalDate firstDay = LocalDate.of(2020, Month.SEPTEMBER, 1);
+
+        callDtoList = new ArrayList<>(numberOfCalls);
+
+        for (int i = 0; i < numberOfCalls; i++) {
+            callDtoList.add(CallDto.Builder.callModelWith()
+                                           .withCallerNumber(910000000L + random.nextInt(100000))
+                                           .withCalleeNumber(960000000L + random.nextInt(100000))
+                                           .withCallType(random.nextBoolean() ? CALL_TYPE_INBOUND
+                                                                              : CALL_TYPE_OUTBOUND)
+                                           .withCallStartDay(firstDay.plusDays(random.nextInt(30)))
+                                           .withCallDuration(Duration.ofSeconds(random.nextInt(3600)))
+                                           .withCallCost(random.nextInt(1000) / 100.0)
+                                           .build());
+        }
+    }
+
+    @Benchmark
+    public void aggregator(Blackhole blackhole) {
+        blackhole.consume(CallsAggregator.aggregate(callDtoList));
+    }
+
+    @Benchmark
+    public void streams(Blackhole blackhole) {
+        Map<LocalDate, Map<String, List<CallDto>>> callDtoListAggregatedByDayAndCallTypeMap =
+                callDtoList.stream().collect(Collectors.groupingBy(CallDto::getCallStartDay,
+                                                                   Collectors.groupingBy(CallDto::getCallType)));
+
+        for (Map<String, List<CallDto>> callDtoListAggregatedByCallTypeMap :
+                callDtoListAggregatedByDayAndCallTypeMap.values()) {
+            for (List<CallDto> callDtoListEntryValues : callDtoListAggregatedByCallTypeMap.values()) {
+                blackhole.consume(callDtoListEntryValues.stream()
+                                                        .mapToLong(callDto -> callDto.getCallDuration().toSeconds())
+                                                        .sum());
+                blackhole.consume(callDtoListEntryValues.stream().mapToDouble(CallDto::getCallCost).sum());
+                blackhole.consume(callDtoListEntryValues.stream().collect(
+                        Collectors.groupingBy(CallDto::getCallerNumber, Collectors.counting())));
+                blackhole.consume(callDtoListEntryValues.stream().collect(
+                        Collectors.groupingBy(CallDto::getCalleeNumber, Collectors.counting())));
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package webservice.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.calldto.CallDto;
+import webservice.repository.CallColumnRepository;
+import webservice.repository.CallColumnRepositoryImpl;
+import webservice.service.statistics.StatisticsServiceImpl;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarStatisticsBenchmark {
+    private static final int NUMBER_OF_CALLS_BY_SAVE = 100000;
+
+    @Param({"10000000"})
+    private int numberOfCalls;
+
+    @Param({"1", "365"})
+    private int numberOfDays;
+
+    @Param({"1", "4", "16"})
+    private int parallelism;
+
+    private ForkJoinPool statisticsForkJoinPool;
+    private StatisticsServiceImpl statisticsServiceImpl;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        LocalDate firstDay = LocalDate.of(2020, Month.JANUARY, 1);
+        CallColumnRepository callColumnRepository = new CallColumnRepositoryImpl();
+
+        for (int i = 0; i < numberOfCalls; i += NUMBER_OF_CALLS_BY_SAVE) {
+            List<CallDto> callDtoList = new ArrayList<>(NUMBER_OF_CALLS_BY_SAVE);
+
+            for (int j = i; j < Math.min(i + NUMBER_OF_CALLS_BY_SAVE, numberOfCalls); j++) {
+                long callStartTimestamp = 1577836800L + random.nextInt(86400);
+
+                callDtoList.add(CallDto.Builder.callModelWith()
+                                               .withId((long) j)
+                                               .withCallerNumber(910000000L + random.nextInt(1000000))
+                                               .withCalleeNumber(960000000L + random.nextInt(1000000))
+                                               .withStartTimestamp(callStartTimestamp)
+                                               .withEndTimestamp(callStartTimestamp + random.nextInt(3600))
+                                               .withCallType(random.nextBoolean() ? CALL_TYPE_INBOUND
+                                                                                  : CALL_TYPE_OUTBOUND)
+                                               .withCallStartDay(firstDay.plusDays(random.nextInt(numberOfDays)))
+                                               .withCallCost(random.nextInt(1000) / 100.0)
+                                               .build());
+            }
+
+            callColumnRepository.saveAll(callDtoList);
+        }
+
+        statisticsForkJoinPool = new ForkJoinPool(parallelism);
+        statisticsServiceImpl = new StatisticsServiceImpl(null, null, null, null, Optional.of(callColumnRepository),
+                                                          Optional.of(statisticsForkJoinPool), false,
+                                                          new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() {
+        statisticsForkJoinPool.shutdown();
+    }
+
+    @Benchmark
+    public List<CallsStatisticsJson> topNumbers() {
+        return statisticsServiceImpl.getCallsStatistics(null, null, null, 10, false);
+    }
+}
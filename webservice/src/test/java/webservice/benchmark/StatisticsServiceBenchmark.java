@@ -0,0 +1,212 @@
+package webservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import webservice.model.calldto.CallDto;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.dailystatisticsprojection.DailyCalleeStatisticsByDay;
+import webservice.model.dailystatisticsprojection.DailyCallerStatisticsByDay;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+import webservice.repository.DailyCalleeStatisticsRepository;
+import webservice.repository.DailyCallerStatisticsRepository;
+import webservice.repository.DailySketchesRepository;
+import webservice.repository.DailyStatisticsRepository;
+import webservice.service.statistics.CallsAggregate;
+import webservice.service.statistics.CallsAggregator;
+import webservice.service.statistics.StatisticsServiceImpl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static webservice.service.ServiceParameters.CALL_TYPE_INBOUND;
+import static webservice.service.ServiceParameters.CALL_TYPE_OUTBOUND;
+
+// Computes the statistics from the rows the aggregate queries would return for the generated calls, so only the
+// grouping done by StatisticsServiceImpl and the JSON serialization of its result are measured.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class StatisticsServiceBenchmark {
+    @Param({"1000000"})
+    private int numberOfCalls;
+
+    @Param({"30", "365"})
+    private int numberOfDays;
+
+    @Param({"1000", "100000"})
+    private int numberOfNumbers;
+
+    private StatisticsServiceImpl statisticsServiceImpl;
+    private List<CallsStatisticsJson> callsStatisticsJsonList;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        List<CallDto> callDtoList = CallGenerator.Builder.callGeneratorWith()
+                                                         .withNumberOfDays(numberOfDays)
+                                                         .withNumberOfCallerNumbers(numberOfNumbers)
+                                                         .withNumberOfCalleeNumbers(numberOfNumbers)
+                                                         .build()
+                                                         .generateCreatedCallDtoList(numberOfCalls);
+
+        List<DailyStatisticsByDay> dailyStatisticsByDayList = new ArrayList<>();
+        List<DailyCallerStatisticsByDay> dailyCallerStatisticsByDayList = new ArrayList<>();
+        List<DailyCalleeStatisticsByDay> dailyCalleeStatisticsByDayList = new ArrayList<>();
+
+        for (Map.Entry<LocalDate, Map<String, CallsAggregate>> entry : new TreeMap<>(
+                CallsAggregator.aggregate(callDtoList).getCallsAggregateByDayAndCallTypeMap()).entrySet()) {
+            LocalDate day = entry.getKey();
+            CallsAggregate callsAggregate = new CallsAggregate();
+
+            entry.getValue().values().forEach(callsAggregate::merge);
+
+            dailyStatisticsByDayList.add(new DailyStatisticsRow(
+                    day, entry.getValue().getOrDefault(CALL_TYPE_INBOUND, new CallsAggregate()).getTotalCallsDuration(),
+                    entry.getValue().getOrDefault(CALL_TYPE_OUTBOUND, new CallsAggregate()).getTotalCallsDuration(),
+                    callsAggregate));
+
+            long[] callerNumbers = callsAggregate.getTotalNumberOfCallsByCallerNumber().keys();
+            long[] calleeNumbers = callsAggregate.getTotalNumberOfCallsByCalleeNumber().keys();
+
+            Arrays.sort(callerNumbers);
+            Arrays.sort(calleeNumbers);
+
+            for (long callerNumber : callerNumbers) {
+                dailyCallerStatisticsByDayList.add(new DailyNumberStatisticsRow(
+                        day, callerNumber, callsAggregate.getTotalNumberOfCallsByCallerNumber().get(callerNumber)));
+            }
+
+            for (long calleeNumber : calleeNumbers) {
+                dailyCalleeStatisticsByDayList.add(new DailyNumberStatisticsRow(
+                        day, calleeNumber, callsAggregate.getTotalNumberOfCallsByCalleeNumber().get(calleeNumber)));
+            }
+        }
+
+        DailyStatisticsRepository dailyStatisticsRepository = mock(DailyStatisticsRepository.class,
+                                                                   withSettings().stubOnly());
+        DailyCallerStatisticsRepository dailyCallerStatisticsRepository =
+                mock(DailyCallerStatisticsRepository.class, withSettings().stubOnly());
+        DailyCalleeStatisticsRepository dailyCalleeStatisticsRepository =
+                mock(DailyCalleeStatisticsRepository.class, withSettings().stubOnly());
+
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(any(), any(), any(), any(), any()))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(any(), any(), any()))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(any(), any(), any()))
+                .thenReturn(dailyCalleeStatisticsByDayList);
+
+        statisticsServiceImpl = new StatisticsServiceImpl(dailyStatisticsRepository, dailyCallerStatisticsRepository,
+                                                          dailyCalleeStatisticsRepository,
+                                                          mock(DailySketchesRepository.class,
+                                                               withSettings().stubOnly()),
+                                                          Optional.empty(), Optional.empty(), false,
+                                                          new SimpleMeterRegistry());
+        callsStatisticsJsonList = computeCallsStatisticsJsonList();
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+                                         .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public List<CallsStatisticsJson> computeCallsStatisticsJsonList() {
+        return statisticsServiceImpl.getCallsStatistics(null, null, null, null, false);
+    }
+
+    @Benchmark
+    public List<CallsStatisticsJson> computeTop10CallsStatisticsJsonList() {
+        return statisticsServiceImpl.getCallsStatistics(null, null, null, 10, false);
+    }
+
+    @Benchmark
+    public byte[] serializeCallsStatisticsJsonList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(callsStatisticsJsonList);
+    }
+
+    private static class DailyStatisticsRow implements DailyStatisticsByDay {
+        private final LocalDate day;
+        private final Long totalCallsDurationInbound;
+        private final Long totalCallsDurationOutbound;
+        private final CallsAggregate callsAggregate;
+
+        private DailyStatisticsRow(LocalDate day, Long totalCallsDurationInbound, Long totalCallsDurationOutbound,
+                                   CallsAggregate callsAggregate) {
+            this.day = day;
+            this.totalCallsDurationInbound = totalCallsDurationInbound;
+            this.totalCallsDurationOutbound = totalCallsDurationOutbound;
+            this.callsAggregate = callsAggregate;
+        }
+
+        @Override
+        public LocalDate getDay() {
+            return day;
+        }
+
+        @Override
+        public Long getTotalCallsDurationInbound() {
+            return totalCallsDurationInbound;
+        }
+
+        @Override
+        public Long getTotalCallsDurationOutbound() {
+            return totalCallsDurationOutbound;
+        }
+
+        @Override
+        public Long getTotalNumberOfCalls() {
+            return callsAggregate.getTotalNumberOfCalls();
+        }
+
+        @Override
+        public Double getTotalCallsCost() {
+            return callsAggregate.getTotalCallsCostInCents() / 100.0;
+        }
+    }
+
+    private static class DailyNumberStatisticsRow implements DailyCallerStatisticsByDay, DailyCalleeStatisticsByDay {
+        private final LocalDate day;
+        private final Long number;
+        private final Long totalNumberOfCalls;
+
+        private DailyNumberStatisticsRow(LocalDate day, Long number, Long totalNumberOfCalls) {
+            this.day = day;
+            this.number = number;
+            this.totalNumberOfCalls = totalNumberOfCalls;
+        }
+
+        @Override
+        public LocalDate getDay() {
+            return day;
+        }
+
+        @Override
+        public Long getCallerNumber() {
+            return number;
+        }
+
+        @Override
+        public Long getCalleeNumber() {
+            return number;
+        }
+
+        @Override
+        public Long getTotalNumberOfCalls() {
+            return totalNumberOfCalls;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package webservice.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import webservice.controller.utils.ExceptionHandlerController;
+import webservice.controller.utils.GzipRequestFilter;
+import webservice.model.calldto.CallDto;
+import webservice.model.mapper.CallMapper;
+import webservice.service.call.CallBulkServiceImpl;
+import webservice.service.call.CallService;
+import webservice.service.call.CallValidator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CallControllerTests {
+    @Mock
+    private CallService callService;
+
+    @InjectMocks
+    private CallController callController;
+
+    private MockMvc mockMvc;
+
+    private final List<Integer> chunkSizeList = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        ReflectionTestUtils.setField(callController, "callBulkService",
+                                     new CallBulkServiceImpl(callService, new CallValidator(), 2,
+                                                             new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(callController, "callMapper", new CallMapper(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(callController, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(callController, "bulkMaxLineLength", 256);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(callController)
+                                 .setControllerAdvice(new ExceptionHandlerController())
+                                 .build();
+    }
+
+    private void mockCreateCallsAssigningIds() {
+        long[] nextId = {1};
+
+        when(callService.createCalls(anyList())).thenAnswer(invocation -> {
+            List<CallDto> callDtoList = invocation.getArgument(0);
+
+            for (CallDto callDto : callDtoList) {
+                callDto.setId(nextId[0]++);
+            }
+
+            chunkSizeList.add(callDtoList.size());
+
+            return new ArrayList<>(callDtoList);
+        });
+    }
+
+    private byte[] gzipNdjson(int numberOfCalls) throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+
+        for (long callerNumber = 1; callerNumber <= numberOfCalls; callerNumber++) {
+            ndjson.append("{\"callerNumber\": ").append(callerNumber)
+                  .append(", \"calleeNumber\": 987654321, \"callStartTimestamp\": 1599909010, ")
+                  .append("\"callEndTimestamp\": 1599942944, \"callType\": \"Inbound\"}\n");
+        }
+
+        ByteArrayOutputStream gzipBody = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzipBody)) {
+            gzipOutputStream.write(ndjson.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        return gzipBody.toByteArray();
+    }
+
+    @Test
+    public void createCallsInBulkSkipsMalformedLinesSuccessfully() throws Exception {
+        // Arrange
+        String ndjson = "{\"callerNumber\": 123456789, \"calleeNumber\": 987654321, \"callStartTimestamp\": " +
+                        "1599909010, \"callEndTimestamp\": 1599942944, \"callType\": \"Inbound\"}\n" +
+                        "{\"callerNumber\": 987654321, \"calleeNumber\": 123456789, \"callStartTimestamp\": " +
+                        "1599909010, \"callEndTimestamp\": 1599942944, \"callType\": \"Outbound\"}\n" +
+                        "{\"callerNumber\": 123456789, \"calleeNumber\": 98765\n" +
+                        "\n" +
+                        "{\"callerNumber\": 111111111, \"calleeNumber\": 222222222, \"callStartTimestamp\": " +
+                        "1599909010, \"callEndTimestamp\": 1599942944, \"callType\": \"Inbound\"}\n" +
+                        "{\"callerNumber\": \"not a number\"}\n" +
+                        "{\"callerNumber\": 333333333, \"calleeNumber\": 444444444, \"callType\": \"" +
+                        "Inbound".repeat(40) + "\"}\n" +
+                        "{\"callerNumber\": 222222222, \"calleeNumber\": 111111111, \"callStartTimestamp\": " +
+                        "1599909010, \"callEndTimestamp\": 1599942944, \"callType\": \"Outbound\"}";
+
+        mockCreateCallsAssigningIds();
+
+        // Act
+        MockHttpServletResponse response = mockMvc.perform(post("/talkdesk/api/call/create-calls-bulk")
+                                                                   .contentType("application/x-ndjson")
+                                                                   .content(ndjson.getBytes(StandardCharsets.UTF_8)))
+                                                  .andReturn()
+                                                  .getResponse();
+        JsonNode callsBulkSummaryJson = new ObjectMapper().readTree(response.getContentAsString());
+
+        // Assert
+        assertEquals(HttpStatus.CREATED.value(), response.getStatus());
+        assertEquals(4, callsBulkSummaryJson.get("acceptedCalls").asLong());
+        assertEquals(3, callsBulkSummaryJson.get("rejectedCalls").asLong());
+        assertEquals(2, callsBulkSummaryJson.get("rejections").get(0).get("index").asLong());
+        assertEquals("Call must be one JSON object on its own line!",
+                     callsBulkSummaryJson.get("rejections").get(0).get("messageKey").asText());
+        assertEquals(4, callsBulkSummaryJson.get("rejections").get(1).get("index").asLong());
+        assertEquals(5, callsBulkSummaryJson.get("rejections").get(2).get("index").asLong());
+        assertEquals("Call must not be longer than the maximum line length!",
+                     callsBulkSummaryJson.get("rejections").get(2).get("messageKey").asText());
+        assertEquals(1, callsBulkSummaryJson.get("firstCallId").asLong());
+        assertEquals(4, callsBulkSummaryJson.get("lastCallId").asLong());
+        assertEquals(List.of(2, 2), chunkSizeList);
+        verify(callService, times(2)).createCalls(anyList());
+    }
+
+    @Test
+    public void createCallsInBulkFromTruncatedStreamFails() throws Exception {
+        // Arrange
+        byte[] gzipBody = gzipNdjson(1000);
+        byte[] truncatedGzipBody = Arrays.copyOf(gzipBody, gzipBody.length - 20);
+
+        mockCreateCallsAssigningIds();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(callController)
+                                 .setControllerAdvice(new ExceptionHandlerController())
+                                 .addFilters(new GzipRequestFilter(268435456L))
+                                 .build();
+
+        // Act
+        MockHttpServletResponse response = mockMvc.perform(post("/talkdesk/api/call/create-calls-bulk")
+                                                                   .contentType("application/x-ndjson")
+                                                                   .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                                                                   .content(truncatedGzipBody))
+                                                  .andReturn()
+                                                  .getResponse();
+        JsonNode businessError = new ObjectMapper().readTree(response.getContentAsString());
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST.value(), response.getStatus());
+        assertEquals("Calls stream could not be read after creating calls!",
+                     businessError.get("BusinessError").get("messageKey").asText());
+        assertEquals(String.valueOf(2 * chunkSizeList.size()),
+                     businessError.get("BusinessError").get("arguments").get(0).asText());
+        assertTrue(!chunkSizeList.isEmpty() && chunkSizeList.size() < 500);
+    }
+
+    @Test
+    public void createCallsInBulkFromOversizedGzipStreamFails() throws Exception {
+        // Arrange
+        byte[] gzipBody = gzipNdjson(1000);
+
+        mockCreateCallsAssigningIds();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(callController)
+                                 .setControllerAdvice(new ExceptionHandlerController())
+                                 .addFilters(new GzipRequestFilter(16384L))
+                                 .build();
+
+        // Act
+        MockHttpServletResponse response = mockMvc.perform(post("/talkdesk/api/call/create-calls-bulk")
+                                                                   .contentType("application/x-ndjson")
+                                                                   .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                                                                   .content(gzipBody))
+                                                  .andReturn()
+                                                  .getResponse();
+        JsonNode businessError = new ObjectMapper().readTree(response.getContentAsString());
+
+        // Assert
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE.value(), response.getStatus());
+        assertEquals("Calls stream could not be read after creating calls!",
+                     businessError.get("BusinessError").get("messageKey").asText());
+        assertEquals(String.valueOf(2 * chunkSizeList.size()),
+                     businessError.get("BusinessError").get("arguments").get(0).asText());
+        assertTrue(2 * chunkSizeList.size() < 1000);
+    }
+}
@@ -0,0 +1,106 @@
+package webservice.reactive.service;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import webservice.exception.BusinessException;
+import webservice.model.calldto.CallDto;
+import webservice.reactive.repository.ReactiveCallRepository;
+import webservice.service.call.CallTimestampDecomposer;
+import webservice.service.call.CallValidator;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveCallServiceImplTests {
+    @Mock
+    private ReactiveCallRepository reactiveCallRepository;
+    @Mock
+    private TransactionalOperator transactionalOperator;
+    @Spy
+    private CallTimestampDecomposer callTimestampDecomposer = new CallTimestampDecomposer(ZoneId.of("Europe/Lisbon"));
+    @Spy
+    private CallValidator callValidator;
+
+    @InjectMocks
+    private ReactiveCallServiceImpl reactiveCallServiceImpl;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createCallsSuccessfully() {
+        // Arrange
+        CallDto outboundCallDto = CallDto.Builder.callModelWith()
+                                                 .withCallerNumber(123456789L)
+                                                 .withCalleeNumber(987654321L)
+                                                 .withStartTimestamp(1599909010L)
+                                                 .withEndTimestamp(1599909500L)
+                                                 .withCallType("Outbound")
+                                                 .build();
+        CallDto inboundCallDto = CallDto.Builder.callModelWith()
+                                                .withCallerNumber(987654321L)
+                                                .withCalleeNumber(123456789L)
+                                                .withStartTimestamp(1599909010L)
+                                                .withEndTimestamp(1599909070L)
+                                                .withCallType("Inbound")
+                                                .build();
+        List<CallDto> callDtoToBeCreatedList = List.of(outboundCallDto, inboundCallDto);
+
+        when(reactiveCallRepository.insertAll(callDtoToBeCreatedList))
+                .thenReturn(Flux.fromIterable(callDtoToBeCreatedList));
+        when(transactionalOperator.transactional(any(Flux.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<CallDto> callDtoCreatedList = reactiveCallServiceImpl.createCalls(callDtoToBeCreatedList)
+                                                                  .collectList()
+                                                                  .block();
+
+        // Assert
+        assertEquals(callDtoToBeCreatedList, callDtoCreatedList);
+        assertEquals(LocalDate.of(2020, 9, 12), outboundCallDto.getCallStartDay());
+        assertEquals(Duration.ofSeconds(490), outboundCallDto.getCallDuration());
+        assertEquals(Double.valueOf(0.7), outboundCallDto.getCallCost());
+        assertEquals(Double.valueOf(0), inboundCallDto.getCallCost());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void createCallsWithInvalidCallFails() {
+        // Arrange
+        CallDto validCallDto = CallDto.Builder.callModelWith()
+                                              .withCallerNumber(123456789L)
+                                              .withCalleeNumber(987654321L)
+                                              .withStartTimestamp(1599909010L)
+                                              .withEndTimestamp(1599909500L)
+                                              .withCallType("Outbound")
+                                              .build();
+        CallDto callDtoWithoutCallerNumber = CallDto.Builder.callModelWith()
+                                                            .withCalleeNumber(987654321L)
+                                                            .withStartTimestamp(1599909010L)
+                                                            .withEndTimestamp(1599909500L)
+                                                            .withCallType("Outbound")
+                                                            .build();
+
+        // Act && Assert
+        try {
+            reactiveCallServiceImpl.createCalls(List.of(validCallDto, callDtoWithoutCallerNumber)).blockLast();
+        } catch (BusinessException be) {
+            assertEquals("Caller number must not be empty and must be a positive number!", be.getMessage());
+            verifyNoInteractions(reactiveCallRepository, transactionalOperator);
+            throw be;
+        }
+
+        fail("Business exception of call without caller number was not thrown!");
+    }
+}
@@ -0,0 +1,93 @@
+package webservice.reactive.service;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Flux;
+import webservice.exception.BusinessException;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCalleeNumber;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCallerNumber;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+import webservice.reactive.repository.ReactiveCallRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static webservice.service.ServiceParameters.FIRST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.LAST_DAY_OF_STATISTICS;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveStatisticsServiceImplTests {
+    @Mock
+    private ReactiveCallRepository reactiveCallRepository;
+
+    @InjectMocks
+    private ReactiveStatisticsServiceImpl reactiveStatisticsServiceImpl;
+
+    @Test
+    public void getCallsStatisticsWithTopNSuccessfully() {
+        // Arrange
+        LocalDate day = LocalDate.of(2020, 9, 12);
+        DailyStatisticsByDay dailyStatisticsByDay = mock(DailyStatisticsByDay.class);
+
+        when(dailyStatisticsByDay.getDay()).thenReturn(day);
+        when(dailyStatisticsByDay.getTotalCallsDurationInbound()).thenReturn(60L);
+        when(dailyStatisticsByDay.getTotalCallsDurationOutbound()).thenReturn(490L);
+        when(dailyStatisticsByDay.getTotalNumberOfCalls()).thenReturn(5L);
+        when(dailyStatisticsByDay.getTotalCallsCost()).thenReturn(0.7000000001);
+        when(reactiveCallRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(Flux.just(dailyStatisticsByDay));
+        when(reactiveCallRepository.findTotalNumberOfCallsByCallerNumber(day, null, 1))
+                .thenReturn(Flux.just(TotalNumberOfCallsByCallerNumber.Builder.totalNumberOfCallsByCallerNumberWith()
+                                                                              .withCallerNumber(123456789L)
+                                                                              .withTotalNumberOfCalls(3L)
+                                                                              .build()));
+        when(reactiveCallRepository.findTotalNumberOfCallsByCalleeNumber(day, null, 1))
+                .thenReturn(Flux.just(TotalNumberOfCallsByCalleeNumber.Builder.totalNumberOfCallsByCalleeNumberWith()
+                                                                              .withCalleeNumber(987654321L)
+                                                                              .withTotalNumberOfCalls(2L)
+                                                                              .build()));
+
+        // Act
+        List<CallsStatisticsJson> callsStatisticsJsonList = reactiveStatisticsServiceImpl
+                .getCallsStatistics(null, null, "", 1)
+                .collectList()
+                .block();
+
+        // Assert
+        assertEquals(1, callsStatisticsJsonList.size());
+
+        CallsStatisticsJson callsStatisticsJson = callsStatisticsJsonList.get(0);
+
+        assertEquals(day, callsStatisticsJson.getDay());
+        assertEquals(Long.valueOf(5), callsStatisticsJson.getTotalNumberOfCalls());
+        assertEquals(Double.valueOf(0.7), callsStatisticsJson.getTotalCallsCost());
+        assertEquals(Long.valueOf(123456789L), callsStatisticsJson.getTotalNumberOfCallsByCallerNumber().get(0)
+                                                                  .getCallerNumber());
+        assertEquals(Long.valueOf(2), callsStatisticsJson.getTotalNumberOfCallsByOtherCallerNumbers());
+        assertEquals(Long.valueOf(3), callsStatisticsJson.getTotalNumberOfCallsByOtherCalleeNumbers());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getCallsStatisticsWithInvalidDayRangeFails() {
+        // Arrange
+        LocalDate from = LocalDate.of(2020, 9, 13);
+        LocalDate to = LocalDate.of(2020, 9, 12);
+
+        // Act && Assert
+        try {
+            reactiveStatisticsServiceImpl.getCallsStatistics(from, to, null, null).blockLast();
+        } catch (BusinessException be) {
+            assertEquals("Statistics day range is not valid!", be.getMessage());
+            verifyNoInteractions(reactiveCallRepository);
+            throw be;
+        }
+
+        fail("Business exception of invalid day range was not thrown!");
+    }
+}
@@ -0,0 +1,107 @@
+package webservice.repository;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CallColumnSegmentTests {
+    @Test
+    public void addBeyondInitialCapacitySuccessfully() {
+        // Arrange
+        CallColumnSegment callColumnSegment = new CallColumnSegment();
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            callColumnSegment.add(i + 1, 100000000L + i, 900000000L + i, 1599909010L + i, 1599909070L + i, i,
+                                  CallColumnSegment.callTypeCode(i % 2 == 0 ? "Inbound" : "Outbound"));
+        }
+
+        // Assert
+        assertEquals(1000, callColumnSegment.size());
+        assertEquals(1000L, callColumnSegment.getCallId(999));
+        assertEquals(100000999L, callColumnSegment.getCallerNumber(999));
+        assertEquals(900000999L, callColumnSegment.getCalleeNumber(999));
+        assertEquals(1599910009L, callColumnSegment.getCallStartTimestamp(999));
+        assertEquals(1599910069L, callColumnSegment.getCallEndTimestamp(999));
+        assertEquals(999L, callColumnSegment.getCallCostInCents(999));
+        assertEquals(CallColumnSegment.CALL_TYPE_OUTBOUND_CODE, callColumnSegment.getCallType(999));
+        assertEquals(CallColumnSegment.CALL_TYPE_INBOUND_CODE, callColumnSegment.getCallType(0));
+    }
+
+    @Test
+    public void addCallCostAboveIntegerRangeSuccessfully() {
+        // Arrange
+        CallColumnSegment callColumnSegment = new CallColumnSegment();
+
+        // Act
+        callColumnSegment.add(1L, 1L, 2L, 10L, 20L, 3000000000L, CallColumnSegment.CALL_TYPE_OUTBOUND_CODE);
+
+        // Assert
+        assertEquals(3000000000L, callColumnSegment.getCallCostInCents(0));
+    }
+
+    @Test
+    public void removeMovesLastCallSuccessfully() {
+        // Arrange
+        CallColumnSegment callColumnSegment = new CallColumnSegment();
+        callColumnSegment.add(7L, 1L, 2L, 10L, 20L, 5, CallColumnSegment.CALL_TYPE_INBOUND_CODE);
+        callColumnSegment.add(8L, 3L, 4L, 30L, 40L, 15, CallColumnSegment.CALL_TYPE_OUTBOUND_CODE);
+
+        // Act
+        boolean removed = callColumnSegment.remove(7L);
+
+        // Assert
+        assertTrue(removed);
+        assertEquals(1, callColumnSegment.size());
+        assertEquals(8L, callColumnSegment.getCallId(0));
+        assertEquals(3L, callColumnSegment.getCallerNumber(0));
+        assertEquals(15L, callColumnSegment.getCallCostInCents(0));
+        assertEquals(CallColumnSegment.CALL_TYPE_OUTBOUND_CODE, callColumnSegment.getCallType(0));
+        assertTrue(callColumnSegment.remove(8L));
+        assertEquals(0, callColumnSegment.size());
+    }
+
+    @Test
+    public void removeCallWithSameValuesByIdSuccessfully() {
+        // Arrange
+        CallColumnSegment callColumnSegment = new CallColumnSegment();
+
+        for (long callId = 1; callId <= 1000; callId++) {
+            callColumnSegment.add(callId, 1L, 2L, 10L, 20L, 5, CallColumnSegment.CALL_TYPE_INBOUND_CODE);
+        }
+
+        // Act
+        for (long callId = 1; callId <= 1000; callId += 2) {
+            assertTrue(callColumnSegment.remove(callId));
+        }
+
+        // Assert
+        assertEquals(500, callColumnSegment.size());
+
+        for (int i = 0; i < callColumnSegment.size(); i++) {
+            assertEquals(0L, callColumnSegment.getCallId(i) % 2);
+        }
+
+        for (long callId = 2; callId <= 1000; callId += 2) {
+            assertTrue(callColumnSegment.remove(callId));
+        }
+
+        assertEquals(0, callColumnSegment.size());
+    }
+
+    @Test
+    public void removeUnknownCallFails() {
+        // Arrange
+        CallColumnSegment callColumnSegment = new CallColumnSegment();
+        callColumnSegment.add(1L, 1L, 2L, 10L, 20L, 5, CallColumnSegment.CALL_TYPE_INBOUND_CODE);
+
+        // Act
+        boolean removed = callColumnSegment.remove(2L);
+
+        // Assert
+        assertFalse(removed);
+        assertEquals(1, callColumnSegment.size());
+    }
+}
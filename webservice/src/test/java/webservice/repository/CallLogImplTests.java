@@ -0,0 +1,238 @@
+package webservice.repository;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import webservice.model.calldto.CallDto;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+public class CallLogImplTests {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void recoverCallsWithoutDeletedCallsSuccessfully() throws IOException {
+        // Arrange
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 1024 * CallLogImpl.RECORD_SIZE, 1)) {
+            callLog.appendCalls(List.of(callDto(1L, "Inbound"), callDto(2L, "Outbound"), callDto(3L, "Inbound")));
+            callLog.appendCallDeletion(callDto(2L, "Outbound"));
+        }
+
+        // Act
+        List<CallDto> callDtoList;
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 1024 * CallLogImpl.RECORD_SIZE, 1)) {
+            callDtoList = callLog.recoverCalls();
+        }
+
+        // Assert
+        assertEquals(2, callDtoList.size());
+        assertEquals(Long.valueOf(1), callDtoList.get(0).getId());
+        assertEquals(Long.valueOf(101), callDtoList.get(0).getCallerNumber());
+        assertEquals(Long.valueOf(201), callDtoList.get(0).getCalleeNumber());
+        assertEquals(Long.valueOf(1599909011), callDtoList.get(0).getCallStartTimestamp());
+        assertEquals(Long.valueOf(1599909071), callDtoList.get(0).getCallEndTimestamp());
+        assertEquals("Inbound", callDtoList.get(0).getCallType());
+        assertEquals(Long.valueOf(3), callDtoList.get(1).getId());
+    }
+
+    @Test
+    public void recoverCallsFromRolledSegmentsSuccessfully() throws IOException {
+        // Arrange
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 2 * CallLogImpl.RECORD_SIZE, 0)) {
+            for (long id = 1; id <= 5; id++) {
+                callLog.appendCalls(List.of(callDto(id, "Outbound")));
+            }
+        }
+
+        // Act
+        List<CallDto> callDtoList;
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 2 * CallLogImpl.RECORD_SIZE, 0)) {
+            callDtoList = callLog.recoverCalls();
+        }
+
+        // Assert
+        assertEquals(3, numberOfSegments(directory));
+        assertEquals(5, callDtoList.size());
+        assertEquals(Long.valueOf(5), callDtoList.get(4).getId());
+    }
+
+    @Test
+    public void recoverCallsStopsAtTornRecordSuccessfully() throws IOException {
+        // Arrange
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 1024 * CallLogImpl.RECORD_SIZE, 0)) {
+            callLog.appendCalls(List.of(callDto(1L, "Inbound"), callDto(2L, "Inbound"), callDto(3L, "Inbound")));
+        }
+
+        try (Stream<Path> paths = Files.list(directory);
+             RandomAccessFile segmentFile = new RandomAccessFile(paths.findFirst().orElseThrow().toFile(), "rw")) {
+            segmentFile.seek(CallLogImpl.RECORD_SIZE + 8);
+            segmentFile.writeLong(999L);
+        }
+
+        // Act
+        List<CallDto> recoveredCallDtoList;
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 1024 * CallLogImpl.RECORD_SIZE, 0)) {
+            recoveredCallDtoList = callLog.recoverCalls();
+            callLog.appendCalls(List.of(callDto(4L, "Outbound")));
+        }
+
+        List<CallDto> callDtoList;
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 1024 * CallLogImpl.RECORD_SIZE, 0)) {
+            callDtoList = callLog.recoverCalls();
+        }
+
+        // Assert
+        assertEquals(1, recoveredCallDtoList.size());
+        assertEquals(2, callDtoList.size());
+        assertEquals(Long.valueOf(1), callDtoList.get(0).getId());
+        assertEquals(Long.valueOf(4), callDtoList.get(1).getId());
+    }
+
+    @Test
+    public void recoverCallsFromCompactedSegmentSuccessfully() throws IOException {
+        // Arrange
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 2 * CallLogImpl.RECORD_SIZE, 0)) {
+            for (long id = 1; id <= 4; id++) {
+                callLog.appendCalls(List.of(callDto(id, "Outbound")));
+            }
+
+            for (long id = 1; id <= 3; id++) {
+                callLog.appendCallDeletion(callDto(id, "Outbound"));
+            }
+        }
+
+        // Act
+        long compactedLogSize;
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 2 * CallLogImpl.RECORD_SIZE, 0)) {
+            compactedLogSize = callLog.getSize();
+            callLog.appendCalls(List.of(callDto(5L, "Inbound")));
+        }
+
+        List<CallDto> callDtoList;
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 2 * CallLogImpl.RECORD_SIZE, 0)) {
+            callDtoList = callLog.recoverCalls();
+        }
+
+        // Assert
+        assertEquals(CallLogImpl.RECORD_SIZE, compactedLogSize);
+        assertEquals(1, numberOfLogSegments(directory));
+        assertEquals(2, callDtoList.size());
+        assertEquals(Long.valueOf(4), callDtoList.get(0).getId());
+        assertEquals(Long.valueOf(5), callDtoList.get(1).getId());
+    }
+
+    @Test
+    public void recoverCallsWithoutRolledBackCallsSuccessfully() throws IOException {
+        // Arrange
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 1024 * CallLogImpl.RECORD_SIZE, 0)) {
+            callLog.appendCalls(List.of(callDto(1L, "Inbound")));
+
+            // Act
+            TransactionSynchronizationManager.initSynchronization();
+
+            try {
+                callLog.appendCalls(List.of(callDto(2L, "Inbound")));
+                callLog.appendCallDeletion(callDto(1L, "Inbound"));
+
+                for (TransactionSynchronization synchronization :
+                        TransactionSynchronizationManager.getSynchronizations()) {
+                    synchronization.beforeCommit(false);
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+                }
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        List<CallDto> callDtoList;
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 1024 * CallLogImpl.RECORD_SIZE, 0)) {
+            callDtoList = callLog.recoverCalls();
+        }
+
+        // Assert
+        assertEquals(1, callDtoList.size());
+        assertEquals(Long.valueOf(1), callDtoList.get(0).getId());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void appendCallsAfterFailedAppendFails() throws IOException {
+        // Arrange
+        Path directory = temporaryFolder.getRoot().toPath();
+
+        try (CallLogImpl callLog = new CallLogImpl(directory, 2 * CallLogImpl.RECORD_SIZE, 0)) {
+            callLog.appendCalls(List.of(callDto(1L, "Inbound"), callDto(2L, "Inbound")));
+
+            Files.createDirectory(directory.resolve(String.format("calls-%020d.log", 1)));
+
+            try {
+                callLog.appendCalls(List.of(callDto(3L, "Inbound")));
+            } catch (IllegalStateException ise) {
+                assertNotNull(callLog.getFailure());
+            }
+
+            Files.delete(directory.resolve(String.format("calls-%020d.log", 1)));
+
+            // Act && Assert
+            try {
+                callLog.appendCalls(List.of(callDto(4L, "Inbound")));
+            } catch (IllegalStateException ise) {
+                assertEquals("Call log failed, no call can be written!", ise.getMessage());
+                throw ise;
+            }
+        }
+
+        fail("Illegal state exception of call appended to a failed call log was not thrown!");
+    }
+
+    private static CallDto callDto(long id, String callType) {
+        return CallDto.Builder.callModelWith()
+                              .withId(id)
+                              .withCallerNumber(100L + id)
+                              .withCalleeNumber(200L + id)
+                              .withStartTimestamp(1599909010L + id)
+                              .withEndTimestamp(1599909070L + id)
+                              .withCallType(callType)
+                              .build();
+    }
+
+    private static long numberOfSegments(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.count();
+        }
+    }
+
+    private static long numberOfLogSegments(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".log")).count();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package webservice.repository;
 
 import webservice.model.calldto.CallDto;
+import webservice.model.callprojection.CallsCountByDayAndCallTypeAndCallerNumber;
+import webservice.model.callprojection.CallsStatisticsByDayAndCallType;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -8,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
 
@@ -22,6 +25,7 @@ import java.util.List;
 import static webservice.service.ServiceParameters.NUMBER_OF_ELEMENTS_IN_PAGE;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @DataJpaTest
 @RunWith(SpringRunner.class)
@@ -163,6 +167,42 @@ public class CallRepositoryTests {
         assertEquals(callDtoCallThree.getCallCost(), callDtoReturnedList.get(2).getCallCost());
     }
 
+    @Test
+    public void createCallsInBatchesSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoToBeCreatedList = new ArrayList<>();
+
+        for (int i = 0; i < 40; i++) {
+            Collections.addAll(callDtoToBeCreatedList, copyOf(callDtoCallOne), copyOf(callDtoCallTwo),
+                               copyOf(callDtoCallThree));
+        }
+
+        // Act
+        List<CallDto> callDtoReturnedList = callRepository.saveAllInBatches(callDtoToBeCreatedList);
+
+        // Assert
+        assertEquals(120, callDtoReturnedList.size());
+        assertEquals(120, callDtoReturnedList.stream().map(CallDto::getId).distinct().count());
+        assertEquals(120, callRepository.count());
+        assertEquals(80, callRepository.findByCallType(PageRequest.of(0, 200), "Outbound").getTotalElements());
+    }
+
+    private CallDto copyOf(CallDto callDto) {
+        return CallDto.Builder.callModelWith()
+                              .withCallerNumber(callDto.getCallerNumber())
+                              .withCalleeNumber(callDto.getCalleeNumber())
+                              .withStartTimestamp(callDto.getCallStartTimestamp())
+                              .withEndTimestamp(callDto.getCallEndTimestamp())
+                              .withCallType(callDto.getCallType())
+                              .withCallStartDay(callDto.getCallStartDay())
+                              .withCallEndDay(callDto.getCallEndDay())
+                              .withCallStartTime(callDto.getCallStartTime())
+                              .withCallEndTime(callDto.getCallEndTime())
+                              .withCallDuration(callDto.getCallDuration())
+                              .withCallCost(callDto.getCallCost())
+                              .build();
+    }
+
     @Test
     public void getAllCallsWithoutCallTypeSuccessfully() {
         // Arrange
@@ -296,6 +336,96 @@ public class CallRepositoryTests {
         assertEquals(callDtoCallThree.getCallCost(), callDtoReturnedList.get(1).getCallCost());
     }
 
+    @Test
+    public void getCallsAfterIdSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoCreatedList = callRepository.saveAll(callDtoList);
+
+        // Act
+        Slice<CallDto> callDtoFirstSlice = callRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, 2));
+        Slice<CallDto> callDtoSecondSlice = callRepository.findByIdGreaterThanOrderByIdAsc(
+                callDtoFirstSlice.getContent().get(1).getId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(2, callDtoFirstSlice.getContent().size());
+        assertTrue(callDtoFirstSlice.hasNext());
+        assertEquals(callDtoCreatedList.get(0).getId(), callDtoFirstSlice.getContent().get(0).getId());
+        assertEquals(callDtoCreatedList.get(1).getId(), callDtoFirstSlice.getContent().get(1).getId());
+
+        assertEquals(1, callDtoSecondSlice.getContent().size());
+        assertFalse(callDtoSecondSlice.hasNext());
+        assertEquals(callDtoCreatedList.get(2).getId(), callDtoSecondSlice.getContent().get(0).getId());
+    }
+
+    @Test
+    public void getCallsAfterIdWithCallTypeSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoCreatedList = callRepository.saveAll(callDtoList);
+
+        // Act
+        Slice<CallDto> callDtoSlice = callRepository.findByCallTypeAndIdGreaterThanOrderByCallTypeAscIdAsc(
+                "Outbound", callDtoCreatedList.get(1).getId(), PageRequest.of(0, 2));
+
+        // Assert
+        assertEquals(1, callDtoSlice.getContent().size());
+        assertFalse(callDtoSlice.hasNext());
+        assertEquals(callDtoCreatedList.get(2).getId(), callDtoSlice.getContent().get(0).getId());
+    }
+
+    @Test
+    public void getCallsStatisticsByDayAndCallTypeSuccessfully() {
+        // Arrange
+        callRepository.saveAll(callDtoList);
+
+        // Act
+        List<CallsStatisticsByDayAndCallType> callsStatisticsByDayAndCallTypeList =
+                callRepository.findCallsStatisticsByDayAndCallType();
+
+        // Assert
+        assertEquals(3, callsStatisticsByDayAndCallTypeList.size());
+        assertEquals(callDtoCallTwo.getCallStartDay(), callsStatisticsByDayAndCallTypeList.get(1).getDay());
+        assertEquals("Outbound", callsStatisticsByDayAndCallTypeList.get(1).getCallType());
+        assertEquals(Long.valueOf(callDtoCallTwo.getCallDuration().getSeconds()),
+                     callsStatisticsByDayAndCallTypeList.get(1).getTotalCallsDuration());
+        assertEquals(Long.valueOf(1), callsStatisticsByDayAndCallTypeList.get(1).getTotalNumberOfCalls());
+        assertEquals(callDtoCallTwo.getCallCost(), callsStatisticsByDayAndCallTypeList.get(1).getTotalCallsCost());
+        assertEquals(callDtoCallThree.getCallStartDay(), callsStatisticsByDayAndCallTypeList.get(2).getDay());
+        assertEquals(Long.valueOf(callDtoCallThree.getCallDuration().getSeconds()),
+                     callsStatisticsByDayAndCallTypeList.get(2).getTotalCallsDuration());
+    }
+
+    @Test
+    public void getCallsCountByDayAndCallTypeAndCallerNumberSuccessfully() {
+        // Arrange
+        callRepository.saveAll(callDtoList);
+        callRepository.save(CallDto.Builder.callModelWith()
+                                           .withCallerNumber(callDtoCallThree.getCallerNumber())
+                                           .withCalleeNumber(callDtoCallThree.getCalleeNumber())
+                                           .withStartTimestamp(callDtoCallThree.getCallStartTimestamp())
+                                           .withEndTimestamp(callDtoCallThree.getCallEndTimestamp())
+                                           .withCallType(callDtoCallThree.getCallType())
+                                           .withCallStartDay(callDtoCallThree.getCallStartDay())
+                                           .withCallEndDay(callDtoCallThree.getCallEndDay())
+                                           .withCallStartTime(callDtoCallThree.getCallStartTime())
+                                           .withCallEndTime(callDtoCallThree.getCallEndTime())
+                                           .withCallDuration(callDtoCallThree.getCallDuration())
+                                           .withCallCost(callDtoCallThree.getCallCost())
+                                           .build());
+
+        // Act
+        List<CallsCountByDayAndCallTypeAndCallerNumber> callsCountByDayAndCallTypeAndCallerNumberList =
+                callRepository.findCallsCountByDayAndCallTypeAndCallerNumber();
+
+        // Assert
+        assertEquals(3, callsCountByDayAndCallTypeAndCallerNumberList.size());
+        assertEquals(callDtoCallOne.getCallerNumber(),
+                     callsCountByDayAndCallTypeAndCallerNumberList.get(0).getCallerNumber());
+        assertEquals(Long.valueOf(1), callsCountByDayAndCallTypeAndCallerNumberList.get(0).getTotalNumberOfCalls());
+        assertEquals(callDtoCallThree.getCallerNumber(),
+                     callsCountByDayAndCallTypeAndCallerNumberList.get(2).getCallerNumber());
+        assertEquals(Long.valueOf(2), callsCountByDayAndCallTypeAndCallerNumberList.get(2).getTotalNumberOfCalls());
+    }
+
     @Test
     public void deleteCallByIdSuccessfully() {
         // Arrange
@@ -0,0 +1,80 @@
+package webservice.repository;
+
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConnectionLimitingDataSourceTests {
+    @Test
+    public void getConnectionReleasesPermitOnceOnCloseSuccessfully() throws SQLException {
+        // Arrange
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        ConnectionLimitingDataSource connectionLimitingDataSource = new ConnectionLimitingDataSource(dataSource, 2, 0);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection limitedConnection = connectionLimitingDataSource.getConnection();
+        int numberOfAvailableConnectionsWhileOpen = connectionLimitingDataSource.getNumberOfAvailableConnections();
+
+        limitedConnection.close();
+        limitedConnection.close();
+
+        // Assert
+        assertEquals(1, numberOfAvailableConnectionsWhileOpen);
+        assertEquals(2, connectionLimitingDataSource.getNumberOfAvailableConnections());
+        assertTrue(limitedConnection.isClosed());
+        verify(connection, times(1)).close();
+    }
+
+    @Test(expected = SQLException.class)
+    public void getConnectionWithoutAvailablePermitFails() throws SQLException {
+        // Arrange
+        DataSource dataSource = mock(DataSource.class);
+        ConnectionLimitingDataSource connectionLimitingDataSource = new ConnectionLimitingDataSource(dataSource, 1, 10);
+
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+
+        connectionLimitingDataSource.getConnection();
+
+        // Act && Assert
+        try {
+            connectionLimitingDataSource.getConnection();
+        } catch (SQLException sqlException) {
+            verify(dataSource, times(1)).getConnection();
+            throw sqlException;
+        }
+
+        fail("SQL exception of connection without available permit was not thrown!");
+    }
+
+    @Test(expected = SQLException.class)
+    public void getConnectionReleasesPermitWhenDataSourceFails() throws SQLException {
+        // Arrange
+        DataSource dataSource = mock(DataSource.class);
+        ConnectionLimitingDataSource connectionLimitingDataSource = new ConnectionLimitingDataSource(dataSource, 1, 0);
+
+        when(dataSource.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+
+        // Act && Assert
+        try {
+            connectionLimitingDataSource.getConnection();
+        } catch (SQLException sqlException) {
+            assertEquals(1, connectionLimitingDataSource.getNumberOfAvailableConnections());
+            throw sqlException;
+        }
+
+        fail("SQL exception of failing data source was not thrown!");
+    }
+}
@@ -0,0 +1,253 @@
+package webservice.service.call;
+
+import webservice.exception.BusinessException;
+import webservice.model.calldto.CallDto;
+import webservice.model.callsbulksummaryjson.CallsBulkSummaryJson;
+import webservice.model.callscreationreportjson.CallsCreationReportJson;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.EOFException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CallBulkServiceImplTests {
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private CallService callService;
+
+    private CallBulkServiceImpl callBulkServiceImpl;
+
+    private final List<Integer> chunkSizeList = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        callBulkServiceImpl = new CallBulkServiceImpl(callService, new CallValidator(), CHUNK_SIZE,
+                                                      new SimpleMeterRegistry());
+    }
+
+    private CallDto callDto(Long callerNumber, String callType) {
+        return CallDto.Builder.callModelWith()
+                              .withCallerNumber(callerNumber)
+                              .withCalleeNumber(987654321L)
+                              .withStartTimestamp(1599909010L)
+                              .withEndTimestamp(1599942944L)
+                              .withCallType(callType)
+                              .build();
+    }
+
+    private void mockCreateCallsAssigningIds() {
+        long[] nextId = {1};
+
+        when(callService.createCalls(anyList())).thenAnswer(invocation -> {
+            List<CallDto> callDtoList = new ArrayList<>(invocation.getArgument(0));
+            List<CallDto> callDtoCreatedList = new ArrayList<>();
+
+            for (CallDto callDto : callDtoList) {
+                CallDto callDtoCreated = spy(callDto);
+                doReturn(nextId[0]++).when(callDtoCreated).getId();
+                callDtoCreatedList.add(callDtoCreated);
+            }
+
+            chunkSizeList.add(callDtoList.size());
+
+            return callDtoCreatedList;
+        });
+    }
+
+    @Test
+    public void createCallsInChunksSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoList = Arrays.asList(callDto(1L, "Inbound"), callDto(2L, "Outbound"),
+                                                  callDto(3L, "Inbound"), callDto(4L, "Outbound"),
+                                                  callDto(5L, "Inbound"));
+
+        mockCreateCallsAssigningIds();
+
+        // Act
+        CallsBulkSummaryJson callsBulkSummaryJson = callBulkServiceImpl.createCalls(callDtoList.iterator());
+
+        // Assert
+        assertEquals(Arrays.asList(2, 2, 1), chunkSizeList);
+        assertEquals(Long.valueOf(5), callsBulkSummaryJson.getAcceptedCalls());
+        assertEquals(Long.valueOf(0), callsBulkSummaryJson.getRejectedCalls());
+        assertEquals(Long.valueOf(1), callsBulkSummaryJson.getFirstCallId());
+        assertEquals(Long.valueOf(5), callsBulkSummaryJson.getLastCallId());
+    }
+
+    @Test
+    public void createCallsRejectsInvalidAndUnreadableCallsSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoList = Arrays.asList(callDto(1L, "Inbound"), callDto(-2L, "Outbound"), null,
+                                                  callDto(4L, "Invalid_Call_Type"), callDto(5L, "Outbound"));
+
+        mockCreateCallsAssigningIds();
+
+        // Act
+        CallsBulkSummaryJson callsBulkSummaryJson = callBulkServiceImpl.createCalls(callDtoList.iterator());
+
+        // Assert
+        assertEquals(Arrays.asList(2), chunkSizeList);
+        assertEquals(Long.valueOf(2), callsBulkSummaryJson.getAcceptedCalls());
+        assertEquals(Long.valueOf(3), callsBulkSummaryJson.getRejectedCalls());
+        assertEquals(Long.valueOf(1), callsBulkSummaryJson.getFirstCallId());
+        assertEquals(Long.valueOf(2), callsBulkSummaryJson.getLastCallId());
+    }
+
+    @Test
+    public void createCallsReportsUnreadableCallsByIndexSuccessfully() {
+        // Arrange
+        Iterator<CallDto> callDtoIterator = Arrays.asList(callDto(1L, "Inbound"), null, callDto(-3L, "Inbound"))
+                                                  .iterator();
+        Iterator<CallDto> callDtoIteratorWithUnreadableCall = new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return callDtoIterator.hasNext();
+            }
+
+            @Override
+            public CallDto next() {
+                CallDto callDto = callDtoIterator.next();
+
+                if (index++ == 1) {
+                    throw new BusinessException("Call must be one JSON object on its own line!");
+                }
+
+                return callDto;
+            }
+        };
+
+        mockCreateCallsAssigningIds();
+
+        // Act
+        CallsBulkSummaryJson callsBulkSummaryJson = callBulkServiceImpl.createCalls(
+                callDtoIteratorWithUnreadableCall);
+
+        // Assert
+        assertEquals(Long.valueOf(1), callsBulkSummaryJson.getAcceptedCalls());
+        assertEquals(Long.valueOf(2), callsBulkSummaryJson.getRejectedCalls());
+        assertEquals(Long.valueOf(1), callsBulkSummaryJson.getRejections().get(0).getIndex());
+        assertEquals("Call must be one JSON object on its own line!",
+                     callsBulkSummaryJson.getRejections().get(0).getMessageKey());
+        assertEquals(Long.valueOf(2), callsBulkSummaryJson.getRejections().get(1).getIndex());
+        assertEquals("Caller number must not be empty and must be a positive number!",
+                     callsBulkSummaryJson.getRejections().get(1).getMessageKey());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void createCallsFromBrokenStreamFails() {
+        // Arrange
+        Iterator<CallDto> callDtoIterator = Arrays.asList(callDto(1L, "Inbound"), callDto(2L, "Outbound"),
+                                                          callDto(3L, "Inbound")).iterator();
+        Iterator<CallDto> brokenCallDtoIterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return callDtoIterator.hasNext();
+            }
+
+            @Override
+            public CallDto next() {
+                CallDto callDto = callDtoIterator.next();
+
+                if (!callDtoIterator.hasNext()) {
+                    throw new UncheckedIOException(new EOFException("Unexpected end of stream"));
+                }
+
+                return callDto;
+            }
+        };
+
+        mockCreateCallsAssigningIds();
+
+        // Act && Assert
+        try {
+            callBulkServiceImpl.createCalls(brokenCallDtoIterator);
+        } catch (BusinessException be) {
+            assertEquals("Calls stream could not be read after creating calls!", be.getMessage());
+            assertArrayEquals(new String[]{"2", "1", "2"}, be.getArguments());
+            throw be;
+        }
+
+        fail("Business exception of broken calls stream was not thrown!");
+    }
+
+    @Test
+    public void createCallsWithoutValidCallsSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoList = Arrays.asList(callDto(-1L, "Inbound"), callDto(2L, null));
+
+        // Act
+        CallsBulkSummaryJson callsBulkSummaryJson = callBulkServiceImpl.createCalls(callDtoList.iterator());
+
+        // Assert
+        verify(callService, never()).createCalls(anyList());
+        assertEquals(Long.valueOf(0), callsBulkSummaryJson.getAcceptedCalls());
+        assertEquals(Long.valueOf(2), callsBulkSummaryJson.getRejectedCalls());
+        assertNull(callsBulkSummaryJson.getFirstCallId());
+        assertNull(callsBulkSummaryJson.getLastCallId());
+    }
+
+    @Test
+    public void createValidCallsReportsInvalidCallsByIndexSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoList = Arrays.asList(callDto(1L, "Inbound"), callDto(-2L, "Outbound"), null,
+                                                  callDto(4L, "Invalid_Call_Type"), callDto(5L, "Outbound"));
+
+        mockCreateCallsAssigningIds();
+
+        // Act
+        CallsCreationReportJson callsCreationReportJson = callBulkServiceImpl.createValidCalls(callDtoList);
+
+        // Assert
+        assertEquals(Arrays.asList(2), chunkSizeList);
+        assertEquals(Long.valueOf(2), callsCreationReportJson.getAcceptedCalls());
+        assertEquals(Long.valueOf(3), callsCreationReportJson.getRejectedCalls());
+        assertEquals(Long.valueOf(1), callsCreationReportJson.getFirstCallId());
+        assertEquals(Long.valueOf(2), callsCreationReportJson.getLastCallId());
+        assertEquals(3, callsCreationReportJson.getRejections().size());
+        assertEquals(Long.valueOf(1), callsCreationReportJson.getRejections().get(0).getIndex());
+        assertEquals("Caller number must not be empty and must be a positive number!",
+                     callsCreationReportJson.getRejections().get(0).getMessageKey());
+        assertArrayEquals(new String[]{"-2"}, callsCreationReportJson.getRejections().get(0).getArguments());
+        assertEquals(Long.valueOf(2), callsCreationReportJson.getRejections().get(1).getIndex());
+        assertEquals("Call must not be empty!", callsCreationReportJson.getRejections().get(1).getMessageKey());
+        assertEquals(Long.valueOf(3), callsCreationReportJson.getRejections().get(2).getIndex());
+        assertArrayEquals(new String[]{"Invalid_Call_Type"},
+                          callsCreationReportJson.getRejections().get(2).getArguments());
+    }
+
+    @Test
+    public void createValidCallsWithoutValidCallsSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoList = Arrays.asList(callDto(-1L, "Inbound"), callDto(2L, null));
+
+        // Act
+        CallsCreationReportJson callsCreationReportJson = callBulkServiceImpl.createValidCalls(callDtoList);
+
+        // Assert
+        verify(callService, never()).createCalls(anyList());
+        assertEquals(Long.valueOf(0), callsCreationReportJson.getAcceptedCalls());
+        assertEquals(Long.valueOf(2), callsCreationReportJson.getRejectedCalls());
+        assertNull(callsCreationReportJson.getFirstCallId());
+        assertEquals(Long.valueOf(0), callsCreationReportJson.getRejections().get(0).getIndex());
+        assertEquals(Long.valueOf(1), callsCreationReportJson.getRejections().get(1).getIndex());
+    }
+}
@@ -2,23 +2,36 @@ package webservice.service.call;
 
 import webservice.exception.BusinessException;
 import webservice.model.calldto.CallDto;
+import webservice.repository.CallLog;
 import webservice.repository.CallRepository;
+import webservice.service.statistics.DailyStatisticsService;
+import webservice.service.statistics.LiveStatisticsService;
+import webservice.service.statistics.StatisticsCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.Month;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import static webservice.service.ServiceParameters.MAXIMUM_NUMBER_OF_ELEMENTS_IN_PAGE;
 import static webservice.service.ServiceParameters.NUMBER_OF_ELEMENTS_IN_PAGE;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -27,10 +40,30 @@ import static org.mockito.Mockito.*;
 public class CallServiceImplTests {
     @Mock
     private CallRepository callRepository;
+    @Mock
+    private DailyStatisticsService dailyStatisticsService;
+    @Mock
+    private StatisticsCacheService statisticsCacheService;
+    @Mock
+    private LiveStatisticsService liveStatisticsService;
+    @Mock
+    private CallLog callLog;
+    @Spy
+    private CallTimestampDecomposer callTimestampDecomposer = new CallTimestampDecomposer(ZoneId.of("Europe/Lisbon"));
+    @Spy
+    private CallValidator callValidator;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
-    @InjectMocks
     private CallServiceImpl callServiceImpl;
 
+    @Before
+    public void setup() {
+        callServiceImpl = new CallServiceImpl(callRepository, dailyStatisticsService, statisticsCacheService,
+                                              liveStatisticsService, callTimestampDecomposer, callValidator,
+                                              Optional.of(callLog), meterRegistry);
+    }
+
     @Test
     public void createOutboundCallSuccessfully() {
         // Arrange
@@ -51,7 +84,7 @@ public class CallServiceImplTests {
         List<CallDto> callDtoToBeCreatedList = Collections.singletonList(callDtoToBeCreated);
 
         // Act
-        when(callRepository.saveAll(callDtoToBeCreatedList)).thenReturn(callDtoToBeCreatedList);
+        when(callRepository.saveAllInBatches(callDtoToBeCreatedList)).thenReturn(callDtoToBeCreatedList);
 
         List<CallDto> callDtoReturnedList = callServiceImpl.createCalls(callDtoToBeCreatedList);
 
@@ -72,6 +105,32 @@ public class CallServiceImplTests {
         assertEquals(Double.valueOf(28.55), callDtoReturnedList.get(0).getCallCost());
     }
 
+    @Test
+    public void createCallsRecordsMetricsSuccessfully() {
+        // Arrange
+        CallDto callDtoToBeCreated = CallDto.Builder.callModelWith()
+                                                    .withCallerNumber(123456789L)
+                                                    .withCalleeNumber(987654321L)
+                                                    .withStartTimestamp(1599909010L)
+                                                    .withEndTimestamp(1599942944L)
+                                                    .withCallType("Outbound")
+                                                    .build();
+
+        List<CallDto> callDtoToBeCreatedList = Collections.singletonList(callDtoToBeCreated);
+
+        // Act
+        when(callRepository.saveAllInBatches(callDtoToBeCreatedList)).thenReturn(callDtoToBeCreatedList);
+
+        callServiceImpl.createCalls(callDtoToBeCreatedList);
+
+        // Assert
+        assertEquals(1, meterRegistry.get("calls.validation").timer().count());
+        assertEquals(1, meterRegistry.get("calls.enrichment").timer().count());
+        assertEquals(1, meterRegistry.get("calls.persistence").timer().count());
+        assertEquals(1, meterRegistry.get("calls.batch.size").summary().totalAmount(), 0);
+        assertEquals(1, meterRegistry.get("calls.created").counter().count(), 0);
+    }
+
     @Test
     public void createInboundCallSuccessfully() {
         // Arrange
@@ -92,7 +151,7 @@ public class CallServiceImplTests {
         List<CallDto> callDtoToBeCreatedList = Collections.singletonList(callDtoToBeCreated);
 
         // Act
-        when(callRepository.saveAll(callDtoToBeCreatedList)).thenReturn(callDtoToBeCreatedList);
+        when(callRepository.saveAllInBatches(callDtoToBeCreatedList)).thenReturn(callDtoToBeCreatedList);
 
         List<CallDto> callDtoReturnedList = callServiceImpl.createCalls(callDtoToBeCreatedList);
 
@@ -133,7 +192,7 @@ public class CallServiceImplTests {
         List<CallDto> callDtoToBeCreatedList = Collections.singletonList(callDtoToBeCreated);
 
         // Act
-        when(callRepository.saveAll(callDtoToBeCreatedList)).thenReturn(callDtoToBeCreatedList);
+        when(callRepository.saveAllInBatches(callDtoToBeCreatedList)).thenReturn(callDtoToBeCreatedList);
 
         List<CallDto> callDtoReturnedList = callServiceImpl.createCalls(callDtoToBeCreatedList);
 
@@ -573,6 +632,64 @@ public class CallServiceImplTests {
         assertEquals(callTypeOutbound, callDtoReturnedList.get(0).getCallType());
     }
 
+    @Test
+    public void getCallsAfterWithoutCursorSuccessfully() {
+        // Arrange
+        CallDto callDto = CallDto.Builder.callModelWith()
+                                         .withCallerNumber(123456789L)
+                                         .withCalleeNumber(987654321L)
+                                         .withStartTimestamp(1599909010L)
+                                         .withEndTimestamp(1599942944L)
+                                         .withCallType("Outbound")
+                                         .build();
+
+        Slice<CallDto> callDtoSlice = new SliceImpl<>(Collections.singletonList(callDto));
+
+        // Act
+        when(callRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.of(0, NUMBER_OF_ELEMENTS_IN_PAGE)))
+                .thenReturn(callDtoSlice);
+
+        Slice<CallDto> callDtoReturnedSlice = callServiceImpl.getCallsAfter(null, null, NUMBER_OF_ELEMENTS_IN_PAGE);
+
+        // Assert
+        assertEquals(callDtoSlice, callDtoReturnedSlice);
+    }
+
+    @Test
+    public void getCallsAfterWithCursorAndCallTypeSuccessfully() {
+        // Arrange
+        Long afterId = 100L;
+        int size = 50;
+        String callType = "Inbound";
+
+        Slice<CallDto> callDtoSlice = new SliceImpl<>(Collections.emptyList());
+
+        // Act
+        when(callRepository.findByCallTypeAndIdGreaterThanOrderByCallTypeAscIdAsc(callType, afterId,
+                                                                                  PageRequest.of(0, size)))
+                .thenReturn(callDtoSlice);
+
+        Slice<CallDto> callDtoReturnedSlice = callServiceImpl.getCallsAfter(afterId, callType, size);
+
+        // Assert
+        assertEquals(callDtoSlice, callDtoReturnedSlice);
+        verify(callRepository, never()).count();
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getCallsAfterWithInvalidSizeFails() {
+        // Act && Assert
+        try {
+            callServiceImpl.getCallsAfter(null, null, MAXIMUM_NUMBER_OF_ELEMENTS_IN_PAGE + 1);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Page size must be between 1 and 1000!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of invalid page size was not thrown!");
+    }
+
     @Test
     public void deleteCallBySuccessfully() {
         // Arrange
@@ -584,4 +701,89 @@ public class CallServiceImplTests {
         // Assert
         verify(callRepository, times(1)).deleteById(id);
     }
+
+    @Test
+    public void createCallsUpdatesDailyStatisticsSuccessfully() {
+        // Arrange
+        Long callerNumber = 123456789L;
+        Long calleeNumber = 987654321L;
+        Long callStartTimestamp = 1599909010L;
+        Long callEndTimestamp = 1599942944L;
+        String callType = "Outbound";
+
+        CallDto callDtoToBeCreated = CallDto.Builder.callModelWith()
+                                                    .withCallerNumber(callerNumber)
+                                                    .withCalleeNumber(calleeNumber)
+                                                    .withStartTimestamp(callStartTimestamp)
+                                                    .withEndTimestamp(callEndTimestamp)
+                                                    .withCallType(callType)
+                                                    .build();
+
+        List<CallDto> callDtoToBeCreatedList = Collections.singletonList(callDtoToBeCreated);
+
+        // Act
+        when(callRepository.saveAllInBatches(callDtoToBeCreatedList)).thenReturn(callDtoToBeCreatedList);
+
+        callServiceImpl.createCalls(callDtoToBeCreatedList);
+
+        // Assert
+        verify(dailyStatisticsService, times(1)).addCalls(callDtoToBeCreatedList);
+        verify(statisticsCacheService, times(1)).invalidateDays(Set.of(LocalDate.of(2020, Month.SEPTEMBER, 12)));
+        verify(liveStatisticsService, times(1)).addCalls(callDtoToBeCreatedList);
+        verify(callLog, times(1)).appendCalls(callDtoToBeCreatedList);
+    }
+
+    @Test
+    public void deleteCallByIdUpdatesDailyStatisticsSuccessfully() {
+        // Arrange
+        Long id = 1L;
+
+        CallDto callDtoToBeDeleted = CallDto.Builder.callModelWith()
+                                                    .withCallerNumber(123456789L)
+                                                    .withCalleeNumber(987654321L)
+                                                    .withStartTimestamp(1599909010L)
+                                                    .withEndTimestamp(1599942944L)
+                                                    .withCallType("Outbound")
+                                                    .withCallStartDay(LocalDate.of(2020, Month.SEPTEMBER, 12))
+                                                    .build();
+
+        // Act
+        when(callRepository.findById(id)).thenReturn(Optional.of(callDtoToBeDeleted));
+
+        callServiceImpl.deleteCallById(id);
+
+        // Assert
+        verify(dailyStatisticsService, times(1)).removeCall(callDtoToBeDeleted);
+        verify(statisticsCacheService, times(1)).invalidateDays(Set.of(LocalDate.of(2020, Month.SEPTEMBER, 12)));
+        verify(liveStatisticsService, times(1)).removeCall(callDtoToBeDeleted);
+        verify(callLog, times(1)).appendCallDeletion(callDtoToBeDeleted);
+        verify(callRepository, times(1)).deleteById(id);
+    }
+
+    @Test
+    public void restoreCallsSuccessfully() {
+        // Arrange
+        CallDto callDtoToBeRestored = CallDto.Builder.callModelWith()
+                                                     .withId(51L)
+                                                     .withCallerNumber(123456789L)
+                                                     .withCalleeNumber(987654321L)
+                                                     .withStartTimestamp(1599909010L)
+                                                     .withEndTimestamp(1599942944L)
+                                                     .withCallType("Outbound")
+                                                     .build();
+
+        List<CallDto> callDtoToBeRestoredList = Collections.singletonList(callDtoToBeRestored);
+
+        // Act
+        callServiceImpl.restoreCalls(callDtoToBeRestoredList);
+
+        // Assert
+        assertEquals(Long.valueOf(51), callDtoToBeRestored.getId());
+        assertEquals(LocalDate.of(2020, Month.SEPTEMBER, 12), callDtoToBeRestored.getCallStartDay());
+        assertEquals(Duration.ofSeconds(33934), callDtoToBeRestored.getCallDuration());
+        assertEquals(Double.valueOf(28.55), callDtoToBeRestored.getCallCost());
+        verify(callRepository, times(1)).insertAllWithIds(callDtoToBeRestoredList);
+        verify(dailyStatisticsService, times(1)).addCalls(callDtoToBeRestoredList);
+        verifyNoInteractions(callLog);
+    }
 }
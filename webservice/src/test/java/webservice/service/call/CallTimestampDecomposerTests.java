@@ -0,0 +1,87 @@
+package webservice.service.call;
+
+import org.junit.Test;
+import webservice.model.calldto.CallDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class CallTimestampDecomposerTests {
+    @Test
+    public void decomposeCallSuccessfully() {
+        // Arrange
+        CallTimestampDecomposer callTimestampDecomposer = new CallTimestampDecomposer(ZoneId.of("Europe/Lisbon"));
+
+        CallDto callDto = CallDto.Builder.callModelWith()
+                                         .withStartTimestamp(1599909010L)
+                                         .withEndTimestamp(1599942944L)
+                                         .build();
+
+        // Act
+        callTimestampDecomposer.decompose(callDto);
+
+        // Assert
+        assertEquals(LocalDate.of(2020, Month.SEPTEMBER, 12), callDto.getCallStartDay());
+        assertEquals(LocalDate.of(2020, Month.SEPTEMBER, 12), callDto.getCallEndDay());
+        assertEquals(LocalTime.of(12, 10, 10), callDto.getCallStartTime());
+        assertEquals(LocalTime.of(21, 35, 44), callDto.getCallEndTime());
+        assertEquals(Duration.ofSeconds(33934), callDto.getCallDuration());
+    }
+
+    @Test
+    public void decomposeCallWithConfiguredZoneSuccessfully() {
+        // Arrange
+        CallTimestampDecomposer callTimestampDecomposer = new CallTimestampDecomposer("UTC");
+
+        // Act && Assert
+        assertEquals(LocalDate.of(2020, Month.SEPTEMBER, 12), callTimestampDecomposer.toDay(1599909010L));
+        assertEquals(LocalTime.of(11, 10, 10), callTimestampDecomposer.toTime(1599909010L));
+    }
+
+    @Test
+    public void decomposeTimestampsAroundDaylightSavingTransitionsSuccessfully() {
+        // Arrange
+        ZoneId zoneId = ZoneId.of("Europe/Lisbon");
+        CallTimestampDecomposer callTimestampDecomposer = new CallTimestampDecomposer(zoneId);
+
+        long[] epochSeconds = {1603587599L, 1603587600L, 1603591200L, 1616893199L, 1616893200L};
+
+        // Act && Assert
+        for (long epochSecond : epochSeconds) {
+            ZonedDateTime zonedDateTime = Instant.ofEpochSecond(epochSecond).atZone(zoneId);
+
+            assertEquals(zonedDateTime.toLocalDate(), callTimestampDecomposer.toDay(epochSecond));
+            assertEquals(zonedDateTime.toLocalTime(), callTimestampDecomposer.toTime(epochSecond));
+        }
+    }
+
+    @Test
+    public void decomposeRandomTimestampsMatchesZonedDateTimeSuccessfully() {
+        // Arrange
+        Random random = new Random(42);
+
+        for (String zone : new String[]{"Europe/Lisbon", "America/New_York", "Asia/Kolkata", "UTC"}) {
+            ZoneId zoneId = ZoneId.of(zone);
+            CallTimestampDecomposer callTimestampDecomposer = new CallTimestampDecomposer(zoneId);
+
+            for (int i = 0; i < 10000; i++) {
+                long epochSecond = 1L + (long) (random.nextDouble() * 2000000000L);
+
+                // Act
+                ZonedDateTime zonedDateTime = Instant.ofEpochSecond(epochSecond).atZone(zoneId);
+
+                // Assert
+                assertEquals(zonedDateTime.toLocalDate(), callTimestampDecomposer.toDay(epochSecond));
+                assertEquals(zonedDateTime.toLocalTime(), callTimestampDecomposer.toTime(epochSecond));
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package webservice.service.statistics;
+
+import webservice.model.calldto.CallDto;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class CallsAggregatorTests {
+    public List<CallDto> callDtoList = new ArrayList<>();
+    public CallDto callDtoCallOne;
+    public CallDto callDtoCallTwo;
+    public CallDto callDtoCallThree;
+
+    @Before
+    public void setup() {
+        callDtoCallOne = callDto(123456789L, 987654321L, "Inbound", LocalDate.of(2020, Month.SEPTEMBER, 12),
+                                 Duration.ofSeconds(33934), 0.0);
+        callDtoCallTwo = callDto(987654321L, 123456789L, "Outbound", LocalDate.of(2020, Month.SEPTEMBER, 12),
+                                 Duration.ofSeconds(33934), 28.55);
+        callDtoCallThree = callDto(987654321L, 123456789L, "Outbound", LocalDate.of(2020, Month.SEPTEMBER, 13),
+                                   Duration.ofSeconds(4000), 3.6);
+
+        Collections.addAll(callDtoList, callDtoCallOne, callDtoCallTwo, callDtoCallThree);
+    }
+
+    private CallDto callDto(Long callerNumber, Long calleeNumber, String callType, LocalDate callDay,
+                            Duration callDuration, Double callCost) {
+        return CallDto.Builder.callModelWith()
+                              .withCallerNumber(callerNumber)
+                              .withCalleeNumber(calleeNumber)
+                              .withCallType(callType)
+                              .withCallStartDay(callDay)
+                              .withCallEndDay(callDay)
+                              .withCallDuration(callDuration)
+                              .withCallCost(callCost)
+                              .build();
+    }
+
+    @Test
+    public void aggregateGroupsByDayAndCallTypeSuccessfully() {
+        // Act
+        CallsAggregator callsAggregator = CallsAggregator.aggregate(callDtoList);
+
+        Map<LocalDate, Map<String, CallsAggregate>> callsAggregateByDayAndCallTypeMap =
+                callsAggregator.getCallsAggregateByDayAndCallTypeMap();
+
+        // Assert
+        assertEquals(2, callsAggregateByDayAndCallTypeMap.size());
+        assertEquals(2, callsAggregateByDayAndCallTypeMap.get(callDtoCallOne.getCallStartDay()).size());
+
+        CallsAggregate callsAggregateOutbound = callsAggregateByDayAndCallTypeMap.get(callDtoCallTwo.getCallStartDay())
+                                                                                 .get("Outbound");
+
+        assertEquals(33934L, callsAggregateOutbound.getTotalCallsDuration());
+        assertEquals(1L, callsAggregateOutbound.getTotalNumberOfCalls());
+        assertEquals(2855L, callsAggregateOutbound.getTotalCallsCostInCents());
+        assertEquals(1L, callsAggregateOutbound.getTotalNumberOfCallsByCallerNumber()
+                                               .get(callDtoCallTwo.getCallerNumber()));
+        assertEquals(1L, callsAggregateOutbound.getTotalNumberOfCallsByCalleeNumber()
+                                               .get(callDtoCallTwo.getCalleeNumber()));
+        assertEquals(0L, callsAggregateOutbound.getTotalNumberOfCallsByCallerNumber()
+                                               .get(callDtoCallOne.getCallerNumber()));
+    }
+
+    @Test
+    public void mergeAddsAggregatesSuccessfully() {
+        // Arrange
+        CallsAggregator callsAggregator = CallsAggregator.aggregate(callDtoList);
+
+        // Act
+        callsAggregator.merge(CallsAggregator.aggregate(Collections.singletonList(callDtoCallThree)));
+
+        CallsAggregate callsAggregateOutbound = callsAggregator.getCallsAggregateByDayAndCallTypeMap()
+                                                               .get(callDtoCallThree.getCallStartDay())
+                                                               .get("Outbound");
+
+        // Assert
+        assertEquals(8000L, callsAggregateOutbound.getTotalCallsDuration());
+        assertEquals(2L, callsAggregateOutbound.getTotalNumberOfCalls());
+        assertEquals(720L, callsAggregateOutbound.getTotalCallsCostInCents());
+        assertEquals(2L, callsAggregateOutbound.getTotalNumberOfCallsByCallerNumber()
+                                               .get(callDtoCallThree.getCallerNumber()));
+    }
+
+    @Test
+    public void aggregateCountsManyNumbersSuccessfully() {
+        // Arrange
+        List<CallDto> callDtoListWithManyNumbers = new ArrayList<>();
+
+        for (long callerNumber = 0; callerNumber < 10000; callerNumber++) {
+            for (int i = 0; i <= callerNumber % 3; i++) {
+                callDtoListWithManyNumbers.add(callDto(callerNumber, -callerNumber, "Inbound",
+                                                       LocalDate.of(2020, Month.SEPTEMBER, 12),
+                                                       Duration.ofSeconds(60), 0.0));
+            }
+        }
+
+        // Act
+        CallsAggregate callsAggregate = CallsAggregator.aggregate(callDtoListWithManyNumbers)
+                                                       .getCallsAggregateByDayAndCallTypeMap()
+                                                       .get(LocalDate.of(2020, Month.SEPTEMBER, 12))
+                                                       .get("Inbound");
+
+        // Assert
+        assertEquals(10000, callsAggregate.getTotalNumberOfCallsByCallerNumber().size());
+        assertEquals(10000, callsAggregate.getTotalNumberOfCallsByCallerNumber().keys().length);
+        assertEquals(1L, callsAggregate.getTotalNumberOfCallsByCallerNumber().get(0L));
+        assertEquals(3L, callsAggregate.getTotalNumberOfCallsByCallerNumber().get(9998L));
+        assertEquals(2L, callsAggregate.getTotalNumberOfCallsByCalleeNumber().get(-9997L));
+        assertEquals(callDtoListWithManyNumbers.size(), callsAggregate.getTotalNumberOfCalls());
+    }
+}
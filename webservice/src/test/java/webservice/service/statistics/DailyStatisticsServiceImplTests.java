@@ -0,0 +1,417 @@
+package webservice.service.statistics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import webservice.model.calldto.CallDto;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCalleeNumber;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCallerNumber;
+import webservice.model.dailystatisticsdto.DailySketchesDto;
+import webservice.model.dailystatisticsdto.DailyStatisticsDto;
+import webservice.model.dailystatisticsprojection.DailyCalleeStatisticsByDay;
+import webservice.model.dailystatisticsprojection.DailyCallerStatisticsByDay;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+import webservice.repository.CallRepository;
+import webservice.repository.DailyCalleeStatisticsRepository;
+import webservice.repository.DailyCallerStatisticsRepository;
+import webservice.repository.DailySketchesRepository;
+import webservice.repository.DailyStatisticsRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static webservice.service.ServiceParameters.FIRST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.LAST_DAY_OF_STATISTICS;
+
+@DataJpaTest
+@RunWith(SpringRunner.class)
+@Import(DailyStatisticsServiceImpl.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@TestPropertySource(properties = "webservice.statistics.approximate.enabled=true")
+public class DailyStatisticsServiceImplTests {
+    @Autowired
+    private DailyStatisticsService dailyStatisticsService;
+    @Autowired
+    private CallRepository callRepository;
+    @Autowired
+    private DailyStatisticsRepository dailyStatisticsRepository;
+    @Autowired
+    private DailyCallerStatisticsRepository dailyCallerStatisticsRepository;
+    @Autowired
+    private DailyCalleeStatisticsRepository dailyCalleeStatisticsRepository;
+    @Autowired
+    private DailySketchesRepository dailySketchesRepository;
+
+    private StatisticsService statisticsService;
+
+    public List<CallDto> callDtoList = new ArrayList<>();
+    public CallDto callDtoCallOne;
+    public CallDto callDtoCallTwo;
+    public CallDto callDtoCallThree;
+
+    @Before
+    public void setup() {
+        statisticsService = new StatisticsServiceImpl(dailyStatisticsRepository, dailyCallerStatisticsRepository,
+                                                      dailyCalleeStatisticsRepository, dailySketchesRepository,
+                                                      Optional.empty(), Optional.empty(), true,
+                                                      new SimpleMeterRegistry());
+
+        callDtoCallOne = callDto(123456789L, 987654321L, "Inbound", LocalDate.of(2020, Month.SEPTEMBER, 12),
+                                 LocalTime.of(12, 10, 10), LocalTime.of(21, 35, 44), 0.0);
+        callDtoCallTwo = callDto(987654321L, 123456789L, "Outbound", LocalDate.of(2020, Month.SEPTEMBER, 12),
+                                 LocalTime.of(12, 10, 10), LocalTime.of(21, 35, 44), 28.55);
+        callDtoCallThree = callDto(987654321L, 123456789L, "Outbound", LocalDate.of(2020, Month.SEPTEMBER, 12),
+                                   LocalTime.of(22, 48, 48), LocalTime.of(23, 55, 28), 3.6);
+
+        Collections.addAll(callDtoList, callDtoCallOne, callDtoCallTwo, callDtoCallThree);
+    }
+
+    private CallDto callDto(Long callerNumber, Long calleeNumber, String callType, LocalDate callDay,
+                            LocalTime callStartTime, LocalTime callEndTime, Double callCost) {
+        return CallDto.Builder.callModelWith()
+                              .withCallerNumber(callerNumber)
+                              .withCalleeNumber(calleeNumber)
+                              .withStartTimestamp(LocalDateTime.of(callDay, callStartTime)
+                                                               .toEpochSecond(ZoneOffset.UTC))
+                              .withEndTimestamp(LocalDateTime.of(callDay, callEndTime)
+                                                             .toEpochSecond(ZoneOffset.UTC))
+                              .withCallType(callType)
+                              .withCallStartDay(callDay)
+                              .withCallEndDay(callDay)
+                              .withCallStartTime(callStartTime)
+                              .withCallEndTime(callEndTime)
+                              .withCallDuration(Duration.between(callStartTime, callEndTime))
+                              .withCallCost(callCost)
+                              .build();
+    }
+
+    @Test
+    public void addCallsAggregatesByDayAndCallTypeSuccessfully() {
+        // Act
+        dailyStatisticsService.addCalls(callDtoList);
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsService.getCallsStatistics(null, null, null,
+                                                                                                  null, false);
+        List<CallsStatisticsJson> callsStatisticsJsonOutboundList =
+                statisticsService.getCallsStatistics(null, null, "Outbound", null, false);
+
+        // Assert
+        assertEquals(1, callsStatisticsJsonList.size());
+        assertEquals(Long.valueOf(3), callsStatisticsJsonList.get(0).getTotalNumberOfCalls());
+        assertEquals(Long.valueOf(callDtoCallOne.getCallDuration().getSeconds()),
+                     callsStatisticsJsonList.get(0).getTotalCallsDurationInbound());
+
+        assertEquals(1, callsStatisticsJsonOutboundList.size());
+        assertEquals(callDtoCallTwo.getCallStartDay(), callsStatisticsJsonOutboundList.get(0).getDay());
+        assertEquals(Long.valueOf(2), callsStatisticsJsonOutboundList.get(0).getTotalNumberOfCalls());
+        assertEquals(Long.valueOf(callDtoCallTwo.getCallDuration().getSeconds()
+                                  + callDtoCallThree.getCallDuration().getSeconds()),
+                     callsStatisticsJsonOutboundList.get(0).getTotalCallsDurationOutbound());
+        assertEquals(Double.valueOf(32.15), callsStatisticsJsonOutboundList.get(0).getTotalCallsCost());
+    }
+
+    @Test
+    public void addCallsAggregatesByCallerAndCalleeNumberSuccessfully() {
+        // Act
+        dailyStatisticsService.addCalls(callDtoList);
+        dailyStatisticsService.addCalls(Collections.singletonList(callDtoCallOne));
+
+        CallsStatisticsJson callsStatisticsJson = statisticsService.getCallsStatistics(null, null, null, null, false)
+                                                                   .get(0);
+        List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList =
+                callsStatisticsJson.getTotalNumberOfCallsByCallerNumber();
+        List<TotalNumberOfCallsByCalleeNumber> totalNumberOfCallsByCalleeNumberList =
+                callsStatisticsJson.getTotalNumberOfCallsByCalleeNumber();
+
+        // Assert
+        assertEquals(2, totalNumberOfCallsByCallerNumberList.size());
+        assertEquals(callDtoCallOne.getCallerNumber(), totalNumberOfCallsByCallerNumberList.get(0).getCallerNumber());
+        assertEquals(Long.valueOf(2), totalNumberOfCallsByCallerNumberList.get(0).getTotalNumberOfCalls());
+        assertEquals(callDtoCallTwo.getCallerNumber(), totalNumberOfCallsByCallerNumberList.get(1).getCallerNumber());
+        assertEquals(Long.valueOf(2), totalNumberOfCallsByCallerNumberList.get(1).getTotalNumberOfCalls());
+
+        assertEquals(2, totalNumberOfCallsByCalleeNumberList.size());
+        assertEquals(callDtoCallTwo.getCalleeNumber(), totalNumberOfCallsByCalleeNumberList.get(0).getCalleeNumber());
+        assertEquals(Long.valueOf(2), totalNumberOfCallsByCalleeNumberList.get(0).getTotalNumberOfCalls());
+        assertEquals(callDtoCallOne.getCalleeNumber(), totalNumberOfCallsByCalleeNumberList.get(1).getCalleeNumber());
+        assertEquals(Long.valueOf(2), totalNumberOfCallsByCalleeNumberList.get(1).getTotalNumberOfCalls());
+    }
+
+    // Each thread commits its own transaction, so the threads race to insert the same new day and call type rows.
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void addCallsConcurrentlyToNewDayAndCallTypeSuccessfully() throws Exception {
+        // Arrange
+        int numberOfThreads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futureList = new ArrayList<>();
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            futureList.add(executorService.submit(() -> {
+                startLatch.await();
+                dailyStatisticsService.addCalls(callDtoList);
+
+                return null;
+            }));
+        }
+
+        // Act
+        startLatch.countDown();
+
+        try {
+            for (Future<?> future : futureList) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Map<String, Long> totalNumberOfCallsByCallTypeMap = dailyStatisticsRepository
+                .findAll()
+                .stream()
+                .collect(Collectors.toMap(DailyStatisticsDto::getCallType, DailyStatisticsDto::getTotalNumberOfCalls));
+
+        // Assert
+        assertEquals(2, totalNumberOfCallsByCallTypeMap.size());
+        assertEquals(Long.valueOf(2L * numberOfThreads), totalNumberOfCallsByCallTypeMap.get("Outbound"));
+        assertEquals(Long.valueOf(numberOfThreads), totalNumberOfCallsByCallTypeMap.get("Inbound"));
+        assertEquals(2, dailyCallerStatisticsRepository.findAll().size());
+        assertEquals(2, dailyCalleeStatisticsRepository.findAll().size());
+        assertEquals(2, dailySketchesRepository.findAll().size());
+    }
+
+    @Test
+    public void removeCallDecrementsAndDeletesEmptyAggregatesSuccessfully() {
+        // Arrange
+        dailyStatisticsService.addCalls(callDtoList);
+
+        // Act
+        dailyStatisticsService.removeCall(callDtoCallOne);
+        dailyStatisticsService.removeCall(callDtoCallThree);
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsService.getCallsStatistics(null, null, null,
+                                                                                                  null, false);
+        List<CallsStatisticsJson> callsStatisticsJsonInboundList =
+                statisticsService.getCallsStatistics(null, null, "Inbound", null, false);
+
+        // Assert
+        assertTrue(callsStatisticsJsonInboundList.isEmpty());
+
+        assertEquals(1, callsStatisticsJsonList.size());
+        assertEquals(Long.valueOf(1), callsStatisticsJsonList.get(0).getTotalNumberOfCalls());
+        assertEquals(Long.valueOf(0), callsStatisticsJsonList.get(0).getTotalCallsDurationInbound());
+        assertEquals(Long.valueOf(callDtoCallTwo.getCallDuration().getSeconds()),
+                     callsStatisticsJsonList.get(0).getTotalCallsDurationOutbound());
+        assertEquals(callDtoCallTwo.getCallCost(), callsStatisticsJsonList.get(0).getTotalCallsCost());
+
+        List<TotalNumberOfCallsByCallerNumber> totalNumberOfCallsByCallerNumberList =
+                callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCallerNumber();
+
+        assertEquals(1, totalNumberOfCallsByCallerNumberList.size());
+        assertEquals(callDtoCallTwo.getCallerNumber(), totalNumberOfCallsByCallerNumberList.get(0).getCallerNumber());
+        assertEquals(Long.valueOf(1), totalNumberOfCallsByCallerNumberList.get(0).getTotalNumberOfCalls());
+    }
+
+    @Test
+    public void removeLastCallOfDayDeletesAllAggregatesSuccessfully() {
+        // Arrange
+        dailyStatisticsService.addCalls(Collections.singletonList(callDtoCallOne));
+
+        // Act
+        dailyStatisticsService.removeCall(callDtoCallOne);
+
+        // Assert
+        assertTrue(dailyStatisticsRepository.findAll().isEmpty());
+        assertTrue(dailyCallerStatisticsRepository.findAll().isEmpty());
+        assertTrue(dailyCalleeStatisticsRepository.findAll().isEmpty());
+        assertTrue(dailySketchesRepository.findAll().isEmpty());
+    }
+
+    @Test
+    public void rebuildDailyStatisticsFromCallsSuccessfully() {
+        // Arrange
+        dailyStatisticsService.addCalls(Collections.singletonList(callDtoCallOne));
+        callRepository.saveAll(callDtoList);
+
+        // Act
+        dailyStatisticsService.rebuildDailyStatistics();
+
+        CallsStatisticsJson callsStatisticsJson = statisticsService.getCallsStatistics(null, null, null, null, false)
+                                                                   .get(0);
+        CallsStatisticsJson callsStatisticsJsonOutbound =
+                statisticsService.getCallsStatistics(null, null, "Outbound", null, false).get(0);
+
+        // Assert
+        assertEquals(Long.valueOf(3), callsStatisticsJson.getTotalNumberOfCalls());
+
+        assertEquals(Long.valueOf(2), callsStatisticsJsonOutbound.getTotalNumberOfCalls());
+        assertEquals(Long.valueOf(callDtoCallTwo.getCallDuration().getSeconds()
+                                  + callDtoCallThree.getCallDuration().getSeconds()),
+                     callsStatisticsJsonOutbound.getTotalCallsDurationOutbound());
+        assertEquals(Double.valueOf(32.15), callsStatisticsJsonOutbound.getTotalCallsCost());
+
+        assertEquals(2, callsStatisticsJson.getTotalNumberOfCallsByCallerNumber().size());
+        assertEquals(Long.valueOf(1),
+                     callsStatisticsJson.getTotalNumberOfCallsByCallerNumber().get(0).getTotalNumberOfCalls());
+        assertEquals(Long.valueOf(2),
+                     callsStatisticsJson.getTotalNumberOfCallsByCallerNumber().get(1).getTotalNumberOfCalls());
+
+        assertEquals(2, callsStatisticsJson.getTotalNumberOfCallsByCalleeNumber().size());
+        assertEquals(Long.valueOf(2),
+                     callsStatisticsJson.getTotalNumberOfCallsByCalleeNumber().get(0).getTotalNumberOfCalls());
+        assertEquals(Long.valueOf(1),
+                     callsStatisticsJson.getTotalNumberOfCallsByCalleeNumber().get(1).getTotalNumberOfCalls());
+    }
+
+    @Test
+    public void getDailyStatisticsByDayMergesCallTypesSuccessfully() {
+        // Arrange
+        dailyStatisticsService.addCalls(callDtoList);
+        dailyStatisticsService.addCalls(Collections.singletonList(
+                callDto(123456789L, 555555555L, "Outbound", LocalDate.of(2020, Month.SEPTEMBER, 12),
+                        LocalTime.of(23, 0, 0), LocalTime.of(23, 10, 0), 0.75)));
+
+        // Act
+        List<DailyStatisticsByDay> dailyStatisticsByDayList =
+                dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS,
+                                                                   null, "Inbound", "Outbound");
+        List<DailyCallerStatisticsByDay> dailyCallerStatisticsByDayList =
+                dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                               LAST_DAY_OF_STATISTICS, null);
+
+        // Assert
+        assertEquals(1, dailyStatisticsByDayList.size());
+        assertEquals(Long.valueOf(callDtoCallOne.getCallDuration().getSeconds()),
+                     dailyStatisticsByDayList.get(0).getTotalCallsDurationInbound());
+        assertEquals(Long.valueOf(callDtoCallTwo.getCallDuration().getSeconds()
+                                  + callDtoCallThree.getCallDuration().getSeconds() + 600),
+                     dailyStatisticsByDayList.get(0).getTotalCallsDurationOutbound());
+        assertEquals(Long.valueOf(4), dailyStatisticsByDayList.get(0).getTotalNumberOfCalls());
+        assertEquals(32.9, dailyStatisticsByDayList.get(0).getTotalCallsCost(), 0.001);
+
+        assertEquals(2, dailyCallerStatisticsByDayList.size());
+        assertEquals(callDtoCallOne.getCallerNumber(), dailyCallerStatisticsByDayList.get(0).getCallerNumber());
+        assertEquals(Long.valueOf(2), dailyCallerStatisticsByDayList.get(0).getTotalNumberOfCalls());
+        assertEquals(callDtoCallTwo.getCallerNumber(), dailyCallerStatisticsByDayList.get(1).getCallerNumber());
+        assertEquals(Long.valueOf(2), dailyCallerStatisticsByDayList.get(1).getTotalNumberOfCalls());
+    }
+
+    @Test
+    public void getDailyStatisticsByDayWithDayRangeAndCallTypeSuccessfully() {
+        // Arrange
+        dailyStatisticsService.addCalls(callDtoList);
+        dailyStatisticsService.addCalls(Collections.singletonList(
+                callDto(123456789L, 555555555L, "Outbound", LocalDate.of(2020, Month.SEPTEMBER, 20),
+                        LocalTime.of(23, 0, 0), LocalTime.of(23, 10, 0), 0.75)));
+
+        LocalDate from = LocalDate.of(2020, Month.SEPTEMBER, 12);
+        LocalDate to = LocalDate.of(2020, Month.SEPTEMBER, 18);
+
+        // Act
+        List<DailyStatisticsByDay> dailyStatisticsByDayList =
+                dailyStatisticsRepository.findDailyStatisticsByDay(from, to, "Outbound", "Inbound", "Outbound");
+        List<DailyCallerStatisticsByDay> dailyCallerStatisticsByDayList =
+                dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(from, to, "Outbound");
+        List<DailyCalleeStatisticsByDay> dailyCalleeStatisticsByDayList =
+                dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(from, to, "Outbound");
+
+        // Assert
+        assertEquals(1, dailyStatisticsByDayList.size());
+        assertEquals(from, dailyStatisticsByDayList.get(0).getDay());
+        assertEquals(Long.valueOf(0), dailyStatisticsByDayList.get(0).getTotalCallsDurationInbound());
+        assertEquals(Long.valueOf(2), dailyStatisticsByDayList.get(0).getTotalNumberOfCalls());
+
+        assertEquals(1, dailyCallerStatisticsByDayList.size());
+        assertEquals(callDtoCallTwo.getCallerNumber(), dailyCallerStatisticsByDayList.get(0).getCallerNumber());
+        assertEquals(Long.valueOf(2), dailyCallerStatisticsByDayList.get(0).getTotalNumberOfCalls());
+
+        assertEquals(1, dailyCalleeStatisticsByDayList.size());
+        assertEquals(callDtoCallTwo.getCalleeNumber(), dailyCalleeStatisticsByDayList.get(0).getCalleeNumber());
+    }
+
+    @Test
+    public void addCallsAndRebuildDailySketchesSuccessfully() {
+        // Arrange
+        callRepository.saveAll(callDtoList);
+
+        // Act
+        dailyStatisticsService.addCalls(callDtoList);
+
+        CallsSketches addedCallsSketches = new CallsSketches(dailySketchesRepository
+                .findByDayAndCallType(callDtoCallTwo.getCallStartDay(), "Outbound").orElseThrow());
+
+        dailyStatisticsService.rebuildDailyStatistics();
+
+        List<DailySketchesDto> dailySketchesDtoList = dailySketchesRepository
+                .findDailySketches(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, "Outbound");
+        CallsSketches rebuiltCallsSketches = new CallsSketches(dailySketchesDtoList.get(0));
+
+        // Assert
+        assertEquals(1, dailySketchesDtoList.size());
+
+        for (CallsSketches callsSketches : List.of(addedCallsSketches, rebuiltCallsSketches)) {
+            List<Long> topCallerNumbers = new ArrayList<>();
+
+            callsSketches.getTopCallerNumbers().forEach(1, (callerNumber, totalNumberOfCalls, error) -> {
+                topCallerNumbers.add(callerNumber);
+                topCallerNumbers.add(totalNumberOfCalls);
+            });
+
+            assertEquals(1L, callsSketches.getCallerNumbers().estimate());
+            assertEquals(1L, callsSketches.getCalleeNumbers().estimate());
+            assertEquals(List.of(callDtoCallTwo.getCallerNumber(), 2L), topCallerNumbers);
+            assertEquals(0L, callsSketches.getTopCallerNumbers().getMaximumError());
+        }
+    }
+
+    @Test
+    public void addCallsAndRebuildWithoutApproximateStatisticsSkipsDailySketchesSuccessfully() {
+        // Arrange
+        DailyStatisticsService exactDailyStatisticsService = new DailyStatisticsServiceImpl(
+                callRepository, dailyStatisticsRepository, dailyCallerStatisticsRepository,
+                dailyCalleeStatisticsRepository, dailySketchesRepository, Optional.empty(), false);
+
+        callRepository.saveAll(callDtoList);
+
+        // Act
+        exactDailyStatisticsService.addCalls(callDtoList);
+
+        boolean addedDailySketches = !dailySketchesRepository.findAll().isEmpty();
+
+        exactDailyStatisticsService.rebuildDailyStatistics();
+
+        // Assert
+        assertFalse(addedDailySketches);
+        assertTrue(dailySketchesRepository.findAll().isEmpty());
+        assertEquals(2, dailyStatisticsRepository.findAll().size());
+    }
+}
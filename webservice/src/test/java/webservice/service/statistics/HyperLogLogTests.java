@@ -0,0 +1,75 @@
+package webservice.service.statistics;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HyperLogLogTests {
+    private static final double MAXIMUM_RELATIVE_ERROR = 3 * 1.04 / Math.sqrt(16384);
+
+    @Test
+    public void estimateWithinErrorBoundSuccessfully() {
+        // Arrange
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        Set<Long> numbers = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200000; i++) {
+            long number = 100000000L + random.nextInt(100000);
+            hyperLogLog.add(number);
+            numbers.add(number);
+        }
+
+        // Act
+        long estimate = hyperLogLog.estimate();
+
+        // Assert
+        assertTrue(Math.abs(estimate - numbers.size()) <= MAXIMUM_RELATIVE_ERROR * numbers.size());
+    }
+
+    @Test
+    public void estimateSmallCardinalityExactlySuccessfully() {
+        // Arrange
+        HyperLogLog hyperLogLog = new HyperLogLog();
+
+        for (long number = 1; number <= 100; number++) {
+            hyperLogLog.add(number);
+            hyperLogLog.add(number);
+        }
+
+        // Act && Assert
+        assertEquals(100L, hyperLogLog.estimate());
+        assertEquals(0L, new HyperLogLog().estimate());
+    }
+
+    @Test
+    public void mergeEstimatesUnionSuccessfully() {
+        // Arrange
+        HyperLogLog hyperLogLog = new HyperLogLog();
+        HyperLogLog otherHyperLogLog = new HyperLogLog();
+        HyperLogLog unionHyperLogLog = new HyperLogLog();
+
+        for (long number = 0; number < 60000; number++) {
+            hyperLogLog.add(number);
+            unionHyperLogLog.add(number);
+        }
+
+        for (long number = 40000; number < 100000; number++) {
+            otherHyperLogLog.add(number);
+            unionHyperLogLog.add(number);
+        }
+
+        // Act
+        HyperLogLog mergedHyperLogLog = HyperLogLog.fromByteArray(hyperLogLog.toByteArray());
+        mergedHyperLogLog.merge(otherHyperLogLog);
+
+        // Assert
+        assertEquals(unionHyperLogLog.estimate(), mergedHyperLogLog.estimate());
+        assertTrue(Math.abs(mergedHyperLogLog.estimate() - 100000) <= MAXIMUM_RELATIVE_ERROR * 100000);
+    }
+}
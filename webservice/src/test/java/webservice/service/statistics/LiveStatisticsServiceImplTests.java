@@ -0,0 +1,197 @@
+package webservice.service.statistics;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import webservice.model.calldto.CallDto;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCalleeNumber;
+import webservice.model.callstatisticsjson.TotalNumberOfCallsByCallerNumber;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LiveStatisticsServiceImplTests {
+    @Mock
+    private StatisticsService statisticsService;
+
+    private LiveStatisticsServiceImpl liveStatisticsServiceImpl;
+
+    private final LocalDate today = LocalDate.of(2020, Month.SEPTEMBER, 12);
+
+    @Before
+    public void setup() {
+        liveStatisticsServiceImpl = new LiveStatisticsServiceImpl(statisticsService,
+                                                                  Clock.fixed(today.atTime(12, 0)
+                                                                                   .toInstant(ZoneOffset.UTC),
+                                                                              ZoneOffset.UTC));
+    }
+
+    private CallDto callDto(Long callerNumber, Long calleeNumber, String callType, double callCost) {
+        return CallDto.Builder.callModelWith()
+                              .withCallerNumber(callerNumber)
+                              .withCalleeNumber(calleeNumber)
+                              .withCallType(callType)
+                              .withCallStartDay(today)
+                              .withCallDuration(Duration.ofSeconds(60))
+                              .withCallCost(callCost)
+                              .build();
+    }
+
+    @Test
+    public void pollCurrentDayStatisticsChangesSuccessfully() {
+        // Arrange
+        CallsStatisticsJson callsStatisticsJsonFromDatabase = CallsStatisticsJson.Builder
+                .callStatisticsJsonWith()
+                .withDay(today)
+                .withTotalCallsDurationInbound(0L)
+                .withTotalCallsDurationOutbound(120L)
+                .withTotalNumberOfCalls(2L)
+                .withTotalCallsCost(0.2)
+                .withTotalNumberOfCallsByCallerNumber(List.of(
+                        TotalNumberOfCallsByCallerNumber.Builder.totalNumberOfCallsByCallerNumberWith()
+                                                                .withCallerNumber(111L)
+                                                                .withTotalNumberOfCalls(2L)
+                                                                .build()))
+                .withTotalNumberOfCallsByCalleeNumber(List.of(
+                        TotalNumberOfCallsByCalleeNumber.Builder.totalNumberOfCallsByCalleeNumberWith()
+                                                                .withCalleeNumber(222L)
+                                                                .withTotalNumberOfCalls(1L)
+                                                                .build(),
+                        TotalNumberOfCallsByCalleeNumber.Builder.totalNumberOfCallsByCalleeNumberWith()
+                                                                .withCalleeNumber(333L)
+                                                                .withTotalNumberOfCalls(1L)
+                                                                .build()))
+                .build();
+
+        when(statisticsService.getCallsStatistics(today, today, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonFromDatabase));
+
+        // Act
+        CallsStatisticsJson currentDayStatistics = liveStatisticsServiceImpl.getCurrentDayStatistics();
+        CallsStatisticsJson noChanges = liveStatisticsServiceImpl.pollCurrentDayStatisticsChanges();
+
+        liveStatisticsServiceImpl.addCalls(List.of(callDto(111L, 444L, "Inbound", 0),
+                                                   callDto(555L, 222L, "Outbound", 0.1)));
+        liveStatisticsServiceImpl.removeCall(callDto(111L, 333L, "Outbound", 0.1));
+
+        CallsStatisticsJson changes = liveStatisticsServiceImpl.pollCurrentDayStatisticsChanges();
+        CallsStatisticsJson changedCurrentDayStatistics = liveStatisticsServiceImpl.getCurrentDayStatistics();
+
+        // Assert
+        assertEquals(Long.valueOf(2), currentDayStatistics.getTotalNumberOfCalls());
+        assertEquals(2, currentDayStatistics.getTotalNumberOfCallsByCalleeNumber().size());
+        assertNull(noChanges);
+
+        assertEquals(today, changes.getDay());
+        assertEquals(Long.valueOf(60), changes.getTotalCallsDurationInbound());
+        assertEquals(Long.valueOf(120), changes.getTotalCallsDurationOutbound());
+        assertEquals(Long.valueOf(3), changes.getTotalNumberOfCalls());
+        assertEquals(Double.valueOf(0.2), changes.getTotalCallsCost());
+        assertEquals(2, changes.getTotalNumberOfCallsByCallerNumber().size());
+        assertEquals(Long.valueOf(111L), changes.getTotalNumberOfCallsByCallerNumber().get(0).getCallerNumber());
+        assertEquals(Long.valueOf(2), changes.getTotalNumberOfCallsByCallerNumber().get(0).getTotalNumberOfCalls());
+        assertEquals(3, changes.getTotalNumberOfCallsByCalleeNumber().size());
+        assertEquals(Long.valueOf(333L), changes.getTotalNumberOfCallsByCalleeNumber().get(1).getCalleeNumber());
+        assertEquals(Long.valueOf(0), changes.getTotalNumberOfCallsByCalleeNumber().get(1).getTotalNumberOfCalls());
+
+        assertEquals(2, changedCurrentDayStatistics.getTotalNumberOfCallsByCalleeNumber().size());
+        assertNull(liveStatisticsServiceImpl.pollCurrentDayStatisticsChanges());
+        verify(statisticsService, times(1)).getCallsStatistics(today, today, null, null, false);
+    }
+
+    @Test
+    public void addCallsBeforeCurrentDayIsReadSuccessfully() {
+        // Arrange
+        when(statisticsService.getCallsStatistics(today, today, null, null, false)).thenReturn(List.of());
+
+        // Act
+        liveStatisticsServiceImpl.addCalls(List.of(callDto(111L, 222L, "Inbound", 0)));
+
+        CallsStatisticsJson currentDayStatistics = liveStatisticsServiceImpl.getCurrentDayStatistics();
+
+        // Assert
+        assertEquals(today, currentDayStatistics.getDay());
+        assertEquals(Long.valueOf(0), currentDayStatistics.getTotalNumberOfCalls());
+        assertEquals(0, currentDayStatistics.getTotalNumberOfCallsByCallerNumber().size());
+        assertNull(liveStatisticsServiceImpl.pollCurrentDayStatisticsChanges());
+    }
+
+    @Test
+    public void getCurrentDayStatisticsWhileCallsCommitSuccessfully() throws Exception {
+        // Arrange
+        CallsStatisticsJson callsStatisticsJsonFromDatabase = CallsStatisticsJson.Builder
+                .callStatisticsJsonWith()
+                .withDay(today)
+                .withTotalCallsDurationInbound(60L)
+                .withTotalCallsDurationOutbound(0L)
+                .withTotalNumberOfCalls(1L)
+                .withTotalCallsCost(0.0)
+                .withTotalNumberOfCallsByCallerNumber(List.of(
+                        TotalNumberOfCallsByCallerNumber.Builder.totalNumberOfCallsByCallerNumberWith()
+                                                                .withCallerNumber(111L)
+                                                                .withTotalNumberOfCalls(1L)
+                                                                .build()))
+                .withTotalNumberOfCallsByCalleeNumber(List.of(
+                        TotalNumberOfCallsByCalleeNumber.Builder.totalNumberOfCallsByCalleeNumberWith()
+                                                                .withCalleeNumber(222L)
+                                                                .withTotalNumberOfCalls(1L)
+                                                                .build()))
+                .build();
+
+        when(statisticsService.getCallsStatistics(today, today, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonFromDatabase));
+
+        // Act
+        CompletableFuture<CallsStatisticsJson> currentDayStatisticsFuture;
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            liveStatisticsServiceImpl.addCalls(List.of(callDto(111L, 222L, "Inbound", 0)));
+
+            List<TransactionSynchronization> synchronizations =
+                    TransactionSynchronizationManager.getSynchronizations();
+
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+
+            // The day is read while the call is being committed, so it must wait for the call to be applied.
+            currentDayStatisticsFuture = CompletableFuture.supplyAsync(
+                    liveStatisticsServiceImpl::getCurrentDayStatistics);
+
+            verify(statisticsService, after(100).never()).getCallsStatistics(today, today, null, null, false);
+
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization -> synchronization
+                    .afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        CallsStatisticsJson currentDayStatistics = currentDayStatisticsFuture.get();
+
+        // Assert
+        assertEquals(Long.valueOf(1), currentDayStatistics.getTotalNumberOfCalls());
+        assertEquals(Long.valueOf(1), currentDayStatistics.getTotalNumberOfCallsByCallerNumber().get(0)
+                                                          .getTotalNumberOfCalls());
+        assertNull(liveStatisticsServiceImpl.pollCurrentDayStatisticsChanges());
+    }
+}
@@ -0,0 +1,116 @@
+package webservice.service.statistics;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SpaceSavingTests {
+    @Test
+    public void forEachHeavyHittersWithinErrorBoundSuccessfully() {
+        // Arrange
+        SpaceSaving spaceSaving = new SpaceSaving(64);
+        Map<Long, Long> totalNumberOfCallsByNumberMap = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100000; i++) {
+            long number = random.nextInt(10) < 5 ? random.nextInt(20) : 1000 + random.nextInt(10000);
+            spaceSaving.add(number, 1);
+            totalNumberOfCallsByNumberMap.merge(number, 1L, Long::sum);
+        }
+
+        Set<Long> trackedNumbers = new HashSet<>();
+
+        // Act
+        spaceSaving.forEach(64, (number, totalNumberOfCalls, error) -> {
+            trackedNumbers.add(number);
+            long exactTotalNumberOfCalls = totalNumberOfCallsByNumberMap.get(number);
+
+            // Assert
+            assertTrue(exactTotalNumberOfCalls <= totalNumberOfCalls);
+            assertTrue(totalNumberOfCalls - error <= exactTotalNumberOfCalls);
+        });
+
+        // Assert
+        assertEquals(100000L, spaceSaving.getTotalNumberOfCallsCounted());
+        assertTrue(spaceSaving.getMaximumError() <= 100000 / 64);
+        totalNumberOfCallsByNumberMap.forEach((number, totalNumberOfCalls) -> {
+            if (totalNumberOfCalls > 100000 / 64) {
+                assertTrue(trackedNumbers.contains(number));
+            }
+        });
+    }
+
+    @Test
+    public void forEachSortedByNumberOfCallsWithLimitSuccessfully() {
+        // Arrange
+        SpaceSaving spaceSaving = new SpaceSaving(8);
+
+        spaceSaving.add(987654321L, 1);
+        spaceSaving.add(123456789L, 1);
+        spaceSaving.add(555555555L, 2);
+
+        Map<Long, Long> topTotalNumberOfCallsByNumberMap = new HashMap<>();
+
+        // Act
+        spaceSaving.forEach(2, (number, totalNumberOfCalls, error) ->
+                topTotalNumberOfCallsByNumberMap.put(number, totalNumberOfCalls));
+
+        // Assert
+        assertEquals(Map.of(555555555L, 2L, 123456789L, 1L), topTotalNumberOfCallsByNumberMap);
+        assertEquals(0L, spaceSaving.getMaximumError());
+    }
+
+    @Test
+    public void forEachWithoutRemovedNumbersSuccessfully() {
+        // Arrange
+        SpaceSaving spaceSaving = new SpaceSaving(8);
+
+        spaceSaving.add(987654321L, 1);
+        spaceSaving.add(123456789L, 2);
+        spaceSaving.remove(987654321L, 1);
+        spaceSaving.remove(123456789L, 1);
+
+        Map<Long, Long> topTotalNumberOfCallsByNumberMap = new HashMap<>();
+
+        // Act
+        spaceSaving.forEach(8, (number, totalNumberOfCalls, error) ->
+                topTotalNumberOfCallsByNumberMap.put(number, totalNumberOfCalls));
+
+        // Assert
+        assertEquals(Map.of(123456789L, 1L), topTotalNumberOfCallsByNumberMap);
+        assertEquals(1L, spaceSaving.getTotalNumberOfCallsCounted());
+    }
+
+    @Test
+    public void mergeKeepsHeavyHittersSuccessfully() {
+        // Arrange
+        SpaceSaving spaceSaving = new SpaceSaving(16);
+        SpaceSaving otherSpaceSaving = new SpaceSaving(16);
+
+        for (long number = 0; number < 1000; number++) {
+            spaceSaving.add(number, number == 7 ? 500 : 1);
+            otherSpaceSaving.add(number + 1000, number == 7 ? 400 : 1);
+        }
+
+        Map<Long, Long> totalNumberOfCallsByNumberMap = new HashMap<>();
+
+        // Act
+        SpaceSaving mergedSpaceSaving = SpaceSaving.fromByteArray(spaceSaving.toByteArray(), 16);
+        mergedSpaceSaving.merge(otherSpaceSaving);
+        mergedSpaceSaving.forEach(2, (number, totalNumberOfCalls, error) ->
+                totalNumberOfCallsByNumberMap.put(number, totalNumberOfCalls - error));
+
+        // Assert
+        assertEquals(2898L, mergedSpaceSaving.getTotalNumberOfCallsCounted());
+        assertTrue(totalNumberOfCallsByNumberMap.get(7L) <= 500);
+        assertTrue(totalNumberOfCallsByNumberMap.get(1007L) <= 400);
+        assertTrue(mergedSpaceSaving.getMaximumError() <= 2898 / 16);
+    }
+}
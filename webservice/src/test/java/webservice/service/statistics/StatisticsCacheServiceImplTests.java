@@ -0,0 +1,196 @@
+package webservice.service.statistics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import webservice.model.callstatisticsjson.CallsStatisticsJson;
+import webservice.model.statisticscachejson.StatisticsCacheJson;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static webservice.service.ServiceParameters.FIRST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.LAST_DAY_OF_STATISTICS;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatisticsCacheServiceImplTests {
+    @Mock
+    private StatisticsService statisticsService;
+
+    private StatisticsCacheServiceImpl statisticsCacheServiceImpl;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final LocalDate dayOne = LocalDate.of(2020, Month.SEPTEMBER, 12);
+    private final LocalDate dayTwo = LocalDate.of(2020, Month.SEPTEMBER, 13);
+    private final CallsStatisticsJson callsStatisticsJsonDayOne = callsStatisticsJson(dayOne, 1L);
+    private final CallsStatisticsJson callsStatisticsJsonDayTwo = callsStatisticsJson(dayTwo, 2L);
+
+    @Before
+    public void setup() {
+        statisticsCacheServiceImpl = new StatisticsCacheServiceImpl(statisticsService, 2, meterRegistry);
+    }
+
+    private CallsStatisticsJson callsStatisticsJson(LocalDate day, Long totalNumberOfCalls) {
+        return CallsStatisticsJson.Builder.callStatisticsJsonWith()
+                                          .withDay(day)
+                                          .withTotalNumberOfCalls(totalNumberOfCalls)
+                                          .build();
+    }
+
+    @Test
+    public void getCallsStatisticsFromCacheSuccessfully() {
+        // Act
+        when(statisticsService.getCallsStatistics(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonDayOne, callsStatisticsJsonDayTwo));
+
+        CachedCallsStatistics cachedCallsStatistics = statisticsCacheServiceImpl.getCallsStatistics(null, null, "",
+                                                                                                    null, false);
+        CachedCallsStatistics cachedCallsStatisticsHit = statisticsCacheServiceImpl.getCallsStatistics(null, null,
+                                                                                                       null, null,
+                                                                                                       false);
+        StatisticsCacheJson statisticsCacheJson = statisticsCacheServiceImpl.getStatisticsCache();
+
+        // Assert
+        verify(statisticsService, times(1)).getCallsStatistics(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                               null, false);
+        assertEquals(List.of(callsStatisticsJsonDayOne, callsStatisticsJsonDayTwo),
+                     cachedCallsStatisticsHit.getCallsStatisticsJsonList());
+        assertEquals(cachedCallsStatistics.getETag(), cachedCallsStatisticsHit.getETag());
+        assertEquals(Long.valueOf(1), statisticsCacheJson.getNumberOfHits());
+        assertEquals(Long.valueOf(1), statisticsCacheJson.getNumberOfMisses());
+        assertEquals(Long.valueOf(1), statisticsCacheJson.getNumberOfCachedStatistics());
+    }
+
+    @Test
+    public void invalidateDaysRecomputesOnlyStaleDaysSuccessfully() {
+        // Arrange
+        CallsStatisticsJson callsStatisticsJsonDayTwoUpdated = callsStatisticsJson(dayTwo, 3L);
+
+        when(statisticsService.getCallsStatistics(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonDayOne, callsStatisticsJsonDayTwo));
+        when(statisticsService.getCallsStatistics(dayTwo, dayTwo, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonDayTwoUpdated));
+
+        CachedCallsStatistics cachedCallsStatistics = statisticsCacheServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                    null, false);
+
+        // Act
+        statisticsCacheServiceImpl.invalidateDays(Set.of(dayTwo));
+
+        CachedCallsStatistics cachedCallsStatisticsRecomputed = statisticsCacheServiceImpl.getCallsStatistics(
+                null, null, null, null, false);
+
+        // Assert
+        verify(statisticsService, times(1)).getCallsStatistics(dayTwo, dayTwo, null, null, false);
+        assertEquals(List.of(callsStatisticsJsonDayOne, callsStatisticsJsonDayTwoUpdated),
+                     cachedCallsStatisticsRecomputed.getCallsStatisticsJsonList());
+        assertNotEquals(cachedCallsStatistics.getETag(), cachedCallsStatisticsRecomputed.getETag());
+    }
+
+    @Test
+    public void invalidateDaysOutsideRangeKeepsCacheSuccessfully() {
+        // Arrange
+        when(statisticsService.getCallsStatistics(dayOne, dayOne, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonDayOne));
+
+        statisticsCacheServiceImpl.getCallsStatistics(dayOne, dayOne, null, null, false);
+
+        // Act
+        statisticsCacheServiceImpl.invalidateDays(Set.of(dayTwo));
+
+        statisticsCacheServiceImpl.getCallsStatistics(dayOne, dayOne, null, null, false);
+
+        // Assert
+        verify(statisticsService, times(1)).getCallsStatistics(dayOne, dayOne, null, null, false);
+        assertEquals(Long.valueOf(1), statisticsCacheServiceImpl.getStatisticsCache().getNumberOfHits());
+    }
+
+    @Test
+    public void getCallsStatisticsEvictsLeastRecentlyUsedSuccessfully() {
+        // Arrange
+        when(statisticsService.getCallsStatistics(dayOne, dayOne, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonDayOne));
+        when(statisticsService.getCallsStatistics(dayTwo, dayTwo, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonDayTwo));
+        when(statisticsService.getCallsStatistics(dayOne, dayTwo, null, null, false))
+                .thenReturn(List.of(callsStatisticsJsonDayOne, callsStatisticsJsonDayTwo));
+
+        // Act
+        statisticsCacheServiceImpl.getCallsStatistics(dayOne, dayOne, null, null, false);
+        statisticsCacheServiceImpl.getCallsStatistics(dayTwo, dayTwo, null, null, false);
+        statisticsCacheServiceImpl.getCallsStatistics(dayOne, dayOne, null, null, false);
+        statisticsCacheServiceImpl.getCallsStatistics(dayOne, dayTwo, null, null, false);
+        statisticsCacheServiceImpl.getCallsStatistics(dayOne, dayOne, null, null, false);
+        statisticsCacheServiceImpl.getCallsStatistics(dayTwo, dayTwo, null, null, false);
+
+        StatisticsCacheJson statisticsCacheJson = statisticsCacheServiceImpl.getStatisticsCache();
+
+        // Assert
+        verify(statisticsService, times(1)).getCallsStatistics(dayOne, dayOne, null, null, false);
+        verify(statisticsService, times(2)).getCallsStatistics(dayTwo, dayTwo, null, null, false);
+        assertEquals(Long.valueOf(2), statisticsCacheJson.getNumberOfCachedStatistics());
+        assertEquals(Long.valueOf(2), statisticsCacheJson.getNumberOfEvictions());
+        assertEquals(2.0, meterRegistry.get("statistics.cache.hits").functionCounter().count(), 0);
+        assertEquals(4.0, meterRegistry.get("statistics.cache.misses").functionCounter().count(), 0);
+        assertEquals(2.0, meterRegistry.get("statistics.cache.evictions").functionCounter().count(), 0);
+        assertEquals(2.0, meterRegistry.get("statistics.cache.size").gauge().value(), 0);
+    }
+
+    @Test
+    public void getCallsStatisticsConcurrentlyComputesQueryOnceSuccessfully() throws Exception {
+        // Arrange
+        CountDownLatch computationStartedLatch = new CountDownLatch(1);
+        CountDownLatch computationLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        when(statisticsService.getCallsStatistics(dayOne, dayOne, null, null, false)).thenAnswer(invocation -> {
+            computationStartedLatch.countDown();
+            computationLatch.await(30, TimeUnit.SECONDS);
+
+            return List.of(callsStatisticsJsonDayOne);
+        });
+
+        // Act
+        Future<CachedCallsStatistics> computingFuture = executorService.submit(
+                () -> statisticsCacheServiceImpl.getCallsStatistics(dayOne, dayOne, null, null, false));
+
+        computationStartedLatch.await(30, TimeUnit.SECONDS);
+
+        Future<CachedCallsStatistics> waitingFuture = executorService.submit(
+                () -> statisticsCacheServiceImpl.getCallsStatistics(dayOne, dayOne, null, null, false));
+
+        while (statisticsCacheServiceImpl.getStatisticsCache().getNumberOfHits() == 0) {
+            Thread.sleep(10);
+        }
+
+        computationLatch.countDown();
+
+        CachedCallsStatistics computedCachedCallsStatistics = computingFuture.get(30, TimeUnit.SECONDS);
+        CachedCallsStatistics waitedCachedCallsStatistics = waitingFuture.get(30, TimeUnit.SECONDS);
+
+        executorService.shutdown();
+
+        // Assert
+        verify(statisticsService, times(1)).getCallsStatistics(dayOne, dayOne, null, null, false);
+        assertEquals(computedCachedCallsStatistics.getETag(), waitedCachedCallsStatistics.getETag());
+        assertEquals(List.of(callsStatisticsJsonDayOne), waitedCachedCallsStatistics.getCallsStatisticsJsonList());
+        assertEquals(1.0, meterRegistry.get("statistics.cache.misses").functionCounter().count(), 0);
+        assertEquals(1.0, meterRegistry.get("statistics.cache.size").gauge().value(), 0);
+    }
+}
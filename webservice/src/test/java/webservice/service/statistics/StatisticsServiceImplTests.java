@@ -1,14 +1,31 @@
 package webservice.service.statistics;
 
 import webservice.model.calldto.CallDto;
+import webservice.exception.BusinessException;
 import webservice.model.callstatisticsjson.CallsStatisticsJson;
-import webservice.repository.CallRepository;
+import webservice.model.dailystatisticsdto.DailySketchesDto;
+import webservice.model.dailystatisticsprojection.DailyCalleeStatisticsByDay;
+import webservice.model.dailystatisticsprojection.DailyCallerStatisticsByDay;
+import webservice.model.dailystatisticsprojection.DailyStatisticsByDay;
+import webservice.repository.CallColumnRepository;
+import webservice.repository.CallColumnRepositoryImpl;
+import webservice.repository.DailyCalleeStatisticsRepository;
+import webservice.repository.DailyCallerStatisticsRepository;
+import webservice.repository.DailySketchesRepository;
+import webservice.repository.DailyStatisticsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -17,23 +34,50 @@ import java.time.Month;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static webservice.service.ServiceParameters.FIRST_DAY_OF_STATISTICS;
+import static webservice.service.ServiceParameters.LAST_DAY_OF_STATISTICS;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public class StatisticsServiceImplTests {
     @Mock
-    private CallRepository callRepository;
+    private DailyStatisticsRepository dailyStatisticsRepository;
+    @Mock
+    private DailyCallerStatisticsRepository dailyCallerStatisticsRepository;
+    @Mock
+    private DailyCalleeStatisticsRepository dailyCalleeStatisticsRepository;
+    @Mock
+    private DailySketchesRepository dailySketchesRepository;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
-    @InjectMocks
     private StatisticsServiceImpl statisticsServiceImpl;
 
     public static List<CallDto> callDtoList = new ArrayList<>();
     public static CallDto callDtoCallOne;
     public static CallDto callDtoCallTwo;
     public static CallDto callDtoCallThree;
+    public static List<DailyStatisticsByDay> dailyStatisticsByDayList = new ArrayList<>();
+    public static List<DailyCallerStatisticsByDay> dailyCallerStatisticsByDayList = new ArrayList<>();
+    public static List<DailyCalleeStatisticsByDay> dailyCalleeStatisticsByDayList = new ArrayList<>();
+
+    @Before
+    public void setupStatisticsService() {
+        statisticsServiceImpl = new StatisticsServiceImpl(dailyStatisticsRepository, dailyCallerStatisticsRepository,
+                                                          dailyCalleeStatisticsRepository, dailySketchesRepository,
+                                                          Optional.empty(), Optional.empty(), true, meterRegistry);
+    }
 
     @BeforeClass
     public static void setup() {
@@ -50,6 +94,7 @@ public class StatisticsServiceImplTests {
         Double callCostCallOne = 0.0;
 
         callDtoCallOne = CallDto.Builder.callModelWith()
+                                        .withId(1L)
                                         .withCallerNumber(callerNumberCallOne)
                                         .withCalleeNumber(calleeNumberCallOne)
                                         .withStartTimestamp(callStartTimestampCallOne)
@@ -76,6 +121,7 @@ public class StatisticsServiceImplTests {
         Double callCostCallTwo = 28.55;
 
         callDtoCallTwo = CallDto.Builder.callModelWith()
+                                        .withId(2L)
                                         .withCallerNumber(callerNumberCallTwo)
                                         .withCalleeNumber(calleeNumberCallTwo)
                                         .withStartTimestamp(callStartTimestampCallTwo)
@@ -102,6 +148,7 @@ public class StatisticsServiceImplTests {
         Double callCostCallThree = 3.6;
 
         callDtoCallThree = CallDto.Builder.callModelWith()
+                                          .withId(3L)
                                           .withCallerNumber(callerNumberCallThree)
                                           .withCalleeNumber(calleeNumberCallThree)
                                           .withStartTimestamp(callStartTimestampCallThree)
@@ -116,14 +163,61 @@ public class StatisticsServiceImplTests {
                                           .build();
 
         Collections.addAll(callDtoList, callDtoCallOne, callDtoCallTwo, callDtoCallThree);
+
+        ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+        Collections.addAll(dailyStatisticsByDayList,
+                           projectionFactory.createProjection(DailyStatisticsByDay.class, Map.of(
+                                   "day", callStartDayCallOne,
+                                   "totalCallsDurationInbound", callDurationCallOne.getSeconds(),
+                                   "totalCallsDurationOutbound", callDurationCallTwo.getSeconds(),
+                                   "totalNumberOfCalls", 2L,
+                                   "totalCallsCost", callCostCallOne + callCostCallTwo)),
+                           projectionFactory.createProjection(DailyStatisticsByDay.class, Map.of(
+                                   "day", callStartDayCallThree,
+                                   "totalCallsDurationInbound", 0L,
+                                   "totalCallsDurationOutbound", callDurationCallThree.getSeconds(),
+                                   "totalNumberOfCalls", 1L,
+                                   "totalCallsCost", callCostCallThree)));
+
+        Collections.addAll(dailyCallerStatisticsByDayList,
+                           projectionFactory.createProjection(DailyCallerStatisticsByDay.class, Map.of(
+                                   "day", callStartDayCallOne, "callerNumber", callerNumberCallOne,
+                                   "totalNumberOfCalls", 1L)),
+                           projectionFactory.createProjection(DailyCallerStatisticsByDay.class, Map.of(
+                                   "day", callStartDayCallTwo, "callerNumber", callerNumberCallTwo,
+                                   "totalNumberOfCalls", 1L)),
+                           projectionFactory.createProjection(DailyCallerStatisticsByDay.class, Map.of(
+                                   "day", callStartDayCallThree, "callerNumber", callerNumberCallThree,
+                                   "totalNumberOfCalls", 1L)));
+
+        Collections.addAll(dailyCalleeStatisticsByDayList,
+                           projectionFactory.createProjection(DailyCalleeStatisticsByDay.class, Map.of(
+                                   "day", callStartDayCallTwo, "calleeNumber", calleeNumberCallTwo,
+                                   "totalNumberOfCalls", 1L)),
+                           projectionFactory.createProjection(DailyCalleeStatisticsByDay.class, Map.of(
+                                   "day", callStartDayCallOne, "calleeNumber", calleeNumberCallOne,
+                                   "totalNumberOfCalls", 1L)),
+                           projectionFactory.createProjection(DailyCalleeStatisticsByDay.class, Map.of(
+                                   "day", callStartDayCallThree, "calleeNumber", calleeNumberCallThree,
+                                   "totalNumberOfCalls", 1L)));
     }
 
     @Test
     public void getCallsStatisticsAssertGroupedByDaySuccessfully() {
         // Act
-        when(callRepository.findAll()).thenReturn(callDtoList);
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCalleeStatisticsByDayList);
 
-        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics();
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     null, false);
 
         // Assert
         assertFalse(callsStatisticsJsonList.isEmpty());
@@ -135,9 +229,18 @@ public class StatisticsServiceImplTests {
     @Test
     public void getCallsStatisticsAssertTotalDurationByCallTypeSuccessfully() {
         // Act
-        when(callRepository.findAll()).thenReturn(callDtoList);
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCalleeStatisticsByDayList);
 
-        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics();
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     null, false);
 
         // Assert
         assertFalse(callsStatisticsJsonList.isEmpty());
@@ -153,9 +256,18 @@ public class StatisticsServiceImplTests {
     @Test
     public void getCallsStatisticsAssertTotalNumberOfCallsSuccessfully() {
         // Act
-        when(callRepository.findAll()).thenReturn(callDtoList);
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCalleeStatisticsByDayList);
 
-        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics();
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     null, false);
 
         // Assert
         assertFalse(callsStatisticsJsonList.isEmpty());
@@ -166,9 +278,18 @@ public class StatisticsServiceImplTests {
     @Test
     public void getCallsStatisticsAssertTotalNumberOfCallsByCallerNumberListSuccessfully() {
         // Act
-        when(callRepository.findAll()).thenReturn(callDtoList);
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCalleeStatisticsByDayList);
 
-        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics();
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     null, false);
 
         // Assert
         assertFalse(callsStatisticsJsonList.isEmpty());
@@ -192,9 +313,18 @@ public class StatisticsServiceImplTests {
     @Test
     public void getCallsStatisticsAssertTotalNumberOfCallsByCalleeNumberListSuccessfully() {
         // Act
-        when(callRepository.findAll()).thenReturn(callDtoList);
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCalleeStatisticsByDayList);
 
-        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics();
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     null, false);
 
         // Assert
         assertFalse(callsStatisticsJsonList.isEmpty());
@@ -218,9 +348,18 @@ public class StatisticsServiceImplTests {
     @Test
     public void getCallsStatisticsAssertTotalCallsCostListSuccessfully() {
         // Act
-        when(callRepository.findAll()).thenReturn(callDtoList);
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCalleeStatisticsByDayList);
 
-        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics();
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     null, false);
 
         // Assert
         assertFalse(callsStatisticsJsonList.isEmpty());
@@ -228,4 +367,359 @@ public class StatisticsServiceImplTests {
                      callsStatisticsJsonList.get(0).getTotalCallsCost());
         assertEquals(callDtoCallThree.getCallCost(), callsStatisticsJsonList.get(1).getTotalCallsCost());
     }
+
+    @Test
+    public void getCallsStatisticsWithDayRangeAndCallTypeSuccessfully() {
+        // Arrange
+        LocalDate from = LocalDate.of(2020, Month.SEPTEMBER, 13);
+        LocalDate to = LocalDate.of(2020, Month.SEPTEMBER, 19);
+
+        // Act
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(from, to, "Outbound", "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList.subList(1, 2));
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(from, to, "Outbound"))
+                .thenReturn(dailyCallerStatisticsByDayList.subList(2, 3));
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(from, to, "Outbound"))
+                .thenReturn(dailyCalleeStatisticsByDayList.subList(2, 3));
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(from, to,
+                                                                                                     "Outbound", null,
+                                                                                                     false);
+
+        // Assert
+        assertEquals(1, callsStatisticsJsonList.size());
+        assertEquals(callDtoCallThree.getCallStartDay(), callsStatisticsJsonList.get(0).getDay());
+        assertEquals(1, callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCallerNumber().size());
+        assertEquals(1, callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCalleeNumber().size());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getCallsStatisticsWithInvalidDayRangeFails() {
+        // Arrange
+        LocalDate from = LocalDate.of(2020, Month.SEPTEMBER, 13);
+        LocalDate to = LocalDate.of(2020, Month.SEPTEMBER, 12);
+
+        // Act && Assert
+        try {
+            statisticsServiceImpl.getCallsStatistics(from, to, null, null, false);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Statistics day range is not valid!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of invalid statistics day range was not thrown!");
+    }
+
+    @Test
+    public void getCallsStatisticsWithTopNSuccessfully() {
+        // Act
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCalleeStatisticsByDayList);
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     1, false);
+
+        // Assert
+        assertEquals(2, callsStatisticsJsonList.size());
+        assertEquals(1, callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCallerNumber().size());
+        assertEquals(callDtoCallOne.getCallerNumber(), callsStatisticsJsonList.get(0)
+                                                                              .getTotalNumberOfCallsByCallerNumber()
+                                                                              .get(0).getCallerNumber());
+        assertEquals(Long.valueOf(1), callsStatisticsJsonList.get(0).getTotalNumberOfCallsByOtherCallerNumbers());
+        assertEquals(1, callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCalleeNumber().size());
+        assertEquals(Long.valueOf(1), callsStatisticsJsonList.get(0).getTotalNumberOfCallsByOtherCalleeNumbers());
+        assertEquals(1, callsStatisticsJsonList.get(1).getTotalNumberOfCallsByCallerNumber().size());
+        assertEquals(Long.valueOf(0), callsStatisticsJsonList.get(1).getTotalNumberOfCallsByOtherCallerNumbers());
+    }
+
+    @Test
+    public void getCallsStatisticsWithoutTopNHasNoOtherNumbersSuccessfully() {
+        // Act
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailyCallerStatisticsRepository.findDailyCallerStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCallerStatisticsByDayList);
+        when(dailyCalleeStatisticsRepository.findDailyCalleeStatisticsByDay(FIRST_DAY_OF_STATISTICS,
+                                                                            LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(dailyCalleeStatisticsByDayList);
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     null, false);
+
+        // Assert
+        assertEquals(2, callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCallerNumber().size());
+        assertNull(callsStatisticsJsonList.get(0).getTotalNumberOfCallsByOtherCallerNumbers());
+        assertNull(callsStatisticsJsonList.get(0).getTotalNumberOfCallsByOtherCalleeNumbers());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getCallsStatisticsWithInvalidTopNFails() {
+        // Act && Assert
+        try {
+            statisticsServiceImpl.getCallsStatistics(null, null, null, 0, false);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Top N must be between 1 and 1000!";
+            assertEquals(exceptionMessage, be.getMessage());
+            throw be;
+        }
+
+        fail("Business exception of invalid top N was not thrown!");
+    }
+
+    @Test
+    public void getCallsStatisticsApproximateSuccessfully() {
+        // Arrange
+        CallsSketches inboundCallsSketches = new CallsSketches();
+        inboundCallsSketches.addCallerNumber(callDtoCallOne.getCallerNumber(), 2);
+        inboundCallsSketches.addCalleeNumber(callDtoCallOne.getCalleeNumber(), 2);
+
+        CallsSketches outboundCallsSketches = new CallsSketches();
+        outboundCallsSketches.addCallerNumber(callDtoCallOne.getCallerNumber(), 1);
+        outboundCallsSketches.addCallerNumber(callDtoCallTwo.getCallerNumber(), 1);
+        outboundCallsSketches.addCalleeNumber(callDtoCallTwo.getCalleeNumber(), 2);
+
+        DailySketchesDto inboundDailySketchesDto = DailySketchesDto.Builder
+                .dailySketchesWith()
+                .withDay(dailyStatisticsByDayList.get(0).getDay())
+                .withCallType("Inbound")
+                .build();
+        inboundCallsSketches.copyTo(inboundDailySketchesDto);
+
+        DailySketchesDto outboundDailySketchesDto = DailySketchesDto.Builder
+                .dailySketchesWith()
+                .withDay(dailyStatisticsByDayList.get(0).getDay())
+                .withCallType("Outbound")
+                .build();
+        outboundCallsSketches.copyTo(outboundDailySketchesDto);
+
+        // Act
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailySketchesRepository.findDailySketches(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(List.of(inboundDailySketchesDto, outboundDailySketchesDto));
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     1, true);
+
+        // Assert
+        assertEquals(2, callsStatisticsJsonList.size());
+        assertNull(callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCallerNumber());
+        assertNull(callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCalleeNumber());
+        assertEquals(Long.valueOf(2), callsStatisticsJsonList.get(0).getApproximateNumberOfCallerNumbers());
+        assertEquals(Long.valueOf(2), callsStatisticsJsonList.get(0).getApproximateNumberOfCalleeNumbers());
+        assertEquals(1, callsStatisticsJsonList.get(0).getApproximateTopCallerNumbers().size());
+        assertEquals(callDtoCallOne.getCallerNumber(), callsStatisticsJsonList.get(0)
+                                                                              .getApproximateTopCallerNumbers()
+                                                                              .get(0).getCallerNumber());
+        assertEquals(Long.valueOf(3), callsStatisticsJsonList.get(0)
+                                                             .getApproximateTopCallerNumbers()
+                                                             .get(0).getTotalNumberOfCalls());
+        assertEquals(Long.valueOf(0), callsStatisticsJsonList.get(0).getApproximateTopCallerNumbersMaximumError());
+        assertEquals(Long.valueOf(0), callsStatisticsJsonList.get(1).getApproximateNumberOfCallerNumbers());
+        assertTrue(callsStatisticsJsonList.get(1).getApproximateTopCallerNumbers().isEmpty());
+    }
+
+    @Test
+    public void getCallsStatisticsApproximateAfterDeletedCallsSuccessfully() {
+        // Arrange
+        CallsSketches outboundCallsSketches = new CallsSketches();
+        outboundCallsSketches.addCallerNumber(callDtoCallOne.getCallerNumber(), 1);
+        outboundCallsSketches.addCallerNumber(callDtoCallTwo.getCallerNumber(), 2);
+        outboundCallsSketches.addCalleeNumber(callDtoCallTwo.getCalleeNumber(), 3);
+        outboundCallsSketches.getTopCallerNumbers().remove(callDtoCallOne.getCallerNumber(), 1);
+        outboundCallsSketches.getTopCalleeNumbers().remove(callDtoCallTwo.getCalleeNumber(), 3);
+
+        DailySketchesDto outboundDailySketchesDto = DailySketchesDto.Builder
+                .dailySketchesWith()
+                .withDay(dailyStatisticsByDayList.get(0).getDay())
+                .withCallType("Outbound")
+                .build();
+        outboundCallsSketches.copyTo(outboundDailySketchesDto);
+
+        // Act
+        when(dailyStatisticsRepository.findDailyStatisticsByDay(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null,
+                                                                "Inbound", "Outbound"))
+                .thenReturn(dailyStatisticsByDayList);
+        when(dailySketchesRepository.findDailySketches(FIRST_DAY_OF_STATISTICS, LAST_DAY_OF_STATISTICS, null))
+                .thenReturn(List.of(outboundDailySketchesDto));
+
+        List<CallsStatisticsJson> callsStatisticsJsonList = statisticsServiceImpl.getCallsStatistics(null, null, null,
+                                                                                                     10, true);
+
+        // Assert
+        assertEquals(1, callsStatisticsJsonList.get(0).getApproximateTopCallerNumbers().size());
+        assertEquals(callDtoCallTwo.getCallerNumber(), callsStatisticsJsonList.get(0)
+                                                                              .getApproximateTopCallerNumbers()
+                                                                              .get(0).getCallerNumber());
+        assertEquals(Long.valueOf(2), callsStatisticsJsonList.get(0)
+                                                             .getApproximateTopCallerNumbers()
+                                                             .get(0).getTotalNumberOfCalls());
+        assertTrue(callsStatisticsJsonList.get(0).getApproximateTopCalleeNumbers().isEmpty());
+    }
+
+    @Test(expected = BusinessException.class)
+    public void getCallsStatisticsApproximateWithoutApproximateStatisticsFails() {
+        // Arrange
+        StatisticsServiceImpl exactStatisticsServiceImpl = new StatisticsServiceImpl(
+                dailyStatisticsRepository, dailyCallerStatisticsRepository, dailyCalleeStatisticsRepository,
+                dailySketchesRepository, Optional.empty(), Optional.empty(), false, meterRegistry);
+
+        // Act && Assert
+        try {
+            exactStatisticsServiceImpl.getCallsStatistics(null, null, null, null, true);
+        } catch (BusinessException be) {
+            String exceptionMessage = "Approximate statistics are not enabled!";
+            assertEquals(exceptionMessage, be.getMessage());
+            verifyNoInteractions(dailySketchesRepository);
+            throw be;
+        }
+
+        fail("Business exception of approximate statistics not enabled was not thrown!");
+    }
+
+    @Test
+    public void getCallsStatisticsFromCallColumnsSuccessfully() {
+        // Arrange
+        CallColumnRepository callColumnRepository = new CallColumnRepositoryImpl();
+        callColumnRepository.saveAll(callDtoList);
+
+        StatisticsServiceImpl columnarStatisticsServiceImpl = new StatisticsServiceImpl(
+                dailyStatisticsRepository, dailyCallerStatisticsRepository, dailyCalleeStatisticsRepository,
+                dailySketchesRepository, Optional.of(callColumnRepository), Optional.empty(), false, meterRegistry);
+
+        // Act
+        List<CallsStatisticsJson> callsStatisticsJsonList = columnarStatisticsServiceImpl.getCallsStatistics(
+                null, null, null, null, false);
+
+        // Assert
+        assertEquals(2, callsStatisticsJsonList.size());
+        assertEquals(dailyStatisticsByDayList.get(0).getDay(), callsStatisticsJsonList.get(0).getDay());
+        assertEquals(dailyStatisticsByDayList.get(0).getTotalCallsDurationInbound(),
+                     callsStatisticsJsonList.get(0).getTotalCallsDurationInbound());
+        assertEquals(dailyStatisticsByDayList.get(0).getTotalCallsDurationOutbound(),
+                     callsStatisticsJsonList.get(0).getTotalCallsDurationOutbound());
+        assertEquals(Long.valueOf(2), callsStatisticsJsonList.get(0).getTotalNumberOfCalls());
+        assertEquals(Double.valueOf(28.55), callsStatisticsJsonList.get(0).getTotalCallsCost());
+        assertEquals(2, callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCallerNumber().size());
+        assertEquals(callDtoCallOne.getCallerNumber(), callsStatisticsJsonList.get(0)
+                                                                              .getTotalNumberOfCallsByCallerNumber()
+                                                                              .get(0).getCallerNumber());
+        assertEquals(2, callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCalleeNumber().size());
+        assertEquals(dailyStatisticsByDayList.get(1).getDay(), callsStatisticsJsonList.get(1).getDay());
+        assertEquals(Double.valueOf(3.6), callsStatisticsJsonList.get(1).getTotalCallsCost());
+        verifyNoInteractions(dailyStatisticsRepository, dailyCallerStatisticsRepository,
+                             dailyCalleeStatisticsRepository, dailySketchesRepository);
+    }
+
+    @Test
+    public void getCallsStatisticsFromCallColumnsWithCallTypeAndTopNSuccessfully() {
+        // Arrange
+        CallColumnRepository callColumnRepository = new CallColumnRepositoryImpl();
+        callColumnRepository.saveAll(callDtoList);
+
+        StatisticsServiceImpl columnarStatisticsServiceImpl = new StatisticsServiceImpl(
+                dailyStatisticsRepository, dailyCallerStatisticsRepository, dailyCalleeStatisticsRepository,
+                dailySketchesRepository, Optional.of(callColumnRepository), Optional.empty(), false, meterRegistry);
+
+        // Act
+        List<CallsStatisticsJson> callsStatisticsJsonList = columnarStatisticsServiceImpl.getCallsStatistics(
+                null, null, "Outbound", 1, false);
+
+        // Assert
+        assertEquals(2, callsStatisticsJsonList.size());
+        assertEquals(Long.valueOf(0), callsStatisticsJsonList.get(0).getTotalCallsDurationInbound());
+        assertEquals(Long.valueOf(1), callsStatisticsJsonList.get(0).getTotalNumberOfCalls());
+        assertEquals(callDtoCallTwo.getCallerNumber(), callsStatisticsJsonList.get(0)
+                                                                              .getTotalNumberOfCallsByCallerNumber()
+                                                                              .get(0).getCallerNumber());
+        assertEquals(Long.valueOf(0), callsStatisticsJsonList.get(0).getTotalNumberOfCallsByOtherCallerNumbers());
+    }
+
+    @Test
+    public void getCallsStatisticsFromCallColumnsApproximateSuccessfully() {
+        // Arrange
+        CallColumnRepository callColumnRepository = new CallColumnRepositoryImpl();
+        callColumnRepository.saveAll(callDtoList);
+
+        StatisticsServiceImpl columnarStatisticsServiceImpl = new StatisticsServiceImpl(
+                dailyStatisticsRepository, dailyCallerStatisticsRepository, dailyCalleeStatisticsRepository,
+                dailySketchesRepository, Optional.of(callColumnRepository), Optional.empty(), false, meterRegistry);
+
+        // Act
+        List<CallsStatisticsJson> callsStatisticsJsonList = columnarStatisticsServiceImpl.getCallsStatistics(
+                null, null, null, null, true);
+
+        // Assert
+        assertEquals(2, callsStatisticsJsonList.size());
+        assertNull(callsStatisticsJsonList.get(0).getTotalNumberOfCallsByCallerNumber());
+        assertEquals(Long.valueOf(2), callsStatisticsJsonList.get(0).getApproximateNumberOfCallerNumbers());
+        assertEquals(Long.valueOf(1), callsStatisticsJsonList.get(1).getApproximateNumberOfCalleeNumbers());
+    }
+
+    @Test
+    public void getCallsStatisticsFromCallColumnsInParallelSuccessfully() throws JsonProcessingException {
+        // Arrange
+        Random random = new Random(42);
+        List<CallDto> manyCallDtoList = new ArrayList<>();
+
+        for (int i = 0; i < 200000; i++) {
+            long callStartTimestamp = 1599909010L + random.nextInt(3600);
+            LocalDate callStartDay = i % 10 == 0 ? LocalDate.of(2020, Month.SEPTEMBER, 13)
+                                                 : LocalDate.of(2020, Month.SEPTEMBER, 12);
+
+            manyCallDtoList.add(CallDto.Builder.callModelWith()
+                                               .withId((long) i)
+                                               .withCallerNumber(100000000L + random.nextInt(5000))
+                                               .withCalleeNumber(900000000L + random.nextInt(5000))
+                                               .withStartTimestamp(callStartTimestamp)
+                                               .withEndTimestamp(callStartTimestamp + random.nextInt(600))
+                                               .withCallType(random.nextBoolean() ? "Inbound" : "Outbound")
+                                               .withCallStartDay(callStartDay)
+                                               .withCallCost(random.nextInt(1000) / 100.0)
+                                               .build());
+        }
+
+        CallColumnRepository callColumnRepository = new CallColumnRepositoryImpl();
+        callColumnRepository.saveAll(manyCallDtoList);
+
+        ForkJoinPool statisticsForkJoinPool = new ForkJoinPool(4);
+        StatisticsServiceImpl sequentialStatisticsServiceImpl = new StatisticsServiceImpl(
+                dailyStatisticsRepository, dailyCallerStatisticsRepository, dailyCalleeStatisticsRepository,
+                dailySketchesRepository, Optional.of(callColumnRepository), Optional.empty(), false, meterRegistry);
+        StatisticsServiceImpl parallelStatisticsServiceImpl = new StatisticsServiceImpl(
+                dailyStatisticsRepository, dailyCallerStatisticsRepository, dailyCalleeStatisticsRepository,
+                dailySketchesRepository, Optional.of(callColumnRepository), Optional.of(statisticsForkJoinPool), false,
+                meterRegistry);
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        // Act
+        List<CallsStatisticsJson> sequentialCallsStatisticsJsonList =
+                sequentialStatisticsServiceImpl.getCallsStatistics(null, null, null, null, false);
+        List<CallsStatisticsJson> parallelCallsStatisticsJsonList =
+                parallelStatisticsServiceImpl.getCallsStatistics(null, null, null, null, false);
+        List<CallsStatisticsJson> parallelTopCallsStatisticsJsonList =
+                parallelStatisticsServiceImpl.getCallsStatistics(null, null, "Inbound", 10, false);
+
+        statisticsForkJoinPool.shutdown();
+
+        // Assert
+        assertEquals(2, parallelCallsStatisticsJsonList.size());
+        assertEquals(Long.valueOf(180000), parallelCallsStatisticsJsonList.get(0).getTotalNumberOfCalls());
+        assertEquals(objectMapper.writeValueAsString(sequentialCallsStatisticsJsonList),
+                     objectMapper.writeValueAsString(parallelCallsStatisticsJsonList));
+        assertEquals(objectMapper.writeValueAsString(sequentialStatisticsServiceImpl.getCallsStatistics(
+                             null, null, "Inbound", 10, false)),
+                     objectMapper.writeValueAsString(parallelTopCallsStatisticsJsonList));
+    }
 }
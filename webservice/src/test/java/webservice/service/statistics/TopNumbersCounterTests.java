@@ -0,0 +1,53 @@
+package webservice.service.statistics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TopNumbersCounterTests {
+    @Test
+    public void drainTopNumbersByNumberOfCallsSuccessfully() {
+        // Arrange
+        TopNumbersCounter topNumbersCounter = new TopNumbersCounter(3);
+
+        for (long number = 1; number <= 10000; number++) {
+            topNumbersCounter.add(number, number % 100);
+        }
+
+        List<Long> topNumbers = new ArrayList<>();
+        List<Long> topTotalNumberOfCalls = new ArrayList<>();
+
+        // Act
+        topNumbersCounter.drainTopNumbers((number, totalNumberOfCalls) -> {
+            topNumbers.add(number);
+            topTotalNumberOfCalls.add(totalNumberOfCalls);
+        });
+
+        // Assert
+        assertEquals(List.of(99L, 199L, 299L), topNumbers);
+        assertEquals(List.of(99L, 99L, 99L), topTotalNumberOfCalls);
+        assertEquals(100L * 4950 - 3 * 99, topNumbersCounter.getTotalNumberOfCallsByOtherNumbers());
+    }
+
+    @Test
+    public void drainTopNumbersWithFewerNumbersThanTopNSuccessfully() {
+        // Arrange
+        TopNumbersCounter topNumbersCounter = new TopNumbersCounter(10);
+
+        topNumbersCounter.add(987654321L, 1);
+        topNumbersCounter.add(123456789L, 1);
+        topNumbersCounter.add(555555555L, 2);
+
+        List<Long> topNumbers = new ArrayList<>();
+
+        // Act
+        topNumbersCounter.drainTopNumbers((number, totalNumberOfCalls) -> topNumbers.add(number));
+
+        // Assert
+        assertEquals(List.of(555555555L, 123456789L, 987654321L), topNumbers);
+        assertEquals(0L, topNumbersCounter.getTotalNumberOfCallsByOtherNumbers());
+    }
+}